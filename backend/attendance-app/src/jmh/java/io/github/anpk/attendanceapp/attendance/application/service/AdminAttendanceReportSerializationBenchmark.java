@@ -0,0 +1,54 @@
+package io.github.anpk.attendanceapp.attendance.application.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.github.anpk.attendanceapp.attendance.interfaces.dto.AdminAttendanceReportEmployeeResponse;
+import io.github.anpk.attendanceapp.attendance.interfaces.dto.AdminAttendanceReportResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * site 리포트 응답(AdminAttendanceReportResponse) JSON 직렬화
+ * - ObjectMapper는 Spring Boot 기본 설정과 같게(JavaTimeModule, 날짜는 ISO 문자열)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AdminAttendanceReportSerializationBenchmark {
+
+    @Param({"50", "500"})
+    int employees;
+
+    private ObjectMapper objectMapper;
+    private AdminAttendanceReportResponse response;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        LocalDate from = LocalDate.of(2026, 3, 2);
+        ReportFixtures fixtures = ReportFixtures.site(employees, from, 22, 42L);
+        List<AdminAttendanceReportEmployeeResponse> mapped = SiteAttendanceReportEngine.assemble(
+                fixtures.employees, fixtures.attendances, fixtures.breaks, fixtures.snapshots);
+        response = new AdminAttendanceReportResponse(
+                ReportFixtures.SITE_ID, from.toString(), from.plusDays(21).toString(), mapped.size(), mapped);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+}
@@ -0,0 +1,42 @@
+package io.github.anpk.attendanceapp.attendance.application.service;
+
+import io.github.anpk.attendanceapp.attendance.domain.model.Attendance;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Final 합성(FinalSnapshotService.compose) — 원본 + 승인 정정 1건 → FinalSnapshot
+ * - 1회 호출 = site 한 달치 전체 합성(정정 약 8%)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FinalSnapshotBenchmark {
+
+    @Param({"50", "500"})
+    int employees;
+
+    private ReportFixtures fixtures;
+
+    @Setup
+    public void setUp() {
+        fixtures = ReportFixtures.site(employees, LocalDate.of(2026, 3, 2), 22, 42L);
+    }
+
+    @Benchmark
+    public void composeSiteMonth(Blackhole bh) {
+        for (Attendance a : fixtures.attendances) {
+            bh.consume(FinalSnapshotService.compose(a, fixtures.approvedByAttendanceId.get(a.getId())));
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package io.github.anpk.attendanceapp.attendance.application.service;
+
+import io.github.anpk.attendanceapp.attendance.domain.model.Attendance;
+import io.github.anpk.attendanceapp.attendance.interfaces.dto.AdminAttendanceReportEmployeeResponse;
+import io.github.anpk.attendanceapp.attendance.interfaces.dto.AttendanceBreakHistoryItemResponse;
+import io.github.anpk.attendanceapp.attendance.interfaces.dto.AttendanceReportItemResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 리포트 조립 단계(쿼리 제외, 메모리 매핑만)
+ * - myReport: 내 리포트(getMyAttendanceReport) 항목 매핑 — 직원 1명 한 달
+ * - siteReport: site 리포트(getAttendanceReportBySite) 조립 — 직원별 그룹핑/매핑/집계
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ReportAssemblyBenchmark {
+
+    @Param({"50", "500"})
+    int employees;
+
+    private ReportFixtures fixtures;
+    private List<Attendance> oneEmployeeMonth;
+    private Map<Long, Long> breakMinutesByAttendanceId;
+    private Map<Long, List<AttendanceBreakHistoryItemResponse>> breakHistoryByAttendanceId;
+
+    @Setup
+    public void setUp() {
+        fixtures = ReportFixtures.site(employees, LocalDate.of(2026, 3, 2), 22, 42L);
+        Long firstUserId = fixtures.employees.get(0).getUserId();
+        oneEmployeeMonth = fixtures.attendances.stream()
+                .filter(a -> a.getUserId().equals(firstUserId))
+                .toList();
+        breakMinutesByAttendanceId = fixtures.breakMinutesByAttendanceId();
+        breakHistoryByAttendanceId = fixtures.breakHistoryByAttendanceId();
+    }
+
+    @Benchmark
+    public List<AttendanceReportItemResponse> myReport() {
+        return AttendanceService.toReportItems(
+                oneEmployeeMonth, breakMinutesByAttendanceId, breakHistoryByAttendanceId, fixtures.snapshots);
+    }
+
+    @Benchmark
+    public List<AdminAttendanceReportEmployeeResponse> siteReport() {
+        return SiteAttendanceReportEngine.assemble(
+                fixtures.employees, fixtures.attendances, fixtures.breaks, fixtures.snapshots);
+    }
+}
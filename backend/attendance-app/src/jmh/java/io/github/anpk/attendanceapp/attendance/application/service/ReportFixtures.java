@@ -0,0 +1,129 @@
+package io.github.anpk.attendanceapp.attendance.application.service;
+
+import io.github.anpk.attendanceapp.attendance.domain.model.Attendance;
+import io.github.anpk.attendanceapp.attendance.domain.model.AttendanceBreak;
+import io.github.anpk.attendanceapp.attendance.interfaces.dto.AttendanceBreakHistoryItemResponse;
+import io.github.anpk.attendanceapp.correction.domain.model.CorrectionRequest;
+import io.github.anpk.attendanceapp.correction.domain.model.CorrectionRequestType;
+import io.github.anpk.attendanceapp.employee.domain.model.Employee;
+import io.github.anpk.attendanceapp.employee.domain.model.EmployeeRole;
+
+import java.lang.reflect.Field;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * 벤치마크용 합성 데이터(고정 seed — 실행 간 동일)
+ * - site 1곳, 직원 N명, 평일 기준 일수만큼 출근 기록
+ * - 출근 08:40~09:20, 퇴근 17:50~19:10, 점심 휴게 1회(+ 일부 오후 휴게)
+ * - 약 3% 퇴근 누락, 약 8% 승인 정정(출근/퇴근/둘 다)
+ *
+ * id는 DB 없이 만들기 위해 리플렉션으로 채운다.
+ */
+final class ReportFixtures {
+
+    static final ZoneId KST = ZoneId.of("Asia/Seoul");
+    static final long SITE_ID = 1L;
+
+    final List<Employee> employees = new ArrayList<>();
+    final List<Attendance> attendances = new ArrayList<>();
+    // breakStartTime asc(= 쿼리 정렬과 동일)
+    final List<AttendanceBreak> breaks = new ArrayList<>();
+    // attendanceId → 승인 정정(없으면 미포함)
+    final Map<Long, CorrectionRequest> approvedByAttendanceId = new HashMap<>();
+    final Map<Long, FinalSnapshot> snapshots = new HashMap<>();
+
+    private ReportFixtures() {}
+
+    static ReportFixtures site(int employeeCount, LocalDate from, int days, long seed) {
+        SplittableRandom rnd = new SplittableRandom(seed);
+        ReportFixtures f = new ReportFixtures();
+        long attendanceId = 1;
+        long breakId = 1;
+        long correctionId = 1;
+
+        for (int e = 0; e < employeeCount; e++) {
+            long userId = 10_000L + e;
+            f.employees.add(new Employee(userId, "user-" + userId, SITE_ID, EmployeeRole.EMPLOYEE, true, "pw"));
+
+            for (int d = 0; d < days; d++) {
+                LocalDate day = from.plusDays(d);
+                LocalDateTime in = day.atTime(8, 40).plusMinutes(rnd.nextInt(40));
+                Attendance a = Attendance.checkIn(userId, day, in, "bench/" + userId + "-" + day + ".jpg");
+                setId(a, attendanceId++);
+
+                boolean missingCheckout = rnd.nextInt(100) < 3;
+                if (!missingCheckout) {
+                    a.checkOut(day.atTime(17, 50).plusMinutes(rnd.nextInt(80)));
+                }
+
+                AttendanceBreak lunch = AttendanceBreak.start(a, day.atTime(12, 0).plusMinutes(rnd.nextInt(20)));
+                lunch.end(lunch.getBreakStartTime().plusMinutes(40 + rnd.nextInt(30)));
+                setId(lunch, breakId++);
+                f.breaks.add(lunch);
+                if (rnd.nextInt(100) < 25) {
+                    AttendanceBreak afternoon = AttendanceBreak.start(a, day.atTime(15, 0).plusMinutes(rnd.nextInt(30)));
+                    afternoon.end(afternoon.getBreakStartTime().plusMinutes(10 + rnd.nextInt(10)));
+                    setId(afternoon, breakId++);
+                    f.breaks.add(afternoon);
+                }
+
+                CorrectionRequest approved = null;
+                if (rnd.nextInt(100) < 8) {
+                    CorrectionRequestType type = CorrectionRequestType.values()[rnd.nextInt(CorrectionRequestType.values().length)];
+                    OffsetDateTime proposedIn = (type != CorrectionRequestType.CHECK_OUT)
+                            ? day.atTime(9, 0).atZone(KST).toOffsetDateTime() : null;
+                    OffsetDateTime proposedOut = (type != CorrectionRequestType.CHECK_IN)
+                            ? day.atTime(18, 0).atZone(KST).toOffsetDateTime() : null;
+                    OffsetDateTime requestedAt = day.plusDays(1).atTime(10, 0).atZone(KST).toOffsetDateTime();
+                    approved = CorrectionRequest.pending(a, userId, requestedAt, type, proposedIn, proposedOut, false, "bench");
+                    approved.approve(1L, requestedAt.plusHours(2), null);
+                    setId(approved, correctionId++);
+                    f.approvedByAttendanceId.put(a.getId(), approved);
+                }
+
+                f.attendances.add(a);
+                f.snapshots.put(a.getId(), FinalSnapshotService.compose(a, approved));
+            }
+        }
+        return f;
+    }
+
+    Map<Long, Long> breakMinutesByAttendanceId() {
+        Map<Long, Long> out = new HashMap<>();
+        for (AttendanceBreak b : breaks) {
+            out.merge(b.getAttendance().getId(), b.durationMinutesOrZero(), Long::sum);
+        }
+        return out;
+    }
+
+    Map<Long, List<AttendanceBreakHistoryItemResponse>> breakHistoryByAttendanceId() {
+        Map<Long, List<AttendanceBreakHistoryItemResponse>> out = new HashMap<>();
+        for (AttendanceBreak b : breaks) {
+            out.computeIfAbsent(b.getAttendance().getId(), k -> new ArrayList<>())
+                    .add(new AttendanceBreakHistoryItemResponse(
+                            b.getBreakStartTime().atZone(KST).toOffsetDateTime(),
+                            b.getBreakEndTime().atZone(KST).toOffsetDateTime(),
+                            b.durationMinutesOrZero()
+                    ));
+        }
+        return out;
+    }
+
+    private static void setId(Object entity, long id) {
+        try {
+            Field field = entity.getClass().getDeclaredField("id");
+            field.setAccessible(true);
+            field.set(entity, id);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package io.github.anpk.attendanceapp.auth.jwt;
+
+import io.github.anpk.attendanceapp.employee.domain.model.EmployeeRole;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 발급/검증
+ * - parseCached: 검증 캐시 적중(같은 토큰 반복 — 일반적인 요청 흐름)
+ * - parseUncached: 캐시 비활성(서명 검증 + payload 파싱 전체)
+ * - 토큰은 직원 1,000명분을 순환 사용(스레드별 상태 — 공유 카운터 경합 제외)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(4)
+public class JwtTokenServiceBenchmark {
+
+    private static final String SECRET = "bench-secret-change-me";
+    private static final int TOKENS = 1_000;
+
+    private JwtTokenService cached;
+    private JwtTokenService uncached;
+    private String[] tokens;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        cached = new JwtTokenService(SECRET, 3600, 10_000);
+        uncached = new JwtTokenService(SECRET, 3600, 0);
+        tokens = new String[TOKENS];
+        for (int i = 0; i < TOKENS; i++) {
+            tokens[i] = cached.issueToken(10_000L + i, EmployeeRole.EMPLOYEE, 1L, 0L);
+        }
+    }
+
+    private String nextToken() {
+        cursor = (cursor + 1) % TOKENS;
+        return tokens[cursor];
+    }
+
+    @Benchmark
+    public String issue() {
+        return cached.issueToken(10_001L, EmployeeRole.EMPLOYEE, 1L, 0L);
+    }
+
+    @Benchmark
+    public Optional<Long> parseCached() {
+        return cached.parseUserIdIfValid(nextToken());
+    }
+
+    @Benchmark
+    public Optional<Long> parseUncached() {
+        return uncached.parseUserIdIfValid(nextToken());
+    }
+}
@@ -0,0 +1,63 @@
+package io.github.anpk.attendanceapp.correction.application.service;
+
+import io.github.anpk.attendanceapp.correction.application.service.CorrectionRequestService.BreakInterval;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 정정 요청 휴게 구간 검증(validateBreakIntervals) — 정상 입력(예외 없음) 기준
+ * - 입력 순서는 섞여 있다(정렬 비용 포함)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BreakIntervalValidationBenchmark {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    @Param({"1", "3", "10"})
+    int breaks;
+
+    private OffsetDateTime finalIn;
+    private OffsetDateTime finalOut;
+    private List<BreakInterval> proposed;
+
+    @Setup
+    public void setUp() {
+        LocalDate day = LocalDate.of(2026, 3, 2);
+        finalIn = day.atTime(8, 55).atZone(KST).toOffsetDateTime();
+        finalOut = day.atTime(18, 5).atZone(KST).toOffsetDateTime();
+
+        // 10:00부터 30분 간격, 각 10~20분(겹침 없음)
+        SplittableRandom rnd = new SplittableRandom(42L);
+        List<BreakInterval> list = new ArrayList<>(breaks);
+        for (int i = 0; i < breaks; i++) {
+            OffsetDateTime start = finalIn.withHour(10).withMinute(0).plusMinutes(30L * i);
+            list.add(new BreakInterval(start, start.plusMinutes(10 + rnd.nextInt(11))));
+        }
+        Collections.shuffle(list, new Random(42L));
+        proposed = List.copyOf(list);
+    }
+
+    @Benchmark
+    public List<BreakInterval> validate() {
+        CorrectionRequestService.validateBreakIntervals(finalIn, finalOut, proposed);
+        return proposed;
+    }
+}
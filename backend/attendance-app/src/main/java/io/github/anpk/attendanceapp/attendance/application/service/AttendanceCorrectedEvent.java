@@ -0,0 +1,11 @@
+package io.github.anpk.attendanceapp.attendance.application.service;
+
+import io.github.anpk.attendanceapp.attendance.domain.model.Attendance;
+
+/**
+ * AttendanceService 밖에서 근태의 Final 값이 바뀌었음을 알리는 이벤트(정정 승인 등)
+ * - 변경 트랜잭션 안에서 발행 — 리스너(AttendanceService)가 today 상태 반영을 커밋 후로 예약한다
+ */
+public record AttendanceCorrectedEvent(
+        Attendance attendance
+) {}
@@ -0,0 +1,160 @@
+package io.github.anpk.attendanceapp.attendance.application.service;
+
+import io.github.anpk.attendanceapp.attendance.domain.model.Attendance;
+import io.github.anpk.attendanceapp.attendance.domain.model.AttendanceBreak;
+import io.github.anpk.attendanceapp.attendance.domain.model.AttendanceFinal;
+import io.github.anpk.attendanceapp.attendance.infrastructure.repository.AttendanceBreakRepository;
+import io.github.anpk.attendanceapp.attendance.infrastructure.repository.AttendanceFinalRepository;
+import io.github.anpk.attendanceapp.attendance.infrastructure.repository.AttendanceRepository;
+import io.github.anpk.attendanceapp.attendance.interfaces.dto.AttendanceFinalRebuildResponse;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Final 조회 모델(attendance_final) 유지
+ * - 출근/퇴근/휴게/정정 승인 등 원본 변경과 "같은 트랜잭션"에서 refresh() 호출
+ * - 값은 항상 원본(attendance/attendance_break/correction_requests)에서 재계산한다(증분 계산 금지)
+ * - 같은 재계산 결과로 근무 분 rollup(일/site 월)도 함께 반영한다(WorkMinutesRollupService)
+ * - rebuild(): 원본 전체를 스캔해 재생성/검증
+ */
+@Service
+@Slf4j
+public class AttendanceFinalProjector {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    private final AttendanceRepository attendanceRepository;
+    private final AttendanceBreakRepository attendanceBreakRepository;
+    private final AttendanceFinalRepository attendanceFinalRepository;
+    private final FinalSnapshotService finalSnapshotService;
+    private final WorkMinutesRollupService workMinutesRollupService;
+    private final EntityManager entityManager;
+
+    public AttendanceFinalProjector(
+            AttendanceRepository attendanceRepository,
+            AttendanceBreakRepository attendanceBreakRepository,
+            AttendanceFinalRepository attendanceFinalRepository,
+            FinalSnapshotService finalSnapshotService,
+            WorkMinutesRollupService workMinutesRollupService,
+            EntityManager entityManager
+    ) {
+        this.attendanceRepository = attendanceRepository;
+        this.attendanceBreakRepository = attendanceBreakRepository;
+        this.attendanceFinalRepository = attendanceFinalRepository;
+        this.finalSnapshotService = finalSnapshotService;
+        this.workMinutesRollupService = workMinutesRollupService;
+        this.entityManager = entityManager;
+    }
+
+    @Transactional
+    public void refresh(Attendance attendance) {
+        if (attendance == null || attendance.getId() == null) return;
+        reconcile(List.of(attendance), false);
+    }
+
+    /**
+     * 여러 근태를 한 번에 갱신(일괄 승인 chunk 등) — 원본/휴게/기존 Final 조회를 IN 1번씩으로 묶는다
+     * - 같은 근태가 여러 번 들어와도 1번만 재계산
+     */
+    @Transactional
+    public void refreshAll(Collection<Attendance> attendances) {
+        Map<Long, Attendance> byId = new LinkedHashMap<>();
+        for (Attendance a : attendances) {
+            if (a != null && a.getId() != null) byId.putIfAbsent(a.getId(), a);
+        }
+        if (byId.isEmpty()) return;
+        reconcile(byId.values(), false);
+    }
+
+    /**
+     * 원본 기준 재생성(또는 검증)
+     * - id keyset 페이지 단위로 처리하고, 페이지마다 영속성 컨텍스트를 비운다
+     */
+    @Transactional
+    public AttendanceFinalRebuildResponse rebuild(boolean verifyOnly) {
+        long scanned = 0L;
+        long missing = 0L;
+        long mismatched = 0L;
+        long rollupChanged = 0L;
+
+        long lastId = 0L;
+        while (true) {
+            List<Attendance> page = attendanceRepository.findTop500ByIdGreaterThanOrderByIdAsc(lastId);
+            if (page.isEmpty()) break;
+
+            ReconcileResult r = reconcile(page, verifyOnly);
+            scanned += page.size();
+            missing += r.missing();
+            mismatched += r.mismatched();
+            rollupChanged += r.rollupChanged();
+            lastId = page.get(page.size() - 1).getId();
+
+            entityManager.flush();
+            entityManager.clear();
+        }
+
+        log.info("attendance_final rebuild: verifyOnly={}, scanned={}, missing={}, mismatched={}, rollupChanged={}",
+                verifyOnly, scanned, missing, mismatched, rollupChanged);
+        return new AttendanceFinalRebuildResponse(verifyOnly, scanned, missing, mismatched);
+    }
+
+    private ReconcileResult reconcile(Collection<Attendance> attendances, boolean verifyOnly) {
+        List<Long> ids = attendances.stream().map(Attendance::getId).toList();
+
+        Map<Long, FinalSnapshot> snapshots = finalSnapshotService.resolveAllFromBase(attendances);
+        Map<Long, Long> breakMinutesByAttendanceId = attendanceBreakRepository.findAllByAttendance_IdIn(ids).stream()
+                .collect(Collectors.groupingBy(
+                        b -> b.getAttendance().getId(),
+                        Collectors.summingLong(AttendanceBreak::durationMinutesOrZero)
+                ));
+        Map<Long, AttendanceFinal> existing = attendanceFinalRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(AttendanceFinal::getAttendanceId, Function.identity()));
+
+        LocalDateTime now = LocalDateTime.now(KST);
+        long missing = 0L;
+        long mismatched = 0L;
+        for (Attendance a : attendances) {
+            FinalSnapshot snap = snapshots.get(a.getId());
+            LocalDateTime in = toKstLocal(snap.finalCheckInAt());
+            LocalDateTime out = toKstLocal(snap.finalCheckOutAt());
+            long breakMinutes = breakMinutesByAttendanceId.getOrDefault(a.getId(), 0L);
+
+            AttendanceFinal f = existing.get(a.getId());
+            if (f == null) {
+                missing++;
+                f = AttendanceFinal.of(a.getId(), a.getUserId(), a.getWorkDate());
+            } else if (f.matches(in, out, breakMinutes, snap.isCorrected(), snap.appliedCorrectionRequestId())) {
+                continue;
+            } else {
+                mismatched++;
+            }
+
+            if (verifyOnly) continue;
+            f.apply(in, out, breakMinutes, snap.isCorrected(), snap.appliedCorrectionRequestId(), now);
+            attendanceFinalRepository.save(f);
+        }
+
+        long rollupChanged = workMinutesRollupService.applyAll(
+                attendances, snapshots, breakMinutesByAttendanceId, verifyOnly);
+        return new ReconcileResult(missing, mismatched, rollupChanged);
+    }
+
+    private static LocalDateTime toKstLocal(OffsetDateTime t) {
+        if (t == null) return null;
+        return t.atZoneSameInstant(KST).toLocalDateTime();
+    }
+
+    private record ReconcileResult(long missing, long mismatched, long rollupChanged) {}
+}
@@ -4,7 +4,8 @@ import io.github.anpk.attendanceapp.attendance.domain.model.Attendance;
 import io.github.anpk.attendanceapp.attendance.domain.model.AttendanceBreak;
 import io.github.anpk.attendanceapp.attendance.interfaces.dto.*;
 import io.github.anpk.attendanceapp.attendance.infrastructure.repository.AttendanceBreakRepository;
-import io.github.anpk.attendanceapp.correction.domain.model.CorrectionRequest;
+import io.github.anpk.attendanceapp.attendance.infrastructure.repository.AttendanceDailyRollupRepository;
+import io.github.anpk.attendanceapp.attendance.infrastructure.repository.SiteMonthlyRollupRepository;
 import io.github.anpk.attendanceapp.correction.domain.model.CorrectionRequestStatus;
 import io.github.anpk.attendanceapp.correction.infrastructure.repository.CorrectionRequestRepository;
 import io.github.anpk.attendanceapp.employee.domain.model.Employee;
@@ -13,19 +14,19 @@ import io.github.anpk.attendanceapp.error.BusinessException;
 import io.github.anpk.attendanceapp.attendance.infrastructure.repository.AttendanceRepository;
 import io.github.anpk.attendanceapp.error.ErrorCode;
 import io.github.anpk.attendanceapp.site.infrastructure.repository.SiteRepository;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.multipart.MultipartFile;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
+import java.io.InputStream;
 import java.time.*;
 import java.util.List;
 import java.util.Map;
-import java.util.Locale;
 import java.util.Set;
-import java.util.UUID;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
@@ -36,41 +37,83 @@ public class AttendanceService {
     private static final Pattern MONTH_PATTERN = Pattern.compile("^\\d{4}-\\d{2}$");
 
     // 업로드 파일 검증 정책(서버 측) - 필요 시 운영 환경에 맞게 조정
+    // 허용 형식은 PhotoFormat(uploadable): jpeg/png/webp/heic/heif
     private static final long MAX_PHOTO_BYTES = 5L * 1024 * 1024; // 5MB
-    private static final Set<String> ALLOWED_CONTENT_TYPES = Set.of(
-            "image/jpeg", "image/jpg", "image/png", "image/webp", "image/heic", "image/heif"
-    );
-    private static final Set<String> ALLOWED_EXTENSIONS = Set.of(
-            "jpg", "jpeg", "png", "webp", "heic", "heif"
-    );
 
     private final AttendanceRepository attendanceRepository;
     private final AttendanceBreakRepository attendanceBreakRepository;
     private final CorrectionRequestRepository correctionRequestRepository;
     private final EmployeeRepository employeeRepository;
     private final SiteRepository siteRepository;
+    private final FinalSnapshotService finalSnapshotService;
+    private final SiteAttendanceReportEngine siteAttendanceReportEngine;
+    private final AttendanceFinalProjector attendanceFinalProjector;
+    private final AttendanceDailyRollupRepository attendanceDailyRollupRepository;
+    private final SiteMonthlyRollupRepository siteMonthlyRollupRepository;
+    private final PhotoIngestService photoIngestService;
+    private final TodayStatusHub todayStatusHub;
+    // today 상태가 보관돼 있으면 트랜잭션 없이 응답하고, 계산할 때만 읽기 트랜잭션을 연다
+    private final TransactionTemplate readOnlyTx;
 
     public AttendanceService(
             AttendanceRepository attendanceRepository,
             AttendanceBreakRepository attendanceBreakRepository,
             CorrectionRequestRepository correctionRequestRepository,
             EmployeeRepository employeeRepository,
-            SiteRepository siteRepository
+            SiteRepository siteRepository,
+            FinalSnapshotService finalSnapshotService,
+            SiteAttendanceReportEngine siteAttendanceReportEngine,
+            AttendanceFinalProjector attendanceFinalProjector,
+            AttendanceDailyRollupRepository attendanceDailyRollupRepository,
+            SiteMonthlyRollupRepository siteMonthlyRollupRepository,
+            PhotoIngestService photoIngestService,
+            TodayStatusHub todayStatusHub,
+            PlatformTransactionManager transactionManager
     ) {
         this.attendanceRepository = attendanceRepository;
         this.attendanceBreakRepository = attendanceBreakRepository;
         this.correctionRequestRepository = correctionRequestRepository;
         this.employeeRepository = employeeRepository;
         this.siteRepository = siteRepository;
+        this.finalSnapshotService = finalSnapshotService;
+        this.siteAttendanceReportEngine = siteAttendanceReportEngine;
+        this.attendanceFinalProjector = attendanceFinalProjector;
+        this.attendanceDailyRollupRepository = attendanceDailyRollupRepository;
+        this.siteMonthlyRollupRepository = siteMonthlyRollupRepository;
+        this.photoIngestService = photoIngestService;
+        this.todayStatusHub = todayStatusHub;
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
     }
 
+    /**
+     * 출근 사진 수신(검증 + spool 기록, 트랜잭션 밖 — 컨트롤러에서 checkIn 전에 호출)
+     *
+     * @param content 요청 본문의 photo 파트 스트림(없으면 null)
+     */
+    public StagedPhoto stageCheckInPhoto(String originalFilename, InputStream content) throws IOException {
+        // 계약: 체크인은 사진 업로드 필수 + 이미지/크기 제한
+        return stagePhoto(originalFilename, content, "출근 사진은 필수입니다.");
+    }
+
+    /**
+     * 퇴근 사진 수신(검증 + spool 기록, 트랜잭션 밖 — 컨트롤러에서 checkOut 전에 호출)
+     */
+    public StagedPhoto stageCheckOutPhoto(String originalFilename, InputStream content) throws IOException {
+        return stagePhoto(originalFilename, content, "퇴근 사진은 필수입니다.");
+    }
+
+    /**
+     * 출근
+     * - 사진은 stageCheckInPhoto()로 spool에 기록된 상태로 전달받는다(디스크 쓰기는 트랜잭션 밖)
+     * - 커밋 후 백그라운드 writer가 최종 경로로 이동, 롤백 시 spool 삭제
+     */
     @Transactional
-    public AttendanceActionResponse checkIn(Long userId, MultipartFile photo) throws IOException {
+    public AttendanceActionResponse checkIn(Long userId, StagedPhoto photo) {
+        // 롤백(중복 출근 등) 시에도 spool이 정리되도록 가장 먼저 연결
+        photoIngestService.bind(photo);
         LocalDate today = LocalDate.now(KST);
 
-        // 계약: 체크인은 사진 업로드 필수 + 이미지/크기 제한
-        validateCheckInPhoto(photo);
-
         var existingOpt = attendanceRepository.findByUserIdAndWorkDate(userId, today);
         if (existingOpt.isPresent()) {
             var existing = existingOpt.get();
@@ -82,7 +125,7 @@ public class AttendanceService {
             throw new BusinessException(ErrorCode.ALREADY_CHECKED_IN, "이미 출근 처리되었습니다.");
         }
 
-        String checkInPhotoPath = savePhoto(photo);
+        String checkInPhotoPath = photo.targetPath().toString();
 
         Attendance attendance = Attendance.checkIn(
                 userId,
@@ -92,11 +135,17 @@ public class AttendanceService {
         );
 
         var saved = attendanceRepository.save(attendance);
-        return toAttendanceActionResponse(saved, false);
+        // Final 조회 모델 동기 갱신(같은 트랜잭션)
+        attendanceFinalProjector.refresh(saved);
+        return publishTodayStatus(saved, toAttendanceActionResponse(saved, false));
     }
 
+    /**
+     * 퇴근(사진 처리 방식은 checkIn과 동일)
+     */
     @Transactional
-    public AttendanceActionResponse checkOut(Long userId, MultipartFile photo) throws IOException {
+    public AttendanceActionResponse checkOut(Long userId, StagedPhoto photo) {
+        photoIngestService.bind(photo);
         LocalDate today = LocalDate.now(KST);
 
         var attendance = attendanceRepository.findByUserIdAndWorkDate(userId, today)
@@ -109,12 +158,13 @@ public class AttendanceService {
             throw new BusinessException(ErrorCode.BREAK_IN_PROGRESS, "휴게 종료 후 퇴근할 수 있습니다.");
         }
 
-        validateCheckOutPhoto(photo);
-        String checkOutPhotoPath = savePhoto(photo);
+        String checkOutPhotoPath = photo.targetPath().toString();
         attendance.checkOut(LocalDateTime.now(KST), checkOutPhotoPath);
 
         var saved = attendanceRepository.save(attendance);
-        return toAttendanceActionResponse(saved, false);
+        // Final 조회 모델 동기 갱신(같은 트랜잭션)
+        attendanceFinalProjector.refresh(saved);
+        return publishTodayStatus(saved, toAttendanceActionResponse(saved, false));
     }
 
     @Transactional
@@ -132,8 +182,9 @@ public class AttendanceService {
 
         AttendanceBreak started = AttendanceBreak.start(attendance, LocalDateTime.now(KST));
         attendanceBreakRepository.save(started);
+        attendanceFinalProjector.refresh(attendance);
 
-        return toAttendanceActionResponse(attendance, false);
+        return publishTodayStatus(attendance, toAttendanceActionResponse(attendance, false));
     }
 
     @Transactional
@@ -152,74 +203,31 @@ public class AttendanceService {
 
         inProgress.end(LocalDateTime.now(KST));
         attendanceBreakRepository.save(inProgress);
+        attendanceFinalProjector.refresh(attendance);
 
-        return toAttendanceActionResponse(attendance, false);
-    }
-
-    private static void validateCheckOutPhoto(MultipartFile photo) {
-        if (photo == null || photo.isEmpty()) {
-            throw new BusinessException(ErrorCode.INVALID_REQUEST_PAYLOAD, "퇴근 사진은 필수입니다.");
-        }
-        validateCheckInPhoto(photo);
+        return publishTodayStatus(attendance, toAttendanceActionResponse(attendance, false));
     }
 
-    private static void validateCheckInPhoto(MultipartFile photo) {
-        // 계약: photo는 필수 (누락/형식 오류는 INVALID_REQUEST_PAYLOAD/422로 처리)
-        if (photo == null || photo.isEmpty()) {
-            throw new BusinessException(ErrorCode.INVALID_REQUEST_PAYLOAD, "출근 사진은 필수입니다.");
-        }
-
-        // 파일 크기 제한
-        if (photo.getSize() > MAX_PHOTO_BYTES) {
-            throw new BusinessException(ErrorCode.INVALID_REQUEST_PAYLOAD, "파일 크기가 너무 큽니다. (최대 5MB)");
-        }
-
-        // MIME 타입 검증(클라이언트 값이므로 완전 신뢰는 불가하지만 1차 필터로 유효)
-        String contentType = photo.getContentType();
-        if (contentType == null || !ALLOWED_CONTENT_TYPES.contains(contentType.toLowerCase(Locale.ROOT))) {
-            // MIME이 비정상인 경우 확장자로도 방어
-            if (!hasAllowedExtension(photo.getOriginalFilename())) {
-                throw new BusinessException(ErrorCode.INVALID_REQUEST_PAYLOAD, "이미지 파일만 업로드할 수 있습니다.");
-            }
-            return;
+    /**
+     * 계약: photo는 필수 (누락/형식 오류/용량 초과는 INVALID_REQUEST_PAYLOAD/422로 처리)
+     * - 형식은 클라이언트가 보낸 Content-Type/확장자가 아니라 파일 내용(magic byte)으로 판정
+     * - 크기/형식은 수신 도중 검사하므로 위반 시 나머지 본문을 기록하지 않는다
+     */
+    private StagedPhoto stagePhoto(String originalFilename, InputStream content, String missingMessage) throws IOException {
+        if (content == null) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST_PAYLOAD, missingMessage);
         }
-
-        // MIME이 허용이어도 확장자 allowlist 적용(운영 안정성)
-        if (!hasAllowedExtension(photo.getOriginalFilename())) {
-            throw new BusinessException(ErrorCode.INVALID_REQUEST_PAYLOAD, "이미지 파일 확장자가 올바르지 않습니다.");
+        try {
+            return photoIngestService.stage(content, originalFilename, MAX_PHOTO_BYTES);
+        } catch (PhotoRejectedException e) {
+            throw switch (e.getReason()) {
+                case EMPTY -> new BusinessException(ErrorCode.INVALID_REQUEST_PAYLOAD, missingMessage);
+                case TOO_LARGE -> new BusinessException(ErrorCode.INVALID_REQUEST_PAYLOAD, "파일 크기가 너무 큽니다. (최대 5MB)");
+                case NOT_AN_IMAGE -> new BusinessException(ErrorCode.INVALID_REQUEST_PAYLOAD, "이미지 파일만 업로드할 수 있습니다.");
+            };
         }
     }
 
-    private static boolean hasAllowedExtension(String originalFilename) {
-        if (originalFilename == null) return false;
-
-        String name = Path.of(originalFilename).getFileName().toString();
-        int dot = name.lastIndexOf('.');
-
-        if (dot < 0 || dot == name.length() - 1) return false;
-
-        String ext = name.substring(dot + 1).toLowerCase(Locale.ROOT);
-
-        return ALLOWED_EXTENSIONS.contains(ext);
-    }
-
-    private static String savePhoto(MultipartFile photo) throws IOException {
-        // 기존 컨트롤러 구현과 동일한 기준(user.dir/uploads) 유지
-        String uploadDir = System.getProperty("user.dir") + "/uploads";
-        Files.createDirectories(Path.of(uploadDir));
-
-        // 파일명에 경로 구분자 등이 섞여도 안전하도록 basename만 사용
-        String originalName = (photo.getOriginalFilename() == null || photo.getOriginalFilename().isBlank())
-                ? "photo"
-                : Path.of(photo.getOriginalFilename()).getFileName().toString();
-
-        String filename = UUID.randomUUID() + "_" + originalName;
-        Path filePath = Path.of(uploadDir, filename);
-        photo.transferTo(filePath.toFile());
-
-        return filePath.toString();
-    }
-
     // =============================================================
     // 조회(READ) API 전용
     // - Controller에서 호출하는 조회 전용 메서드 묶음
@@ -254,10 +262,11 @@ public class AttendanceService {
                 .stream()
                 .map(cr -> cr.getAttendance().getId())
                 .collect(Collectors.toSet());
+        Map<Long, FinalSnapshot> snapshots = finalSnapshotService.resolveAll(items);
 
         List<AttendanceListItemResponse> mapped = items.stream()
                 .map(a -> {
-                    FinalSnapshot snap = toFinalSnapshot(a);
+                    FinalSnapshot snap = snapshots.get(a.getId());
                     return new AttendanceListItemResponse(
                             a.getId(),
                             a.getWorkDate().toString(),
@@ -278,7 +287,7 @@ public class AttendanceService {
         Attendance a = attendanceRepository.findByIdAndUserId(attendanceId, userId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.ATTENDANCE_NOT_FOUND, "근태 기록을 찾을 수 없습니다."));
 
-        FinalSnapshot snap = toFinalSnapshot(a);
+        FinalSnapshot snap = finalSnapshotService.resolve(a);
 
         // employeeId/siteId가 아직 없다면 null 처리
         return new AttendanceReadResponse(
@@ -323,11 +332,37 @@ public class AttendanceService {
         Map<Long, Long> breakMinutesByAttendanceId = loadBreakMinutesByAttendanceIds(items);
         Map<Long, List<AttendanceBreakHistoryItemResponse>> breakHistoryByAttendanceId =
                 loadBreakHistoryByAttendanceIds(items);
+        Map<Long, FinalSnapshot> snapshots = finalSnapshotService.resolveAll(items);
 
         long totalWorkMinutes = 0L;
-        List<AttendanceReportItemResponse> mapped = items.stream()
+        List<AttendanceReportItemResponse> mapped =
+                toReportItems(items, breakMinutesByAttendanceId, breakHistoryByAttendanceId, snapshots);
+
+        for (AttendanceReportItemResponse it : mapped) {
+            if (it.workMinutes() != null) totalWorkMinutes += it.workMinutes();
+        }
+
+        return new AttendanceReportResponse(
+                fromDate.toString(),
+                toDate.toString(),
+                mapped.size(),
+                totalWorkMinutes,
+                mapped
+        );
+    }
+
+    /**
+     * 리포트 항목 매핑 단계(쿼리 없음): Final + 휴게 합계 → 근무 분
+     */
+    static List<AttendanceReportItemResponse> toReportItems(
+            List<Attendance> items,
+            Map<Long, Long> breakMinutesByAttendanceId,
+            Map<Long, List<AttendanceBreakHistoryItemResponse>> breakHistoryByAttendanceId,
+            Map<Long, FinalSnapshot> snapshots
+    ) {
+        return items.stream()
                 .map(a -> {
-                    FinalSnapshot snap = toFinalSnapshot(a);
+                    FinalSnapshot snap = snapshots.get(a.getId());
                     long breakMinutes = breakMinutesByAttendanceId.getOrDefault(a.getId(), 0L);
                     List<AttendanceBreakHistoryItemResponse> breakHistory =
                             breakHistoryByAttendanceId.getOrDefault(a.getId(), List.of());
@@ -353,18 +388,6 @@ public class AttendanceService {
                     );
                 })
                 .toList();
-
-        for (AttendanceReportItemResponse it : mapped) {
-            if (it.workMinutes() != null) totalWorkMinutes += it.workMinutes();
-        }
-
-        return new AttendanceReportResponse(
-                fromDate.toString(),
-                toDate.toString(),
-                mapped.size(),
-                totalWorkMinutes,
-                mapped
-        );
     }
 
     /**
@@ -418,61 +441,8 @@ public class AttendanceService {
             employees = employeeRepository.findAllBySiteId(siteId);
         }
 
-        var mappedEmployees = employees.stream().map(emp -> {
-            var attendances = attendanceRepository
-                    .findAllByUserIdAndWorkDateBetweenOrderByWorkDateAsc(emp.getUserId(), fromDate, toDate);
-            Map<Long, Long> breakMinutesByAttendanceId = loadBreakMinutesByAttendanceIds(attendances);
-            Map<Long, List<AttendanceBreakHistoryItemResponse>> breakHistoryByAttendanceId =
-                    loadBreakHistoryByAttendanceIds(attendances);
-
-            var items = attendances.stream().map(a -> {
-                FinalSnapshot snap = toFinalSnapshot(a);
-                long breakMinutes = breakMinutesByAttendanceId.getOrDefault(a.getId(), 0L);
-                List<AttendanceBreakHistoryItemResponse> breakHistory =
-                        breakHistoryByAttendanceId.getOrDefault(a.getId(), List.of());
-
-                Long workMinutes = null;
-                if (snap.finalCheckInAt() != null && snap.finalCheckOutAt() != null) {
-                    long mins = Duration.between(snap.finalCheckInAt(), snap.finalCheckOutAt()).toMinutes();
-                    if (mins >= 0) {
-                        workMinutes = Math.max(mins - breakMinutes, 0L);
-                    }
-                }
-
-                return new AdminAttendanceReportItemResponse(
-                        a.getId(),
-                        a.getWorkDate().toString(),
-                        snap.finalCheckInAt(),
-                        snap.finalCheckOutAt(),
-                        breakMinutes,
-                        breakHistory,
-                        workMinutes,
-                        snap.isCorrected()
-                );
-            }).toList();
-
-            long totalWorkMinutes = 0L;
-            int correctedCount = 0;
-            int missingCheckoutCount = 0;
-            for (var it : items) {
-                if (it.isCorrected()) correctedCount++;
-                if (it.checkInAt() != null && it.checkOutAt() == null) missingCheckoutCount++;
-                if (it.workMinutes() != null) totalWorkMinutes += it.workMinutes();
-            }
-
-            return new AdminAttendanceReportEmployeeResponse(
-                    emp.getUserId(),
-                    emp.getUsername(),
-                    emp.getRole().name(),
-                    emp.isActive(),
-                    emp.getSiteId(),
-                    items.size(),
-                    totalWorkMinutes,
-                    missingCheckoutCount,
-                    correctedCount,
-                    items
-            );
-        }).toList();
+        // set 기반 조립: 직원 수와 무관하게 고정 횟수 쿼리
+        var mappedEmployees = siteAttendanceReportEngine.build(siteId, userId, employees, fromDate, toDate);
 
         return new AdminAttendanceReportResponse(
                 siteId,
@@ -484,16 +454,118 @@ public class AttendanceService {
     }
 
     /**
-     * today 응답도 Final 합성 규칙 적용 (승인된 최신 정정 1건)
+     * 내 월 합계(rollup 기반)
+     * - attendance_daily_rollup 집계 1회 (원본 attendance/break 재스캔 없음)
+     * - site 월 합계와 같은 규칙으로 확정된 날(퇴근 완료 또는 지난 날짜)만 센다 — 출근만 한 오늘은 퇴근 후 반영
+     * - month 미입력 시 KST 기준 현재 월
      */
     @Transactional(readOnly = true)
+    public AttendanceMonthlySummaryResponse getMyMonthlySummary(Long userId, String month) {
+        YearMonth ym = parseYearMonthOrThrow(month);
+        var s = attendanceDailyRollupRepository
+                .summarizeSettledByUserIdAndWorkDateBetween(userId, ym.atDay(1), ym.atEndOfMonth(), LocalDate.now(KST));
+        return new AttendanceMonthlySummaryResponse(
+                null,
+                ym.toString(),
+                s.getAttendanceDays(),
+                s.getClosedDays(),
+                s.getTotalWorkMinutes(),
+                s.getMissingCheckoutDays(),
+                s.getCorrectedDays()
+        );
+    }
+
+    /**
+     * site 월 합계(rollup 기반)
+     * - site_monthly_rollup 1행 조회 (집계 행이 없으면 0)
+     */
+    @Transactional(readOnly = true)
+    public AttendanceMonthlySummaryResponse getSiteMonthlySummary(Long siteId, String month) {
+        if (siteId == null) {
+            throw new BusinessException(ErrorCode.MISSING_REQUIRED_PARAM, "siteId는 필수입니다.");
+        }
+        YearMonth ym = parseYearMonthOrThrow(month);
+        return siteMonthlyRollupRepository.findBySiteIdAndWorkMonth(siteId, ym.toString())
+                .map(m -> new AttendanceMonthlySummaryResponse(
+                        siteId,
+                        ym.toString(),
+                        m.getAttendanceDays(),
+                        m.getClosedDays(),
+                        m.getTotalWorkMinutes(),
+                        m.getMissingCheckoutDays(),
+                        m.getCorrectedDays()
+                ))
+                .orElseGet(() -> new AttendanceMonthlySummaryResponse(siteId, ym.toString(), 0, 0, 0, 0, 0));
+    }
+
+    /**
+     * today 응답도 Final 합성 규칙 적용 (승인된 최신 정정 1건)
+     * - TodayStatusHub에 보관된 상태가 있으면 DB 조회 없이 응답(변경 시 커밋 후 교체)
+     */
     public AttendanceActionResponse getTodayAction(Long userId) {
-        LocalDate today = LocalDate.now(KST);
-        Attendance a = attendanceRepository.findByUserIdAndWorkDate(userId, today).orElse(null);
-        if (a == null) {
-            return AttendanceActionResponse.empty(today);
+        return todayStatusHub.current(userId, () -> loadTodayAction(userId));
+    }
+
+    /**
+     * today 상태 스트림(SSE) — 연결 직후 현재 상태, 이후 변경마다 같은 형식으로 push
+     */
+    public SseEmitter subscribeToday(Long userId) {
+        return todayStatusHub.subscribe(userId, () -> loadTodayAction(userId));
+    }
+
+    /**
+     * 당일 근태 변경을 today 상태에 반영(발행 트랜잭션 안에서 동기 실행 — 커밋 후 교체/전달)
+     * - 정정 승인 등 AttendanceService 밖의 변경용(정정 모듈이 AttendanceService에 의존하지 않도록 이벤트로 받는다)
+     */
+    @EventListener
+    public void onAttendanceCorrected(AttendanceCorrectedEvent event) {
+        Attendance attendance = event.attendance();
+        if (!isToday(attendance)) return;
+        Long userId = attendance.getUserId();
+        if (todayStatusHub.isTracked(userId)) {
+            todayStatusHub.publish(userId, toAttendanceActionResponse(attendance, true));
+        } else {
+            todayStatusHub.invalidate(userId);
+        }
+    }
+
+    /**
+     * 액션 응답(원본 기준)을 재사용해 today 상태(Final 기준) 반영 — 휴게 재조회 없이 출/퇴근 시각만 Final로 합성
+     */
+    private AttendanceActionResponse publishTodayStatus(Attendance attendance, AttendanceActionResponse raw) {
+        if (!isToday(attendance)) return raw;
+        Long userId = attendance.getUserId();
+        if (!todayStatusHub.isTracked(userId)) {
+            todayStatusHub.invalidate(userId);
+            return raw;
         }
-        return toAttendanceActionResponse(a, true);
+        FinalSnapshot f = finalSnapshotService.resolve(attendance);
+        todayStatusHub.publish(userId, new AttendanceActionResponse(
+                raw.attendanceId(),
+                raw.workDate(),
+                f.finalCheckInAt(),
+                f.finalCheckOutAt(),
+                f.isCorrected(),
+                raw.breakInProgress(),
+                raw.totalBreakMinutes(),
+                raw.activeBreakStartedAt()
+        ));
+        return raw;
+    }
+
+    private AttendanceActionResponse loadTodayAction(Long userId) {
+        return readOnlyTx.execute(status -> {
+            LocalDate today = LocalDate.now(KST);
+            Attendance a = attendanceRepository.findByUserIdAndWorkDate(userId, today).orElse(null);
+            if (a == null) {
+                return AttendanceActionResponse.empty(today);
+            }
+            return toAttendanceActionResponse(a, true);
+        });
+    }
+
+    private static boolean isToday(Attendance attendance) {
+        return attendance != null && LocalDate.now(KST).equals(attendance.getWorkDate());
     }
 
     private YearMonth parseYearMonthOrThrow(String month) {
@@ -580,7 +652,7 @@ public class AttendanceService {
         OffsetDateTime out;
         boolean corrected;
         if (applyFinalSnapshot) {
-            FinalSnapshot finalSnapshot = toFinalSnapshot(attendance);
+            FinalSnapshot finalSnapshot = finalSnapshotService.resolve(attendance);
             in = finalSnapshot.finalCheckInAt();
             out = finalSnapshot.finalCheckOutAt();
             corrected = finalSnapshot.isCorrected();
@@ -626,89 +698,9 @@ public class AttendanceService {
         );
     }
 
-    /**
-     * 다른 도메인 서비스에서 Final 합성 규칙(승인 최신 1건)을 재사용하기 위한 공개 메서드.
-     * - 구현은 SSOT인 toFinalSnapshot()에 위임한다.
-     */
-    @Transactional(readOnly = true)
-    public FinalSnapshot computeFinalSnapshot(Attendance attendance) {
-        if (attendance == null) {
-            throw new IllegalArgumentException("attendance must not be null");
-        }
-        return toFinalSnapshot(attendance);
-    }
-
-    /**
-     * Final 합성 규칙:
-     * - APPROVED 중 최신 1건만 반영
-     * - PENDING/REJECTED/CANCELED 는 반영 금지
-     */
-    private FinalSnapshot toFinalSnapshot(Attendance a) {
-        // ✅ 승인된 정정 중 최신 1건만 반영
-        // - Repository 계약: processedAt desc (현재 엔티티 필드와 정합)
-        CorrectionRequest approved = correctionRequestRepository
-                .findFirstByAttendance_IdAndStatusOrderByProcessedAtDesc(a.getId(), CorrectionRequestStatus.APPROVED)
-                .orElse(null);
-
-        // Attendance 원본 시간(null 가능) → KST OffsetDateTime으로 변환
-        OffsetDateTime baseIn = (a.getCheckInTime() == null)
-                ? null
-                : a.getCheckInTime().atZone(KST).toOffsetDateTime();
-
-        OffsetDateTime baseOut = (a.getCheckOutTime() == null)
-                ? null
-                : a.getCheckOutTime().atZone(KST).toOffsetDateTime();
-
-        if (approved == null) {
-            return new FinalSnapshot(
-                    a.getId(),
-                    a.getWorkDate(),
-                    baseIn,
-                    baseOut,
-                    false,
-                    null
-            );
-        }
-
-        OffsetDateTime finalCheckIn = (approved.getProposedCheckInAt() != null)
-                ? approved.getProposedCheckInAt()
-                : baseIn;
-
-        OffsetDateTime finalCheckOut = (approved.getProposedCheckOutAt() != null)
-                ? approved.getProposedCheckOutAt()
-                : baseOut;
-
-        return new FinalSnapshot(
-                a.getId(),
-                a.getWorkDate(),
-                finalCheckIn,
-                finalCheckOut,
-                true,
-                approved.getId()
-        );
-    }
-
-    /**
-     * 조회 응답 조립에 사용하는 내부 스냅샷
-     * - Attendance 원본 + 승인된 최신 정정 1건을 합성한 최종(Final) 값
-     */
-
     private record BreakSummary(
             boolean inProgress,
             long totalBreakMinutes,
             OffsetDateTime activeBreakStartedAt
     ) {}
-
-    public record FinalSnapshot(
-            Long attendanceId,
-            LocalDate workDate,
-            OffsetDateTime finalCheckInAt,
-            OffsetDateTime finalCheckOutAt,
-            boolean isCorrected,
-            Long appliedCorrectionRequestId
-    ) {
-        public static FinalSnapshot empty(LocalDate workDate) {
-            return new FinalSnapshot(null, workDate, null, null, false, null);
-        }
-    }
 }
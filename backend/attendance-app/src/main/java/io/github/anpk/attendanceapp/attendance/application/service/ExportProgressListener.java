@@ -0,0 +1,17 @@
+package io.github.anpk.attendanceapp.attendance.application.service;
+
+/**
+ * 내보내기 진행 콜백
+ * - 청크(또는 직원) 단위 출력 직후 호출된다
+ * - 구현체가 예외를 던지면 내보내기를 중단한다(작업 취소 등)
+ */
+@FunctionalInterface
+public interface ExportProgressListener {
+
+    ExportProgressListener NONE = processed -> {};
+
+    /**
+     * @param processed 지금까지 출력한 단위 수(누적)
+     */
+    void onProgress(long processed);
+}
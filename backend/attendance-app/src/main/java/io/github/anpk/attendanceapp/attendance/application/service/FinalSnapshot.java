@@ -0,0 +1,21 @@
+package io.github.anpk.attendanceapp.attendance.application.service;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+
+/**
+ * 조회 응답 조립에 사용하는 스냅샷
+ * - Attendance 원본 + 승인된 최신 정정 1건을 합성한 최종(Final) 값
+ */
+public record FinalSnapshot(
+        Long attendanceId,
+        LocalDate workDate,
+        OffsetDateTime finalCheckInAt,
+        OffsetDateTime finalCheckOutAt,
+        boolean isCorrected,
+        Long appliedCorrectionRequestId
+) {
+    public static FinalSnapshot empty(LocalDate workDate) {
+        return new FinalSnapshot(null, workDate, null, null, false, null);
+    }
+}
@@ -0,0 +1,236 @@
+package io.github.anpk.attendanceapp.attendance.application.service;
+
+import io.github.anpk.attendanceapp.attendance.domain.model.Attendance;
+import io.github.anpk.attendanceapp.attendance.domain.model.AttendanceFinal;
+import io.github.anpk.attendanceapp.attendance.infrastructure.repository.AttendanceFinalRepository;
+import io.github.anpk.attendanceapp.correction.domain.model.CorrectionRequest;
+import io.github.anpk.attendanceapp.correction.domain.model.CorrectionRequestStatus;
+import io.github.anpk.attendanceapp.correction.infrastructure.repository.CorrectionRequestRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Final 합성 규칙(SSOT)
+ * - APPROVED 중 최신 1건만 반영 (processedAt desc, 동률이면 id desc)
+ * - PENDING/REJECTED/CANCELED 는 반영 금지
+ *
+ * 목록/리포트는 resolveAll()로 attendanceId 집합을 한 번에 합성한다(행 단위 정정 조회 금지).
+ * 조회는 Final 조회 모델(attendance_final)을 우선 사용하고, 모델 행이 없는 attendance만 원본에서 합성한다.
+ * 시각은 두 경로 모두 KST(+09:00)로 반환한다 — 정정 제안 시각이 다른 offset으로 저장돼 있어도
+ * 조회 모델 행 유무에 따라 응답이 달라지지 않도록(조회 모델은 KST LocalDateTime으로 보관).
+ */
+@Service
+public class FinalSnapshotService {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    private final CorrectionRequestRepository correctionRequestRepository;
+    private final AttendanceFinalRepository attendanceFinalRepository;
+
+    public FinalSnapshotService(
+            CorrectionRequestRepository correctionRequestRepository,
+            AttendanceFinalRepository attendanceFinalRepository
+    ) {
+        this.correctionRequestRepository = correctionRequestRepository;
+        this.attendanceFinalRepository = attendanceFinalRepository;
+    }
+
+    /**
+     * 단건 합성 (상세/today 등)
+     */
+    @Transactional(readOnly = true)
+    public FinalSnapshot resolve(Attendance attendance) {
+        if (attendance == null) {
+            throw new IllegalArgumentException("attendance must not be null");
+        }
+        return resolveAll(List.of(attendance)).get(attendance.getId());
+    }
+
+    /**
+     * 일괄 합성
+     * - 조회 모델 1회 + (모델 행 누락분이 있을 때만) 정정 1회 — attendance 건수와 무관
+     * - 반환 Map의 key는 attendanceId
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, FinalSnapshot> resolveAll(Collection<Attendance> attendances) {
+        if (attendances == null || attendances.isEmpty()) return Map.of();
+
+        Map<Long, AttendanceFinal> projected = indexProjections(
+                attendanceFinalRepository.findAllById(idsOf(attendances)));
+        List<Attendance> missing = missingProjections(attendances, projected);
+
+        Map<Long, FinalSnapshot> out = new HashMap<>(attendances.size() * 2);
+        out.putAll(resolveAllFromBase(missing));
+        for (Attendance a : attendances) {
+            AttendanceFinal f = projected.get(a.getId());
+            if (f != null) out.put(a.getId(), fromProjection(f));
+        }
+        return out;
+    }
+
+    /**
+     * 원본(attendance + correction_requests)에서만 합성
+     * - 조회 모델 갱신/재생성(AttendanceFinalProjector) 전용
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, FinalSnapshot> resolveAllFromBase(Collection<Attendance> attendances) {
+        if (attendances == null || attendances.isEmpty()) return Map.of();
+
+        List<Long> attendanceIds = idsOf(attendances);
+        Map<Long, CorrectionRequest> approvedByAttendanceId = attendanceIds.isEmpty()
+                ? Map.of()
+                : indexLatest(correctionRequestRepository
+                .findLatestByAttendanceIdsAndStatus(attendanceIds, CorrectionRequestStatus.APPROVED));
+
+        return composeAll(attendances, approvedByAttendanceId);
+    }
+
+    /**
+     * site + 기간 범위 일괄 합성 (site 리포트 전용)
+     * - attendanceId IN 목록 없이 site/기간 조건으로 정정을 1회 조회
+     * - attendances는 동일 조건(siteId/userId/from/to)으로 조회된 목록이어야 한다
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, FinalSnapshot> resolveAllForSite(
+            Long siteId,
+            Long userId,
+            LocalDate from,
+            LocalDate to,
+            Collection<Attendance> attendances
+    ) {
+        if (attendances == null || attendances.isEmpty()) return Map.of();
+
+        Map<Long, AttendanceFinal> projected = indexProjections(
+                attendanceFinalRepository.findAllBySiteIdAndWorkDateBetween(siteId, userId, from, to));
+        List<Attendance> missing = missingProjections(attendances, projected);
+
+        Map<Long, FinalSnapshot> out = new HashMap<>(attendances.size() * 2);
+        if (!missing.isEmpty()) {
+            Map<Long, CorrectionRequest> approvedByAttendanceId = indexLatest(correctionRequestRepository
+                    .findLatestBySiteIdAndWorkDateBetweenAndStatus(siteId, userId, from, to, CorrectionRequestStatus.APPROVED));
+            out.putAll(composeAll(missing, approvedByAttendanceId));
+        }
+        for (Attendance a : attendances) {
+            AttendanceFinal f = projected.get(a.getId());
+            if (f != null) out.put(a.getId(), fromProjection(f));
+        }
+        return out;
+    }
+
+    private static List<Long> idsOf(Collection<Attendance> attendances) {
+        return attendances.stream()
+                .map(Attendance::getId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+    }
+
+    private static Map<Long, AttendanceFinal> indexProjections(List<AttendanceFinal> rows) {
+        Map<Long, AttendanceFinal> out = new HashMap<>(rows.size() * 2);
+        for (AttendanceFinal f : rows) {
+            out.put(f.getAttendanceId(), f);
+        }
+        return out;
+    }
+
+    private static List<Attendance> missingProjections(Collection<Attendance> attendances, Map<Long, AttendanceFinal> projected) {
+        List<Attendance> missing = new ArrayList<>();
+        for (Attendance a : attendances) {
+            if (!projected.containsKey(a.getId())) missing.add(a);
+        }
+        return missing;
+    }
+
+    private static FinalSnapshot fromProjection(AttendanceFinal f) {
+        return new FinalSnapshot(
+                f.getAttendanceId(),
+                f.getWorkDate(),
+                toKst(f.getFinalCheckInTime()),
+                toKst(f.getFinalCheckOutTime()),
+                f.isCorrected(),
+                f.getAppliedCorrectionRequestId()
+        );
+    }
+
+    private static OffsetDateTime toKst(LocalDateTime t) {
+        if (t == null) return null;
+        return t.atZone(KST).toOffsetDateTime();
+    }
+
+    private static OffsetDateTime toKst(OffsetDateTime t) {
+        return t.atZoneSameInstant(KST).toOffsetDateTime();
+    }
+
+    private static Map<Long, FinalSnapshot> composeAll(
+            Collection<Attendance> attendances,
+            Map<Long, CorrectionRequest> approvedByAttendanceId
+    ) {
+        Map<Long, FinalSnapshot> out = new HashMap<>(attendances.size() * 2);
+        for (Attendance a : attendances) {
+            out.put(a.getId(), compose(a, approvedByAttendanceId.get(a.getId())));
+        }
+        return out;
+    }
+
+    private static Map<Long, CorrectionRequest> indexLatest(List<CorrectionRequest> candidates) {
+        Map<Long, CorrectionRequest> latest = new HashMap<>();
+        for (CorrectionRequest cr : candidates) {
+            // 동일 processedAt 동률 방어: id가 큰(나중에 생성된) 정정을 채택
+            latest.merge(cr.getAttendance().getId(), cr, (a, b) -> a.getId() >= b.getId() ? a : b);
+        }
+        return latest;
+    }
+
+    /**
+     * Attendance 원본 + 승인 정정(없으면 null) → Final
+     */
+    static FinalSnapshot compose(Attendance a, CorrectionRequest approved) {
+        // Attendance 원본 시간(null 가능) → KST OffsetDateTime으로 변환
+        OffsetDateTime baseIn = (a.getCheckInTime() == null)
+                ? null
+                : a.getCheckInTime().atZone(KST).toOffsetDateTime();
+
+        OffsetDateTime baseOut = (a.getCheckOutTime() == null)
+                ? null
+                : a.getCheckOutTime().atZone(KST).toOffsetDateTime();
+
+        if (approved == null) {
+            return new FinalSnapshot(
+                    a.getId(),
+                    a.getWorkDate(),
+                    baseIn,
+                    baseOut,
+                    false,
+                    null
+            );
+        }
+
+        OffsetDateTime finalCheckIn = (approved.getProposedCheckInAt() != null)
+                ? toKst(approved.getProposedCheckInAt())
+                : baseIn;
+
+        OffsetDateTime finalCheckOut = (approved.getProposedCheckOutAt() != null)
+                ? toKst(approved.getProposedCheckOutAt())
+                : baseOut;
+
+        return new FinalSnapshot(
+                a.getId(),
+                a.getWorkDate(),
+                finalCheckIn,
+                finalCheckOut,
+                true,
+                approved.getId()
+        );
+    }
+}
@@ -0,0 +1,170 @@
+package io.github.anpk.attendanceapp.attendance.application.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.anpk.attendanceapp.config.TaskExecutors;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 사진 파생본(썸네일/중간 크기) 관리
+ * - 경로: derived/{variant}/{key[0..2]}/{key[2..4]}/{key}.jpg — blob key 기준이므로 같은 내용은 파생본도 1개
+ * - 업로드 저장 완료(PhotoIngestService) 후 전용 bounded executor에서 미리 생성
+ * - 조회 시 없으면 같은 executor로 생성하고 제한 시간만큼 기다린다(같은 파생본 동시 요청은 1회만 생성)
+ * - 대기열 초과/생성 실패/미지원 형식이면 empty → 호출 측은 원본을 제공(실패는 잠시 기억해 반복 디코드 방지)
+ */
+@Service
+@Slf4j
+public class PhotoDerivativeService {
+
+    private static final Duration FAILURE_TTL = Duration.ofMinutes(10);
+
+    private final PhotoStore photoStore;
+    private final Path derivedRoot;
+    private final Duration lazyTimeout;
+    private final ThreadPoolTaskExecutor executor;
+
+    // 생성 중인 파생본(key:variant) — 중복 생성 방지
+    private final ConcurrentHashMap<String, CompletableFuture<Path>> inFlight = new ConcurrentHashMap<>();
+    // 최근 생성 실패(미지원 형식/손상 파일) — 만료 전까지 재시도하지 않음
+    private final Cache<String, Boolean> failures = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(FAILURE_TTL)
+            .build();
+
+    public PhotoDerivativeService(
+            PhotoStore photoStore,
+            @Value("${app.photos.dir:${user.dir}/uploads}") String photoDir,
+            @Value("${app.photos.derivatives.workers:2}") int workers,
+            @Value("${app.photos.derivatives.queue-capacity:200}") int queueCapacity,
+            @Value("${app.photos.derivatives.lazy-timeout:10s}") Duration lazyTimeout
+    ) {
+        this.photoStore = photoStore;
+        this.derivedRoot = Path.of(photoDir).resolve("derived");
+        this.lazyTimeout = lazyTimeout;
+
+        // 전용 executor: 이미지 디코드는 CPU/메모리 사용이 커서 다른 작업과 분리하고 동시 처리 수를 제한한다
+        // - CPU 작업이므로 가상 스레드 모드와 무관하게 플랫폼 스레드 유지
+        this.executor = TaskExecutors.bounded("photo-derivative-", workers, queueCapacity, false);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * 업로드 직후 미리 생성(대기하지 않음, 대기열 초과 시 조회 시점 생성으로 미룸)
+     */
+    public void generateAsync(String blobKey) {
+        for (PhotoVariant variant : PhotoVariant.values()) {
+            if (!Files.isRegularFile(derivedPath(blobKey, variant))) {
+                submit(blobKey, variant);
+            }
+        }
+    }
+
+    /**
+     * 사진 이름 → 파생본 파일(없으면 생성 후 반환, blobKey는 원본 blob의 key)
+     * - 색인되지 않은 사진(이관 전 flat/처리 대기 중)은 empty
+     */
+    public Optional<PhotoFile> resolve(String photoName, PhotoVariant variant) {
+        Optional<String> key = photoStore.findKey(photoName);
+        if (key.isEmpty()) return Optional.empty();
+
+        Path derived = derivedPath(key.get(), variant);
+        if (Files.isRegularFile(derived)) return Optional.of(new PhotoFile(derived, key.get()));
+
+        CompletableFuture<Path> f = submit(key.get(), variant);
+        if (f == null) return Optional.empty();
+        try {
+            return Optional.of(new PhotoFile(f.get(lazyTimeout.toMillis(), TimeUnit.MILLISECONDS), key.get()));
+        } catch (TimeoutException e) {
+            // 생성은 계속 진행 → 다음 요청부터 파생본 사용
+            return Optional.empty();
+        } catch (ExecutionException e) {
+            return Optional.empty();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Optional.empty();
+        }
+    }
+
+    public Path derivedPath(String blobKey, PhotoVariant variant) {
+        // blobPath()가 key 형식을 검증한다
+        Path blob = photoStore.blobPath(blobKey);
+        return derivedRoot
+                .resolve(variant.getParam())
+                .resolve(blob.getParent().getParent().getFileName())
+                .resolve(blob.getParent().getFileName())
+                .resolve(blobKey + ".jpg");
+    }
+
+    private CompletableFuture<Path> submit(String blobKey, PhotoVariant variant) {
+        String id = blobKey + ":" + variant.getParam();
+        if (failures.getIfPresent(id) != null) return null;
+        CompletableFuture<Path> created = new CompletableFuture<>();
+        CompletableFuture<Path> existing = inFlight.putIfAbsent(id, created);
+        if (existing != null) return existing;
+
+        try {
+            executor.execute(() -> {
+                try {
+                    created.complete(generate(blobKey, variant));
+                } catch (Exception e) {
+                    failures.put(id, Boolean.TRUE);
+                    created.completeExceptionally(e);
+                } finally {
+                    inFlight.remove(id, created);
+                }
+            });
+            return created;
+        } catch (TaskRejectedException e) {
+            inFlight.remove(id, created);
+            log.debug("photo derivative queue full: {}", id);
+            return null;
+        }
+    }
+
+    private Path generate(String blobKey, PhotoVariant variant) throws IOException {
+        Path target = derivedPath(blobKey, variant);
+        if (Files.isRegularFile(target)) return target;
+
+        Path source = photoStore.blobPath(blobKey);
+        Files.createDirectories(target.getParent());
+        Path tmp = target.resolveSibling(UUID.randomUUID() + ".tmp");
+        try {
+            PhotoImageProcessor.writeDerivative(source, tmp, variant.getMaxEdge(), variant.getJpegQuality());
+            // 파생본은 언제든 다시 만들 수 있으므로 fsync 없이 원자적 이동만
+            try {
+                Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+            return target;
+        } catch (IOException | RuntimeException e) {
+            log.warn("photo derivative failed: key={}, variant={}", blobKey, variant, e);
+            throw e;
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package io.github.anpk.attendanceapp.attendance.application.service;
+
+import java.nio.file.Path;
+
+/**
+ * 조회 가능한 사진 파일
+ * - blobKey: 내용 해시(알 수 없으면 null — 이관 전 flat 파일). 있으면 내용이 바뀌지 않음이 보장된다
+ */
+public record PhotoFile(
+        Path path,
+        String blobKey
+) {
+    public boolean isContentAddressed() {
+        return blobKey != null;
+    }
+}
@@ -0,0 +1,65 @@
+package io.github.anpk.attendanceapp.attendance.application.service;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 사진 파일 형식(magic byte 판정)
+ * - 클라이언트가 보낸 Content-Type/확장자 대신 파일 앞부분(최대 SNIFF_BYTES)으로 판정한다
+ * - uploadable=false 형식은 조회 시 Content-Type 판정에만 사용(업로드 거부)
+ */
+public enum PhotoFormat {
+
+    JPEG("image/jpeg", true),
+    PNG("image/png", true),
+    WEBP("image/webp", true),
+    HEIC("image/heic", true),
+    HEIF("image/heif", true),
+    GIF("image/gif", false),
+    BMP("image/bmp", false);
+
+    public static final int SNIFF_BYTES = 16;
+
+    private final String mediaType;
+    private final boolean uploadable;
+
+    PhotoFormat(String mediaType, boolean uploadable) {
+        this.mediaType = mediaType;
+        this.uploadable = uploadable;
+    }
+
+    public String getMediaType() { return mediaType; }
+    public boolean isUploadable() { return uploadable; }
+
+    /**
+     * @return 판정 불가면 null
+     */
+    public static PhotoFormat sniff(byte[] b, int n) {
+        if (n >= 3 && (b[0] & 0xFF) == 0xFF && (b[1] & 0xFF) == 0xD8 && (b[2] & 0xFF) == 0xFF) {
+            return JPEG;
+        }
+        if (n >= 8 && (b[0] & 0xFF) == 0x89 && b[1] == 'P' && b[2] == 'N' && b[3] == 'G'
+                && b[4] == 0x0D && b[5] == 0x0A && b[6] == 0x1A && b[7] == 0x0A) {
+            return PNG;
+        }
+        if (n >= 12 && b[0] == 'R' && b[1] == 'I' && b[2] == 'F' && b[3] == 'F'
+                && b[8] == 'W' && b[9] == 'E' && b[10] == 'B' && b[11] == 'P') {
+            return WEBP;
+        }
+        // ISO BMFF: [size:4]["ftyp"][major brand:4]
+        if (n >= 12 && b[4] == 'f' && b[5] == 't' && b[6] == 'y' && b[7] == 'p') {
+            String brand = new String(b, 8, 4, StandardCharsets.US_ASCII);
+            switch (brand) {
+                case "heic", "heix", "hevc", "hevx" -> { return HEIC; }
+                case "mif1", "msf1", "heif" -> { return HEIF; }
+                default -> { }
+            }
+        }
+        if (n >= 6 && b[0] == 'G' && b[1] == 'I' && b[2] == 'F' && b[3] == '8') {
+            return GIF;
+        }
+        if (n >= 2 && b[0] == 'B' && b[1] == 'M') {
+            return BMP;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,245 @@
+package io.github.anpk.attendanceapp.attendance.application.service;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+
+/**
+ * 사진 파생본 생성(디코드 → 축소 → EXIF 방향 적용 → JPEG 인코드)
+ * - 디코드 시 source subsampling으로 필요한 해상도의 2배 정도만 읽는다(5MB 원본 전체 디코드 회피)
+ * - 축소는 절반씩 단계적으로(bilinear) — 한 번에 크게 줄일 때의 계단 현상 방지
+ * - 방향은 축소 후 적용(픽셀 수가 작을 때 회전)
+ * - 새 BufferedImage를 메타데이터 없이 인코드하므로 EXIF(GPS/기기 정보 등)는 남지 않는다
+ *
+ * ImageIO 기본 코덱(JPEG/PNG/GIF/BMP) 외 형식(webp/heic 등)은 디코드 불가 → IOException.
+ */
+final class PhotoImageProcessor {
+
+    // EXIF APP1 탐색 범위(대부분 파일 앞부분에 위치)
+    private static final int EXIF_SCAN_BYTES = 128 * 1024;
+
+    private PhotoImageProcessor() {}
+
+    static void writeDerivative(Path source, Path target, int maxEdge, float quality) throws IOException {
+        int orientation = readExifOrientation(source);
+        BufferedImage decoded = decode(source, maxEdge);
+        BufferedImage scaled = scaleToFit(decoded, maxEdge);
+        BufferedImage oriented = applyOrientation(scaled, orientation);
+        writeJpeg(oriented, target, quality);
+    }
+
+    // =============================================================
+    // decode
+    // =============================================================
+
+    private static BufferedImage decode(Path source, int maxEdge) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(source.toFile())) {
+            if (in == null) throw new IOException("unreadable image: " + source);
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+            if (!readers.hasNext()) throw new IOException("unsupported image format: " + source);
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                int longEdge = Math.max(reader.getWidth(0), reader.getHeight(0));
+                ImageReadParam param = reader.getDefaultReadParam();
+                int sub = Math.max(1, longEdge / (maxEdge * 2));
+                if (sub > 1) param.setSourceSubsampling(sub, sub, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // =============================================================
+    // scale
+    // =============================================================
+
+    static BufferedImage scaleToFit(BufferedImage src, int maxEdge) {
+        int w = src.getWidth();
+        int h = src.getHeight();
+        double ratio = Math.min(1.0, (double) maxEdge / Math.max(w, h));
+        int targetW = Math.max(1, (int) Math.round(w * ratio));
+        int targetH = Math.max(1, (int) Math.round(h * ratio));
+
+        // 알파 채널은 흰 배경으로 합성(JPEG는 알파 미지원)
+        BufferedImage current = toRgb(src);
+        while (current.getWidth() / 2 >= targetW && current.getHeight() / 2 >= targetH) {
+            current = resize(current, current.getWidth() / 2, current.getHeight() / 2);
+        }
+        if (current.getWidth() != targetW || current.getHeight() != targetH) {
+            current = resize(current, targetW, targetH);
+        }
+        return current;
+    }
+
+    private static BufferedImage toRgb(BufferedImage src) {
+        if (src.getType() == BufferedImage.TYPE_INT_RGB) return src;
+        BufferedImage out = new BufferedImage(src.getWidth(), src.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = out.createGraphics();
+        try {
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, out.getWidth(), out.getHeight());
+            g.drawImage(src, 0, 0, null);
+        } finally {
+            g.dispose();
+        }
+        return out;
+    }
+
+    private static BufferedImage resize(BufferedImage src, int w, int h) {
+        BufferedImage out = new BufferedImage(w, h, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = out.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.drawImage(src, 0, 0, w, h, null);
+        } finally {
+            g.dispose();
+        }
+        return out;
+    }
+
+    // =============================================================
+    // orientation
+    // =============================================================
+
+    /**
+     * EXIF Orientation(1~8) 적용
+     * - 5~8은 가로/세로가 바뀐다
+     */
+    static BufferedImage applyOrientation(BufferedImage src, int orientation) {
+        if (orientation < 2 || orientation > 8) return src;
+
+        int w = src.getWidth();
+        int h = src.getHeight();
+        boolean swap = orientation >= 5;
+        int dw = swap ? h : w;
+        int dh = swap ? w : h;
+
+        int[] in = src.getRGB(0, 0, w, h, null, 0, w);
+        int[] out = new int[in.length];
+        for (int y = 0; y < h; y++) {
+            int row = y * w;
+            for (int x = 0; x < w; x++) {
+                int dx;
+                int dy;
+                switch (orientation) {
+                    case 2 -> { dx = w - 1 - x; dy = y; }              // 좌우 반전
+                    case 3 -> { dx = w - 1 - x; dy = h - 1 - y; }      // 180°
+                    case 4 -> { dx = x; dy = h - 1 - y; }              // 상하 반전
+                    case 5 -> { dx = y; dy = x; }                      // transpose
+                    case 6 -> { dx = h - 1 - y; dy = x; }              // 시계 90°
+                    case 7 -> { dx = h - 1 - y; dy = w - 1 - x; }      // transverse
+                    default -> { dx = y; dy = w - 1 - x; }             // 8: 반시계 90°
+                }
+                out[dy * dw + dx] = in[row + x];
+            }
+        }
+        BufferedImage dst = new BufferedImage(dw, dh, BufferedImage.TYPE_INT_RGB);
+        dst.setRGB(0, 0, dw, dh, out, 0, dw);
+        return dst;
+    }
+
+    /**
+     * JPEG APP1(Exif) IFD0의 Orientation(0x0112) 값. 없거나 JPEG가 아니면 1
+     */
+    static int readExifOrientation(Path source) throws IOException {
+        byte[] b;
+        try (InputStream in = Files.newInputStream(source)) {
+            b = in.readNBytes(EXIF_SCAN_BYTES);
+        }
+        return readExifOrientation(b, b.length);
+    }
+
+    static int readExifOrientation(byte[] b, int len) {
+        if (len < 4 || (b[0] & 0xFF) != 0xFF || (b[1] & 0xFF) != 0xD8) return 1;
+
+        int pos = 2;
+        while (pos + 4 <= len) {
+            if ((b[pos] & 0xFF) != 0xFF) return 1;
+            int marker = b[pos + 1] & 0xFF;
+            // SOS/EOI 이후에는 메타데이터 세그먼트가 없다
+            if (marker == 0xDA || marker == 0xD9) return 1;
+            int segLen = u16(b, pos + 2, false);
+            if (segLen < 2) return 1;
+            int body = pos + 4;
+            if (marker == 0xE1 && body + 6 <= len
+                    && b[body] == 'E' && b[body + 1] == 'x' && b[body + 2] == 'i' && b[body + 3] == 'f'
+                    && b[body + 4] == 0 && b[body + 5] == 0) {
+                return orientationFromTiff(b, body + 6, Math.min(len, pos + 2 + segLen));
+            }
+            pos += 2 + segLen;
+        }
+        return 1;
+    }
+
+    private static int orientationFromTiff(byte[] b, int tiff, int end) {
+        if (tiff + 8 > end) return 1;
+        boolean little;
+        if (b[tiff] == 'I' && b[tiff + 1] == 'I') little = true;
+        else if (b[tiff] == 'M' && b[tiff + 1] == 'M') little = false;
+        else return 1;
+
+        long ifdOffset = u32(b, tiff + 4, little);
+        if (ifdOffset < 8 || tiff + ifdOffset + 2 > end) return 1;
+        int ifd = tiff + (int) ifdOffset;
+        int count = u16(b, ifd, little);
+        for (int i = 0; i < count; i++) {
+            int entry = ifd + 2 + i * 12;
+            if (entry + 12 > end) return 1;
+            if (u16(b, entry, little) == 0x0112) {
+                int v = u16(b, entry + 8, little);
+                return (v >= 1 && v <= 8) ? v : 1;
+            }
+        }
+        return 1;
+    }
+
+    private static int u16(byte[] b, int i, boolean little) {
+        int a = b[i] & 0xFF;
+        int c = b[i + 1] & 0xFF;
+        return little ? (c << 8) | a : (a << 8) | c;
+    }
+
+    private static long u32(byte[] b, int i, boolean little) {
+        long hi = u16(b, little ? i + 2 : i, little);
+        long lo = u16(b, little ? i : i + 2, little);
+        return (hi << 16) | lo;
+    }
+
+    // =============================================================
+    // encode
+    // =============================================================
+
+    private static void writeJpeg(BufferedImage image, Path target, float quality) throws IOException {
+        Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName("jpeg");
+        if (!writers.hasNext()) throw new IOException("no jpeg writer");
+        ImageWriter writer = writers.next();
+        try (ImageOutputStream out = ImageIO.createImageOutputStream(target.toFile())) {
+            writer.setOutput(out);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(quality);
+            // metadata=null: 원본 EXIF/ICC 등 메타데이터를 옮기지 않는다
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+}
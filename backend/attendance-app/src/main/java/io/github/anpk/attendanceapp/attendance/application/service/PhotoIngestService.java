@@ -0,0 +1,329 @@
+package io.github.anpk.attendanceapp.attendance.application.service;
+
+import io.github.anpk.attendanceapp.attendance.domain.model.PhotoUpload;
+import io.github.anpk.attendanceapp.attendance.domain.model.PhotoUploadStatus;
+import io.github.anpk.attendanceapp.attendance.infrastructure.repository.PhotoUploadRepository;
+import io.github.anpk.attendanceapp.config.TaskExecutors;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 근태 사진 수집 파이프라인(spool → PhotoStore blob)
+ * - stage(): 요청 스레드에서 트랜잭션 밖에서 요청 본문을 spool 디렉터리에 직접 기록 + 검증/내용 해시(DB 커넥션 점유 없음)
+ * - bind(): 근태 트랜잭션 안에서 PENDING 기록 생성. 커밋 후 writer에 전달, 롤백 시 spool 삭제
+ * - writer(bounded executor): blob 저장(fsync → 원자적 이동, 중복 내용은 재사용) → 색인 등록 → DURABLE 기록
+ *   → 파생본(PhotoDerivativeService) 생성 요청
+ * - 대기열 초과/재시작으로 처리되지 못한 PENDING은 주기 sweep과 기동 시 복구에서 마무리한다
+ *
+ * 근태 행의 사진 경로는 기존 규칙(…/UUID_원본파일명)을 유지하고, 실제 파일은 resolveReadable()로 찾는다.
+ */
+@Service
+@Slf4j
+public class PhotoIngestService {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+    // sweep 대상: 이 시간 이상 PENDING으로 남은 기록(정상 경로의 writer와 경합 방지)
+    private static final Duration SWEEP_MIN_AGE = Duration.ofSeconds(30);
+    // 고아 spool 파일(커밋되지 않은 업로드) 삭제 기준
+    private static final Duration ORPHAN_MIN_AGE = Duration.ofMinutes(10);
+    private static final int STREAM_BUFFER_BYTES = 64 * 1024;
+
+    private final PhotoUploadRepository photoUploadRepository;
+    private final PhotoStore photoStore;
+    private final PhotoDerivativeService photoDerivativeService;
+    private final Path photoDir;
+    private final Path spoolDir;
+    private final ThreadPoolTaskExecutor executor;
+
+    // writer에 전달되어 처리 중인 spool 경로(sweep 중복 처리 방지)
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+
+    public PhotoIngestService(
+            PhotoUploadRepository photoUploadRepository,
+            PhotoStore photoStore,
+            PhotoDerivativeService photoDerivativeService,
+            @Value("${app.photos.dir:${user.dir}/uploads}") String photoDir,
+            @Value("${app.photos.writer.workers:2}") int workers,
+            @Value("${app.photos.writer.queue-capacity:500}") int queueCapacity,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads
+    ) {
+        this.photoUploadRepository = photoUploadRepository;
+        this.photoStore = photoStore;
+        this.photoDerivativeService = photoDerivativeService;
+        this.photoDir = Path.of(photoDir);
+        this.spoolDir = this.photoDir.resolve(".spool");
+
+        // 전용 executor: 컨테이너 기본 TaskExecutor와 분리하기 위해 bean으로 노출하지 않는다
+        // - fsync/이동/DB 갱신 대기 위주이므로 가상 스레드 모드를 따른다
+        this.executor = TaskExecutors.bounded("photo-writer-", workers, queueCapacity, virtualThreads);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * 업로드 스트림을 spool에 기록(트랜잭션 밖에서 호출)
+     * - 요청 본문에서 바로 읽어 spool에 1회만 기록(이후 blob 저장은 같은 파일시스템 내 이동)
+     * - 같은 패스에서 크기 제한/형식 판정(magic byte)/내용 해시 계산 — 위반 시 즉시 중단하고 spool 삭제
+     * - 사진 경로(색인 이름) 규칙은 기존과 동일(UUID_원본파일명)
+     *
+     * @throws PhotoRejectedException 빈 파일/크기 초과/허용되지 않은 형식
+     */
+    public StagedPhoto stage(InputStream content, String originalFilename, long maxBytes) throws IOException {
+        Files.createDirectories(spoolDir);
+
+        // 파일명에 경로 구분자 등이 섞여도 안전하도록 basename만 사용
+        Path originalPath = (originalFilename == null || originalFilename.isBlank()) ? null : Path.of(originalFilename).getFileName();
+        String originalName = (originalPath == null) ? "photo" : originalPath.toString();
+
+        String id = UUID.randomUUID().toString();
+        Path spool = spoolDir.resolve(id + ".part");
+        Path target = photoDir.resolve(id + "_" + originalName);
+
+        MessageDigest digest = PhotoStore.newDigest();
+        byte[] buf = new byte[STREAM_BUFFER_BYTES];
+        long size;
+        boolean completed = false;
+        try (OutputStream out = Files.newOutputStream(spool, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            // 1) 앞부분으로 형식 판정(기록 전에 거부)
+            int head = content.readNBytes(buf, 0, PhotoFormat.SNIFF_BYTES);
+            if (head == 0) throw new PhotoRejectedException(PhotoRejectedException.Reason.EMPTY);
+            PhotoFormat format = PhotoFormat.sniff(buf, head);
+            if (format == null || !format.isUploadable()) {
+                throw new PhotoRejectedException(PhotoRejectedException.Reason.NOT_AN_IMAGE);
+            }
+            digest.update(buf, 0, head);
+            out.write(buf, 0, head);
+            size = head;
+
+            // 2) 나머지: 크기 제한 확인 → 해시 → 기록
+            int n;
+            while ((n = content.read(buf)) != -1) {
+                size += n;
+                if (size > maxBytes) throw new PhotoRejectedException(PhotoRejectedException.Reason.TOO_LARGE);
+                digest.update(buf, 0, n);
+                out.write(buf, 0, n);
+            }
+            completed = true;
+        } finally {
+            if (!completed) deleteQuietly(spool);
+        }
+        return new StagedPhoto(spool, target, PhotoStore.keyOf(digest), size);
+    }
+
+    /**
+     * spool 파일 폐기(트랜잭션 시작 전 실패 등)
+     */
+    public void discard(StagedPhoto staged) {
+        if (staged != null) deleteQuietly(staged.spoolPath());
+    }
+
+    /**
+     * 근태 트랜잭션에 사진 저장을 연결
+     * - 반드시 트랜잭션 안에서, 근태 검증/저장보다 먼저 호출(이후 예외로 롤백돼도 spool이 정리되도록)
+     */
+    public void bind(StagedPhoto staged) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("PhotoIngestService.bind requires an active transaction");
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                enqueue(staged.spoolPath().toString());
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) discard(staged);
+            }
+        });
+        photoUploadRepository.save(PhotoUpload.pending(
+                staged.spoolPath().toString(), staged.targetPath().toString(), staged.blobKey(), staged.sizeBytes(), now()));
+    }
+
+    /**
+     * 사진 이름(UUID_원본파일명) → 읽기 가능한 실제 파일
+     * - 1) 색인된 blob  2) 이관 전 flat 파일  3) 아직 PENDING이면 spool(이동 직후면 blob)
+     */
+    public Optional<PhotoFile> resolveReadable(String photoName) {
+        Optional<String> key = photoStore.findKey(photoName);
+        if (key.isPresent()) {
+            Path blob = photoStore.blobPath(key.get());
+            if (Files.isRegularFile(blob)) return Optional.of(new PhotoFile(blob, key.get()));
+        }
+
+        Path legacy = photoDir.resolve(photoName);
+        if (Files.isRegularFile(legacy)) return Optional.of(new PhotoFile(legacy, null));
+
+        return photoUploadRepository.findByTargetPath(legacy.toString())
+                .filter(p -> p.getStatus() == PhotoUploadStatus.PENDING)
+                .flatMap(p -> {
+                    Path spool = Path.of(p.getSpoolPath());
+                    if (Files.isRegularFile(spool)) return Optional.of(new PhotoFile(spool, p.getBlobKey()));
+                    if (p.getBlobKey() == null) return Optional.empty();
+                    Path moved = photoStore.blobPath(p.getBlobKey());
+                    return Files.isRegularFile(moved) ? Optional.of(new PhotoFile(moved, p.getBlobKey())) : Optional.empty();
+                });
+    }
+
+    public Path getPhotoDir() {
+        return photoDir;
+    }
+
+    // =============================================================
+    // writer / 복구
+    // =============================================================
+
+    /**
+     * 미완료 PENDING 마무리(주기 실행)
+     */
+    @Scheduled(fixedDelayString = "${app.photos.writer.sweep-interval-ms:60000}")
+    public void sweepPending() {
+        List<PhotoUpload> stale = photoUploadRepository.findTop500ByStatusAndCreatedAtBeforeOrderByIdAsc(
+                PhotoUploadStatus.PENDING, now().minus(SWEEP_MIN_AGE));
+        for (PhotoUpload p : stale) {
+            if (inFlight.add(p.getSpoolPath())) {
+                try {
+                    finalizeUpload(p.getSpoolPath());
+                } finally {
+                    inFlight.remove(p.getSpoolPath());
+                }
+            }
+        }
+    }
+
+    /**
+     * 기동 시 spool 정합성 복구
+     * - PENDING: spool 파일이 있으면 저장 완료, 이미 blob만 있으면 색인 후 DURABLE, 둘 다 없으면 LOST
+     * - PENDING 기록이 없는 spool 파일: 커밋되지 않은 업로드이므로 삭제
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void recoverSpool() {
+        int recovered = 0;
+        long lastId = 0L;
+        List<PhotoUpload> batch;
+        do {
+            // keyset: 실패(PENDING 유지) 행이 있어도 같은 행을 반복하지 않는다
+            batch = photoUploadRepository.findTop500ByStatusAndIdGreaterThanOrderByIdAsc(PhotoUploadStatus.PENDING, lastId);
+            for (PhotoUpload p : batch) {
+                finalizeUpload(p.getSpoolPath());
+                lastId = p.getId();
+                recovered++;
+            }
+        } while (batch.size() == 500);
+
+        int orphans = 0;
+        if (Files.isDirectory(spoolDir)) {
+            Instant cutoff = Instant.now().minus(ORPHAN_MIN_AGE);
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(spoolDir, "*.part")) {
+                for (Path f : files) {
+                    if (Files.getLastModifiedTime(f).toInstant().isAfter(cutoff)) continue;
+                    if (photoUploadRepository.existsBySpoolPathAndStatus(f.toString(), PhotoUploadStatus.PENDING)) continue;
+                    deleteQuietly(f);
+                    orphans++;
+                }
+            } catch (IOException e) {
+                log.warn("photo spool scan failed: {}", spoolDir, e);
+            }
+        }
+        if (recovered > 0 || orphans > 0) {
+            log.info("photo spool recovered: pending={}, orphansDeleted={}", recovered, orphans);
+        }
+    }
+
+    private void enqueue(String spoolPath) {
+        if (!inFlight.add(spoolPath)) return;
+        try {
+            executor.execute(() -> {
+                try {
+                    finalizeUpload(spoolPath);
+                } finally {
+                    inFlight.remove(spoolPath);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            // 대기열 초과: PENDING으로 남겨두고 sweep에서 처리(spool에 이미 안전하게 기록됨)
+            inFlight.remove(spoolPath);
+            log.warn("photo writer queue full, deferred to sweep: {}", spoolPath);
+        }
+    }
+
+    private void finalizeUpload(String spoolPath) {
+        PhotoUpload p = findPending(spoolPath);
+        if (p == null) return;
+
+        Path spool = Path.of(p.getSpoolPath());
+        String target = p.getTargetPath();
+        String photoName = PhotoStore.nameOf(target);
+        try {
+            String key = p.getBlobKey();
+            if (Files.isRegularFile(spool)) {
+                // 이전 버전(해시 없이 spool만 기록된) PENDING은 여기서 계산
+                if (key == null) key = PhotoStore.keyOf(spool);
+                photoStore.putByMove(spool, key);
+            } else if (key == null || !photoStore.contains(key)) {
+                p.markLost();
+                photoUploadRepository.save(p);
+                log.warn("photo lost (spool and blob missing): target={}", target);
+                return;
+            }
+            // 색인 등록 후 DURABLE(중간에 중단되면 다음 복구에서 blob 존재로 이어서 처리)
+            photoStore.link(photoName, key, p.getSizeBytes());
+            p.markDurable(now());
+            photoUploadRepository.save(p);
+
+            // 관리자 화면용 썸네일/중간 크기 미리 생성(별도 bounded pool, 실패해도 조회 시 재생성)
+            photoDerivativeService.generateAsync(key);
+        } catch (IOException e) {
+            // PENDING 유지 → 다음 sweep에서 재시도
+            log.warn("photo finalize failed, will retry: target={}", target, e);
+        }
+    }
+
+    private PhotoUpload findPending(String spoolPath) {
+        return photoUploadRepository.findBySpoolPath(spoolPath)
+                .filter(p -> p.getStatus() == PhotoUploadStatus.PENDING)
+                .orElse(null);
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("photo spool delete failed: {}", path, e);
+        }
+    }
+
+    private static OffsetDateTime now() {
+        return OffsetDateTime.now(KST);
+    }
+}
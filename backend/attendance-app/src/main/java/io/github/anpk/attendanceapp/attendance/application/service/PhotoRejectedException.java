@@ -0,0 +1,25 @@
+package io.github.anpk.attendanceapp.attendance.application.service;
+
+/**
+ * 업로드 스트림 검증 실패(수신 도중 중단)
+ * - 사용자 메시지/에러 코드 매핑은 호출 측(AttendanceService)에서 한다
+ */
+public class PhotoRejectedException extends RuntimeException {
+
+    public enum Reason {
+        EMPTY,
+        TOO_LARGE,
+        NOT_AN_IMAGE
+    }
+
+    private final Reason reason;
+
+    public PhotoRejectedException(Reason reason) {
+        super("photo rejected: " + reason);
+        this.reason = reason;
+    }
+
+    public Reason getReason() {
+        return reason;
+    }
+}
@@ -0,0 +1,218 @@
+package io.github.anpk.attendanceapp.attendance.application.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.anpk.attendanceapp.attendance.domain.model.PhotoBlobRef;
+import io.github.anpk.attendanceapp.attendance.infrastructure.repository.PhotoBlobRefRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 내용 주소(content-addressed) 사진 저장소
+ * - blob key = 내용 SHA-256(hex 64자), 경로 = blobs/{key[0..2]}/{key[2..4]}/{key} (2단 fan-out, 디렉터리당 최대 256개 하위)
+ * - 같은 내용은 한 번만 저장(중복 업로드는 기존 blob을 공유)
+ * - 근태 행에는 기존과 같은 사진 경로(…/UUID_원본파일명)를 기록하고, 파일명 → blob key 색인(photo_blob_refs)으로 찾는다
+ *
+ * blob은 이름이 곧 내용이므로 한 번 쓰면 바뀌지 않는다(색인 조회 결과도 캐시 가능).
+ * 참조가 끊긴 blob 정리(GC)는 하지 않는다 — 근태 사진은 삭제 대상이 아님.
+ */
+@Service
+public class PhotoStore {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+    private static final HexFormat HEX = HexFormat.of();
+    private static final int KEY_LENGTH = 64;
+
+    private final PhotoBlobRefRepository photoBlobRefRepository;
+    private final Path blobRoot;
+    private final Path tmpDir;
+    // 사진 이름 → blob key (불변 매핑이므로 만료 없이 크기만 제한)
+    private final Cache<String, String> keyByName;
+
+    public PhotoStore(
+            PhotoBlobRefRepository photoBlobRefRepository,
+            @Value("${app.photos.dir:${user.dir}/uploads}") String photoDir,
+            @Value("${app.photos.store.index-cache-size:10000}") long indexCacheSize
+    ) {
+        this.photoBlobRefRepository = photoBlobRefRepository;
+        this.blobRoot = Path.of(photoDir).resolve("blobs");
+        this.tmpDir = blobRoot.resolve(".tmp");
+        this.keyByName = Caffeine.newBuilder().maximumSize(indexCacheSize).build();
+    }
+
+    // =============================================================
+    // key
+    // =============================================================
+
+    public static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public static String keyOf(MessageDigest digest) {
+        return HEX.formatHex(digest.digest());
+    }
+
+    /**
+     * 파일 내용으로 blob key 계산
+     */
+    public static String keyOf(Path file) throws IOException {
+        MessageDigest digest = newDigest();
+        byte[] buf = new byte[64 * 1024];
+        try (InputStream in = Files.newInputStream(file)) {
+            int n;
+            while ((n = in.read(buf)) > 0) {
+                digest.update(buf, 0, n);
+            }
+        }
+        return keyOf(digest);
+    }
+
+    /**
+     * 근태 행의 사진 경로 → 색인 이름(파일명 부분)
+     */
+    public static String nameOf(String storedPath) {
+        if (storedPath == null || storedPath.isBlank()) return null;
+        Path fileName = Path.of(storedPath).getFileName();
+        return fileName == null ? null : fileName.toString();
+    }
+
+    public Path blobPath(String key) {
+        if (!isValidKey(key)) {
+            throw new IllegalArgumentException("invalid blob key: " + key);
+        }
+        return blobRoot.resolve(key.substring(0, 2)).resolve(key.substring(2, 4)).resolve(key);
+    }
+
+    public boolean contains(String key) {
+        return Files.isRegularFile(blobPath(key));
+    }
+
+    // =============================================================
+    // write
+    // =============================================================
+
+    /**
+     * source를 blob으로 이동(source는 호출 후 남지 않음)
+     * - 같은 key의 blob이 이미 있으면 source만 삭제(중복 제거)
+     * - 같은 파일시스템(spool)에서 호출하는 것을 전제로 fsync 후 원자적 이동
+     *
+     * @return 새 blob을 만들었으면 true, 기존 blob을 재사용했으면 false
+     */
+    public boolean putByMove(Path source, String key) throws IOException {
+        Path blob = blobPath(key);
+        if (Files.isRegularFile(blob)) {
+            Files.deleteIfExists(source);
+            return false;
+        }
+        Files.createDirectories(blob.getParent());
+        fsync(source);
+        // 같은 key 동시 기록은 내용이 같으므로 덮어써도 무방
+        moveAtomically(source, blob);
+        return true;
+    }
+
+    /**
+     * source를 blob으로 복사(source는 그대로 둔다 — 이관 도구용)
+     * - 임시 파일에 복사 + fsync 후 원자적 이동(부분 기록된 blob이 보이지 않도록)
+     */
+    public boolean putByCopy(Path source, String key) throws IOException {
+        Path blob = blobPath(key);
+        if (Files.isRegularFile(blob)) return false;
+
+        Files.createDirectories(tmpDir);
+        Path tmp = tmpDir.resolve(UUID.randomUUID() + ".tmp");
+        try {
+            Files.copy(source, tmp);
+            fsync(tmp);
+            Files.createDirectories(blob.getParent());
+            moveAtomically(tmp, blob);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+        return true;
+    }
+
+    /**
+     * 사진 이름 → blob key 색인 등록(이미 있으면 무시)
+     */
+    public void link(String photoName, String key, long sizeBytes) {
+        if (photoBlobRefRepository.existsByPhotoName(photoName)) return;
+        try {
+            photoBlobRefRepository.save(new PhotoBlobRef(photoName, key, sizeBytes, OffsetDateTime.now(KST)));
+        } catch (DataIntegrityViolationException e) {
+            // 동시 등록(sweep/이관 경합): 유니크 제약으로 1건만 남는다
+        }
+        keyByName.put(photoName, key);
+    }
+
+    // =============================================================
+    // read
+    // =============================================================
+
+    public Optional<String> findKey(String photoName) {
+        if (photoName == null) return Optional.empty();
+        String cached = keyByName.getIfPresent(photoName);
+        if (cached != null) return Optional.of(cached);
+
+        Optional<String> key = photoBlobRefRepository.findByPhotoName(photoName).map(PhotoBlobRef::getBlobKey);
+        key.ifPresent(k -> keyByName.put(photoName, k));
+        return key;
+    }
+
+    /**
+     * 사진 이름 → 실제 blob 파일(색인이 없거나 blob이 없으면 empty)
+     */
+    public Optional<Path> resolve(String photoName) {
+        return findKey(photoName)
+                .map(this::blobPath)
+                .filter(Files::isRegularFile);
+    }
+
+    public Path getBlobRoot() {
+        return blobRoot;
+    }
+
+    private static boolean isValidKey(String key) {
+        if (key == null || key.length() != KEY_LENGTH) return false;
+        for (int i = 0; i < KEY_LENGTH; i++) {
+            char c = key.charAt(i);
+            if (!((c >= '0' && c <= '9') || (c >= 'a' && c <= 'f'))) return false;
+        }
+        return true;
+    }
+
+    private static void fsync(Path file) throws IOException {
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            ch.force(true);
+        }
+    }
+
+    private static void moveAtomically(Path from, Path to) throws IOException {
+        try {
+            Files.move(from, to, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(from, to, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
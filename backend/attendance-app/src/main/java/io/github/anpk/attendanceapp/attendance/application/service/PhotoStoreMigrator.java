@@ -0,0 +1,143 @@
+package io.github.anpk.attendanceapp.attendance.application.service;
+
+import io.github.anpk.attendanceapp.attendance.interfaces.dto.PhotoStoreMigrationResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * flat uploads 디렉터리 → PhotoStore 이관 도구
+ * - 한 번 호출에 최대 batchSize개 파일을 시도(성공/실패 모두 한도에 포함, 운영 중 반복 호출, hasMore=false가 될 때까지)
+ * - 실패한 파일은 (크기, 수정 시각)과 함께 기록해 두고, 파일이 바뀌거나 재기동하기 전까지 다시 시도하지 않는다
+ * - 파일 단위 순서: 해시 → blob 복사(fsync) → 색인 등록 → 원본 삭제
+ *   (어느 단계에서 중단돼도 원본 또는 색인된 blob 중 하나로 항상 조회 가능, 재실행 시 이어서 처리)
+ * - 근태 행의 사진 경로는 바꾸지 않는다(색인 이름 = 파일명)
+ */
+@Service
+@Slf4j
+public class PhotoStoreMigrator {
+
+    public static final int DEFAULT_BATCH_SIZE = 500;
+    public static final int MAX_BATCH_SIZE = 5000;
+
+    private final PhotoIngestService photoIngestService;
+    private final PhotoStore photoStore;
+    // 동시 이관 호출 방지(같은 파일 중복 처리)
+    private final ReentrantLock lock = new ReentrantLock();
+    // 실패한 파일명 → 실패 당시 파일 상태(lock 보호)
+    private final Map<String, FileStamp> failures = new HashMap<>();
+
+    public PhotoStoreMigrator(PhotoIngestService photoIngestService, PhotoStore photoStore) {
+        this.photoIngestService = photoIngestService;
+        this.photoStore = photoStore;
+    }
+
+    /**
+     * @return 이번 배치 결과. 이미 다른 이관이 실행 중이면 running=true(처리 없음)
+     */
+    public PhotoStoreMigrationResponse migrateBatch(int batchSize) {
+        if (!lock.tryLock()) {
+            return new PhotoStoreMigrationResponse(true, 0, 0, 0, 0, 0, true);
+        }
+        try {
+            return doMigrateBatch(batchSize);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private PhotoStoreMigrationResponse doMigrateBatch(int batchSize) {
+        Path photoDir = photoIngestService.getPhotoDir();
+        if (!Files.isDirectory(photoDir)) {
+            return new PhotoStoreMigrationResponse(false, 0, 0, 0, 0, 0, false);
+        }
+
+        long scanned = 0;
+        long migrated = 0;
+        long deduplicated = 0;
+        long failed = 0;
+        long skipped = 0;
+        boolean hasMore = false;
+
+        // 시도 횟수로 배치를 제한하고, 이미 실패한 파일은 바뀌지 않은 한 건너뛴다(반복 실패 파일이 매 배치를 소모하지 않도록)
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(photoDir, PhotoStoreMigrator::isLegacyPhoto)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                FileStamp stamp = FileStamp.of(file);
+                if (stamp != null && stamp.equals(failures.get(name))) {
+                    skipped++;
+                    continue;
+                }
+                if (scanned >= batchSize) {
+                    hasMore = true;
+                    break;
+                }
+                scanned++;
+                try {
+                    if (migrateOne(file)) deduplicated++;
+                    migrated++;
+                    failures.remove(name);
+                } catch (IOException | RuntimeException e) {
+                    failed++;
+                    if (stamp != null) failures.put(name, stamp);
+                    log.warn("photo migration failed: {}", file, e);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("photo migration scan failed: {}", photoDir, e);
+        }
+
+        log.info("photo store migration batch: scanned={}, migrated={}, deduplicated={}, failed={}, skipped={}, hasMore={}",
+                scanned, migrated, deduplicated, failed, skipped, hasMore);
+        return new PhotoStoreMigrationResponse(false, scanned, migrated, deduplicated, failed, skipped, hasMore);
+    }
+
+    /**
+     * @return 기존 blob을 재사용했으면 true
+     */
+    private boolean migrateOne(Path file) throws IOException {
+        String name = file.getFileName().toString();
+
+        // 이전 실행에서 색인까지 끝나고 원본 삭제만 남은 경우
+        if (photoStore.findKey(name).filter(photoStore::contains).isPresent()) {
+            Files.deleteIfExists(file);
+            return false;
+        }
+
+        long size = Files.size(file);
+        String key = PhotoStore.keyOf(file);
+        boolean created = photoStore.putByCopy(file, key);
+        photoStore.link(name, key, size);
+        Files.deleteIfExists(file);
+        return !created;
+    }
+
+    /**
+     * 이관 대상: photoDir 바로 아래 일반 파일(숨김 파일/하위 디렉터리(.spool, blobs) 제외)
+     */
+    private static boolean isLegacyPhoto(Path p) {
+        return Files.isRegularFile(p) && !p.getFileName().toString().startsWith(".");
+    }
+
+    /**
+     * 실패 기록 비교용 파일 상태(크기 + 수정 시각). 읽을 수 없으면 null(기록하지 않고 다음에 다시 시도)
+     */
+    private record FileStamp(long size, long lastModifiedMillis) {
+        static FileStamp of(Path file) {
+            try {
+                BasicFileAttributes attrs = Files.readAttributes(file, BasicFileAttributes.class);
+                return new FileStamp(attrs.size(), attrs.lastModifiedTime().toMillis());
+            } catch (IOException e) {
+                return null;
+            }
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package io.github.anpk.attendanceapp.attendance.application.service;
+
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * 사진 파생본 크기
+ * - maxEdge: 긴 변 기준 최대 픽셀(원본이 더 작으면 확대하지 않음)
+ * - 원본은 파생본이 아니므로 여기 두지 않는다(요청 파라미터 size=original)
+ */
+public enum PhotoVariant {
+
+    THUMBNAIL("thumb", 240, 0.75f),
+    MEDIUM("medium", 1280, 0.82f);
+
+    private final String param;
+    private final int maxEdge;
+    private final float jpegQuality;
+
+    PhotoVariant(String param, int maxEdge, float jpegQuality) {
+        this.param = param;
+        this.maxEdge = maxEdge;
+        this.jpegQuality = jpegQuality;
+    }
+
+    public String getParam() { return param; }
+    public int getMaxEdge() { return maxEdge; }
+    public float getJpegQuality() { return jpegQuality; }
+
+    public static Optional<PhotoVariant> fromParam(String value) {
+        if (value == null) return Optional.empty();
+        String v = value.trim().toLowerCase(Locale.ROOT);
+        for (PhotoVariant pv : values()) {
+            if (pv.param.equals(v)) return Optional.of(pv);
+        }
+        return Optional.empty();
+    }
+}
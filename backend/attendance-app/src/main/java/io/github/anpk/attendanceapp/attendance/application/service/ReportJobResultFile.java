@@ -0,0 +1,13 @@
+package io.github.anpk.attendanceapp.attendance.application.service;
+
+import java.nio.file.Path;
+
+/**
+ * 완료된 리포트 작업 결과 파일
+ */
+public record ReportJobResultFile(
+        Path path,
+        String filename,
+        String contentType,
+        long size
+) {}
@@ -0,0 +1,314 @@
+package io.github.anpk.attendanceapp.attendance.application.service;
+
+import io.github.anpk.attendanceapp.attendance.domain.model.ReportJob;
+import io.github.anpk.attendanceapp.attendance.domain.model.ReportJobStatus;
+import io.github.anpk.attendanceapp.attendance.domain.model.ReportJobType;
+import io.github.anpk.attendanceapp.attendance.infrastructure.repository.ReportJobRepository;
+import io.github.anpk.attendanceapp.attendance.interfaces.dto.ReportJobResponse;
+import io.github.anpk.attendanceapp.config.TaskExecutors;
+import io.github.anpk.attendanceapp.employee.domain.model.EmployeeRole;
+import io.github.anpk.attendanceapp.error.BusinessException;
+import io.github.anpk.attendanceapp.error.ErrorCode;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * 비동기 리포트/내보내기 작업
+ * - 요청 스레드는 작업 등록만 하고 즉시 반환한다(출근/퇴근 요청 스레드 점유 방지)
+ * - 실행은 전용 bounded executor(workers/queue-capacity)에서만 수행, 대기열 초과 시 REPORT_JOB_QUEUE_FULL
+ * - 결과는 로컬 디스크에 청크 단위로 기록(.part → 완료 시 rename)하고 retention 경과 후 정리한다
+ * - 취소는 협력적: 청크 출력 직후 취소 플래그를 확인해 중단한다
+ *
+ * 상태 전이는 각 repository 호출의 짧은 트랜잭션으로 기록한다(장시간 쓰기 트랜잭션 금지).
+ */
+@Service
+@Slf4j
+public class ReportJobService {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+    private static final int BUFFER_BYTES = 64 * 1024;
+
+    private final ReportJobRepository reportJobRepository;
+    private final SiteAttendanceCsvExporter siteAttendanceCsvExporter;
+    private final SiteAttendanceReportJsonWriter siteAttendanceReportJsonWriter;
+    private final Path outputDir;
+    private final Duration retention;
+    private final ThreadPoolTaskExecutor executor;
+
+    // 실행 중/대기 중 작업의 진행률·취소 플래그(메모리)
+    private final Map<Long, ActiveJob> active = new ConcurrentHashMap<>();
+
+    public ReportJobService(
+            ReportJobRepository reportJobRepository,
+            SiteAttendanceCsvExporter siteAttendanceCsvExporter,
+            SiteAttendanceReportJsonWriter siteAttendanceReportJsonWriter,
+            @Value("${app.report-jobs.dir:${user.dir}/exports/report-jobs}") String outputDir,
+            @Value("${app.report-jobs.retention:24h}") Duration retention,
+            @Value("${app.report-jobs.workers:2}") int workers,
+            @Value("${app.report-jobs.queue-capacity:20}") int queueCapacity,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads
+    ) {
+        this.reportJobRepository = reportJobRepository;
+        this.siteAttendanceCsvExporter = siteAttendanceCsvExporter;
+        this.siteAttendanceReportJsonWriter = siteAttendanceReportJsonWriter;
+        this.outputDir = Path.of(outputDir);
+        this.retention = retention;
+
+        // 전용 executor: 컨테이너 기본 TaskExecutor(MVC async 등)와 분리하기 위해 bean으로 노출하지 않는다
+        // - 작업 대부분이 JDBC/디스크 대기이므로 가상 스레드 모드를 따른다(동시 작업 수 제한은 동일)
+        this.executor = TaskExecutors.bounded("report-job-", workers, queueCapacity, virtualThreads);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * 작업 등록
+     * - 조건 검증은 등록 시점에 수행(오류는 즉시 응답)
+     * - 권한(site 스코프)은 호출 측(컨트롤러)에서 확인
+     */
+    public ReportJobResponse submit(Long requesterUserId, ReportJobType type, Long siteId, Long userId, String from, String to) {
+        if (type == null) {
+            throw new BusinessException(ErrorCode.MISSING_REQUIRED_PARAM, "type은 필수입니다.");
+        }
+        SiteReportRange range = siteAttendanceCsvExporter.validate(siteId, userId, from, to);
+
+        ReportJob job = reportJobRepository.save(ReportJob.queued(
+                type, requesterUserId, range.siteId(), range.userId(), range.from(), range.to(), now()));
+        Long jobId = job.getId();
+
+        ActiveJob aj = new ActiveJob();
+        active.put(jobId, aj);
+        try {
+            aj.future = executor.submit(() -> run(jobId, type, range, aj));
+        } catch (TaskRejectedException e) {
+            active.remove(jobId);
+            reportJobRepository.delete(job);
+            throw new BusinessException(ErrorCode.REPORT_JOB_QUEUE_FULL, "리포트 작업 대기열이 가득 찼습니다. 잠시 후 다시 시도하세요.");
+        }
+        return toResponse(job);
+    }
+
+    public ReportJobResponse get(Long requesterUserId, EmployeeRole requesterRole, Long jobId) {
+        return toResponse(loadAuthorized(requesterUserId, requesterRole, jobId));
+    }
+
+    /**
+     * 취소
+     * - 대기 중: 즉시 CANCELED
+     * - 실행 중: 취소 플래그만 설정(다음 청크 경계에서 CANCELED 전이)
+     */
+    public ReportJobResponse cancel(Long requesterUserId, EmployeeRole requesterRole, Long jobId) {
+        ReportJob job = loadAuthorized(requesterUserId, requesterRole, jobId);
+        if (job.getStatus().isTerminal()) {
+            throw new BusinessException(ErrorCode.INVALID_STATUS_TRANSITION, "이미 종료된 작업입니다.");
+        }
+
+        ActiveJob aj = active.get(jobId);
+        if (aj == null) {
+            // 실행 정보가 없는(재시작 등) 미종료 작업은 바로 종료 처리
+            return toResponse(update(jobId, j -> j.cancel(j.getProcessedUnits(), now())));
+        }
+
+        aj.cancelRequested = true;
+        Future<?> f = aj.future;
+        if (f != null && f.cancel(false)) {
+            // 아직 시작 전: run()이 호출되지 않으므로 여기서 종료 처리
+            active.remove(jobId);
+            return toResponse(update(jobId, j -> j.cancel(0L, now())));
+        }
+        return toResponse(reportJobRepository.findById(jobId).orElseThrow());
+    }
+
+    /**
+     * 결과 파일(SUCCEEDED만)
+     */
+    public ReportJobResultFile openResult(Long requesterUserId, EmployeeRole requesterRole, Long jobId) {
+        ReportJob job = loadAuthorized(requesterUserId, requesterRole, jobId);
+        if (job.getStatus() != ReportJobStatus.SUCCEEDED || job.getResultPath() == null) {
+            throw new BusinessException(ErrorCode.REPORT_JOB_NOT_READY, "작업 결과가 준비되지 않았습니다. status=" + job.getStatus());
+        }
+        Path path = Path.of(job.getResultPath());
+        if (!Files.isRegularFile(path)) {
+            throw new BusinessException(ErrorCode.REPORT_JOB_NOT_READY, "작업 결과 파일이 없습니다.");
+        }
+
+        String ext = extensionOf(job.getType());
+        String filename = "attendance-site-" + job.getSiteId() + "_" + job.getFromDate() + "_" + job.getToDate() + ext;
+        String contentType = (job.getType() == ReportJobType.SITE_REPORT_CSV)
+                ? "text/csv; charset=UTF-8"
+                : "application/json";
+        return new ReportJobResultFile(path, filename, contentType, job.getResultBytes() == null ? 0L : job.getResultBytes());
+    }
+
+    /**
+     * 만료 결과 정리(주기 실행)
+     */
+    @Scheduled(fixedDelayString = "${app.report-jobs.cleanup-interval-ms:600000}")
+    public void cleanupExpired() {
+        List<ReportJob> expired = reportJobRepository.findAllByStatusAndExpiresAtBefore(ReportJobStatus.SUCCEEDED, now());
+        for (ReportJob job : expired) {
+            deleteQuietly(job.getResultPath() == null ? null : Path.of(job.getResultPath()));
+            job.expire();
+            reportJobRepository.save(job);
+        }
+        if (!expired.isEmpty()) {
+            log.info("report jobs expired: {}", expired.size());
+        }
+    }
+
+    /**
+     * 재시작 시 미종료 작업 정리(실행 정보가 메모리에만 있으므로 이어서 실행할 수 없음)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void failInterruptedJobs() {
+        List<ReportJob> interrupted = reportJobRepository.findAllByStatusIn(
+                List.of(ReportJobStatus.QUEUED, ReportJobStatus.RUNNING));
+        for (ReportJob job : interrupted) {
+            if (active.containsKey(job.getId())) continue;
+            job.fail("서버 재시작으로 작업이 중단되었습니다.", job.getProcessedUnits(), now());
+            reportJobRepository.save(job);
+        }
+    }
+
+    // =============================================================
+    // 실행(백그라운드 스레드)
+    // =============================================================
+
+    private void run(Long jobId, ReportJobType type, SiteReportRange range, ActiveJob aj) {
+        Path part = outputDir.resolve(jobId + ".part");
+        Path done = outputDir.resolve(jobId + extensionOf(type));
+        try {
+            if (aj.cancelRequested) throw new CancellationException();
+
+            long total = (type == ReportJobType.SITE_REPORT_CSV)
+                    ? siteAttendanceCsvExporter.countRows(range)
+                    : siteAttendanceReportJsonWriter.countEmployees(range);
+            update(jobId, j -> j.start(total, now()));
+
+            ExportProgressListener listener = processed -> {
+                aj.processed.set(processed);
+                if (aj.cancelRequested) throw new CancellationException();
+            };
+
+            Files.createDirectories(outputDir);
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(part), BUFFER_BYTES)) {
+                if (type == ReportJobType.SITE_REPORT_CSV) {
+                    siteAttendanceCsvExporter.write(range, out, listener);
+                } else {
+                    siteAttendanceReportJsonWriter.write(range, out, listener);
+                }
+            }
+            Files.move(part, done, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+            long bytes = Files.size(done);
+            OffsetDateTime finishedAt = now();
+            update(jobId, j -> j.succeed(done.toString(), bytes, aj.processed.get(), finishedAt, finishedAt.plus(retention)));
+            log.info("report job succeeded: jobId={}, type={}, units={}, bytes={}", jobId, type, aj.processed.get(), bytes);
+        } catch (CancellationException e) {
+            deleteQuietly(part);
+            update(jobId, j -> j.cancel(aj.processed.get(), now()));
+            log.info("report job canceled: jobId={}", jobId);
+        } catch (Exception e) {
+            deleteQuietly(part);
+            log.warn("report job failed: jobId={}", jobId, e);
+            update(jobId, j -> j.fail(e.getClass().getSimpleName() + ": " + e.getMessage(), aj.processed.get(), now()));
+        } finally {
+            active.remove(jobId);
+        }
+    }
+
+    // =============================================================
+    // 내부 유틸
+    // =============================================================
+
+    private ReportJob loadAuthorized(Long requesterUserId, EmployeeRole requesterRole, Long jobId) {
+        ReportJob job = reportJobRepository.findById(jobId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.REPORT_JOB_NOT_FOUND, "리포트 작업을 찾을 수 없습니다."));
+        // ADMIN: 전체, 그 외: 본인이 등록한 작업만
+        if (requesterRole != EmployeeRole.ADMIN && !job.getRequestedBy().equals(requesterUserId)) {
+            throw new BusinessException(ErrorCode.FORBIDDEN, "권한이 없습니다.");
+        }
+        return job;
+    }
+
+    private ReportJob update(Long jobId, Consumer<ReportJob> change) {
+        ReportJob job = reportJobRepository.findById(jobId).orElseThrow();
+        change.accept(job);
+        return reportJobRepository.save(job);
+    }
+
+    private ReportJobResponse toResponse(ReportJob job) {
+        ActiveJob aj = active.get(job.getId());
+        long processed = (aj != null && !job.getStatus().isTerminal())
+                ? aj.processed.get()
+                : job.getProcessedUnits();
+        return new ReportJobResponse(
+                job.getId(),
+                job.getType(),
+                job.getStatus(),
+                job.getSiteId(),
+                job.getUserId(),
+                job.getFromDate().toString(),
+                job.getToDate().toString(),
+                job.getTotalUnits(),
+                processed,
+                aj != null && aj.cancelRequested,
+                job.getResultBytes(),
+                job.getErrorMessage(),
+                job.getCreatedAt(),
+                job.getStartedAt(),
+                job.getFinishedAt(),
+                job.getExpiresAt()
+        );
+    }
+
+    private static String extensionOf(ReportJobType type) {
+        return (type == ReportJobType.SITE_REPORT_CSV) ? ".csv" : ".json";
+    }
+
+    private static void deleteQuietly(Path path) {
+        if (path == null) return;
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("report job file delete failed: {}", path, e);
+        }
+    }
+
+    private static OffsetDateTime now() {
+        return OffsetDateTime.now(KST);
+    }
+
+    private static final class ActiveJob {
+        final AtomicLong processed = new AtomicLong();
+        volatile boolean cancelRequested;
+        volatile Future<?> future;
+    }
+}
@@ -0,0 +1,208 @@
+package io.github.anpk.attendanceapp.attendance.application.service;
+
+import io.github.anpk.attendanceapp.attendance.domain.model.Attendance;
+import io.github.anpk.attendanceapp.attendance.domain.model.AttendanceBreak;
+import io.github.anpk.attendanceapp.attendance.infrastructure.repository.AttendanceBreakRepository;
+import io.github.anpk.attendanceapp.attendance.infrastructure.repository.AttendanceRepository;
+import io.github.anpk.attendanceapp.employee.domain.model.Employee;
+import io.github.anpk.attendanceapp.employee.infrastructure.repository.EmployeeRepository;
+import io.github.anpk.attendanceapp.error.BusinessException;
+import io.github.anpk.attendanceapp.error.ErrorCode;
+import jakarta.persistence.EntityManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * site 리포트 CSV 내보내기(스트리밍)
+ * - attendance는 forward-only 커서로 읽고, CHUNK_SIZE 단위로 휴게/Final을 일괄 로드해 즉시 출력한다
+ * - 청크마다 영속성 컨텍스트를 비워 메모리 사용량이 site 규모/기간과 무관하게 유지된다
+ * - 시간/근무 분은 JSON 리포트와 동일한 Final 합성 규칙(FinalSnapshotService)을 따른다
+ * - 1행 = 직원 1명의 하루(employee-day)
+ */
+@Service
+public class SiteAttendanceCsvExporter {
+
+    static final int CHUNK_SIZE = 500;
+
+    private static final String HEADER =
+            "userId,username,workDate,checkInAt,checkOutAt,breakMinutes,workMinutes,isCorrected";
+
+    private final AttendanceRepository attendanceRepository;
+    private final AttendanceBreakRepository attendanceBreakRepository;
+    private final EmployeeRepository employeeRepository;
+    private final FinalSnapshotService finalSnapshotService;
+    private final EntityManager entityManager;
+
+    public SiteAttendanceCsvExporter(
+            AttendanceRepository attendanceRepository,
+            AttendanceBreakRepository attendanceBreakRepository,
+            EmployeeRepository employeeRepository,
+            FinalSnapshotService finalSnapshotService,
+            EntityManager entityManager
+    ) {
+        this.attendanceRepository = attendanceRepository;
+        this.attendanceBreakRepository = attendanceBreakRepository;
+        this.employeeRepository = employeeRepository;
+        this.finalSnapshotService = finalSnapshotService;
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * 조회 조건 검증(스트리밍 시작 전에 호출 — 오류는 표준 JSON 에러로 응답)
+     */
+    @Transactional(readOnly = true)
+    public SiteReportRange validate(Long siteId, Long userId, String from, String to) {
+        if (siteId == null) {
+            throw new BusinessException(ErrorCode.MISSING_REQUIRED_PARAM, "siteId는 필수입니다.");
+        }
+        if (from == null || from.isBlank() || to == null || to.isBlank()) {
+            throw new BusinessException(ErrorCode.MISSING_REQUIRED_PARAM, "from/to는 필수입니다.");
+        }
+
+        final LocalDate fromDate;
+        final LocalDate toDate;
+        try {
+            fromDate = LocalDate.parse(from);
+            toDate = LocalDate.parse(to);
+        } catch (Exception e) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST_PARAM, "from/to 형식이 올바르지 않습니다. 예: 2026-02-01");
+        }
+
+        if (fromDate.isAfter(toDate)) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST_PARAM, "from은 to보다 이후일 수 없습니다.");
+        }
+
+        if (userId != null && employeeRepository.findByUserIdAndSiteId(userId, siteId).isEmpty()) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST_PARAM, "해당 site에 소속되지 않은 userId 입니다.");
+        }
+        return new SiteReportRange(siteId, userId, fromDate, toDate);
+    }
+
+    /**
+     * 출력 예정 행 수(진행률 표시용)
+     */
+    @Transactional(readOnly = true)
+    public long countRows(SiteReportRange range) {
+        return attendanceRepository.countBySiteIdAndWorkDateBetween(
+                range.siteId(), range.userId(), range.from(), range.to());
+    }
+
+    @Transactional(readOnly = true)
+    public long write(SiteReportRange range, OutputStream out) throws IOException {
+        return write(range, out, ExportProgressListener.NONE);
+    }
+
+    /**
+     * CSV 출력
+     * - out은 닫지 않는다(호출 측 소유)
+     * - listener는 청크 출력 직후 누적 행 수로 호출된다
+     * @return 출력한 데이터 행 수(헤더 제외)
+     */
+    @Transactional(readOnly = true)
+    public long write(SiteReportRange range, OutputStream out, ExportProgressListener listener) throws IOException {
+        Map<Long, String> usernames = loadUsernames(range);
+
+        Writer w = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+        // Excel 한글 깨짐 방지(UTF-8 BOM)
+        w.write('\uFEFF');
+        w.write(HEADER);
+        w.write("\r\n");
+
+        long rows = 0L;
+        try (Stream<Attendance> stream = attendanceRepository.streamAllBySiteIdAndWorkDateBetween(
+                range.siteId(), range.userId(), range.from(), range.to())) {
+            Iterator<Attendance> it = stream.iterator();
+            List<Attendance> chunk = new ArrayList<>(CHUNK_SIZE);
+            while (it.hasNext()) {
+                chunk.add(it.next());
+                if (chunk.size() == CHUNK_SIZE) {
+                    rows += writeChunk(w, chunk, usernames);
+                    chunk.clear();
+                    listener.onProgress(rows);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                rows += writeChunk(w, chunk, usernames);
+                listener.onProgress(rows);
+            }
+        }
+        w.flush();
+        return rows;
+    }
+
+    private Map<Long, String> loadUsernames(SiteReportRange range) {
+        List<Employee> employees = (range.userId() != null)
+                ? employeeRepository.findByUserIdAndSiteId(range.userId(), range.siteId()).stream().toList()
+                : employeeRepository.findAllBySiteId(range.siteId());
+        return employees.stream().collect(Collectors.toMap(Employee::getUserId, Employee::getUsername));
+    }
+
+    private int writeChunk(Writer w, List<Attendance> chunk, Map<Long, String> usernames) throws IOException {
+        List<Long> ids = chunk.stream().map(Attendance::getId).toList();
+        Map<Long, Long> breakMinutesByAttendanceId = attendanceBreakRepository.findAllByAttendance_IdIn(ids).stream()
+                .collect(Collectors.groupingBy(
+                        b -> b.getAttendance().getId(),
+                        Collectors.summingLong(AttendanceBreak::durationMinutesOrZero)
+                ));
+        Map<Long, FinalSnapshot> snapshots = finalSnapshotService.resolveAll(chunk);
+
+        StringBuilder line = new StringBuilder(128);
+        for (Attendance a : chunk) {
+            FinalSnapshot snap = snapshots.get(a.getId());
+            long breakMinutes = breakMinutesByAttendanceId.getOrDefault(a.getId(), 0L);
+            Long workMinutes = WorkMinutesRollupService.workMinutesOf(snap, breakMinutes);
+
+            line.setLength(0);
+            line.append(a.getUserId()).append(',');
+            appendEscaped(line, usernames.getOrDefault(a.getUserId(), ""));
+            line.append(',').append(a.getWorkDate())
+                    .append(',').append(format(snap.finalCheckInAt()))
+                    .append(',').append(format(snap.finalCheckOutAt()))
+                    .append(',').append(breakMinutes)
+                    .append(',').append(workMinutes == null ? "" : workMinutes.toString())
+                    .append(',').append(snap.isCorrected())
+                    .append("\r\n");
+            w.append(line);
+        }
+        w.flush();
+
+        // 출력 완료된 청크의 엔티티 해제(메모리 고정)
+        entityManager.clear();
+        return chunk.size();
+    }
+
+    private static String format(OffsetDateTime t) {
+        return t == null ? "" : t.toString();
+    }
+
+    /**
+     * RFC 4180 escape + 스프레드시트 수식 주입 방지(=,+,-,@,탭,CR 시작 값은 ' 접두)
+     */
+    private static void appendEscaped(StringBuilder sb, String value) {
+        String v = value;
+        if (!v.isEmpty() && "=+-@\t\r".indexOf(v.charAt(0)) >= 0) {
+            v = "'" + v;
+        }
+        boolean quote = v.indexOf(',') >= 0 || v.indexOf('"') >= 0 || v.indexOf('\n') >= 0 || v.indexOf('\r') >= 0;
+        if (!quote) {
+            sb.append(v);
+            return;
+        }
+        sb.append('"').append(v.replace("\"", "\"\"")).append('"');
+    }
+}
@@ -0,0 +1,200 @@
+package io.github.anpk.attendanceapp.attendance.application.service;
+
+import io.github.anpk.attendanceapp.attendance.domain.model.Attendance;
+import io.github.anpk.attendanceapp.attendance.domain.model.AttendanceBreak;
+import io.github.anpk.attendanceapp.attendance.infrastructure.repository.AttendanceBreakRepository;
+import io.github.anpk.attendanceapp.attendance.infrastructure.repository.AttendanceRepository;
+import io.github.anpk.attendanceapp.attendance.interfaces.dto.AdminAttendanceReportEmployeeResponse;
+import io.github.anpk.attendanceapp.attendance.interfaces.dto.AdminAttendanceReportItemResponse;
+import io.github.anpk.attendanceapp.attendance.interfaces.dto.AttendanceBreakHistoryItemResponse;
+import io.github.anpk.attendanceapp.employee.domain.model.Employee;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 관리자/매니저 site 리포트 조립(set 기반)
+ * - site + 기간 단위로 attendance / break / 승인 정정을 고정 3회 쿼리로 로드
+ * - 직원별 그룹핑/집계는 메모리에서 수행 (직원 루프 안에서 쿼리 금지)
+ * - 응답은 기존 직원 단위 조회 방식과 동일해야 한다(정렬/집계/Final 합성 규칙 포함)
+ */
+@Service
+public class SiteAttendanceReportEngine {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    private final AttendanceRepository attendanceRepository;
+    private final AttendanceBreakRepository attendanceBreakRepository;
+    private final FinalSnapshotService finalSnapshotService;
+
+    public SiteAttendanceReportEngine(
+            AttendanceRepository attendanceRepository,
+            AttendanceBreakRepository attendanceBreakRepository,
+            FinalSnapshotService finalSnapshotService
+    ) {
+        this.attendanceRepository = attendanceRepository;
+        this.attendanceBreakRepository = attendanceBreakRepository;
+        this.finalSnapshotService = finalSnapshotService;
+    }
+
+    /**
+     * @param employees 응답 순서를 결정하는 직원 목록(호출 측에서 site 소속 검증 완료)
+     * @param userId    선택: 지정 시 해당 직원만 조회
+     */
+    @Transactional(readOnly = true)
+    public List<AdminAttendanceReportEmployeeResponse> build(
+            Long siteId,
+            Long userId,
+            List<Employee> employees,
+            LocalDate from,
+            LocalDate to
+    ) {
+        if (employees == null || employees.isEmpty()) return List.of();
+
+        List<Attendance> attendances = attendanceRepository.findAllBySiteIdAndWorkDateBetween(siteId, userId, from, to);
+        List<AttendanceBreak> breaks = attendances.isEmpty()
+                ? List.of()
+                : attendanceBreakRepository.findAllBySiteIdAndWorkDateBetween(siteId, userId, from, to);
+        Map<Long, FinalSnapshot> snapshots = finalSnapshotService.resolveAllForSite(siteId, userId, from, to, attendances);
+
+        return assemble(employees, attendances, breaks, snapshots);
+    }
+
+    /**
+     * 직원 목록(페이지) 단위 조립 — 비동기 JSON 작업에서 직원 페이지마다 호출
+     * - 직원 수와 무관하게 근태/휴게/Final(조회 모델, 누락분만 정정) 고정 횟수 쿼리
+     * @param employees 응답 순서를 결정하는 직원 목록(호출 측에서 site 소속 검증 완료)
+     */
+    @Transactional(readOnly = true)
+    public List<AdminAttendanceReportEmployeeResponse> buildForEmployees(
+            List<Employee> employees,
+            LocalDate from,
+            LocalDate to
+    ) {
+        if (employees == null || employees.isEmpty()) return List.of();
+
+        List<Long> userIds = employees.stream().map(Employee::getUserId).toList();
+        List<Attendance> attendances = attendanceRepository.findAllByUserIdInAndWorkDateBetween(userIds, from, to);
+        List<AttendanceBreak> breaks = attendances.isEmpty()
+                ? List.of()
+                : attendanceBreakRepository.findAllByUserIdInAndWorkDateBetween(userIds, from, to);
+        Map<Long, FinalSnapshot> snapshots = finalSnapshotService.resolveAll(attendances);
+
+        return assemble(employees, attendances, breaks, snapshots);
+    }
+
+    /**
+     * 메모리 조립 단계(쿼리 없음): 직원별 그룹핑 → 항목 매핑 → 집계
+     * - breaks는 breakStartTime asc 정렬 상태여야 한다
+     */
+    static List<AdminAttendanceReportEmployeeResponse> assemble(
+            List<Employee> employees,
+            List<Attendance> attendances,
+            List<AttendanceBreak> breaks,
+            Map<Long, FinalSnapshot> snapshots
+    ) {
+        Map<Long, List<Attendance>> attendancesByUserId = attendances.stream()
+                .collect(Collectors.groupingBy(Attendance::getUserId, LinkedHashMap::new, Collectors.toList()));
+
+        Map<Long, List<AttendanceBreak>> breaksByAttendanceId = breaks.stream()
+                .collect(Collectors.groupingBy(b -> b.getAttendance().getId()));
+
+        List<AdminAttendanceReportEmployeeResponse> out = new ArrayList<>(employees.size());
+        for (Employee emp : employees) {
+            out.add(toEmployeeResponse(
+                    emp,
+                    attendancesByUserId.getOrDefault(emp.getUserId(), List.of()),
+                    breaksByAttendanceId,
+                    snapshots
+            ));
+        }
+        return out;
+    }
+
+    private static AdminAttendanceReportEmployeeResponse toEmployeeResponse(
+            Employee emp,
+            List<Attendance> attendances,
+            Map<Long, List<AttendanceBreak>> breaksByAttendanceId,
+            Map<Long, FinalSnapshot> snapshots
+    ) {
+        List<AdminAttendanceReportItemResponse> items = new ArrayList<>(attendances.size());
+        long totalWorkMinutes = 0L;
+        int correctedCount = 0;
+        int missingCheckoutCount = 0;
+
+        for (Attendance a : attendances) {
+            var item = toItem(a, snapshots.get(a.getId()), breaksByAttendanceId.getOrDefault(a.getId(), List.of()));
+            if (item.isCorrected()) correctedCount++;
+            if (item.checkInAt() != null && item.checkOutAt() == null) missingCheckoutCount++;
+            if (item.workMinutes() != null) totalWorkMinutes += item.workMinutes();
+            items.add(item);
+        }
+
+        return new AdminAttendanceReportEmployeeResponse(
+                emp.getUserId(),
+                emp.getUsername(),
+                emp.getRole().name(),
+                emp.isActive(),
+                emp.getSiteId(),
+                items.size(),
+                totalWorkMinutes,
+                missingCheckoutCount,
+                correctedCount,
+                List.copyOf(items)
+        );
+    }
+
+    private static AdminAttendanceReportItemResponse toItem(Attendance a, FinalSnapshot snap, List<AttendanceBreak> breaks) {
+        long breakMinutes = 0L;
+        for (AttendanceBreak b : breaks) {
+            breakMinutes += b.durationMinutesOrZero();
+        }
+        // breaks는 쿼리에서 breakStartTime asc 정렬됨
+        List<AttendanceBreakHistoryItemResponse> breakHistory = breaks.stream()
+                .map(SiteAttendanceReportEngine::toBreakHistoryItem)
+                .toList();
+
+        Long workMinutes = null;
+        if (snap.finalCheckInAt() != null && snap.finalCheckOutAt() != null) {
+            long mins = Duration.between(snap.finalCheckInAt(), snap.finalCheckOutAt()).toMinutes();
+            // 비정상(음수) 방어: 데이터 손상/예외 케이스가 있더라도 리포트가 죽지 않도록 null 처리
+            if (mins >= 0) {
+                workMinutes = Math.max(mins - breakMinutes, 0L);
+            }
+        }
+
+        return new AdminAttendanceReportItemResponse(
+                a.getId(),
+                a.getWorkDate().toString(),
+                snap.finalCheckInAt(),
+                snap.finalCheckOutAt(),
+                breakMinutes,
+                breakHistory,
+                workMinutes,
+                snap.isCorrected()
+        );
+    }
+
+    private static AttendanceBreakHistoryItemResponse toBreakHistoryItem(AttendanceBreak b) {
+        OffsetDateTime start = b.getBreakStartTime() == null
+                ? null
+                : b.getBreakStartTime().atZone(KST).toOffsetDateTime();
+        OffsetDateTime end = b.getBreakEndTime() == null
+                ? null
+                : b.getBreakEndTime().atZone(KST).toOffsetDateTime();
+        return new AttendanceBreakHistoryItemResponse(
+                start,
+                end,
+                b.durationMinutesOrZero()
+        );
+    }
+}
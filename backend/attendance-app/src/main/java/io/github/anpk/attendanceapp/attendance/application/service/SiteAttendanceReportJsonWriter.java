@@ -0,0 +1,100 @@
+package io.github.anpk.attendanceapp.attendance.application.service;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.anpk.attendanceapp.employee.domain.model.Employee;
+import io.github.anpk.attendanceapp.employee.infrastructure.repository.EmployeeRepository;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * site 리포트 JSON 파일 출력(비동기 작업용)
+ * - 응답 형태는 AdminAttendanceReportResponse와 동일
+ * - 직원 페이지(page-size명) 단위로 set 기반 조립 → 즉시 출력 → 영속성 컨텍스트 해제
+ *   → 쿼리 수는 페이지 수에 비례(직원 수 / page-size), 메모리는 페이지 크기로 제한된다
+ */
+@Service
+public class SiteAttendanceReportJsonWriter {
+
+    private final EmployeeRepository employeeRepository;
+    private final SiteAttendanceReportEngine siteAttendanceReportEngine;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+    private final int pageSize;
+
+    public SiteAttendanceReportJsonWriter(
+            EmployeeRepository employeeRepository,
+            SiteAttendanceReportEngine siteAttendanceReportEngine,
+            ObjectMapper objectMapper,
+            EntityManager entityManager,
+            @Value("${app.report-jobs.json-page-size:200}") int pageSize
+    ) {
+        this.employeeRepository = employeeRepository;
+        this.siteAttendanceReportEngine = siteAttendanceReportEngine;
+        this.objectMapper = objectMapper;
+        this.entityManager = entityManager;
+        this.pageSize = Math.max(1, pageSize);
+    }
+
+    /**
+     * 출력 예정 직원 수(진행률 표시용)
+     */
+    @Transactional(readOnly = true)
+    public long countEmployees(SiteReportRange range) {
+        return loadEmployees(range).size();
+    }
+
+    /**
+     * JSON 출력
+     * - out은 닫지 않는다(호출 측 소유)
+     * - listener는 직원 페이지 출력 직후 누적 직원 수로 호출된다
+     * @return 출력한 직원 수
+     */
+    @Transactional(readOnly = true)
+    public long write(SiteReportRange range, OutputStream out, ExportProgressListener listener) throws IOException {
+        List<Employee> employees = loadEmployees(range);
+
+        JsonGenerator g = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8);
+        g.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+        g.writeStartObject();
+        g.writeNumberField("siteId", range.siteId());
+        g.writeStringField("from", range.from().toString());
+        g.writeStringField("to", range.to().toString());
+        g.writeNumberField("totalEmployees", employees.size());
+        g.writeArrayFieldStart("employees");
+
+        long written = 0L;
+        for (int start = 0; start < employees.size(); start += pageSize) {
+            List<Employee> page = employees.subList(start, Math.min(start + pageSize, employees.size()));
+            var mapped = siteAttendanceReportEngine.buildForEmployees(page, range.from(), range.to());
+            for (var e : mapped) {
+                objectMapper.writeValue(g, e);
+            }
+            g.flush();
+            entityManager.clear();
+
+            written += page.size();
+            listener.onProgress(written);
+        }
+
+        g.writeEndArray();
+        g.writeEndObject();
+        g.close();
+        return written;
+    }
+
+    private List<Employee> loadEmployees(SiteReportRange range) {
+        if (range.userId() != null) {
+            return employeeRepository.findByUserIdAndSiteId(range.userId(), range.siteId()).stream().toList();
+        }
+        return employeeRepository.findAllBySiteId(range.siteId());
+    }
+}
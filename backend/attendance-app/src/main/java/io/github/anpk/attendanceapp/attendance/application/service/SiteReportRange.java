@@ -0,0 +1,14 @@
+package io.github.anpk.attendanceapp.attendance.application.service;
+
+import java.time.LocalDate;
+
+/**
+ * site 리포트/내보내기 조회 조건(검증 완료 값)
+ * - userId: 선택 (null이면 site 전체)
+ */
+public record SiteReportRange(
+        Long siteId,
+        Long userId,
+        LocalDate from,
+        LocalDate to
+) {}
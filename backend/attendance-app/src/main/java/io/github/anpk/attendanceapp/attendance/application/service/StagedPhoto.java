@@ -0,0 +1,16 @@
+package io.github.anpk.attendanceapp.attendance.application.service;
+
+import java.nio.file.Path;
+
+/**
+ * spool에 임시 저장된 업로드 사진
+ * - targetPath: 근태 행에 기록할 사진 경로(파일명 부분이 PhotoStore 색인 이름)
+ * - blobKey: spool 기록과 함께 계산한 내용 해시(SHA-256 hex)
+ */
+public record StagedPhoto(
+        Path spoolPath,
+        Path targetPath,
+        String blobKey,
+        long sizeBytes
+) {
+}
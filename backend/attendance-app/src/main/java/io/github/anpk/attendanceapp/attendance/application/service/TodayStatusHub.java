@@ -0,0 +1,334 @@
+package io.github.anpk.attendanceapp.attendance.application.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.anpk.attendanceapp.attendance.interfaces.dto.AttendanceActionResponse;
+import io.github.anpk.attendanceapp.config.AfterCommit;
+import io.github.anpk.attendanceapp.config.TaskExecutors;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 사용자별 "오늘 상태"(GET /api/attendance/today 응답) 인메모리 보관 + push(SSE)
+ * - 출근/퇴근/휴게/당일 정정 승인 시 같은 트랜잭션에서 Final 기준 응답을 만들어 커밋 후 교체·전달
+ *   (추적 중이 아닌 사용자는 계산하지 않고 커밋 후 무효화만)
+ * - 연결 중인 사용자는 채널(userId → 연결 집합 + 최신 상태)에, 그 외 조회 결과는 캐시(max-size, ttl)에 둔다
+ * - 상태마다 버전(전역 증가값) — 조회 중 변경이 커밋되면 조회 결과는 저장하지 않는다(EmployeeCache와 같은 방식,
+ *   확인·저장·교체·무효화는 모두 사용자 키 단위 compute로 원자적), 연결별로 더 최신 버전만 전송
+ * - 전송은 sender executor에서 연결 단위로(연결당 작업 최대 1개) — 보낼 것은 항상 채널의 최신 상태 1건이므로
+ *   느린 연결은 중간 상태를 건너뛸 뿐 대기열이 쌓이지 않고, 다른 사용자/연결의 전송을 막지 않는다
+ * - 날짜가 바뀌면(KST) keep-alive 주기에 빈 상태(오늘 근태 없음)를 전송 — 새 근태는 출근으로만 생기므로 그때 다시 push
+ * - 다중 인스턴스 환경에서는 다른 인스턴스의 변경이 ttl 만큼 늦게 보일 수 있다(연결 중 채널은 재연결 시 갱신)
+ */
+@Component
+@Slf4j
+public class TodayStatusHub {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    record TodayState(long version, AttendanceActionResponse response) {
+        boolean isFor(LocalDate day) {
+            return response.workDate().equals(day.toString());
+        }
+    }
+
+    private static final class Subscriber {
+        final SseEmitter emitter;
+        // 초기 전송(요청 스레드) ↔ push(sender) 직렬화 — 소켓 쓰기 대기를 포함하므로 ReentrantLock
+        final ReentrantLock sendLock = new ReentrantLock();
+        // sender executor에 전송 작업이 올라가 있는지(연결당 최대 1개)
+        final AtomicBoolean draining = new AtomicBoolean();
+        // 등록된 채널(빈 채널이 제거된 뒤에는 새 채널이 만들어지므로 연결 동안 고정)
+        volatile Channel channel;
+        volatile long lastSentVersion = -1;
+        volatile boolean keepAlivePending;
+        volatile boolean closed;
+
+        Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        boolean hasWork() {
+            TodayState s = channel.state.get();
+            return keepAlivePending || (s != null && s.version() > lastSentVersion);
+        }
+    }
+
+    private static final class Channel {
+        final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+        final AtomicReference<TodayState> state = new AtomicReference<>();
+
+        void offer(TodayState next) {
+            state.accumulateAndGet(next, (cur, n) -> (cur == null || n.version() > cur.version()) ? n : cur);
+        }
+    }
+
+    private final Cache<Long, TodayState> states;
+    private final Map<Long, Channel> channels = new ConcurrentHashMap<>();
+    private final AtomicLong versions = new AtomicLong();
+    private final Duration timeout;
+    private final ThreadPoolTaskExecutor senders;
+
+    public TodayStatusHub(
+            @Value("${app.today-status.max-size:10000}") long maxSize,
+            @Value("${app.today-status.ttl:5m}") Duration ttl,
+            @Value("${app.today-status.stream.timeout:30m}") Duration timeout,
+            @Value("${app.today-status.stream.senders:8}") int senders,
+            @Value("${app.today-status.stream.queue-capacity:2000}") int queueCapacity,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads
+    ) {
+        this.states = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+        this.timeout = timeout;
+        // 연결 단위 전송 작업(연결당 최대 1개 대기) — 소켓 쓰기 대기 위주라 가상 스레드 모드를 따른다
+        this.senders = TaskExecutors.bounded("today-status-", senders, queueCapacity, virtualThreads);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        senders.shutdown();
+        channels.values().forEach(ch -> ch.subscribers.forEach(s -> s.emitter.complete()));
+    }
+
+    // =============================================================
+    // 조회
+    // =============================================================
+
+    /**
+     * 보관 중인 오늘 상태(없거나 날짜가 지났으면 loader로 계산해 저장)
+     * - loader는 트랜잭션 안에서 DB 기준 응답을 만든다(호출 측 제공)
+     */
+    public AttendanceActionResponse current(Long userId, Supplier<AttendanceActionResponse> loader) {
+        return currentState(userId, loader).response();
+    }
+
+    private TodayState currentState(Long userId, Supplier<AttendanceActionResponse> loader) {
+        LocalDate today = LocalDate.now(KST);
+        Optional<TodayState> held = held(userId, today);
+        if (held.isPresent()) return held.get();
+
+        long version = versions.get();
+        TodayState loaded = new TodayState(version, loader.get());
+        if (!loaded.isFor(today)) return loaded;
+        // 조회 중 변경이 커밋되었으면 저장하지 않는다(이전 값이 남지 않도록)
+        // - 버전 확인과 저장을 같은 키 compute 안에서 — publish/invalidate도 compute라 확인 직후 끼어들 수 없다
+        states.asMap().compute(userId, (k, cur) -> {
+            if (versions.get() != version || (cur != null && cur.isFor(today))) return cur;
+            Channel ch = channels.get(userId);
+            if (ch != null) ch.offer(loaded);
+            return loaded;
+        });
+        return loaded;
+    }
+
+    private Optional<TodayState> held(Long userId, LocalDate today) {
+        Channel ch = channels.get(userId);
+        TodayState s = (ch == null) ? null : ch.state.get();
+        if (s == null) s = states.getIfPresent(userId);
+        return (s != null && s.isFor(today)) ? Optional.of(s) : Optional.empty();
+    }
+
+    /**
+     * 변경 시 새 상태를 계산할 가치가 있는지(연결 중이거나 보관 중인 사용자)
+     */
+    public boolean isTracked(Long userId) {
+        return channels.containsKey(userId) || states.getIfPresent(userId) != null;
+    }
+
+    // =============================================================
+    // 변경 반영(트랜잭션 안이면 커밋 후)
+    // =============================================================
+
+    /**
+     * 새 상태로 교체하고 연결 중인 기기에 전달
+     */
+    public void publish(Long userId, AttendanceActionResponse response) {
+        AfterCommit.run(() -> {
+            states.asMap().compute(userId, (k, cur) -> {
+                TodayState next = new TodayState(versions.incrementAndGet(), response);
+                Channel ch = channels.get(userId);
+                if (ch != null) ch.offer(next);
+                return next;
+            });
+            dispatch(userId);
+        });
+    }
+
+    /**
+     * 보관 상태만 무효화(다음 조회 시 DB 기준으로 다시 계산)
+     */
+    public void invalidate(Long userId) {
+        AfterCommit.run(() -> states.asMap().compute(userId, (k, cur) -> {
+            versions.incrementAndGet();
+            return null;
+        }));
+    }
+
+    // =============================================================
+    // 구독(SSE)
+    // =============================================================
+
+    /**
+     * 연결 직후 현재 상태를 1회 전송하고, 이후 변경마다 event: today (data = AttendanceActionResponse)
+     * - 상태 전체를 보내므로 재연결 시 이어받기(Last-Event-ID)가 필요 없다
+     */
+    public SseEmitter subscribe(Long userId, Supplier<AttendanceActionResponse> loader) {
+        return subscribe(userId, loader, new SseEmitter(timeout.toMillis()));
+    }
+
+    SseEmitter subscribe(Long userId, Supplier<AttendanceActionResponse> loader, SseEmitter emitter) {
+        Subscriber sub = new Subscriber(emitter);
+
+        emitter.onCompletion(() -> unregister(userId, sub));
+        emitter.onTimeout(() -> unregister(userId, sub));
+        emitter.onError(e -> unregister(userId, sub));
+
+        // 먼저 채널에 등록 → 이후 변경은 sender가 전달, 현재 상태는 여기서 전송(버전 비교로 역순 방지)
+        channels.compute(userId, (k, ch) -> {
+            Channel c = (ch == null) ? new Channel() : ch;
+            c.subscribers.add(sub);
+            sub.channel = c;
+            return c;
+        });
+        TodayState initial = currentState(userId, loader);
+        sub.channel.offer(initial);
+        send(sub, sub.channel.state.get());
+        return emitter;
+    }
+
+    private void unregister(Long userId, Subscriber sub) {
+        sub.closed = true;
+        channels.computeIfPresent(userId, (k, ch) -> {
+            ch.subscribers.remove(sub);
+            return ch.subscribers.isEmpty() ? null : ch;
+        });
+    }
+
+    private void dispatch(Long userId) {
+        Channel ch = channels.get(userId);
+        if (ch == null) return;
+        for (Subscriber sub : ch.subscribers) schedule(sub);
+    }
+
+    /**
+     * 연결의 전송 작업을 sender executor에 올린다(이미 올라가 있으면 그 작업이 최신 상태를 보낸다)
+     */
+    private void schedule(Subscriber sub) {
+        if (sub.closed || !sub.draining.compareAndSet(false, true)) return;
+        try {
+            senders.execute(() -> drain(sub));
+        } catch (TaskRejectedException e) {
+            // executor 대기열 초과 — 연결은 다음 변경 또는 keep-alive 주기에 최신 상태를 받는다
+            sub.draining.set(false);
+            log.warn("today status push deferred (queue full)");
+        }
+    }
+
+    private void drain(Subscriber sub) {
+        try {
+            while (!sub.closed && sub.hasWork()) {
+                TodayState s = sub.channel.state.get();
+                if (s != null && s.version() > sub.lastSentVersion) {
+                    send(sub, s);
+                    sub.keepAlivePending = false;
+                } else if (sub.keepAlivePending) {
+                    sub.keepAlivePending = false;
+                    sendComment(sub);
+                }
+            }
+        } finally {
+            sub.draining.set(false);
+        }
+        // 해제 직후 들어온 변경은 여기서 다시 올린다
+        if (!sub.closed && sub.hasWork()) schedule(sub);
+    }
+
+    /**
+     * keep-alive + 날짜 변경 반영(연결 중인 사용자의 상태가 어제 날짜면 빈 상태로 교체)
+     */
+    @Scheduled(initialDelayString = "${app.today-status.stream.heartbeat-interval-ms:20000}",
+            fixedDelayString = "${app.today-status.stream.heartbeat-interval-ms:20000}")
+    void heartbeat() {
+        if (channels.isEmpty()) return;
+        LocalDate today = LocalDate.now(KST);
+        channels.forEach((userId, ch) -> {
+            TodayState s = ch.state.get();
+            if (s != null && !s.isFor(today)) {
+                ch.offer(new TodayState(versions.incrementAndGet(), AttendanceActionResponse.empty(today)));
+            }
+            // 날짜가 바뀐 연결은 빈 상태가, 그 외에는 keep-alive 주석이 나간다
+            for (Subscriber sub : ch.subscribers) {
+                sub.keepAlivePending = true;
+                schedule(sub);
+            }
+        });
+    }
+
+    public int subscriberCount() {
+        return channels.values().stream().mapToInt(ch -> ch.subscribers.size()).sum();
+    }
+
+    // =============================================================
+    // 전송
+    // =============================================================
+
+    private void send(Subscriber sub, TodayState s) {
+        if (s == null) return;
+        withSendLock(sub, () -> {
+            if (s.version() <= sub.lastSentVersion) return;
+            emit(sub, SseEmitter.event()
+                    .id(Long.toString(s.version()))
+                    .name("today")
+                    .data(s.response(), MediaType.APPLICATION_JSON));
+            sub.lastSentVersion = s.version();
+        });
+    }
+
+    private void sendComment(Subscriber sub) {
+        withSendLock(sub, () -> emit(sub, SseEmitter.event().comment("keep-alive")));
+    }
+
+    private static void withSendLock(Subscriber sub, Runnable action) {
+        if (sub.closed) return;
+        sub.sendLock.lock();
+        try {
+            action.run();
+        } finally {
+            sub.sendLock.unlock();
+        }
+    }
+
+    private static void emit(Subscriber sub, SseEmitter.SseEventBuilder event) {
+        if (sub.closed) return;
+        try {
+            sub.emitter.send(event);
+        } catch (IOException | IllegalStateException e) {
+            // 끊긴 연결 — onError/onCompletion에서 채널 정리
+            sub.closed = true;
+            sub.emitter.completeWithError(e);
+        }
+    }
+}
@@ -0,0 +1,254 @@
+package io.github.anpk.attendanceapp.attendance.application.service;
+
+import io.github.anpk.attendanceapp.attendance.domain.model.Attendance;
+import io.github.anpk.attendanceapp.attendance.domain.model.AttendanceDailyRollup;
+import io.github.anpk.attendanceapp.attendance.infrastructure.repository.AttendanceDailyRollupRepository;
+import io.github.anpk.attendanceapp.employee.domain.model.Employee;
+import io.github.anpk.attendanceapp.employee.infrastructure.repository.EmployeeRepository;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 근무 분 rollup 유지
+ * - 일 단위(attendance_daily_rollup): Final + 휴게 합계로 재계산 후 기존 값과 다를 때만 저장
+ * - site 월 단위(site_monthly_rollup): 확정된 날(퇴근 완료 또는 지난 날짜)의 일 단위 변경분(이전 값 차감 + 새 값 가산)만 누적
+ *   → 출근/휴게 이벤트는 일 단위 행만 갱신하고, site 월 행(핫 로우)은 건드리지 않는다
+ * - 월 행 반영은 MERGE 1문장(upsert) — 첫 행 동시 생성으로 unique 충돌 시 다시 MERGE(이번에는 update 경로)
+ * - 자정 이후 퇴근 없이 지난 날은 foldPastDays()가 월 집계에 반영한다
+ * - 일 단위 행은 PESSIMISTIC_WRITE로 잠근 뒤 delta를 계산한다
+ *   → 같은 행을 동시에 갱신하는 트랜잭션(refresh/fold/rebuild)은 앞선 커밋 결과를 읽고 차감하므로 이중 반영되지 않는다
+ *   → 행이 아직 없을 때 동시 생성은 PK 충돌로 한쪽이 롤백된다(월 반영분도 함께 롤백)
+ * - AttendanceFinalProjector가 원본 변경과 같은 트랜잭션에서 호출한다
+ */
+@Service
+@Slf4j
+public class WorkMinutesRollupService {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    private static final String MERGE_MONTHLY_SQL = """
+            MERGE INTO site_monthly_rollup t
+            USING (SELECT CAST(? AS BIGINT) AS site_id, CAST(? AS VARCHAR(7)) AS work_month) s
+               ON t.site_id = s.site_id AND t.work_month = s.work_month
+            WHEN MATCHED THEN UPDATE SET
+                attendance_days = t.attendance_days + ?,
+                closed_days = t.closed_days + ?,
+                total_work_minutes = t.total_work_minutes + ?,
+                missing_checkout_days = t.missing_checkout_days + ?,
+                corrected_days = t.corrected_days + ?,
+                updated_at = ?
+            WHEN NOT MATCHED THEN INSERT
+                (site_id, work_month, attendance_days, closed_days, total_work_minutes,
+                 missing_checkout_days, corrected_days, updated_at)
+                VALUES (s.site_id, s.work_month, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final AttendanceDailyRollupRepository attendanceDailyRollupRepository;
+    private final EmployeeRepository employeeRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+
+    public WorkMinutesRollupService(
+            AttendanceDailyRollupRepository attendanceDailyRollupRepository,
+            EmployeeRepository employeeRepository,
+            JdbcTemplate jdbcTemplate,
+            EntityManager entityManager
+    ) {
+        this.attendanceDailyRollupRepository = attendanceDailyRollupRepository;
+        this.employeeRepository = employeeRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Final 기준 근무 분(리포트와 동일 규칙)
+     * - Final 출근/퇴근 중 하나라도 없으면 null
+     * - 비정상(음수) 구간은 null
+     */
+    static Long workMinutesOf(FinalSnapshot snap, long breakMinutes) {
+        if (snap.finalCheckInAt() == null || snap.finalCheckOutAt() == null) return null;
+        long mins = Duration.between(snap.finalCheckInAt(), snap.finalCheckOutAt()).toMinutes();
+        if (mins < 0) return null;
+        return Math.max(mins - breakMinutes, 0L);
+    }
+
+    /**
+     * site 월 집계 반영 대상(확정된 날) 여부
+     * - 퇴근(Final)까지 끝났거나, 날짜가 지난 경우(퇴근 누락 포함)
+     */
+    static boolean isSettled(Long workMinutes, LocalDate workDate, LocalDate today) {
+        return workMinutes != null || workDate.isBefore(today);
+    }
+
+    /**
+     * 일/월 rollup 반영
+     * @return 변경된 일 단위 행 수 (verifyOnly면 저장 없이 불일치 수만 반환)
+     */
+    @Transactional
+    public long applyAll(
+            Collection<Attendance> attendances,
+            Map<Long, FinalSnapshot> snapshots,
+            Map<Long, Long> breakMinutesByAttendanceId,
+            boolean verifyOnly
+    ) {
+        if (attendances == null || attendances.isEmpty()) return 0L;
+
+        var ids = attendances.stream().map(Attendance::getId).toList();
+        var userIds = attendances.stream().map(Attendance::getUserId).distinct().toList();
+
+        Map<Long, AttendanceDailyRollup> existing = attendanceDailyRollupRepository.findAllForUpdateByAttendanceIdIn(ids).stream()
+                .collect(Collectors.toMap(AttendanceDailyRollup::getAttendanceId, Function.identity()));
+        Map<Long, Long> siteIdByUserId = employeeRepository.findAllById(userIds).stream()
+                .collect(Collectors.toMap(Employee::getUserId, Employee::getSiteId));
+
+        LocalDateTime now = LocalDateTime.now(KST);
+        LocalDate today = now.toLocalDate();
+        Map<MonthKey, Delta> deltas = new LinkedHashMap<>();
+        long changed = 0L;
+
+        for (Attendance a : attendances) {
+            FinalSnapshot snap = snapshots.get(a.getId());
+            long breakMinutes = breakMinutesByAttendanceId.getOrDefault(a.getId(), 0L);
+            Long siteId = siteIdByUserId.get(a.getUserId());
+            Long workMinutes = workMinutesOf(snap, breakMinutes);
+            boolean missingCheckout = snap.finalCheckInAt() != null && snap.finalCheckOutAt() == null;
+            boolean settled = isSettled(workMinutes, a.getWorkDate(), today);
+
+            AttendanceDailyRollup r = existing.get(a.getId());
+            if (r != null && r.matches(siteId, workMinutes, breakMinutes, missingCheckout, snap.isCorrected(), settled)) {
+                continue;
+            }
+            changed++;
+            if (verifyOnly) continue;
+
+            if (r == null) {
+                r = AttendanceDailyRollup.of(a.getId(), a.getUserId(), a.getWorkDate());
+            } else if (r.isMonthlyApplied()) {
+                // 월 집계에 반영된 이전 기여분 차감
+                accumulate(deltas, r.getSiteId(), r.getWorkDate(), r.getWorkMinutes(),
+                        r.isMissingCheckout(), r.isCorrected(), -1);
+            }
+            r.apply(siteId, workMinutes, breakMinutes, missingCheckout, snap.isCorrected(), settled, now);
+            attendanceDailyRollupRepository.save(r);
+            if (settled) {
+                accumulate(deltas, siteId, a.getWorkDate(), workMinutes, missingCheckout, snap.isCorrected(), +1);
+            }
+        }
+
+        applyMonthlyDeltas(deltas, now);
+        return changed;
+    }
+
+    /**
+     * 날짜가 지났지만 월 집계에 반영되지 않은 일 단위 행(당일 퇴근 누락)을 반영
+     * - 일 단위 행 값은 그대로 두고 월 집계 가산 + monthlyApplied만 표시
+     * - attendanceId keyset 페이지 단위로 처리하고, 페이지마다 영속성 컨텍스트를 비운다
+     * @return 반영한 일 단위 행 수
+     */
+    @Scheduled(cron = "${app.rollup.monthly-fold-cron:0 5 0 * * *}", zone = "Asia/Seoul")
+    @Transactional
+    public long foldPastDays() {
+        LocalDateTime now = LocalDateTime.now(KST);
+        long folded = 0L;
+        long lastId = 0L;
+        while (true) {
+            List<AttendanceDailyRollup> page = attendanceDailyRollupRepository
+                    .findTop500ByMonthlyAppliedFalseAndWorkDateBeforeAndAttendanceIdGreaterThanOrderByAttendanceIdAsc(
+                            now.toLocalDate(), lastId);
+            if (page.isEmpty()) break;
+
+            Map<MonthKey, Delta> deltas = new LinkedHashMap<>();
+            for (AttendanceDailyRollup r : page) {
+                accumulate(deltas, r.getSiteId(), r.getWorkDate(), r.getWorkMinutes(),
+                        r.isMissingCheckout(), r.isCorrected(), +1);
+                r.markMonthlyApplied(now);
+            }
+            applyMonthlyDeltas(deltas, now);
+            folded += page.size();
+            lastId = page.get(page.size() - 1).getAttendanceId();
+
+            entityManager.flush();
+            entityManager.clear();
+        }
+        if (folded > 0) {
+            log.info("site_monthly_rollup fold: folded={} (days closed without checkout)", folded);
+        }
+        return folded;
+    }
+
+    private void applyMonthlyDeltas(Map<MonthKey, Delta> deltas, LocalDateTime now) {
+        for (var e : deltas.entrySet()) {
+            applyMonthlyDelta(e.getKey(), e.getValue(), now);
+        }
+    }
+
+    private void applyMonthlyDelta(MonthKey key, Delta d, LocalDateTime now) {
+        if (d.isZero()) return;
+        try {
+            mergeMonthly(key, d, now);
+        } catch (DuplicateKeyException e) {
+            // 같은 (site, month) 첫 행을 다른 트랜잭션이 먼저 만들었다 → 이번에는 update 경로
+            mergeMonthly(key, d, now);
+        }
+    }
+
+    private void mergeMonthly(MonthKey key, Delta d, LocalDateTime now) {
+        jdbcTemplate.update(MERGE_MONTHLY_SQL,
+                key.siteId(), key.workMonth(),
+                d.attendanceDays, d.closedDays, d.workMinutes, d.missingCheckoutDays, d.correctedDays, now,
+                d.attendanceDays, d.closedDays, d.workMinutes, d.missingCheckoutDays, d.correctedDays, now);
+    }
+
+    private static void accumulate(
+            Map<MonthKey, Delta> deltas,
+            Long siteId,
+            LocalDate workDate,
+            Long workMinutes,
+            boolean missingCheckout,
+            boolean corrected,
+            int sign
+    ) {
+        // 소속 site가 없는 경우 월 집계 대상 아님
+        if (siteId == null) return;
+        Delta d = deltas.computeIfAbsent(new MonthKey(siteId, YearMonth.from(workDate).toString()), k -> new Delta());
+        d.attendanceDays += sign;
+        if (workMinutes != null) {
+            d.closedDays += sign;
+            d.workMinutes += sign * workMinutes;
+        }
+        if (missingCheckout) d.missingCheckoutDays += sign;
+        if (corrected) d.correctedDays += sign;
+    }
+
+    private record MonthKey(Long siteId, String workMonth) {}
+
+    private static final class Delta {
+        long attendanceDays;
+        long closedDays;
+        long workMinutes;
+        long missingCheckoutDays;
+        long correctedDays;
+
+        boolean isZero() {
+            return attendanceDays == 0 && closedDays == 0 && workMinutes == 0
+                    && missingCheckoutDays == 0 && correctedDays == 0;
+        }
+    }
+}
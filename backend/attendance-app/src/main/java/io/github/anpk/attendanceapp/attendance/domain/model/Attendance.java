@@ -7,12 +7,14 @@ import java.time.LocalDateTime;
 @Entity
 @Table(name = "attendance",
         uniqueConstraints = {
-                @UniqueConstraint(columnNames = {"userId", "workDate"})
+                @UniqueConstraint(name = "uk_attendance_user_work_date", columnNames = {"userId", "workDate"})
         })
 public class Attendance {
 
+    // pooled sequence(50개 단위 선할당, V3 마이그레이션) — IDENTITY와 달리 insert JDBC batch 가능
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "attendance_seq")
+    @SequenceGenerator(name = "attendance_seq", sequenceName = "attendance_seq", allocationSize = 50)
     private Long id;
 
     private Long userId;
@@ -10,7 +10,8 @@ import java.time.LocalDateTime;
 public class AttendanceBreak {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "attendance_break_seq")
+    @SequenceGenerator(name = "attendance_break_seq", sequenceName = "attendance_break_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
@@ -37,6 +38,14 @@ public class AttendanceBreak {
         this.breakEndTime = breakEndTime;
     }
 
+    /**
+     * 승인된 휴게 변경 반영(기존 행 재사용 — delete/insert 대신 update)
+     */
+    public void changeInterval(LocalDateTime breakStartTime, LocalDateTime breakEndTime) {
+        this.breakStartTime = breakStartTime;
+        this.breakEndTime = breakEndTime;
+    }
+
     public boolean isInProgress() {
         return breakEndTime == null;
     }
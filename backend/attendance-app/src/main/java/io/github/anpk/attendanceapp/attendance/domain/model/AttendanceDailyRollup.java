@@ -0,0 +1,114 @@
+package io.github.anpk.attendanceapp.attendance.domain.model;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * 일 단위 근무 집계(rollup) — (userId, workDate) 1행
+ * - Final(원본 + 승인 최신 정정 1건) 기준 근무/휴게 분을 미리 계산해 둔다
+ * - siteId는 집계 시점의 직원 소속 site (site 월 집계 키)
+ * - monthlyApplied: 현재 값이 site 월 rollup에 반영되어 있는지(확정된 날만 반영)
+ * - 원본이 SSOT이며, 이 테이블은 언제든 재생성 가능해야 한다
+ */
+@Entity
+@Table(name = "attendance_daily_rollup",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_attendance_daily_rollup_user_work_date", columnNames = {"user_id", "work_date"})
+        })
+public class AttendanceDailyRollup {
+
+    @Id
+    @Column(name = "attendance_id")
+    private Long attendanceId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "work_date", nullable = false)
+    private LocalDate workDate;
+
+    @Column(name = "site_id")
+    private Long siteId;
+
+    // 퇴근(Final) 전이거나 비정상(음수) 구간이면 null
+    @Column(name = "work_minutes")
+    private Long workMinutes;
+
+    @Column(name = "break_minutes", nullable = false)
+    private long breakMinutes;
+
+    @Column(name = "missing_checkout", nullable = false)
+    private boolean missingCheckout;
+
+    @Column(name = "corrected", nullable = false)
+    private boolean corrected;
+
+    @Column(name = "monthly_applied", nullable = false)
+    private boolean monthlyApplied;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    protected AttendanceDailyRollup() {}
+
+    public static AttendanceDailyRollup of(Long attendanceId, Long userId, LocalDate workDate) {
+        AttendanceDailyRollup r = new AttendanceDailyRollup();
+        r.attendanceId = attendanceId;
+        r.userId = userId;
+        r.workDate = workDate;
+        return r;
+    }
+
+    public boolean matches(
+            Long siteId,
+            Long workMinutes,
+            long breakMinutes,
+            boolean missingCheckout,
+            boolean corrected,
+            boolean monthlyApplied
+    ) {
+        return Objects.equals(this.siteId, siteId)
+                && Objects.equals(this.workMinutes, workMinutes)
+                && this.breakMinutes == breakMinutes
+                && this.missingCheckout == missingCheckout
+                && this.corrected == corrected
+                && this.monthlyApplied == monthlyApplied;
+    }
+
+    public void apply(
+            Long siteId,
+            Long workMinutes,
+            long breakMinutes,
+            boolean missingCheckout,
+            boolean corrected,
+            boolean monthlyApplied,
+            LocalDateTime updatedAt
+    ) {
+        this.siteId = siteId;
+        this.workMinutes = workMinutes;
+        this.breakMinutes = breakMinutes;
+        this.missingCheckout = missingCheckout;
+        this.corrected = corrected;
+        this.monthlyApplied = monthlyApplied;
+        this.updatedAt = updatedAt;
+    }
+
+    public void markMonthlyApplied(LocalDateTime updatedAt) {
+        this.monthlyApplied = true;
+        this.updatedAt = updatedAt;
+    }
+
+    public Long getAttendanceId() { return attendanceId; }
+    public Long getUserId() { return userId; }
+    public LocalDate getWorkDate() { return workDate; }
+    public Long getSiteId() { return siteId; }
+    public Long getWorkMinutes() { return workMinutes; }
+    public long getBreakMinutes() { return breakMinutes; }
+    public boolean isMissingCheckout() { return missingCheckout; }
+    public boolean isCorrected() { return corrected; }
+    public boolean isMonthlyApplied() { return monthlyApplied; }
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+}
@@ -0,0 +1,99 @@
+package io.github.anpk.attendanceapp.attendance.domain.model;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Final 조회 모델(projection)
+ * - attendance 1건당 1행: 원본 + 승인된 최신 정정 1건 합성 결과와 휴게 합계를 보관
+ * - 원본(attendance/attendance_break/correction_requests)이 SSOT이며, 이 테이블은 언제든 재생성 가능해야 한다
+ * - 시간 값은 Attendance와 동일하게 KST LocalDateTime으로 저장
+ */
+@Entity
+@Table(name = "attendance_final")
+public class AttendanceFinal {
+
+    @Id
+    @Column(name = "attendance_id")
+    private Long attendanceId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "work_date", nullable = false)
+    private LocalDate workDate;
+
+    @Column(name = "final_check_in_time")
+    private LocalDateTime finalCheckInTime;
+
+    @Column(name = "final_check_out_time")
+    private LocalDateTime finalCheckOutTime;
+
+    @Column(name = "total_break_minutes", nullable = false)
+    private long totalBreakMinutes;
+
+    @Column(name = "corrected", nullable = false)
+    private boolean corrected;
+
+    @Column(name = "applied_correction_request_id")
+    private Long appliedCorrectionRequestId;
+
+    @Column(name = "refreshed_at", nullable = false)
+    private LocalDateTime refreshedAt;
+
+    protected AttendanceFinal() {}
+
+    public static AttendanceFinal of(Long attendanceId, Long userId, LocalDate workDate) {
+        AttendanceFinal f = new AttendanceFinal();
+        f.attendanceId = attendanceId;
+        f.userId = userId;
+        f.workDate = workDate;
+        return f;
+    }
+
+    /**
+     * 재계산 결과와 동일한지 여부(rebuild 검증용, refreshedAt 제외)
+     */
+    public boolean matches(
+            LocalDateTime finalCheckInTime,
+            LocalDateTime finalCheckOutTime,
+            long totalBreakMinutes,
+            boolean corrected,
+            Long appliedCorrectionRequestId
+    ) {
+        return Objects.equals(this.finalCheckInTime, finalCheckInTime)
+                && Objects.equals(this.finalCheckOutTime, finalCheckOutTime)
+                && this.totalBreakMinutes == totalBreakMinutes
+                && this.corrected == corrected
+                && Objects.equals(this.appliedCorrectionRequestId, appliedCorrectionRequestId);
+    }
+
+    public void apply(
+            LocalDateTime finalCheckInTime,
+            LocalDateTime finalCheckOutTime,
+            long totalBreakMinutes,
+            boolean corrected,
+            Long appliedCorrectionRequestId,
+            LocalDateTime refreshedAt
+    ) {
+        this.finalCheckInTime = finalCheckInTime;
+        this.finalCheckOutTime = finalCheckOutTime;
+        this.totalBreakMinutes = totalBreakMinutes;
+        this.corrected = corrected;
+        this.appliedCorrectionRequestId = appliedCorrectionRequestId;
+        this.refreshedAt = refreshedAt;
+    }
+
+    public Long getAttendanceId() { return attendanceId; }
+    public Long getUserId() { return userId; }
+    public LocalDate getWorkDate() { return workDate; }
+    public LocalDateTime getFinalCheckInTime() { return finalCheckInTime; }
+    public LocalDateTime getFinalCheckOutTime() { return finalCheckOutTime; }
+    public long getTotalBreakMinutes() { return totalBreakMinutes; }
+    public boolean isCorrected() { return corrected; }
+    public Long getAppliedCorrectionRequestId() { return appliedCorrectionRequestId; }
+    public LocalDateTime getRefreshedAt() { return refreshedAt; }
+}
@@ -0,0 +1,50 @@
+package io.github.anpk.attendanceapp.attendance.domain.model;
+
+import jakarta.persistence.*;
+
+import java.time.OffsetDateTime;
+
+/**
+ * 사진 이름 → blob key 색인
+ * - photoName: Attendance.checkInPhotoPath/checkOutPhotoPath 값의 파일명 부분(UUID_원본파일명, 전역 유일)
+ * - blobKey: 내용 SHA-256(hex). 같은 내용의 사진은 여러 이름이 하나의 blob을 공유한다
+ */
+@Entity
+@Table(
+        name = "photo_blob_refs",
+        uniqueConstraints = @UniqueConstraint(name = "uk_photo_blob_refs_name", columnNames = "photo_name"),
+        indexes = @Index(name = "idx_photo_blob_refs_blob_key", columnList = "blob_key")
+)
+public class PhotoBlobRef {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "photo_name", nullable = false, length = 300)
+    private String photoName;
+
+    @Column(name = "blob_key", nullable = false, length = 64)
+    private String blobKey;
+
+    @Column(name = "size_bytes", nullable = false)
+    private long sizeBytes;
+
+    @Column(name = "created_at", nullable = false)
+    private OffsetDateTime createdAt;
+
+    protected PhotoBlobRef() {}
+
+    public PhotoBlobRef(String photoName, String blobKey, long sizeBytes, OffsetDateTime createdAt) {
+        this.photoName = photoName;
+        this.blobKey = blobKey;
+        this.sizeBytes = sizeBytes;
+        this.createdAt = createdAt;
+    }
+
+    public Long getId() { return id; }
+    public String getPhotoName() { return photoName; }
+    public String getBlobKey() { return blobKey; }
+    public long getSizeBytes() { return sizeBytes; }
+    public OffsetDateTime getCreatedAt() { return createdAt; }
+}
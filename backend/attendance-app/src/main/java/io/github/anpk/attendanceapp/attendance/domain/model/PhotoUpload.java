@@ -0,0 +1,77 @@
+package io.github.anpk.attendanceapp.attendance.domain.model;
+
+import jakarta.persistence.*;
+
+import java.time.OffsetDateTime;
+
+/**
+ * 근태 사진 저장 기록(spool → blob 저장소)
+ * - 근태 행과 같은 트랜잭션으로 PENDING 생성, 백그라운드 writer가 DURABLE로 전이
+ * - targetPath는 Attendance.checkInPhotoPath/checkOutPhotoPath에 저장된 값과 동일
+ * - blobKey는 spool 기록 시 계산한 내용 해시(PhotoStore key). 이전 버전 기록은 null(처리 시 재계산)
+ */
+@Entity
+@Table(
+        name = "photo_uploads",
+        uniqueConstraints = @UniqueConstraint(name = "uk_photo_uploads_target", columnNames = "target_path"),
+        indexes = @Index(name = "idx_photo_uploads_status", columnList = "status")
+)
+public class PhotoUpload {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "spool_path", nullable = false, length = 500)
+    private String spoolPath;
+
+    @Column(name = "target_path", nullable = false, length = 500)
+    private String targetPath;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private PhotoUploadStatus status;
+
+    @Column(name = "blob_key", length = 64)
+    private String blobKey;
+
+    @Column(name = "size_bytes", nullable = false)
+    private long sizeBytes;
+
+    @Column(name = "created_at", nullable = false)
+    private OffsetDateTime createdAt;
+
+    @Column(name = "durable_at")
+    private OffsetDateTime durableAt;
+
+    protected PhotoUpload() {}
+
+    public static PhotoUpload pending(String spoolPath, String targetPath, String blobKey, long sizeBytes, OffsetDateTime createdAt) {
+        PhotoUpload p = new PhotoUpload();
+        p.spoolPath = spoolPath;
+        p.targetPath = targetPath;
+        p.blobKey = blobKey;
+        p.sizeBytes = sizeBytes;
+        p.status = PhotoUploadStatus.PENDING;
+        p.createdAt = createdAt;
+        return p;
+    }
+
+    public void markDurable(OffsetDateTime at) {
+        this.status = PhotoUploadStatus.DURABLE;
+        this.durableAt = at;
+    }
+
+    public void markLost() {
+        this.status = PhotoUploadStatus.LOST;
+    }
+
+    public Long getId() { return id; }
+    public String getSpoolPath() { return spoolPath; }
+    public String getTargetPath() { return targetPath; }
+    public String getBlobKey() { return blobKey; }
+    public PhotoUploadStatus getStatus() { return status; }
+    public long getSizeBytes() { return sizeBytes; }
+    public OffsetDateTime getCreatedAt() { return createdAt; }
+    public OffsetDateTime getDurableAt() { return durableAt; }
+}
@@ -0,0 +1,13 @@
+package io.github.anpk.attendanceapp.attendance.domain.model;
+
+/**
+ * 근태 사진 저장 상태
+ * - PENDING: spool에 임시 저장, 근태 행은 커밋됨(최종 경로로 이동 전)
+ * - DURABLE: 최종 경로로 이동 + fsync 완료
+ * - LOST: 복구 시 spool/최종 파일 모두 없음(크래시 등)
+ */
+public enum PhotoUploadStatus {
+    PENDING,
+    DURABLE,
+    LOST
+}
@@ -0,0 +1,146 @@
+package io.github.anpk.attendanceapp.attendance.domain.model;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+
+/**
+ * 비동기 리포트/내보내기 작업
+ * - 결과는 로컬 디스크 파일(resultPath)로 보관하고 expiresAt 이후 정리한다
+ * - 진행률(processedUnits)은 실행 중에는 메모리에서 관리하고 종료 시점에 기록한다
+ */
+@Entity
+@Table(name = "report_jobs")
+public class ReportJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    private ReportJobType type;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ReportJobStatus status;
+
+    @Column(name = "requested_by", nullable = false)
+    private Long requestedBy;
+
+    @Column(name = "site_id", nullable = false)
+    private Long siteId;
+
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "from_date", nullable = false)
+    private LocalDate fromDate;
+
+    @Column(name = "to_date", nullable = false)
+    private LocalDate toDate;
+
+    @Column(name = "total_units")
+    private Long totalUnits;
+
+    @Column(name = "processed_units", nullable = false)
+    private long processedUnits;
+
+    @Column(name = "result_path", length = 500)
+    private String resultPath;
+
+    @Column(name = "result_bytes")
+    private Long resultBytes;
+
+    @Column(name = "error_message", length = 500)
+    private String errorMessage;
+
+    @Column(name = "created_at", nullable = false)
+    private OffsetDateTime createdAt;
+
+    @Column(name = "started_at")
+    private OffsetDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private OffsetDateTime finishedAt;
+
+    @Column(name = "expires_at")
+    private OffsetDateTime expiresAt;
+
+    protected ReportJob() {}
+
+    public static ReportJob queued(
+            ReportJobType type,
+            Long requestedBy,
+            Long siteId,
+            Long userId,
+            LocalDate fromDate,
+            LocalDate toDate,
+            OffsetDateTime createdAt
+    ) {
+        ReportJob j = new ReportJob();
+        j.type = type;
+        j.status = ReportJobStatus.QUEUED;
+        j.requestedBy = requestedBy;
+        j.siteId = siteId;
+        j.userId = userId;
+        j.fromDate = fromDate;
+        j.toDate = toDate;
+        j.createdAt = createdAt;
+        return j;
+    }
+
+    public void start(long totalUnits, OffsetDateTime startedAt) {
+        this.status = ReportJobStatus.RUNNING;
+        this.totalUnits = totalUnits;
+        this.startedAt = startedAt;
+    }
+
+    public void succeed(String resultPath, long resultBytes, long processedUnits, OffsetDateTime finishedAt, OffsetDateTime expiresAt) {
+        this.status = ReportJobStatus.SUCCEEDED;
+        this.resultPath = resultPath;
+        this.resultBytes = resultBytes;
+        this.processedUnits = processedUnits;
+        this.finishedAt = finishedAt;
+        this.expiresAt = expiresAt;
+    }
+
+    public void fail(String errorMessage, long processedUnits, OffsetDateTime finishedAt) {
+        this.status = ReportJobStatus.FAILED;
+        this.errorMessage = (errorMessage != null && errorMessage.length() > 500)
+                ? errorMessage.substring(0, 500)
+                : errorMessage;
+        this.processedUnits = processedUnits;
+        this.finishedAt = finishedAt;
+    }
+
+    public void cancel(long processedUnits, OffsetDateTime finishedAt) {
+        this.status = ReportJobStatus.CANCELED;
+        this.processedUnits = processedUnits;
+        this.finishedAt = finishedAt;
+    }
+
+    public void expire() {
+        this.status = ReportJobStatus.EXPIRED;
+        this.resultPath = null;
+    }
+
+    public Long getId() { return id; }
+    public ReportJobType getType() { return type; }
+    public ReportJobStatus getStatus() { return status; }
+    public Long getRequestedBy() { return requestedBy; }
+    public Long getSiteId() { return siteId; }
+    public Long getUserId() { return userId; }
+    public LocalDate getFromDate() { return fromDate; }
+    public LocalDate getToDate() { return toDate; }
+    public Long getTotalUnits() { return totalUnits; }
+    public long getProcessedUnits() { return processedUnits; }
+    public String getResultPath() { return resultPath; }
+    public Long getResultBytes() { return resultBytes; }
+    public String getErrorMessage() { return errorMessage; }
+    public OffsetDateTime getCreatedAt() { return createdAt; }
+    public OffsetDateTime getStartedAt() { return startedAt; }
+    public OffsetDateTime getFinishedAt() { return finishedAt; }
+    public OffsetDateTime getExpiresAt() { return expiresAt; }
+}
@@ -0,0 +1,19 @@
+package io.github.anpk.attendanceapp.attendance.domain.model;
+
+/**
+ * 비동기 리포트 작업 상태
+ * - QUEUED → RUNNING → SUCCEEDED/FAILED/CANCELED
+ * - SUCCEEDED → EXPIRED (보관 기간 경과 후 결과 파일 삭제)
+ */
+public enum ReportJobStatus {
+    QUEUED,
+    RUNNING,
+    SUCCEEDED,
+    FAILED,
+    CANCELED,
+    EXPIRED;
+
+    public boolean isTerminal() {
+        return this != QUEUED && this != RUNNING;
+    }
+}
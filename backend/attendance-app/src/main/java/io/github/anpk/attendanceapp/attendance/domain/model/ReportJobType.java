@@ -0,0 +1,11 @@
+package io.github.anpk.attendanceapp.attendance.domain.model;
+
+/**
+ * 비동기 리포트/내보내기 작업 종류
+ * - SITE_REPORT_JSON: AdminAttendanceReportResponse 형태 JSON 파일
+ * - SITE_REPORT_CSV: /report.csv 와 동일한 CSV 파일
+ */
+public enum ReportJobType {
+    SITE_REPORT_JSON,
+    SITE_REPORT_CSV
+}
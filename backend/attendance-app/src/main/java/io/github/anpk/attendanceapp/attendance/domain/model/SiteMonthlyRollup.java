@@ -0,0 +1,78 @@
+package io.github.anpk.attendanceapp.attendance.domain.model;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * site 월 단위 근무 집계(rollup) — (siteId, workMonth) 1행
+ * - attendance_daily_rollup 변경분(delta)만 누적 반영한다(원본 재스캔 금지)
+ * - workMonth: YYYY-MM
+ */
+@Entity
+@Table(name = "site_monthly_rollup",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_site_monthly_rollup_site_month", columnNames = {"site_id", "work_month"})
+        })
+public class SiteMonthlyRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "site_id", nullable = false)
+    private Long siteId;
+
+    @Column(name = "work_month", nullable = false, length = 7)
+    private String workMonth;
+
+    @Column(name = "attendance_days", nullable = false)
+    private long attendanceDays;
+
+    @Column(name = "closed_days", nullable = false)
+    private long closedDays;
+
+    @Column(name = "total_work_minutes", nullable = false)
+    private long totalWorkMinutes;
+
+    @Column(name = "missing_checkout_days", nullable = false)
+    private long missingCheckoutDays;
+
+    @Column(name = "corrected_days", nullable = false)
+    private long correctedDays;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    protected SiteMonthlyRollup() {}
+
+    public SiteMonthlyRollup(
+            Long siteId,
+            String workMonth,
+            long attendanceDays,
+            long closedDays,
+            long totalWorkMinutes,
+            long missingCheckoutDays,
+            long correctedDays,
+            LocalDateTime updatedAt
+    ) {
+        this.siteId = siteId;
+        this.workMonth = workMonth;
+        this.attendanceDays = attendanceDays;
+        this.closedDays = closedDays;
+        this.totalWorkMinutes = totalWorkMinutes;
+        this.missingCheckoutDays = missingCheckoutDays;
+        this.correctedDays = correctedDays;
+        this.updatedAt = updatedAt;
+    }
+
+    public Long getId() { return id; }
+    public Long getSiteId() { return siteId; }
+    public String getWorkMonth() { return workMonth; }
+    public long getAttendanceDays() { return attendanceDays; }
+    public long getClosedDays() { return closedDays; }
+    public long getTotalWorkMinutes() { return totalWorkMinutes; }
+    public long getMissingCheckoutDays() { return missingCheckoutDays; }
+    public long getCorrectedDays() { return correctedDays; }
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+}
@@ -2,7 +2,10 @@ package io.github.anpk.attendanceapp.attendance.infrastructure.repository;
 
 import io.github.anpk.attendanceapp.attendance.domain.model.AttendanceBreak;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,5 +17,36 @@ public interface AttendanceBreakRepository extends JpaRepository<AttendanceBreak
 
     List<AttendanceBreak> findAllByAttendance_IdIn(List<Long> attendanceIds);
 
-    void deleteByAttendance_Id(Long attendanceId);
+    /**
+     * site 리포트(set 기반)용: site + 기간 범위의 휴게를 1회로 조회 (attendanceId IN 목록 미사용)
+     */
+    @Query("""
+            select b from AttendanceBreak b join b.attendance a, Employee e
+            where e.userId = a.userId
+              and e.siteId = :siteId
+              and (:userId is null or a.userId = :userId)
+              and a.workDate between :from and :to
+            order by b.breakStartTime asc, b.id asc
+            """)
+    List<AttendanceBreak> findAllBySiteIdAndWorkDateBetween(
+            @Param("siteId") Long siteId,
+            @Param("userId") Long userId,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to
+    );
+
+    /**
+     * site 리포트 JSON 작업(직원 페이지 단위)용: 직원 목록 + 기간 범위의 휴게를 1회로 조회
+     */
+    @Query("""
+            select b from AttendanceBreak b join b.attendance a
+            where a.userId in :userIds
+              and a.workDate between :from and :to
+            order by b.breakStartTime asc, b.id asc
+            """)
+    List<AttendanceBreak> findAllByUserIdInAndWorkDateBetween(
+            @Param("userIds") List<Long> userIds,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to
+    );
 }
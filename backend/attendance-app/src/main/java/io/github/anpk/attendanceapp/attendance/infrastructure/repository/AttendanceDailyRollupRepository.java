@@ -0,0 +1,63 @@
+package io.github.anpk.attendanceapp.attendance.infrastructure.repository;
+
+import io.github.anpk.attendanceapp.attendance.domain.model.AttendanceDailyRollup;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+public interface AttendanceDailyRollupRepository extends JpaRepository<AttendanceDailyRollup, Long> {
+
+    /**
+     * 직원 기간 합계(1회 집계 쿼리)
+     * - site 월 합계와 같은 규칙: 확정된 날(퇴근 완료 또는 today 이전 날짜)만 센다
+     */
+    @Query("""
+            select count(r) as attendanceDays,
+                   count(r.workMinutes) as closedDays,
+                   coalesce(sum(r.workMinutes), 0) as totalWorkMinutes,
+                   coalesce(sum(case when r.missingCheckout = true then 1 else 0 end), 0) as missingCheckoutDays,
+                   coalesce(sum(case when r.corrected = true then 1 else 0 end), 0) as correctedDays
+            from AttendanceDailyRollup r
+            where r.userId = :userId
+              and r.workDate between :from and :to
+              and (r.workMinutes is not null or r.workDate < :today)
+            """)
+    Summary summarizeSettledByUserIdAndWorkDateBetween(
+            @Param("userId") Long userId,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to,
+            @Param("today") LocalDate today
+    );
+
+    /**
+     * 월 집계 delta 계산용 행 잠금 조회(SELECT ... FOR UPDATE)
+     * - attendanceId 순으로 잠가 동시 반영 간 교착을 피한다
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select r from AttendanceDailyRollup r where r.attendanceId in :ids order by r.attendanceId")
+    List<AttendanceDailyRollup> findAllForUpdateByAttendanceIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 날짜가 지났지만 site 월 rollup에 아직 반영되지 않은 행(퇴근 누락 등) — attendanceId keyset 페이지
+     * - 행 잠금: 잠금 대기 후에는 조건을 다시 평가하므로, 그 사이 다른 트랜잭션이 반영한 행은 빠진다
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<AttendanceDailyRollup> findTop500ByMonthlyAppliedFalseAndWorkDateBeforeAndAttendanceIdGreaterThanOrderByAttendanceIdAsc(
+            LocalDate workDate,
+            Long attendanceId
+    );
+
+    interface Summary {
+        long getAttendanceDays();
+        long getClosedDays();
+        long getTotalWorkMinutes();
+        long getMissingCheckoutDays();
+        long getCorrectedDays();
+    }
+}
@@ -0,0 +1,29 @@
+package io.github.anpk.attendanceapp.attendance.infrastructure.repository;
+
+import io.github.anpk.attendanceapp.attendance.domain.model.AttendanceFinal;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface AttendanceFinalRepository extends JpaRepository<AttendanceFinal, Long> {
+
+    /**
+     * site 리포트(set 기반)용: 현재 site 소속 직원의 기간 내 Final 조회 모델 행
+     */
+    @Query("""
+            select f from AttendanceFinal f, Employee e
+            where e.userId = f.userId
+              and e.siteId = :siteId
+              and (:userId is null or f.userId = :userId)
+              and f.workDate between :from and :to
+            """)
+    List<AttendanceFinal> findAllBySiteIdAndWorkDateBetween(
+            @Param("siteId") Long siteId,
+            @Param("userId") Long userId,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to
+    );
+}
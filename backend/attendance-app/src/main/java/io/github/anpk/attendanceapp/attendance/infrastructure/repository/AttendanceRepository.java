@@ -1,18 +1,22 @@
 package io.github.anpk.attendanceapp.attendance.infrastructure.repository;
 
 import io.github.anpk.attendanceapp.attendance.domain.model.Attendance;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDate;
 import java.util.Optional;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface AttendanceRepository extends JpaRepository<Attendance, Long> {
 
-    List<Attendance> findByWorkDate(LocalDate workDate);
-
     Optional<Attendance> findByUserIdAndWorkDate(Long userId, LocalDate workDate);
 
     Page<Attendance> findByUserIdAndWorkDateBetween(Long userId, LocalDate from, LocalDate to, Pageable pageable);
@@ -20,4 +24,81 @@ public interface AttendanceRepository extends JpaRepository<Attendance, Long> {
     List<Attendance> findAllByUserIdAndWorkDateBetweenOrderByWorkDateAsc(Long userId, LocalDate from, LocalDate to);
 
     Optional<Attendance> findByIdAndUserId(Long attendanceId, Long userId);
-}
\ No newline at end of file
+
+    // 전체 스캔(조회 모델 재생성 등)용 keyset 페이지
+    List<Attendance> findTop500ByIdGreaterThanOrderByIdAsc(Long id);
+
+    /**
+     * site 리포트(set 기반)용: 현재 site 소속 직원의 기간 내 근태를 1회로 조회
+     * - userId 지정 시 해당 직원만
+     * - 정렬: userId, workDate asc (직원별 그룹핑 시 순서 유지)
+     */
+    @Query("""
+            select a from Attendance a, Employee e
+            where e.userId = a.userId
+              and e.siteId = :siteId
+              and (:userId is null or a.userId = :userId)
+              and a.workDate between :from and :to
+            order by a.userId asc, a.workDate asc
+            """)
+    List<Attendance> findAllBySiteIdAndWorkDateBetween(
+            @Param("siteId") Long siteId,
+            @Param("userId") Long userId,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to
+    );
+
+    /**
+     * site 리포트 JSON 작업(직원 페이지 단위)용: 직원 목록의 기간 내 근태를 1회로 조회
+     * - 정렬: userId, workDate asc
+     */
+    @Query("""
+            select a from Attendance a
+            where a.userId in :userIds
+              and a.workDate between :from and :to
+            order by a.userId asc, a.workDate asc
+            """)
+    List<Attendance> findAllByUserIdInAndWorkDateBetween(
+            @Param("userIds") List<Long> userIds,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to
+    );
+
+    /**
+     * site 리포트 CSV 스트리밍용 forward-only 커서
+     * - 조건/정렬은 findAllBySiteIdAndWorkDateBetween과 동일
+     * - 반드시 트랜잭션 안에서 소비하고 close 해야 한다(try-with-resources)
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+            select a from Attendance a, Employee e
+            where e.userId = a.userId
+              and e.siteId = :siteId
+              and (:userId is null or a.userId = :userId)
+              and a.workDate between :from and :to
+            order by a.userId asc, a.workDate asc
+            """)
+    Stream<Attendance> streamAllBySiteIdAndWorkDateBetween(
+            @Param("siteId") Long siteId,
+            @Param("userId") Long userId,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to
+    );
+
+    @Query("""
+            select count(a) from Attendance a, Employee e
+            where e.userId = a.userId
+              and e.siteId = :siteId
+              and (:userId is null or a.userId = :userId)
+              and a.workDate between :from and :to
+            """)
+    long countBySiteIdAndWorkDateBetween(
+            @Param("siteId") Long siteId,
+            @Param("userId") Long userId,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to
+    );
+}
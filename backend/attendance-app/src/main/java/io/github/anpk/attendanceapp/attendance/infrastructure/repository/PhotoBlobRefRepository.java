@@ -0,0 +1,13 @@
+package io.github.anpk.attendanceapp.attendance.infrastructure.repository;
+
+import io.github.anpk.attendanceapp.attendance.domain.model.PhotoBlobRef;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+public interface PhotoBlobRefRepository extends JpaRepository<PhotoBlobRef, Long> {
+
+    Optional<PhotoBlobRef> findByPhotoName(String photoName);
+
+    boolean existsByPhotoName(String photoName);
+}
@@ -0,0 +1,22 @@
+package io.github.anpk.attendanceapp.attendance.infrastructure.repository;
+
+import io.github.anpk.attendanceapp.attendance.domain.model.PhotoUpload;
+import io.github.anpk.attendanceapp.attendance.domain.model.PhotoUploadStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface PhotoUploadRepository extends JpaRepository<PhotoUpload, Long> {
+
+    Optional<PhotoUpload> findByTargetPath(String targetPath);
+
+    Optional<PhotoUpload> findBySpoolPath(String spoolPath);
+
+    List<PhotoUpload> findTop500ByStatusAndIdGreaterThanOrderByIdAsc(PhotoUploadStatus status, Long id);
+
+    List<PhotoUpload> findTop500ByStatusAndCreatedAtBeforeOrderByIdAsc(PhotoUploadStatus status, OffsetDateTime before);
+
+    boolean existsBySpoolPathAndStatus(String spoolPath, PhotoUploadStatus status);
+}
@@ -0,0 +1,16 @@
+package io.github.anpk.attendanceapp.attendance.infrastructure.repository;
+
+import io.github.anpk.attendanceapp.attendance.domain.model.ReportJob;
+import io.github.anpk.attendanceapp.attendance.domain.model.ReportJobStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface ReportJobRepository extends JpaRepository<ReportJob, Long> {
+
+    List<ReportJob> findAllByStatusAndExpiresAtBefore(ReportJobStatus status, OffsetDateTime now);
+
+    List<ReportJob> findAllByStatusIn(Collection<ReportJobStatus> statuses);
+}
@@ -0,0 +1,11 @@
+package io.github.anpk.attendanceapp.attendance.infrastructure.repository;
+
+import io.github.anpk.attendanceapp.attendance.domain.model.SiteMonthlyRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+public interface SiteMonthlyRollupRepository extends JpaRepository<SiteMonthlyRollup, Long> {
+
+    Optional<SiteMonthlyRollup> findBySiteIdAndWorkMonth(Long siteId, String workMonth);
+}
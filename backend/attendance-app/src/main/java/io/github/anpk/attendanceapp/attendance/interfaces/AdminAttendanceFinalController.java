@@ -0,0 +1,38 @@
+package io.github.anpk.attendanceapp.attendance.interfaces;
+
+import io.github.anpk.attendanceapp.attendance.application.service.AttendanceFinalProjector;
+import io.github.anpk.attendanceapp.attendance.interfaces.dto.AttendanceFinalRebuildResponse;
+import io.github.anpk.attendanceapp.auth.AdminGuard;
+import io.github.anpk.attendanceapp.auth.AuthPrincipal;
+import io.github.anpk.attendanceapp.auth.CurrentPrincipal;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Final 조회 모델(attendance_final) 운영 API (ADMIN only)
+ * - verifyOnly=true: 원본 재계산 결과와의 차이만 집계(저장 없음)
+ * - verifyOnly=false: 누락/불일치 행을 원본 기준으로 재생성
+ */
+@RestController
+@RequestMapping("/api/admin/attendance/final-view")
+public class AdminAttendanceFinalController {
+
+    private final AttendanceFinalProjector attendanceFinalProjector;
+    private final AdminGuard adminGuard;
+
+    public AdminAttendanceFinalController(AttendanceFinalProjector attendanceFinalProjector, AdminGuard adminGuard) {
+        this.attendanceFinalProjector = attendanceFinalProjector;
+        this.adminGuard = adminGuard;
+    }
+
+    @PostMapping("/rebuild")
+    public AttendanceFinalRebuildResponse rebuild(
+            @CurrentPrincipal AuthPrincipal principal,
+            @RequestParam(defaultValue = "false") boolean verifyOnly
+    ) {
+        adminGuard.requireAdmin(principal);
+        return attendanceFinalProjector.rebuild(verifyOnly);
+    }
+}
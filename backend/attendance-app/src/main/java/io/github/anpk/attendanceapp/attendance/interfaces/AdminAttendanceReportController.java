@@ -1,17 +1,23 @@
 package io.github.anpk.attendanceapp.attendance.interfaces;
 
 import io.github.anpk.attendanceapp.attendance.application.service.AttendanceService;
+import io.github.anpk.attendanceapp.attendance.application.service.SiteAttendanceCsvExporter;
 import io.github.anpk.attendanceapp.attendance.interfaces.dto.AdminAttendanceReportResponse;
+import io.github.anpk.attendanceapp.attendance.interfaces.dto.AttendanceMonthlySummaryResponse;
 import io.github.anpk.attendanceapp.auth.AdminGuard;
-import io.github.anpk.attendanceapp.auth.CurrentUserId;
-import io.github.anpk.attendanceapp.employee.domain.model.EmployeeRole;
-import io.github.anpk.attendanceapp.error.BusinessException;
-import io.github.anpk.attendanceapp.error.ErrorCode;
-import io.github.anpk.attendanceapp.site.infrastructure.repository.ManagerSiteAssignmentRepository;
+import io.github.anpk.attendanceapp.auth.AuthPrincipal;
+import io.github.anpk.attendanceapp.auth.CurrentPrincipal;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.charset.StandardCharsets;
 
 /**
  * 관리자/매니저(site 스코프) 근태 리포트
@@ -19,39 +25,71 @@ import org.springframework.web.bind.annotation.RestController;
  * - MANAGER: 담당(assignments) site만 조회 가능
  */
 @RestController
-@RequestMapping("/api/admin/attendance/report")
+@RequestMapping("/api/admin/attendance")
 public class AdminAttendanceReportController {
 
     private final AttendanceService attendanceService;
+    private final SiteAttendanceCsvExporter siteAttendanceCsvExporter;
     private final AdminGuard adminGuard;
-    private final ManagerSiteAssignmentRepository managerSiteAssignmentRepository;
 
     public AdminAttendanceReportController(
             AttendanceService attendanceService,
-            AdminGuard adminGuard,
-            ManagerSiteAssignmentRepository managerSiteAssignmentRepository
+            SiteAttendanceCsvExporter siteAttendanceCsvExporter,
+            AdminGuard adminGuard
     ) {
         this.attendanceService = attendanceService;
+        this.siteAttendanceCsvExporter = siteAttendanceCsvExporter;
         this.adminGuard = adminGuard;
-        this.managerSiteAssignmentRepository = managerSiteAssignmentRepository;
     }
 
-    @GetMapping
+    @GetMapping("/report")
     public AdminAttendanceReportResponse reportBySite(
-            @CurrentUserId Long requesterUserId,
+            @CurrentPrincipal AuthPrincipal principal,
             @RequestParam Long siteId,
             @RequestParam(required = false) Long userId,
             @RequestParam String from,
             @RequestParam String to
     ) {
-        var role = adminGuard.requireAdminOrManager(requesterUserId);
-        if (role == EmployeeRole.MANAGER) {
-            // MANAGER: 담당(assignments) site만
-            if (!managerSiteAssignmentRepository.existsByManagerUserIdAndSiteId(requesterUserId, siteId)) {
-                throw new BusinessException(ErrorCode.FORBIDDEN, "권한이 없습니다.");
-            }
-        }
-
+        adminGuard.requireSiteScope(principal, siteId);
         return attendanceService.getAttendanceReportBySite(siteId, userId, from, to);
     }
+
+    /**
+     * site 월 합계(rollup 기반, O(1))
+     * - month=YYYY-MM (미입력 시 이번 달)
+     */
+    @GetMapping("/report/monthly")
+    public AttendanceMonthlySummaryResponse monthlyBySite(
+            @CurrentPrincipal AuthPrincipal principal,
+            @RequestParam Long siteId,
+            @RequestParam(required = false) String month
+    ) {
+        adminGuard.requireSiteScope(principal, siteId);
+        return attendanceService.getSiteMonthlySummary(siteId, month);
+    }
+
+    /**
+     * site 리포트 CSV(스트리밍)
+     * - 조건 검증/권한 확인은 스트리밍 시작 전에 수행(오류 시 표준 JSON 에러)
+     * - 1행 = 직원 1명의 하루, Final 합성 규칙 적용
+     */
+    @GetMapping("/report.csv")
+    public ResponseEntity<StreamingResponseBody> reportCsv(
+            @CurrentPrincipal AuthPrincipal principal,
+            @RequestParam Long siteId,
+            @RequestParam(required = false) Long userId,
+            @RequestParam String from,
+            @RequestParam String to
+    ) {
+        adminGuard.requireSiteScope(principal, siteId);
+        var range = siteAttendanceCsvExporter.validate(siteId, userId, from, to);
+
+        String filename = "attendance-site-" + siteId + "_" + range.from() + "_" + range.to() + ".csv";
+        StreamingResponseBody body = out -> siteAttendanceCsvExporter.write(range, out);
+
+        return ResponseEntity.ok()
+                .contentType(new MediaType("text", "csv", StandardCharsets.UTF_8))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
 }
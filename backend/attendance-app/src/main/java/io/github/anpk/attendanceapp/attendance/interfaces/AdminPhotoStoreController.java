@@ -0,0 +1,43 @@
+package io.github.anpk.attendanceapp.attendance.interfaces;
+
+import io.github.anpk.attendanceapp.attendance.application.service.PhotoStoreMigrator;
+import io.github.anpk.attendanceapp.attendance.interfaces.dto.PhotoStoreMigrationResponse;
+import io.github.anpk.attendanceapp.auth.AdminGuard;
+import io.github.anpk.attendanceapp.auth.AuthPrincipal;
+import io.github.anpk.attendanceapp.auth.CurrentPrincipal;
+import io.github.anpk.attendanceapp.error.BusinessException;
+import io.github.anpk.attendanceapp.error.ErrorCode;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 사진 저장소 운영 API (ADMIN only)
+ * - flat uploads 디렉터리의 기존 사진을 content-addressed 저장소로 배치 이관
+ */
+@RestController
+@RequestMapping("/api/admin/photos")
+public class AdminPhotoStoreController {
+
+    private final PhotoStoreMigrator photoStoreMigrator;
+    private final AdminGuard adminGuard;
+
+    public AdminPhotoStoreController(PhotoStoreMigrator photoStoreMigrator, AdminGuard adminGuard) {
+        this.photoStoreMigrator = photoStoreMigrator;
+        this.adminGuard = adminGuard;
+    }
+
+    @PostMapping("/migrate")
+    public PhotoStoreMigrationResponse migrate(
+            @CurrentPrincipal AuthPrincipal principal,
+            @RequestParam(defaultValue = "" + PhotoStoreMigrator.DEFAULT_BATCH_SIZE) int batchSize
+    ) {
+        adminGuard.requireAdmin(principal);
+        if (batchSize < 1 || batchSize > PhotoStoreMigrator.MAX_BATCH_SIZE) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST_PARAM,
+                    "batchSize는 1~" + PhotoStoreMigrator.MAX_BATCH_SIZE + " 범위여야 합니다.");
+        }
+        return photoStoreMigrator.migrateBatch(batchSize);
+    }
+}
@@ -0,0 +1,89 @@
+package io.github.anpk.attendanceapp.attendance.interfaces;
+
+import io.github.anpk.attendanceapp.attendance.application.service.ReportJobService;
+import io.github.anpk.attendanceapp.attendance.interfaces.dto.ReportJobCreateRequest;
+import io.github.anpk.attendanceapp.attendance.interfaces.dto.ReportJobResponse;
+import io.github.anpk.attendanceapp.auth.AdminGuard;
+import io.github.anpk.attendanceapp.auth.AuthPrincipal;
+import io.github.anpk.attendanceapp.auth.CurrentPrincipal;
+import io.github.anpk.attendanceapp.error.BusinessException;
+import io.github.anpk.attendanceapp.error.ErrorCode;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 비동기 리포트/내보내기 작업 (ADMIN / MANAGER)
+ * - 등록: MANAGER는 담당(assignments) site만
+ * - 조회/취소/다운로드: ADMIN은 전체, MANAGER는 본인이 등록한 작업만
+ */
+@RestController
+@RequestMapping("/api/admin/attendance/report-jobs")
+public class AdminReportJobController {
+
+    private final ReportJobService reportJobService;
+    private final AdminGuard adminGuard;
+
+    public AdminReportJobController(
+            ReportJobService reportJobService,
+            AdminGuard adminGuard
+    ) {
+        this.reportJobService = reportJobService;
+        this.adminGuard = adminGuard;
+    }
+
+    @PostMapping
+    public ResponseEntity<ReportJobResponse> submit(
+            @CurrentPrincipal AuthPrincipal principal,
+            @RequestBody ReportJobCreateRequest req
+    ) {
+        adminGuard.requireAdminOrManager(principal);
+        if (req.siteId() == null) {
+            throw new BusinessException(ErrorCode.MISSING_REQUIRED_PARAM, "siteId는 필수입니다.");
+        }
+        adminGuard.requireSiteScope(principal, req.siteId());
+
+        var res = reportJobService.submit(principal.getUserId(), req.type(), req.siteId(), req.userId(), req.from(), req.to());
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(res);
+    }
+
+    @GetMapping("/{jobId}")
+    public ReportJobResponse get(
+            @CurrentPrincipal AuthPrincipal principal,
+            @PathVariable Long jobId
+    ) {
+        var role = adminGuard.requireAdminOrManager(principal);
+        return reportJobService.get(principal.getUserId(), role, jobId);
+    }
+
+    @PostMapping("/{jobId}/cancel")
+    public ReportJobResponse cancel(
+            @CurrentPrincipal AuthPrincipal principal,
+            @PathVariable Long jobId
+    ) {
+        var role = adminGuard.requireAdminOrManager(principal);
+        return reportJobService.cancel(principal.getUserId(), role, jobId);
+    }
+
+    /**
+     * 결과 다운로드 (SUCCEEDED만, Range 요청 지원)
+     */
+    @GetMapping("/{jobId}/result")
+    public ResponseEntity<Resource> result(
+            @CurrentPrincipal AuthPrincipal principal,
+            @PathVariable Long jobId
+    ) {
+        var role = adminGuard.requireAdminOrManager(principal);
+        var file = reportJobService.openResult(principal.getUserId(), role, jobId);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(file.contentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(file.filename()).build().toString())
+                .body(new FileSystemResource(file.path()));
+    }
+}
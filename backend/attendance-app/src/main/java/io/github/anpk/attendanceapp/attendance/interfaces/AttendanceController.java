@@ -1,39 +1,53 @@
 package io.github.anpk.attendanceapp.attendance.interfaces;
 
 import io.github.anpk.attendanceapp.attendance.application.service.AttendanceService;
+import io.github.anpk.attendanceapp.attendance.application.service.StagedPhoto;
 import io.github.anpk.attendanceapp.attendance.interfaces.dto.AttendanceActionResponse;
 import io.github.anpk.attendanceapp.attendance.interfaces.dto.AttendanceListResponse;
+import io.github.anpk.attendanceapp.attendance.interfaces.dto.AttendanceMonthlySummaryResponse;
 import io.github.anpk.attendanceapp.attendance.interfaces.dto.AttendanceReadResponse;
 import io.github.anpk.attendanceapp.attendance.interfaces.dto.AttendanceReportResponse;
 import io.github.anpk.attendanceapp.auth.CurrentUserId;
+import jakarta.servlet.http.HttpServletRequest;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
-import org.springframework.web.multipart.MultipartFile;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.io.IOException;
+import java.io.InputStream;
 
 @RestController
 @RequestMapping("/api/attendance")
 public class AttendanceController {
 
+    private static final String PHOTO_PART = "photo";
+
     private final AttendanceService attendanceService;
+    // 사진 요청 본문 전체 상한(직접 파싱하므로 Spring multipart 한도가 적용되지 않는다)
+    private final long maxRequestBytes;
 
     public AttendanceController(
-            AttendanceService attendanceService
+            AttendanceService attendanceService,
+            @Value("${spring.servlet.multipart.max-request-size:5MB}") DataSize maxRequestSize
     ) {
         this.attendanceService = attendanceService;
+        this.maxRequestBytes = maxRequestSize.toBytes();
     }
 
     // 출근 기록 저장
     @PostMapping(value = "/check-in", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<AttendanceActionResponse> checkIn(
             @CurrentUserId Long userId,
-            @RequestParam MultipartFile photo
+            HttpServletRequest request
     ) throws IOException {
-        var res = attendanceService.checkIn(userId, photo);
+        // 사진은 요청 본문에서 바로 spool에 기록(트랜잭션 밖)한 뒤 근태 트랜잭션에 연결
+        var staged = stagePhoto(request, attendanceService::stageCheckInPhoto);
+        var res = attendanceService.checkIn(userId, staged);
         return ResponseEntity.status(HttpStatus.CREATED).body(res);
     }
 
@@ -41,9 +55,10 @@ public class AttendanceController {
     @PostMapping(value = "/check-out", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<AttendanceActionResponse> checkOut(
             @CurrentUserId Long userId,
-            @RequestParam MultipartFile photo
+            HttpServletRequest request
     ) throws IOException {
-        return ResponseEntity.ok(attendanceService.checkOut(userId, photo));
+        var staged = stagePhoto(request, attendanceService::stageCheckOutPhoto);
+        return ResponseEntity.ok(attendanceService.checkOut(userId, staged));
     }
 
     @PostMapping("/break-start")
@@ -65,6 +80,15 @@ public class AttendanceController {
         return attendanceService.getTodayAction(userId);
     }
 
+    /**
+     * 오늘 상태 스트림(SSE) — /today 반복 조회 대신 사용
+     * - 연결 직후 현재 상태 1회, 이후 출근/퇴근/휴게/당일 정정 승인마다 event: today (data = /today 응답과 동일)
+     */
+    @GetMapping(value = "/today/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter todayStream(@CurrentUserId Long userId) {
+        return attendanceService.subscribeToday(userId);
+    }
+
     /**
      * 목록 조회: month=YYYY-MM 만 우선 지원
      * - 최소 UX: month 미입력 시 이번 달 기본값은 Service에서 처리
@@ -92,6 +116,18 @@ public class AttendanceController {
         return attendanceService.getMyAttendanceReport(userId, from, to);
     }
 
+    /**
+     * 월 합계(rollup 기반)
+     * - month=YYYY-MM (미입력 시 이번 달)
+     */
+    @GetMapping("/report/monthly")
+    public AttendanceMonthlySummaryResponse monthlySummary(
+            @CurrentUserId Long userId,
+            @RequestParam(required = false) String month
+    ) {
+        return attendanceService.getMyMonthlySummary(userId, month);
+    }
+
     /**
      * Attendance 단건 조회
      * - /today 와 충돌 방지: 숫자 패턴만 매칭
@@ -103,4 +139,25 @@ public class AttendanceController {
     ) {
         return attendanceService.getMyAttendance(userId, attendanceId);
     }
+
+    /**
+     * multipart 본문에서 photo 파트를 찾아 스트리밍으로 수신
+     * - Spring multipart 해석(임시 파일 버퍼링)을 거치지 않는다(resolve-lazily + 직접 파싱)
+     * - photo 파트가 없으면 content=null로 전달(필수 누락 처리는 서비스 계약)
+     * - 본문 전체가 max-request-size를 넘으면 읽기 중단(MaxUploadSizeExceededException → INVALID_REQUEST_PAYLOAD)
+     */
+    private StagedPhoto stagePhoto(HttpServletRequest request, PhotoStager stager) throws IOException {
+        MultipartStreamReader reader = MultipartStreamReader.open(request, maxRequestBytes);
+        while (reader.nextPart()) {
+            if (PHOTO_PART.equals(reader.getName()) && reader.getFilename() != null) {
+                return stager.stage(reader.getFilename(), reader.body());
+            }
+        }
+        return stager.stage(null, null);
+    }
+
+    @FunctionalInterface
+    private interface PhotoStager {
+        StagedPhoto stage(String originalFilename, InputStream content) throws IOException;
+    }
 }
@@ -0,0 +1,261 @@
+package io.github.anpk.attendanceapp.attendance.interfaces;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
+import org.springframework.web.multipart.MultipartException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * multipart/form-data 스트리밍 파서(최소)
+ * - 요청 본문을 파트 단위로 순서대로 읽는다 — 파트를 메모리/임시 파일에 버퍼링하지 않음(고정 64KB 버퍼)
+ * - 지원 범위: 파트 헤더 Content-Disposition(name, filename), Content-Type. 중첩 multipart/filename* 미지원
+ * - 형식 오류는 MultipartException(GlobalExceptionHandler에서 INVALID_REQUEST_PAYLOAD로 응답)
+ * - 본문 전체(preamble/모든 파트 포함) 바이트 상한 초과 시 MaxUploadSizeExceededException
+ *   → spring.servlet.multipart.max-request-size와 같은 한도(Spring 해석을 거치지 않아도 우회되지 않도록)
+ *
+ * Spring multipart 해석(spring.servlet.multipart.resolve-lazily=true)을 거치지 않는 엔드포인트 전용.
+ */
+final class MultipartStreamReader {
+
+    private static final int BUFFER_BYTES = 64 * 1024;
+    private static final int MAX_HEADER_LINE_BYTES = 8 * 1024;
+    private static final int MAX_HEADERS = 16;
+    private static final Pattern NAME = Pattern.compile("(?i)(?:^|;)\\s*name\\s*=\\s*(?:\"([^\"]*)\"|([^;\\s]*))");
+    private static final Pattern FILENAME = Pattern.compile("(?i)(?:^|;)\\s*filename\\s*=\\s*(?:\"([^\"]*)\"|([^;\\s]*))");
+
+    private final InputStream in;
+    // 파트 구분자: CRLF + "--" + boundary
+    private final byte[] delimiter;
+    private final byte[] buf = new byte[BUFFER_BYTES];
+    private final long maxBytes;
+    private long received;
+    private int pos;
+    private int limit;
+    private boolean eof;
+    private boolean finished;
+
+    private PartBody current;
+    private String name;
+    private String filename;
+    private String contentType;
+
+    static MultipartStreamReader open(HttpServletRequest request, long maxBytes) throws IOException {
+        // Content-Length를 알면 읽기 전에 거부
+        if (request.getContentLengthLong() > maxBytes) {
+            throw new MaxUploadSizeExceededException(maxBytes);
+        }
+        String boundary = null;
+        try {
+            if (request.getContentType() != null) {
+                boundary = MediaType.parseMediaType(request.getContentType()).getParameter("boundary");
+            }
+        } catch (InvalidMediaTypeException e) {
+            // 아래에서 일괄 처리
+        }
+        if (boundary != null && boundary.length() >= 2 && boundary.startsWith("\"") && boundary.endsWith("\"")) {
+            boundary = boundary.substring(1, boundary.length() - 1);
+        }
+        // RFC 2046: boundary 1~70자
+        if (boundary == null || boundary.isEmpty() || boundary.length() > 70) {
+            throw new MultipartException("missing or invalid multipart boundary");
+        }
+        return new MultipartStreamReader(request.getInputStream(), boundary, maxBytes);
+    }
+
+    MultipartStreamReader(InputStream in, String boundary, long maxBytes) {
+        this.in = in;
+        this.maxBytes = maxBytes;
+        this.delimiter = ("\r\n--" + boundary).getBytes(StandardCharsets.ISO_8859_1);
+        // 첫 구분자("--boundary", 앞에 CRLF 없음)도 같은 규칙으로 찾도록 CRLF를 앞에 둔다
+        buf[0] = '\r';
+        buf[1] = '\n';
+        limit = 2;
+        // preamble(첫 구분자 이전)은 빈 파트로 취급해 버린다
+        current = new PartBody();
+    }
+
+    /**
+     * 다음 파트로 이동(현재 파트의 남은 본문은 버림)
+     *
+     * @return 더 이상 파트가 없으면 false
+     */
+    boolean nextPart() throws IOException {
+        if (finished) return false;
+        current.skipRest();
+
+        pos += delimiter.length;
+        if (!fill(2)) throw malformed("unexpected end after boundary");
+        if (buf[pos] == '-' && buf[pos + 1] == '-') {
+            finished = true;
+            return false;
+        }
+        // 구분자 뒤 공백(transport padding) 후 CRLF
+        if (!readLine().isBlank()) throw malformed("invalid boundary line");
+
+        name = null;
+        filename = null;
+        contentType = null;
+        for (int i = 0; ; i++) {
+            if (i > MAX_HEADERS) throw malformed("too many part headers");
+            String line = readLine();
+            if (line.isEmpty()) break;
+            int colon = line.indexOf(':');
+            if (colon <= 0) throw malformed("invalid part header");
+            String headerName = line.substring(0, colon).trim().toLowerCase(Locale.ROOT);
+            String value = line.substring(colon + 1).trim();
+            if (headerName.equals("content-disposition")) {
+                name = param(NAME, value);
+                filename = param(FILENAME, value);
+            } else if (headerName.equals("content-type")) {
+                contentType = value;
+            }
+        }
+        current = new PartBody();
+        return true;
+    }
+
+    String getName() { return name; }
+
+    /**
+     * 파일 파트가 아니면 null(빈 문자열은 "파일 미선택")
+     */
+    String getFilename() { return filename; }
+
+    String getContentType() { return contentType; }
+
+    /**
+     * 현재 파트 본문(다음 구분자 직전까지). nextPart() 호출 후에는 사용 불가
+     */
+    InputStream body() {
+        return current;
+    }
+
+    // =============================================================
+    // buffer
+    // =============================================================
+
+    /**
+     * pos부터 구분자 직전까지 확실히 본문인 바이트 수(0이면 pos가 구분자 위치)
+     */
+    private int bodyBytesAvailable() throws IOException {
+        while (true) {
+            int idx = indexOfDelimiter();
+            if (idx >= 0) return idx - pos;
+
+            // 끝부분은 구분자의 앞부분일 수 있으므로 남겨둔다
+            int safe = (limit - pos) - (delimiter.length - 1);
+            if (safe > 0) return safe;
+            if (eof) throw malformed("unexpected end of multipart body");
+            readMore();
+        }
+    }
+
+    private int indexOfDelimiter() {
+        int last = limit - delimiter.length;
+        for (int i = pos; i <= last; i++) {
+            if (buf[i] != '\r') continue;
+            int j = 1;
+            while (j < delimiter.length && buf[i + j] == delimiter[j]) j++;
+            if (j == delimiter.length) return i;
+        }
+        return -1;
+    }
+
+    private boolean fill(int need) throws IOException {
+        while (limit - pos < need) {
+            if (eof) return false;
+            readMore();
+        }
+        return true;
+    }
+
+    private void readMore() throws IOException {
+        if (pos > 0) {
+            System.arraycopy(buf, pos, buf, 0, limit - pos);
+            limit -= pos;
+            pos = 0;
+        }
+        int n = in.read(buf, limit, buf.length - limit);
+        if (n < 0) {
+            eof = true;
+            return;
+        }
+        received += n;
+        if (received > maxBytes) throw new MaxUploadSizeExceededException(maxBytes);
+        limit += n;
+    }
+
+    private String readLine() throws IOException {
+        // 이미 CRLF가 없음을 확인한 구간(pos 기준 상대 위치) — readMore()가 버퍼를 당겨도 유효
+        int scanned = 0;
+        while (true) {
+            for (int i = pos + scanned; i + 1 < limit; i++) {
+                if (buf[i] == '\r' && buf[i + 1] == '\n') {
+                    String line = new String(buf, pos, i - pos, StandardCharsets.UTF_8);
+                    pos = i + 2;
+                    return line;
+                }
+            }
+            if (limit - pos > MAX_HEADER_LINE_BYTES) throw malformed("part header too long");
+            if (eof) throw malformed("unexpected end in part headers");
+            scanned = Math.max(0, limit - pos - 1);
+            readMore();
+        }
+    }
+
+    private static String param(Pattern pattern, String headerValue) {
+        Matcher m = pattern.matcher(headerValue);
+        if (!m.find()) return null;
+        return (m.group(1) != null) ? m.group(1) : m.group(2);
+    }
+
+    private static MultipartException malformed(String reason) {
+        return new MultipartException("malformed multipart body: " + reason);
+    }
+
+    /**
+     * 현재 파트 본문 스트림 — 공유 버퍼에서 구분자 직전까지만 읽는다
+     */
+    private final class PartBody extends InputStream {
+
+        private boolean done;
+
+        @Override
+        public int read() throws IOException {
+            byte[] one = new byte[1];
+            int n = read(one, 0, 1);
+            return (n < 0) ? -1 : (one[0] & 0xFF);
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (done || current != this) return -1;
+            if (len == 0) return 0;
+            int available = bodyBytesAvailable();
+            if (available == 0) {
+                done = true;
+                return -1;
+            }
+            int n = Math.min(len, available);
+            System.arraycopy(buf, pos, b, off, n);
+            pos += n;
+            return n;
+        }
+
+        void skipRest() throws IOException {
+            while (!done) {
+                int available = bodyBytesAvailable();
+                if (available == 0) done = true;
+                else pos += available;
+            }
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package io.github.anpk.attendanceapp.attendance.interfaces.dto;
+
+/**
+ * Final 조회 모델 재생성/검증 결과
+ * - missing: 조회 모델 행이 없던 attendance 수
+ * - mismatched: 조회 모델 값이 원본 재계산 결과와 달랐던 attendance 수
+ * - verifyOnly=true 이면 집계만 하고 저장하지 않는다
+ */
+public record AttendanceFinalRebuildResponse(
+        boolean verifyOnly,
+        long scanned,
+        long missing,
+        long mismatched
+) {}
@@ -0,0 +1,15 @@
+package io.github.anpk.attendanceapp.attendance.interfaces.dto;
+
+/**
+ * 월 합계(rollup 기반)
+ * - siteId: site 월 합계에서만 채움(직원 본인 월 합계는 null)
+ */
+public record AttendanceMonthlySummaryResponse(
+        Long siteId,
+        String month,
+        long attendanceDays,
+        long closedDays,
+        long totalWorkMinutes,
+        long missingCheckoutDays,
+        long correctedDays
+) {}
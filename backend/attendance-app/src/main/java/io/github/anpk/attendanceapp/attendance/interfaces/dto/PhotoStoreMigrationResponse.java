@@ -0,0 +1,19 @@
+package io.github.anpk.attendanceapp.attendance.interfaces.dto;
+
+/**
+ * flat uploads → PhotoStore 이관 배치 결과
+ * - running: 다른 이관이 실행 중이라 이번 호출은 처리하지 않음
+ * - scanned: 이번 배치에서 시도한 파일 수(= migrated + failed, batchSize 이하)
+ * - migrated: 이관 완료 파일 수(deduplicated 포함 — 기존 blob 재사용)
+ * - skipped: 이전 호출에서 실패한 뒤 바뀌지 않아 건너뛴 파일 수
+ * - hasMore: 남은 파일이 있음(다시 호출)
+ */
+public record PhotoStoreMigrationResponse(
+        boolean running,
+        long scanned,
+        long migrated,
+        long deduplicated,
+        long failed,
+        long skipped,
+        boolean hasMore
+) {}
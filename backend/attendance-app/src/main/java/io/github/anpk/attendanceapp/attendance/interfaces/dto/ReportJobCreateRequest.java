@@ -0,0 +1,15 @@
+package io.github.anpk.attendanceapp.attendance.interfaces.dto;
+
+import io.github.anpk.attendanceapp.attendance.domain.model.ReportJobType;
+
+/**
+ * 비동기 리포트 작업 생성 요청
+ * - from/to: YYYY-MM-DD, userId: 선택
+ */
+public record ReportJobCreateRequest(
+        ReportJobType type,
+        Long siteId,
+        Long userId,
+        String from,
+        String to
+) {}
@@ -0,0 +1,29 @@
+package io.github.anpk.attendanceapp.attendance.interfaces.dto;
+
+import io.github.anpk.attendanceapp.attendance.domain.model.ReportJobStatus;
+import io.github.anpk.attendanceapp.attendance.domain.model.ReportJobType;
+
+import java.time.OffsetDateTime;
+
+/**
+ * 비동기 리포트 작업 상태
+ * - totalUnits/processedUnits: CSV는 행 수, JSON은 직원 수
+ */
+public record ReportJobResponse(
+        Long jobId,
+        ReportJobType type,
+        ReportJobStatus status,
+        Long siteId,
+        Long userId,
+        String from,
+        String to,
+        Long totalUnits,
+        long processedUnits,
+        boolean cancelRequested,
+        Long resultBytes,
+        String errorMessage,
+        OffsetDateTime createdAt,
+        OffsetDateTime startedAt,
+        OffsetDateTime finishedAt,
+        OffsetDateTime expiresAt
+) {}
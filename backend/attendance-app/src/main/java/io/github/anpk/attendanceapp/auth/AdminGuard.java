@@ -1,8 +1,8 @@
 package io.github.anpk.attendanceapp.auth;
 
-import io.github.anpk.attendanceapp.employee.domain.model.Employee;
+import io.github.anpk.attendanceapp.employee.application.service.CachedEmployee;
+import io.github.anpk.attendanceapp.employee.application.service.EmployeeCache;
 import io.github.anpk.attendanceapp.employee.domain.model.EmployeeRole;
-import io.github.anpk.attendanceapp.employee.infrastructure.repository.EmployeeRepository;
 import io.github.anpk.attendanceapp.error.BusinessException;
 import io.github.anpk.attendanceapp.error.ErrorCode;
 import org.springframework.stereotype.Component;
@@ -10,10 +10,10 @@ import org.springframework.stereotype.Component;
 @Component
 public class AdminGuard {
 
-    private final EmployeeRepository employeeRepository;
+    private final EmployeeCache employeeCache;
 
-    public AdminGuard(EmployeeRepository employeeRepository) {
-        this.employeeRepository = employeeRepository;
+    public AdminGuard(EmployeeCache employeeCache) {
+        this.employeeCache = employeeCache;
     }
 
     public void requireAdmin(Long userId) {
@@ -29,8 +29,32 @@ public class AdminGuard {
         return me.getRole();
     }
 
-    private Employee requireActiveEmployee(Long userId) {
-        var me = employeeRepository.findById(userId)
+    /**
+     * 요청 주체 기반 판정(추가 조회 없음 — active/버전 검증은 주체 구성 시 완료)
+     */
+    public void requireAdmin(AuthPrincipal principal) {
+        if (!principal.isAdmin()) throw new BusinessException(ErrorCode.FORBIDDEN, "권한이 없습니다.");
+    }
+
+    public EmployeeRole requireAdminOrManager(AuthPrincipal principal) {
+        if (!principal.isAdmin() && !principal.isManager()) {
+            throw new BusinessException(ErrorCode.FORBIDDEN, "권한이 없습니다.");
+        }
+        return principal.getRole();
+    }
+
+    /**
+     * ADMIN 또는 해당 site 담당 MANAGER
+     */
+    public void requireSiteScope(AuthPrincipal principal, Long siteId) {
+        requireAdminOrManager(principal);
+        if (principal.isManager() && !principal.managesSite(siteId)) {
+            throw new BusinessException(ErrorCode.FORBIDDEN, "권한이 없습니다.");
+        }
+    }
+
+    private CachedEmployee requireActiveEmployee(Long userId) {
+        var me = employeeCache.findById(userId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.FORBIDDEN, "권한이 없습니다."));
         if (!me.isActive()) {
             throw new BusinessException(ErrorCode.EMPLOYEE_INACTIVE, "비활성 사용자입니다.");
@@ -0,0 +1,47 @@
+package io.github.anpk.attendanceapp.auth;
+
+import io.github.anpk.attendanceapp.employee.domain.model.EmployeeRole;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 요청 단위 인증 주체(불변)
+ * - role/siteId: 토큰 claim(버전 일치 시) 또는 재검증한 Employee 값
+ * - managedSiteIds: MANAGER 담당 site(정렬) — 그 외 role은 빈 배열
+ * - active 여부는 resolver에서 검증 완료(비활성은 주체가 만들어지지 않는다)
+ */
+public final class AuthPrincipal {
+
+    private final Long userId;
+    private final EmployeeRole role;
+    private final Long siteId;
+    private final long[] managedSiteIds;
+
+    AuthPrincipal(Long userId, EmployeeRole role, Long siteId, long[] managedSiteIds) {
+        this.userId = userId;
+        this.role = role;
+        this.siteId = siteId;
+        this.managedSiteIds = managedSiteIds;
+    }
+
+    public Long getUserId() { return userId; }
+    public EmployeeRole getRole() { return role; }
+    public Long getSiteId() { return siteId; }
+
+    public boolean isAdmin() {
+        return role == EmployeeRole.ADMIN;
+    }
+
+    public boolean isManager() {
+        return role == EmployeeRole.MANAGER;
+    }
+
+    public boolean managesSite(Long siteId) {
+        return siteId != null && Arrays.binarySearch(managedSiteIds, siteId) >= 0;
+    }
+
+    public List<Long> getManagedSiteIds() {
+        return Arrays.stream(managedSiteIds).boxed().toList();
+    }
+}
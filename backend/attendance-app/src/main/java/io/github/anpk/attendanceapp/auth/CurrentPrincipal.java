@@ -0,0 +1,13 @@
+package io.github.anpk.attendanceapp.auth;
+
+import java.lang.annotation.*;
+
+/**
+ * 요청 인증 주체(AuthPrincipal) 주입
+ * - 토큰 scope version이 최신이면 DB 조회 없이 구성된다
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface CurrentPrincipal {
+}
@@ -0,0 +1,88 @@
+package io.github.anpk.attendanceapp.auth;
+
+import io.github.anpk.attendanceapp.auth.jwt.JwtAuthFilter;
+import io.github.anpk.attendanceapp.auth.jwt.JwtClaims;
+import io.github.anpk.attendanceapp.employee.application.service.EmployeeCache;
+import io.github.anpk.attendanceapp.employee.domain.model.EmployeeRole;
+import io.github.anpk.attendanceapp.error.BusinessException;
+import io.github.anpk.attendanceapp.error.ErrorCode;
+import io.github.anpk.attendanceapp.site.application.service.ManagerScopeIndex;
+import org.springframework.core.MethodParameter;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+/**
+ * @CurrentPrincipal AuthPrincipal 주입
+ * - 토큰 claim(role/site/sv)의 sv가 현재 버전이면 claim으로 바로 구성(Employee 조회 없음)
+ * - sv 불일치/구버전 토큰/X-USER-ID 헤더면 Employee를 재조회(비활성 403) 후 현재 버전을 기록
+ * - MANAGER 담당 site는 ManagerScopeIndex(인메모리)에서 채운다
+ * - 동일 요청 내 재사용을 위해 request attribute에 보관
+ */
+public class CurrentPrincipalArgumentResolver implements HandlerMethodArgumentResolver {
+
+    private static final String REQ_ATTR_PRINCIPAL = "AUTH_PRINCIPAL";
+    private static final long[] NO_SITES = new long[0];
+
+    private final ScopeVersionRegistry scopeVersionRegistry;
+    private final EmployeeCache employeeCache;
+    private final ManagerScopeIndex managerScopeIndex;
+
+    public CurrentPrincipalArgumentResolver(
+            ScopeVersionRegistry scopeVersionRegistry,
+            EmployeeCache employeeCache,
+            ManagerScopeIndex managerScopeIndex
+    ) {
+        this.scopeVersionRegistry = scopeVersionRegistry;
+        this.employeeCache = employeeCache;
+        this.managerScopeIndex = managerScopeIndex;
+    }
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.hasParameterAnnotation(CurrentPrincipal.class)
+                && AuthPrincipal.class.equals(parameter.getParameterType());
+    }
+
+    @Override
+    public Object resolveArgument(
+            MethodParameter parameter,
+            ModelAndViewContainer mavContainer,
+            NativeWebRequest webRequest,
+            WebDataBinderFactory binderFactory
+    ) {
+        Object cached = webRequest.getAttribute(REQ_ATTR_PRINCIPAL, NativeWebRequest.SCOPE_REQUEST);
+        if (cached instanceof AuthPrincipal p) return p;
+
+        AuthPrincipal principal = resolve(webRequest);
+        webRequest.setAttribute(REQ_ATTR_PRINCIPAL, principal, NativeWebRequest.SCOPE_REQUEST);
+        return principal;
+    }
+
+    private AuthPrincipal resolve(NativeWebRequest webRequest) {
+        Long userId = CurrentUserIdArgumentResolver.resolveUserId(webRequest);
+
+        Object attr = webRequest.getAttribute(JwtAuthFilter.REQ_ATTR_CLAIMS, NativeWebRequest.SCOPE_REQUEST);
+        if (attr instanceof JwtClaims claims
+                && claims.hasScope()
+                && claims.userId() == userId
+                && scopeVersionRegistry.isCurrent(userId, claims.scopeVersion())) {
+            return principalOf(userId, claims.role(), claims.siteId());
+        }
+
+        // scope 버전 불일치 → Employee 재검증
+        var me = employeeCache.findById(userId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.FORBIDDEN, "권한이 없습니다."));
+        if (!me.isActive()) {
+            throw new BusinessException(ErrorCode.EMPLOYEE_INACTIVE, "비활성 사용자입니다.");
+        }
+        scopeVersionRegistry.observe(userId, me.getScopeVersion());
+        return principalOf(userId, me.getRole(), me.getSiteId());
+    }
+
+    private AuthPrincipal principalOf(Long userId, EmployeeRole role, Long siteId) {
+        long[] sites = (role == EmployeeRole.MANAGER) ? managerScopeIndex.siteIdsOf(userId) : NO_SITES;
+        return new AuthPrincipal(userId, role, siteId, sites);
+    }
+}
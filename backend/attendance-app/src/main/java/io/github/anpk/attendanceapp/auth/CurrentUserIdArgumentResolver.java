@@ -26,10 +26,14 @@ public class CurrentUserIdArgumentResolver implements HandlerMethodArgumentResol
             NativeWebRequest webRequest,
             WebDataBinderFactory binderFactory
     ) {
+        return resolveUserId(webRequest);
+    }
+
+    static Long resolveUserId(NativeWebRequest webRequest) {
         // ✅ JWT 필터가 주입한 userId가 있으면 우선 사용
         Object attr = webRequest.getAttribute(JwtAuthFilter.REQ_ATTR_USER_ID, NativeWebRequest.SCOPE_REQUEST);
-        if (attr instanceof Long) {
-            return attr;
+        if (attr instanceof Long l) {
+            return l;
         }
         if (attr instanceof Integer) {
             return ((Integer) attr).longValue();
@@ -0,0 +1,96 @@
+package io.github.anpk.attendanceapp.auth;
+
+import io.github.anpk.attendanceapp.config.AfterCommit;
+import io.github.anpk.attendanceapp.employee.application.service.EmployeeCache;
+import io.github.anpk.attendanceapp.employee.infrastructure.repository.EmployeeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * userId → 현재 권한 범위 버전(Employee.scopeVersion) 인메모리 레지스트리
+ * - 토큰 sv claim이 현재 버전과 같으면 토큰의 role/site를 그대로 신뢰(DB/캐시 재조회 없음)
+ * - 버전을 모르면(변경 직후/미적재) 불일치로 판정 → 호출 측이 Employee를 재조회한 뒤 observe()
+ * - 변경은 커밋 후 반영, 다중 인스턴스 수렴을 위해 주기적으로 전체 재적재
+ */
+@Component
+@Slf4j
+public class ScopeVersionRegistry {
+
+    private final EmployeeRepository employeeRepository;
+    private final EmployeeCache employeeCache;
+
+    private volatile Map<Long, Long> versions = new ConcurrentHashMap<>();
+    // 재적재 중 무효화된 userId(재적재 결과가 무효화를 덮어쓰지 않도록)
+    private final Set<Long> invalidatedDuringReload = ConcurrentHashMap.newKeySet();
+    private final ReentrantLock reloadLock = new ReentrantLock();
+
+    public ScopeVersionRegistry(EmployeeRepository employeeRepository, EmployeeCache employeeCache) {
+        this.employeeRepository = employeeRepository;
+        this.employeeCache = employeeCache;
+    }
+
+    public boolean isCurrent(long userId, long scopeVersion) {
+        Long current = versions.get(userId);
+        return current != null && current == scopeVersion;
+    }
+
+    /**
+     * DB(또는 Employee 캐시)에서 확인한 버전 기록
+     */
+    public void observe(long userId, long scopeVersion) {
+        versions.merge(userId, scopeVersion, Math::max);
+    }
+
+    /**
+     * Employee 필드 외부의 권한 범위 변경(담당 site 할당/해제) 시 버전 증가
+     */
+    @Transactional
+    public void bump(Long userId) {
+        if (userId == null) return;
+        employeeRepository.incrementScopeVersion(userId);
+        invalidate(userId);
+    }
+
+    /**
+     * 버전이 바뀐 사용자(active/role/site 변경 포함)를 커밋 후 무효화
+     * - Employee 캐시도 함께 무효화해 재조회 시 새 버전을 읽게 한다
+     */
+    public void invalidate(Long userId) {
+        if (userId == null) return;
+        AfterCommit.run(() -> {
+            invalidatedDuringReload.add(userId);
+            versions.remove(userId);
+            employeeCache.invalidate(userId);
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${app.manager-scope.refresh-interval-ms:300000}",
+            fixedDelayString = "${app.manager-scope.refresh-interval-ms:300000}")
+    public void reload() {
+        // synchronized 대신 ReentrantLock: 락을 쥔 채 JDBC 대기 시 가상 스레드가 캐리어에 고정(pinning)되지 않도록
+        reloadLock.lock();
+        try {
+            invalidatedDuringReload.clear();
+            Map<Long, Long> loaded = new HashMap<>();
+            for (var row : employeeRepository.findAllScopeVersions()) {
+                loaded.put(row.getUserId(), row.getScopeVersion());
+            }
+            loaded.keySet().removeAll(invalidatedDuringReload);
+            this.versions = new ConcurrentHashMap<>(loaded);
+            log.debug("scope version registry reloaded: employees={}", loaded.size());
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+}
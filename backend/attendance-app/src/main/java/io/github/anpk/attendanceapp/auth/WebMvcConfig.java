@@ -1,5 +1,7 @@
 package io.github.anpk.attendanceapp.auth;
 
+import io.github.anpk.attendanceapp.employee.application.service.EmployeeCache;
+import io.github.anpk.attendanceapp.site.application.service.ManagerScopeIndex;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
@@ -9,8 +11,23 @@ import java.util.List;
 @Configuration
 public class WebMvcConfig implements WebMvcConfigurer {
 
+    private final ScopeVersionRegistry scopeVersionRegistry;
+    private final EmployeeCache employeeCache;
+    private final ManagerScopeIndex managerScopeIndex;
+
+    public WebMvcConfig(
+            ScopeVersionRegistry scopeVersionRegistry,
+            EmployeeCache employeeCache,
+            ManagerScopeIndex managerScopeIndex
+    ) {
+        this.scopeVersionRegistry = scopeVersionRegistry;
+        this.employeeCache = employeeCache;
+        this.managerScopeIndex = managerScopeIndex;
+    }
+
     @Override
     public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
         resolvers.add(new CurrentUserIdArgumentResolver());
+        resolvers.add(new CurrentPrincipalArgumentResolver(scopeVersionRegistry, employeeCache, managerScopeIndex));
     }
 }
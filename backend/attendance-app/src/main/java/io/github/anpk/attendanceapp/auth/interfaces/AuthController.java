@@ -2,6 +2,7 @@ package io.github.anpk.attendanceapp.auth.interfaces;
 
 import io.github.anpk.attendanceapp.auth.CurrentUserId;
 import io.github.anpk.attendanceapp.auth.jwt.JwtTokenService;
+import io.github.anpk.attendanceapp.employee.application.service.EmployeeCache;
 import io.github.anpk.attendanceapp.employee.domain.model.EmployeeRole;
 import io.github.anpk.attendanceapp.employee.infrastructure.repository.EmployeeRepository;
 import io.github.anpk.attendanceapp.error.BusinessException;
@@ -13,10 +14,12 @@ import org.springframework.web.bind.annotation.*;
 public class AuthController {
 
     private final EmployeeRepository employeeRepository;
+    private final EmployeeCache employeeCache;
     private final JwtTokenService jwtTokenService;
 
-    public AuthController(EmployeeRepository employeeRepository, JwtTokenService jwtTokenService) {
+    public AuthController(EmployeeRepository employeeRepository, EmployeeCache employeeCache, JwtTokenService jwtTokenService) {
         this.employeeRepository = employeeRepository;
+        this.employeeCache = employeeCache;
         this.jwtTokenService = jwtTokenService;
     }
 
@@ -37,13 +40,13 @@ public class AuthController {
             throw new BusinessException(ErrorCode.UNAUTHORIZED, "인증 정보가 올바르지 않습니다.");
         }
 
-        String token = jwtTokenService.issueToken(e.getUserId(), e.getRole());
+        String token = jwtTokenService.issueToken(e.getUserId(), e.getRole(), e.getSiteId(), e.getScopeVersion());
         return new LoginResponse(token, "Bearer", jwtTokenService.getExpiresSeconds());
     }
 
     @GetMapping("/me")
     public MeResponse me(@CurrentUserId Long userId) {
-        var e = employeeRepository.findById(userId)
+        var e = employeeCache.findById(userId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.UNAUTHORIZED, "인증 정보가 올바르지 않습니다."));
 
         if (!e.isActive()) {
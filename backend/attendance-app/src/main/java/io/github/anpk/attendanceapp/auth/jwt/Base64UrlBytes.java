@@ -0,0 +1,52 @@
+package io.github.anpk.attendanceapp.auth.jwt;
+
+import java.util.Arrays;
+
+/**
+ * base64url(패딩 없음) → byte 디코더(버퍼 재사용, 할당 없음)
+ * - JWT 검증 hot path 전용
+ */
+final class Base64UrlBytes {
+
+    private static final byte[] DECODE = new byte[128];
+
+    static {
+        Arrays.fill(DECODE, (byte) -1);
+        String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+        for (int i = 0; i < alphabet.length(); i++) {
+            DECODE[alphabet.charAt(i)] = (byte) i;
+        }
+    }
+
+    private Base64UrlBytes() {
+    }
+
+    /**
+     * src[off, off+len) 를 dst 앞부분에 디코드
+     *
+     * @return 디코드된 바이트 수, 형식 오류(비정규 인코딩 포함)/dst 부족이면 -1
+     */
+    static int decode(byte[] src, int off, int len, byte[] dst) {
+        if (len % 4 == 1) return -1;
+        int outLen = len / 4 * 3 + Math.max(len % 4 - 1, 0);
+        if (outLen > dst.length) return -1;
+
+        int o = 0;
+        int bits = 0;
+        int acc = 0;
+        for (int i = off, end = off + len; i < end; i++) {
+            int c = src[i];
+            int v = (c < 0) ? -1 : DECODE[c];
+            if (v < 0) return -1;
+            acc = (acc << 6) | v;
+            bits += 6;
+            if (bits >= 8) {
+                bits -= 8;
+                dst[o++] = (byte) (acc >> bits);
+            }
+        }
+        // 남는 비트는 0이어야 한다(비정규 인코딩 거부 — 같은 서명의 다른 문자열 표현 차단)
+        if ((acc & ((1 << bits) - 1)) != 0) return -1;
+        return o;
+    }
+}
@@ -12,7 +12,7 @@ import org.springframework.web.filter.OncePerRequestFilter;
 import java.io.IOException;
 
 /**
- * ✅ Authorization: Bearer <jwt> -> request attribute로 userId 주입
+ * ✅ Authorization: Bearer <jwt> -> request attribute로 userId + 검증된 claim(role/site/scope version) 주입
  * - 토큰이 없거나 무효면 조용히 패스하고, @CurrentUserId resolver가 401 처리
  */
 @Component
@@ -20,6 +20,7 @@ import java.io.IOException;
 public class JwtAuthFilter extends OncePerRequestFilter {
 
     public static final String REQ_ATTR_USER_ID = "AUTH_USER_ID";
+    public static final String REQ_ATTR_CLAIMS = "AUTH_JWT_CLAIMS";
 
     private final JwtTokenService jwtTokenService;
 
@@ -36,8 +37,10 @@ public class JwtAuthFilter extends OncePerRequestFilter {
         String auth = request.getHeader("Authorization");
         if (auth != null && auth.startsWith("Bearer ")) {
             String token = auth.substring("Bearer ".length()).trim();
-            jwtTokenService.parseUserIdIfValid(token)
-                    .ifPresent(userId -> request.setAttribute(REQ_ATTR_USER_ID, userId));
+            jwtTokenService.parseIfValid(token).ifPresent(claims -> {
+                request.setAttribute(REQ_ATTR_USER_ID, claims.userId());
+                request.setAttribute(REQ_ATTR_CLAIMS, claims);
+            });
         }
         filterChain.doFilter(request, response);
     }
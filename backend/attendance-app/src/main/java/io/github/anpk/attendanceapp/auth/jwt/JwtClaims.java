@@ -0,0 +1,19 @@
+package io.github.anpk.attendanceapp.auth.jwt;
+
+import io.github.anpk.attendanceapp.employee.domain.model.EmployeeRole;
+
+/**
+ * 검증된 JWT claim (서명/exp 검증 통과분만 생성)
+ * - role/siteId/scopeVersion 은 scope claim이 없는 구버전 토큰이면 null / -1
+ */
+public record JwtClaims(
+        long userId,
+        EmployeeRole role,
+        Long siteId,
+        long scopeVersion,
+        long exp
+) {
+    public boolean hasScope() {
+        return role != null && siteId != null && scopeVersion >= 0;
+    }
+}
@@ -1,121 +1,286 @@
 package io.github.anpk.attendanceapp.auth.jwt;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import io.github.anpk.attendanceapp.employee.domain.model.EmployeeRole;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import javax.crypto.Mac;
+import javax.crypto.ShortBufferException;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Base64;
 import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 
 /**
  * ✅ Spring Security 없이도 동작하는 "최소" JWT (HS256) 발급/검증
- * - payload: sub(userId), role, iat, exp
+ * - payload: sub(userId), role, site(siteId), sv(scopeVersion), iat, exp
+ *
+ * 검증 경로(요청마다 호출되는 hot path)
+ * - 초기화된 Mac은 크기 제한 pool에서 빌려 쓰고 반납(Mac.getInstance/init 반복 금지)
+ *   - ThreadLocal은 가상 스레드(요청마다 새 스레드)에서는 재사용되지 않고 스레드 수만큼 쌓이므로 쓰지 않는다
+ * - 서명/페이로드는 byte 단위로 직접 디코드·파싱(정규식 split/String 변환 없음)
+ * - 최근 검증된 토큰은 서명 기준으로 짧게 캐시(exp 경과 시 캐시 히트여도 무효)
  */
 @Service
 public class JwtTokenService {
 
-    private final String secret;
+    private static final String ALG = "HmacSHA256";
+    private static final int SIG_BYTES = 32;
+    // 캐시 엔트리 최대 보존 시간(토큰 exp가 더 이르면 exp가 우선)
+    private static final Duration VERIFIED_CACHE_TTL = Duration.ofMinutes(10);
+    // 보관할 Verifier 최대 수(동시 검증이 더 많으면 새로 만들고, 반납 시 가득 차 있으면 버린다)
+    private static final int VERIFIER_POOL_SIZE = Math.max(4, Runtime.getRuntime().availableProcessors() * 2);
+
+    private static final byte[] SUB_KEY = "\"sub\":\"".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] EXP_KEY = "\"exp\":".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] ROLE_KEY = "\"role\":\"".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] SITE_KEY = "\"site\":".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] SV_KEY = "\"sv\":".getBytes(StandardCharsets.US_ASCII);
+    private static final EmployeeRole[] ROLES = EmployeeRole.values();
+    private static final byte[][] ROLE_NAMES = new byte[ROLES.length][];
+
+    static {
+        for (int i = 0; i < ROLES.length; i++) {
+            ROLE_NAMES[i] = ROLES[i].name().getBytes(StandardCharsets.US_ASCII);
+        }
+    }
+
+    private final SecretKeySpec key;
     private final long expiresSeconds;
+    private final BlockingQueue<Verifier> verifiers = new ArrayBlockingQueue<>(VERIFIER_POOL_SIZE);
+    private final Cache<String, VerifiedToken> verifiedTokens;
 
     public JwtTokenService(
             @Value("${auth.jwt.secret}") String secret,
-            @Value("${auth.jwt.expires-seconds}") long expiresSeconds
+            @Value("${auth.jwt.expires-seconds}") long expiresSeconds,
+            @Value("${auth.jwt.verified-cache-size:10000}") long verifiedCacheSize
     ) {
-        this.secret = secret;
+        this.key = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALG);
         this.expiresSeconds = expiresSeconds;
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheSize)
+                .expireAfterWrite(VERIFIED_CACHE_TTL)
+                .build();
     }
 
     public long getExpiresSeconds() {
         return expiresSeconds;
     }
 
-    public String issueToken(long userId, EmployeeRole role) {
+    /**
+     * @param siteId       발급 시점 소속 site
+     * @param scopeVersion 발급 시점 권한 범위 버전(Employee.scopeVersion) — 이후 변경되면 토큰 claim은 재검증 대상
+     */
+    public String issueToken(long userId, EmployeeRole role, long siteId, long scopeVersion) {
         String headerJson = "{\"alg\":\"HS256\",\"typ\":\"JWT\"}";
         long now = Instant.now().getEpochSecond();
         long exp = now + expiresSeconds;
-        String payloadJson = "{\"sub\":\"" + userId + "\",\"role\":\"" + role.name() + "\",\"iat\":" + now + ",\"exp\":" + exp + "}";
+        String payloadJson = "{\"sub\":\"" + userId + "\",\"role\":\"" + role.name() + "\",\"site\":" + siteId
+                + ",\"sv\":" + scopeVersion + ",\"iat\":" + now + ",\"exp\":" + exp + "}";
 
         String header = b64Url(headerJson.getBytes(StandardCharsets.UTF_8));
         String payload = b64Url(payloadJson.getBytes(StandardCharsets.UTF_8));
         String signingInput = header + "." + payload;
-        String sig = hmacSha256(signingInput, secret);
+        Verifier v = borrowVerifier();
+        String sig = b64Url(v.mac.doFinal(signingInput.getBytes(StandardCharsets.US_ASCII)));
+        verifiers.offer(v);
         return signingInput + "." + sig;
     }
 
     public Optional<Long> parseUserIdIfValid(String token) {
-        try {
-            String[] parts = token.split("\\.");
-            if (parts.length != 3) return Optional.empty();
-            String signingInput = parts[0] + "." + parts[1];
-            String expectedSig = hmacSha256(signingInput, secret);
-            if (!constantTimeEquals(expectedSig, parts[2])) return Optional.empty();
-
-            String payloadJson = new String(b64UrlDecode(parts[1]), StandardCharsets.UTF_8);
-            Long sub = extractLongStringClaim(payloadJson, "sub");
-            Long exp = extractLongNumberClaim(payloadJson, "exp");
-            if (sub == null || exp == null) return Optional.empty();
-            if (Instant.now().getEpochSecond() >= exp) return Optional.empty();
-            return Optional.of(sub);
-        } catch (Exception e) {
+        return parseIfValid(token).map(JwtClaims::userId);
+    }
+
+    public Optional<JwtClaims> parseIfValid(String token) {
+        if (token == null) return Optional.empty();
+        int dot1 = token.indexOf('.');
+        int dot2 = dot1 < 0 ? -1 : token.indexOf('.', dot1 + 1);
+        if (dot1 <= 0 || dot2 <= dot1 + 1 || dot2 == token.length() - 1 || token.indexOf('.', dot2 + 1) >= 0) {
             return Optional.empty();
         }
-    }
+        long now = Instant.now().getEpochSecond();
 
-    private static String b64Url(byte[] bytes) {
-        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        // 1) 최근 검증 캐시: 서명으로 찾고, 토큰 전체 일치 + exp 재확인(서명만 같은 위조 토큰 방어)
+        String sigPart = token.substring(dot2 + 1);
+        VerifiedToken cached = verifiedTokens.getIfPresent(sigPart);
+        if (cached != null && cached.token.equals(token)) {
+            return now < cached.claims.exp() ? Optional.of(cached.claims) : Optional.empty();
+        }
+
+        // 2) 서명 검증 + claim 파싱
+        VerifiedToken verified = verify(token, dot1, dot2, now);
+        if (verified == null) return Optional.empty();
+        verifiedTokens.put(sigPart, verified);
+        return Optional.of(verified.claims);
     }
 
-    private static byte[] b64UrlDecode(String s) {
-        return Base64.getUrlDecoder().decode(s);
+    private VerifiedToken verify(String token, int dot1, int dot2, long now) {
+        Verifier v = borrowVerifier();
+        // 예외로 끝나면 Mac 상태를 알 수 없으므로 반납하지 않는다
+        VerifiedToken result = verify(v, token, dot1, dot2, now);
+        verifiers.offer(v);
+        return result;
     }
 
-    private static String hmacSha256(String data, String secret) {
+    private VerifiedToken verify(Verifier v, String token, int dot1, int dot2, long now) {
+        byte[] in = v.ascii(token);
+        if (in == null) return null;
+
+        // 서명 비교(디코드된 32바이트끼리 상수 시간 비교)
+        v.mac.update(in, 0, dot2);
         try {
-            Mac mac = Mac.getInstance("HmacSHA256");
-            mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
-            return b64Url(mac.doFinal(data.getBytes(StandardCharsets.UTF_8)));
-        } catch (Exception e) {
+            v.mac.doFinal(v.expected, 0);
+        } catch (ShortBufferException e) {
             throw new IllegalStateException(e);
         }
+        int sigLen = Base64UrlBytes.decode(in, dot2 + 1, token.length() - dot2 - 1, v.sig);
+        if (sigLen != SIG_BYTES || !MessageDigest.isEqual(v.expected, v.sig)) return null;
+
+        byte[] payload = v.payload(dot2 - dot1 - 1);
+        int payloadLen = Base64UrlBytes.decode(in, dot1 + 1, dot2 - dot1 - 1, payload);
+        if (payloadLen < 0) return null;
+
+        long sub = parseQuotedLong(payload, payloadLen, SUB_KEY);
+        long exp = parseLong(payload, payloadLen, EXP_KEY);
+        if (sub < 0 || exp < 0) return null;
+        if (now >= exp) return null;
+
+        // scope claim(선택): 없거나 형식 오류면 구버전 토큰으로 취급(호출 측에서 DB 재검증)
+        EmployeeRole role = parseRole(payload, payloadLen);
+        long site = parseLong(payload, payloadLen, SITE_KEY);
+        long sv = parseLong(payload, payloadLen, SV_KEY);
+        return new VerifiedToken(token, new JwtClaims(sub, role, site < 0 ? null : site, sv, exp));
     }
 
-    // 매우 단순한 파서(최소): {"sub":"999", ...} 형태만 대상으로 함
-    private static Long extractLongStringClaim(String json, String key) {
-        String pattern = "\"" + key + "\":\"";
-        int i = json.indexOf(pattern);
-        if (i < 0) return null;
-        int start = i + pattern.length();
-        int end = json.indexOf("\"", start);
-        if (end < 0) return null;
-        try {
-            return Long.parseLong(json.substring(start, end));
-        } catch (Exception e) {
-            return null;
+    // 매우 단순한 파서(최소): {"sub":"999", ...} 형태만 대상으로 함 — 음수 반환 = 없음/형식 오류
+    private static long parseQuotedLong(byte[] json, int len, byte[] key) {
+        int start = indexOf(json, len, key);
+        if (start < 0) return -1;
+        int end = start;
+        while (end < len && json[end] != '"') end++;
+        if (end >= len) return -1;
+        return digits(json, start, end);
+    }
+
+    private static EmployeeRole parseRole(byte[] json, int len) {
+        int start = indexOf(json, len, ROLE_KEY);
+        if (start < 0) return null;
+        int end = start;
+        while (end < len && json[end] != '"') end++;
+        if (end >= len) return null;
+        roles:
+        for (int r = 0; r < ROLES.length; r++) {
+            byte[] name = ROLE_NAMES[r];
+            if (name.length != end - start) continue;
+            for (int i = 0; i < name.length; i++) {
+                if (json[start + i] != name[i]) continue roles;
+            }
+            return ROLES[r];
         }
+        return null;
     }
 
-    private static Long extractLongNumberClaim(String json, String key) {
-        String pattern = "\"" + key + "\":";
-        int i = json.indexOf(pattern);
-        if (i < 0) return null;
-        int start = i + pattern.length();
+    private static long parseLong(byte[] json, int len, byte[] key) {
+        int start = indexOf(json, len, key);
+        if (start < 0) return -1;
         int end = start;
-        while (end < json.length() && Character.isDigit(json.charAt(end))) end++;
+        while (end < len && json[end] >= '0' && json[end] <= '9') end++;
+        return digits(json, start, end);
+    }
+
+    private static long digits(byte[] b, int start, int end) {
+        // 19자리 이상은 long overflow 가능 → 거부
+        if (end <= start || end - start > 18) return -1;
+        long v = 0;
+        for (int i = start; i < end; i++) {
+            int d = b[i] - '0';
+            if (d < 0 || d > 9) return -1;
+            v = v * 10 + d;
+        }
+        return v;
+    }
+
+    /**
+     * key 다음 위치(값 시작 index) 반환, 없으면 -1
+     */
+    private static int indexOf(byte[] b, int len, byte[] key) {
+        outer:
+        for (int i = 0; i + key.length <= len; i++) {
+            for (int j = 0; j < key.length; j++) {
+                if (b[i + j] != key[j]) continue outer;
+            }
+            return i + key.length;
+        }
+        return -1;
+    }
+
+    private static String b64Url(byte[] bytes) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    private Verifier borrowVerifier() {
+        Verifier v = verifiers.poll();
+        return (v != null) ? v : new Verifier(newMac(key));
+    }
+
+    private static Mac newMac(SecretKeySpec key) {
         try {
-            return Long.parseLong(json.substring(start, end));
-        } catch (Exception e) {
-            return null;
+            Mac mac = Mac.getInstance(ALG);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
         }
     }
 
-    private static boolean constantTimeEquals(String a, String b) {
-        if (a.length() != b.length()) return false;
-        int r = 0;
-        for (int i = 0; i < a.length(); i++) r |= a.charAt(i) ^ b.charAt(i);
-        return r == 0;
+    private record VerifiedToken(String token, JwtClaims claims) {
+    }
+
+    /**
+     * 검증 상태(초기화된 Mac + 재사용 버퍼) — pool에서 빌린 동안 한 스레드만 사용
+     * - Mac은 thread-safe 하지 않으므로 동시에 공유 금지
+     * - doFinal()이 Mac을 초기 상태로 되돌리므로 init 재호출 불필요
+     */
+    private static final class Verifier {
+        private static final int MAX_TOKEN_CHARS = 8192;
+
+        final Mac mac;
+        final byte[] expected = new byte[SIG_BYTES];
+        final byte[] sig = new byte[SIG_BYTES];
+        byte[] ascii = new byte[512];
+        byte[] payload = new byte[384];
+
+        Verifier(Mac mac) {
+            this.mac = mac;
+        }
+
+        /**
+         * 토큰 문자열 → ASCII 바이트(재사용 버퍼). 비 ASCII 또는 과대 토큰이면 null
+         */
+        byte[] ascii(String token) {
+            int n = token.length();
+            if (n > MAX_TOKEN_CHARS) return null;
+            if (ascii.length < n) ascii = new byte[n];
+            for (int i = 0; i < n; i++) {
+                char c = token.charAt(i);
+                if (c > 0x7F) return null;
+                ascii[i] = (byte) c;
+            }
+            return ascii;
+        }
+
+        byte[] payload(int encodedLen) {
+            int need = encodedLen * 3 / 4 + 3;
+            if (payload.length < need) payload = new byte[need];
+            return payload;
+        }
     }
-}
\ No newline at end of file
+}
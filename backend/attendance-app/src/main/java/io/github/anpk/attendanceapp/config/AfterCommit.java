@@ -0,0 +1,27 @@
+package io.github.anpk.attendanceapp.config;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 커밋 후 실행(인메모리 캐시/인덱스/스트림 반영 공통)
+ * - 트랜잭션 안이면 커밋 후에만 실행 — 롤백된 변경은 반영되지 않고, 커밋 전 조회가 이전 값을 다시 채우지 않는다
+ * - 트랜잭션 밖이면 즉시 실행
+ */
+public final class AfterCommit {
+
+    private AfterCommit() {}
+
+    public static void run(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+            return;
+        }
+        action.run();
+    }
+}
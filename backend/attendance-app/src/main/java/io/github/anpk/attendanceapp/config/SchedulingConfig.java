@@ -0,0 +1,13 @@
+package io.github.anpk.attendanceapp.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 주기 작업(@Scheduled) 활성화
+ * - 만료된 리포트 작업 결과 정리 등
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
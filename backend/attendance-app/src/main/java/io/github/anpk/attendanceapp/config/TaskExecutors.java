@@ -0,0 +1,27 @@
+package io.github.anpk.attendanceapp.config;
+
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 서비스 전용 bounded executor 생성(bean으로 노출하지 않는 내부 executor 공통)
+ * - 동시 처리 수(workers)와 대기열(queue-capacity)로 제한, 대기열 초과 시 TaskRejectedException
+ * - virtualThreads=true 이면 같은 제한 안에서 작업 스레드만 가상 스레드로 만든다
+ *   (I/O 대기 작업용 — 디코드 등 CPU 작업은 플랫폼 스레드 유지)
+ *
+ * 호출 측은 @PreDestroy에서 shutdown() 해야 한다.
+ */
+public final class TaskExecutors {
+
+    private TaskExecutors() {}
+
+    public static ThreadPoolTaskExecutor bounded(String threadNamePrefix, int workers, int queueCapacity, boolean virtualThreads) {
+        ThreadPoolTaskExecutor ex = new ThreadPoolTaskExecutor();
+        ex.setCorePoolSize(workers);
+        ex.setMaxPoolSize(workers);
+        ex.setQueueCapacity(queueCapacity);
+        ex.setThreadNamePrefix(threadNamePrefix);
+        ex.setVirtualThreads(virtualThreads);
+        ex.initialize();
+        return ex;
+    }
+}
@@ -0,0 +1,46 @@
+package io.github.anpk.attendanceapp.config.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.List;
+
+/**
+ * IDENTITY → pooled sequence 전환(attendance, attendance_break, correction_requests, correction_request_break_proposals)
+ * - 시퀀스 증가 단위 = 엔티티 allocationSize(50). Hibernate pooled optimizer는 nextval 값 v에 대해 (v-49 ~ v)를 쓴다
+ * - 시작값 = 기존 최대 id + 50 → 첫 블록이 (최대 id + 1)부터 시작해 기존 행과 겹치지 않는다
+ * - id 컬럼은 IDENTITY를 제거하고 기본값을 시퀀스로 둔다(data-dev.sql 등 id 없는 SQL insert 호환)
+ *
+ * 최대 id를 읽어 DDL에 넣어야 해서 SQL 대신 Java 마이그레이션으로 둔다.
+ */
+public class V3__PooledSequenceIds extends BaseJavaMigration {
+
+    static final int ALLOCATION_SIZE = 50;
+
+    private static final List<String> TABLES = List.of(
+            "attendance",
+            "attendance_break",
+            "correction_requests",
+            "correction_request_break_proposals"
+    );
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        try (Statement st = context.getConnection().createStatement()) {
+            for (String table : TABLES) {
+                long maxId;
+                try (ResultSet rs = st.executeQuery("SELECT COALESCE(MAX(id), 0) FROM " + table)) {
+                    rs.next();
+                    maxId = rs.getLong(1);
+                }
+                String sequence = table + "_seq";
+                st.execute("CREATE SEQUENCE " + sequence
+                        + " START WITH " + (maxId + ALLOCATION_SIZE) + " INCREMENT BY " + ALLOCATION_SIZE);
+                st.execute("ALTER TABLE " + table + " ALTER COLUMN id DROP IDENTITY");
+                st.execute("ALTER TABLE " + table + " ALTER COLUMN id SET DEFAULT NEXT VALUE FOR " + sequence);
+            }
+        }
+    }
+}
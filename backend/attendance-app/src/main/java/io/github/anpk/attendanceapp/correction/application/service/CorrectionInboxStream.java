@@ -0,0 +1,405 @@
+package io.github.anpk.attendanceapp.correction.application.service;
+
+import io.github.anpk.attendanceapp.config.AfterCommit;
+import io.github.anpk.attendanceapp.config.TaskExecutors;
+import io.github.anpk.attendanceapp.correction.interfaces.dto.CorrectionInboxEvent;
+import io.github.anpk.attendanceapp.correction.interfaces.dto.CorrectionRequestResponse;
+import io.github.anpk.attendanceapp.site.application.service.ManagerScopeIndex;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 승인 대기함 변경 push(SSE)
+ * - 정정 요청 생성/취소/승인/반려를 커밋 후 이벤트로 발행 → 요청자 site를 담당하는 MANAGER(+ 모든 ADMIN) 연결에만 전달
+ * - 구독은 site별로 색인(site → 연결 집합) — 이벤트 1건당 해당 site 구독자만 순회
+ * - 이벤트 id = "{기동 epoch}.{순번}", 최근 replay-buffer-size 건을 보관해 Last-Event-ID 이후분을 재전송
+ *   (보관 범위를 벗어났거나 재기동 전 id면 reset 이벤트 → 클라이언트가 목록을 다시 조회)
+ * - 연결마다 bounded 대기열(subscriber-queue-capacity) — 발행은 순번 순서대로 대기열에 넣기만 하고,
+ *   전송은 sender executor에서 연결 단위로 하나씩(연결별 순서 보장) 진행한다.
+ *   느린 연결은 자기 대기열만 채우고 다른 연결의 전송을 막지 않는다
+ * - 대기열이 넘친 연결은 이벤트를 버리는 대신 reset 대상으로 표시 → 밀린 이벤트를 비우고 reset 1건 전송
+ * - keep-alive는 주석 줄로 주기 전송
+ * - 담당 site는 구독 시점 기준(할당 해제는 전송 시 다시 확인, 새 할당은 재연결 시 반영 — timeout마다 재연결)
+ */
+@Component
+@Slf4j
+public class CorrectionInboxStream {
+
+    public enum EventType {
+        CREATED, CANCELED, APPROVED, REJECTED;
+
+        String eventName() {
+            return name().toLowerCase();
+        }
+    }
+
+    private record Published(long seq, Long siteId, Long requestedBy, String name, CorrectionInboxEvent payload) {}
+
+    private static final class Subscriber {
+        final Long userId;
+        final boolean admin;
+        final long[] siteIds;
+        final SseEmitter emitter;
+        // 전송 대기 이벤트(발행 순번 순서, recentLock 안에서만 추가/비움)
+        final BlockingQueue<Published> queue;
+        // 연결별 전송 직렬화(replay ↔ 실시간/keep-alive) — 소켓 쓰기 대기를 포함하므로 synchronized 대신 ReentrantLock
+        final ReentrantLock sendLock = new ReentrantLock();
+        // sender executor에 전송 작업이 올라가 있는지(연결당 최대 1개)
+        final AtomicBoolean draining = new AtomicBoolean();
+        // replay ↔ 실시간 전송 사이 중복/역순 방지(마지막으로 보낸 순번, sendLock 안에서만 접근)
+        long lastSentSeq;
+        // 대기열 초과 → 다음 전송 때 밀린 이벤트 대신 reset(recentLock 안에서만 변경)
+        volatile boolean resetPending;
+        volatile boolean keepAlivePending;
+        volatile boolean closed;
+
+        Subscriber(Long userId, boolean admin, long[] siteIds, SseEmitter emitter, int queueCapacity) {
+            this.userId = userId;
+            this.admin = admin;
+            this.siteIds = siteIds;
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        }
+
+        boolean hasWork() {
+            return resetPending || keepAlivePending || !queue.isEmpty();
+        }
+    }
+
+    private final ManagerScopeIndex managerScopeIndex;
+    private final Duration timeout;
+    private final int replayBufferSize;
+    private final int subscriberQueueCapacity;
+    private final ThreadPoolTaskExecutor senders;
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong sequence = new AtomicLong();
+
+    private final Map<Long, Set<Subscriber>> subscribersBySite = new ConcurrentHashMap<>();
+    private final Set<Subscriber> admins = ConcurrentHashMap.newKeySet();
+
+    // 최근 이벤트(replay용) + 순번 부여/연결 대기열 추가를 발행 순서대로 묶는 락
+    private final ArrayDeque<Published> recent = new ArrayDeque<>();
+    private final ReentrantLock recentLock = new ReentrantLock();
+
+    public CorrectionInboxStream(
+            ManagerScopeIndex managerScopeIndex,
+            @Value("${app.correction-inbox.stream.timeout:30m}") Duration timeout,
+            @Value("${app.correction-inbox.stream.replay-buffer-size:1000}") int replayBufferSize,
+            @Value("${app.correction-inbox.stream.subscriber-queue-capacity:256}") int subscriberQueueCapacity,
+            @Value("${app.correction-inbox.stream.senders:8}") int senders,
+            @Value("${app.correction-inbox.stream.queue-capacity:1000}") int queueCapacity,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads
+    ) {
+        this.managerScopeIndex = managerScopeIndex;
+        this.timeout = timeout;
+        this.replayBufferSize = replayBufferSize;
+        this.subscriberQueueCapacity = subscriberQueueCapacity;
+        // 연결 단위 전송 작업(연결당 최대 1개 대기) — 소켓 쓰기 대기 위주라 가상 스레드 모드를 따른다
+        this.senders = TaskExecutors.bounded("correction-inbox-", senders, queueCapacity, virtualThreads);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        senders.shutdown();
+        for (Subscriber s : allSubscribers()) {
+            s.emitter.complete();
+        }
+    }
+
+    // =============================================================
+    // 구독
+    // =============================================================
+
+    /**
+     * 승인 권한 확인은 호출 측 책임
+     *
+     * @param siteIds     MANAGER 담당 site(ADMIN이면 무시)
+     * @param lastEventId 재연결 시 Last-Event-ID 헤더(없으면 이후 이벤트만)
+     */
+    public SseEmitter subscribe(Long userId, boolean admin, long[] siteIds, String lastEventId) {
+        return subscribe(userId, admin, siteIds, lastEventId, new SseEmitter(timeout.toMillis()));
+    }
+
+    SseEmitter subscribe(Long userId, boolean admin, long[] siteIds, String lastEventId, SseEmitter emitter) {
+        Subscriber sub = new Subscriber(userId, admin, admin ? new long[0] : siteIds.clone(), emitter, subscriberQueueCapacity);
+
+        emitter.onCompletion(() -> unregister(sub));
+        emitter.onTimeout(() -> unregister(sub));
+        emitter.onError(e -> unregister(sub));
+
+        // 먼저 등록한 뒤 현재 순번을 읽는다 — 그 이후 순번은 발행 시 반드시 이 연결 대기열에 들어가고(실시간),
+        // 그 이전 순번은 replay 범위(Last-Event-ID ~ 현재)로 처리된다(대기열에 함께 들어간 것은 전송 시 건너뜀)
+        withSendLock(sub, () -> {
+            register(sub);
+            recentLock.lock();
+            try {
+                sub.lastSentSeq = sequence.get();
+            } finally {
+                recentLock.unlock();
+            }
+            send(sub, SseEmitter.event().reconnectTime(3_000).comment("connected"));
+            replay(sub, lastEventId);
+        });
+        return emitter;
+    }
+
+    private void replay(Subscriber sub, String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) return;
+
+        long lastSeq = parseSeq(lastEventId);
+        List<Published> missed = new ArrayList<>();
+        boolean complete;
+        recentLock.lock();
+        try {
+            long oldest = recent.isEmpty() ? sequence.get() + 1 : recent.peekFirst().seq();
+            // 보관 범위 안(끊긴 직후 이벤트부터 남아 있음)이어야 이어받기 가능
+            complete = lastSeq >= 0 && lastSeq <= sequence.get() && lastSeq + 1 >= oldest;
+            if (complete) {
+                for (Published p : recent) {
+                    if (p.seq() > lastSeq && p.seq() <= sub.lastSentSeq) missed.add(p);
+                }
+            }
+        } finally {
+            recentLock.unlock();
+        }
+
+        if (!complete) {
+            sendReset(sub, sub.lastSentSeq);
+            return;
+        }
+        for (Published p : missed) {
+            if (visibleTo(sub, p)) sendEvent(sub, p);
+        }
+    }
+
+    private long parseSeq(String lastEventId) {
+        int dot = lastEventId.indexOf('.');
+        if (dot < 0 || !epoch.equals(lastEventId.substring(0, dot))) return -1;
+        try {
+            return Long.parseLong(lastEventId.substring(dot + 1));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private void register(Subscriber sub) {
+        if (sub.admin) {
+            admins.add(sub);
+            return;
+        }
+        for (long siteId : sub.siteIds) {
+            subscribersBySite.computeIfAbsent(siteId, k -> ConcurrentHashMap.newKeySet()).add(sub);
+        }
+    }
+
+    private void unregister(Subscriber sub) {
+        sub.closed = true;
+        if (sub.admin) {
+            admins.remove(sub);
+            return;
+        }
+        for (long siteId : sub.siteIds) {
+            subscribersBySite.computeIfPresent(siteId, (k, set) -> {
+                set.remove(sub);
+                return set.isEmpty() ? null : set;
+            });
+        }
+    }
+
+    // =============================================================
+    // 발행
+    // =============================================================
+
+    /**
+     * 트랜잭션 안이면 커밋 후 발행(롤백된 변경은 나가지 않는다)
+     *
+     * @param requesterSiteId 요청자 소속 site(모르면 null → ADMIN에게만)
+     */
+    public void publish(EventType type, CorrectionRequestResponse request, Long requesterSiteId) {
+        CorrectionInboxEvent payload = new CorrectionInboxEvent(type.eventName(), request);
+        AfterCommit.run(() -> dispatch(type.eventName(), payload, requesterSiteId));
+    }
+
+    /**
+     * 순번 부여 + 보관 + 대상 연결 대기열 추가를 한 락 안에서(연결별 대기열이 순번 순서를 유지)
+     * - 대기열 추가는 non-blocking(offer) — 넘친 연결은 reset 대상으로 표시만 한다
+     * - 소켓 전송은 락 밖에서 sender executor가 연결 단위로 진행
+     */
+    private void dispatch(String name, CorrectionInboxEvent payload, Long siteId) {
+        List<Subscriber> targets = new ArrayList<>();
+        recentLock.lock();
+        try {
+            Published p = new Published(sequence.incrementAndGet(), siteId, payload.request().requestedBy(), name, payload);
+            recent.addLast(p);
+            while (recent.size() > replayBufferSize) recent.removeFirst();
+
+            if (siteId != null) targets.addAll(subscribersBySite.getOrDefault(siteId, Set.of()));
+            targets.addAll(admins);
+            for (Subscriber sub : targets) {
+                if (!sub.resetPending && !sub.queue.offer(p)) {
+                    sub.resetPending = true;
+                    log.warn("correction inbox subscriber queue full, reset scheduled: userId={}", sub.userId);
+                }
+            }
+        } finally {
+            recentLock.unlock();
+        }
+        for (Subscriber sub : targets) {
+            schedule(sub);
+        }
+    }
+
+    /**
+     * 연결의 전송 작업을 sender executor에 올린다(이미 올라가 있으면 그 작업이 이어서 처리)
+     */
+    private void schedule(Subscriber sub) {
+        if (sub.closed || !sub.draining.compareAndSet(false, true)) return;
+        try {
+            senders.execute(() -> drain(sub));
+        } catch (TaskRejectedException e) {
+            // executor 대기열 초과 — 밀린 내용은 대기열/reset 표시에 남아 다음 발행 또는 keep-alive 주기에 전송
+            sub.draining.set(false);
+        }
+    }
+
+    private void drain(Subscriber sub) {
+        try {
+            withSendLock(sub, () -> {
+                while (!sub.closed && sub.hasWork()) {
+                    if (sub.resetPending) {
+                        sendReset(sub, clearForReset(sub));
+                        continue;
+                    }
+                    Published p = sub.queue.poll();
+                    if (p != null) {
+                        if (p.seq() <= sub.lastSentSeq) continue;
+                        if (visibleTo(sub, p)) sendEvent(sub, p);
+                        sub.lastSentSeq = p.seq();
+                        continue;
+                    }
+                    if (sub.keepAlivePending) {
+                        sub.keepAlivePending = false;
+                        send(sub, SseEmitter.event().comment("keep-alive"));
+                    }
+                }
+            });
+        } finally {
+            sub.draining.set(false);
+        }
+        // 해제 직후 추가된 작업은 여기서 다시 올린다
+        if (!sub.closed && sub.hasWork()) schedule(sub);
+    }
+
+    /**
+     * 밀린 이벤트를 버리고 reset 기준 순번을 정한다 — 이 순번까지는 클라이언트가 목록 재조회로 반영하고,
+     * 이후 순번은 다시 대기열로 받는다(대기열 추가와 같은 락 안에서 비우므로 사이에 빠지는 이벤트가 없다)
+     */
+    private long clearForReset(Subscriber sub) {
+        recentLock.lock();
+        try {
+            sub.queue.clear();
+            sub.resetPending = false;
+            return sequence.get();
+        } finally {
+            recentLock.unlock();
+        }
+    }
+
+    /**
+     * 목록(scope=approvable)과 같은 노출 규칙: MANAGER는 담당 site 요청 중 본인 요청 제외, ADMIN은 전체
+     */
+    private boolean visibleTo(Subscriber sub, Published p) {
+        if (sub.admin) return true;
+        if (p.siteId() == null || sub.userId.equals(p.requestedBy())) return false;
+        return Arrays.binarySearch(sub.siteIds, p.siteId()) >= 0 && managerScopeIndex.managesSite(sub.userId, p.siteId());
+    }
+
+    // =============================================================
+    // keep-alive
+    // =============================================================
+
+    @Scheduled(initialDelayString = "${app.correction-inbox.stream.heartbeat-interval-ms:20000}",
+            fixedDelayString = "${app.correction-inbox.stream.heartbeat-interval-ms:20000}")
+    void heartbeat() {
+        for (Subscriber sub : allSubscribers()) {
+            sub.keepAlivePending = true;
+            schedule(sub);
+        }
+    }
+
+    public int subscriberCount() {
+        return allSubscribers().size();
+    }
+
+    private List<Subscriber> allSubscribers() {
+        Set<Subscriber> all = new HashSet<>();
+        all.addAll(admins);
+        subscribersBySite.values().forEach(all::addAll);
+        return new ArrayList<>(all);
+    }
+
+    // =============================================================
+    // 전송
+    // =============================================================
+
+    private static void withSendLock(Subscriber sub, Runnable action) {
+        if (sub.closed) return;
+        sub.sendLock.lock();
+        try {
+            action.run();
+        } finally {
+            sub.sendLock.unlock();
+        }
+    }
+
+    private void sendReset(Subscriber sub, long seq) {
+        send(sub, SseEmitter.event().id(eventId(seq)).name("reset").data("{}", MediaType.APPLICATION_JSON));
+        sub.lastSentSeq = Math.max(sub.lastSentSeq, seq);
+    }
+
+    private void sendEvent(Subscriber sub, Published p) {
+        send(sub, SseEmitter.event()
+                .id(eventId(p.seq()))
+                .name(p.name())
+                .data(p.payload(), MediaType.APPLICATION_JSON));
+    }
+
+    private void send(Subscriber sub, SseEmitter.SseEventBuilder event) {
+        if (sub.closed) return;
+        try {
+            sub.emitter.send(event);
+        } catch (IOException | IllegalStateException e) {
+            // 끊긴 연결 — 정리 후 다음 구독자 계속
+            unregister(sub);
+            sub.emitter.completeWithError(e);
+        }
+    }
+
+    private String eventId(long seq) {
+        return epoch + "." + seq;
+    }
+}
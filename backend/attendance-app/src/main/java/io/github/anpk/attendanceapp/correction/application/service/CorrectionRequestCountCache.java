@@ -0,0 +1,55 @@
+package io.github.anpk.attendanceapp.correction.application.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.anpk.attendanceapp.config.AfterCommit;
+import io.github.anpk.attendanceapp.correction.domain.model.CorrectionRequestStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * 정정 요청 목록 전체 건수 캐시(keyset 목록의 includeTotal=true 전용)
+ * - 목록 조회마다 count(*)를 돌리지 않도록 (scope, 조회자, status) 단위로 TTL 동안 재사용
+ * - 요청 상태 변경 시 요청자의 requested_by_me 건수만 커밋 후 무효화, 승인 대기함 건수는 TTL 만큼 지연될 수 있다(근사치)
+ * - 적재는 키 단위 원자 연산(get(key, loader)) — 무효화는 진행 중인 적재가 끝난 뒤 적용되므로
+ *   커밋 전 건수를 센 적재가 무효화 이후에 캐시에 남지 않는다
+ */
+@Component
+public class CorrectionRequestCountCache {
+
+    private static final String REQUESTED_BY_ME = "requested_by_me";
+
+    private record Key(String scope, Long userId, CorrectionRequestStatus status) {}
+
+    private final Cache<Key, Long> cache;
+
+    public CorrectionRequestCountCache(
+            @Value("${app.correction-list.count-cache.max-size:10000}") long maxSize,
+            @Value("${app.correction-list.count-cache.ttl:30s}") Duration ttl
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    long get(String scope, Long userId, CorrectionRequestStatus status, LongSupplier counter) {
+        return cache.get(new Key(scope, userId, status), k -> counter.getAsLong());
+    }
+
+    /**
+     * 요청자의 requested_by_me 건수(status 전체/상태별) 무효화 — 생성/취소/승인/반려 시
+     * - 트랜잭션 안이면 커밋 후 실행(커밋 전에 지우면 그 사이 조회가 이전 건수를 다시 채운다, 롤백 시 유지)
+     */
+    void invalidateRequestedBy(Long userId) {
+        AfterCommit.run(() -> {
+            cache.invalidate(new Key(REQUESTED_BY_ME, userId, null));
+            for (CorrectionRequestStatus status : CorrectionRequestStatus.values()) {
+                cache.invalidate(new Key(REQUESTED_BY_ME, userId, status));
+            }
+        });
+    }
+}
@@ -0,0 +1,56 @@
+package io.github.anpk.attendanceapp.correction.application.service;
+
+import io.github.anpk.attendanceapp.error.BusinessException;
+import io.github.anpk.attendanceapp.error.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+
+/**
+ * 정정 요청 목록 keyset 커서 — 정렬 키 (requestedAt desc, id desc)의 마지막 행 위치
+ * - 다음 페이지 조건: requestedAt < 커서 or (requestedAt = 커서 and id < 커서 id) → OFFSET 없이 인덱스 범위 조회
+ * - 클라이언트에는 불투명 토큰(base64url)으로만 노출(형식 변경 시 버전 prefix로 구분)
+ * - 첫 페이지는 START(모든 행보다 뒤)로 같은 쿼리를 사용한다
+ */
+record CorrectionRequestCursor(OffsetDateTime requestedAt, long id) {
+
+    private static final String VERSION = "v1";
+
+    // 첫 페이지용 상한 — DB timestamp 범위 안의 최대값(9999-12-31)
+    static final CorrectionRequestCursor START = new CorrectionRequestCursor(
+            OffsetDateTime.of(9999, 12, 31, 23, 59, 59, 0, ZoneOffset.UTC),
+            Long.MAX_VALUE
+    );
+
+    String encode() {
+        Instant at = requestedAt.toInstant();
+        String raw = VERSION + ":" + at.getEpochSecond() + ":" + at.getNano() + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return token이 비어 있으면 START
+     */
+    static CorrectionRequestCursor decode(String token) {
+        if (token == null || token.isBlank()) return START;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token.trim()), StandardCharsets.UTF_8);
+            String[] parts = raw.split(":");
+            if (parts.length != 4 || !VERSION.equals(parts[0])) {
+                throw invalid();
+            }
+            Instant at = Instant.ofEpochSecond(Long.parseLong(parts[1]), Long.parseLong(parts[2]));
+            return new CorrectionRequestCursor(at.atOffset(ZoneOffset.UTC), Long.parseLong(parts[3]));
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw invalid();
+        }
+    }
+
+    private static BusinessException invalid() {
+        return new BusinessException(ErrorCode.INVALID_REQUEST_PARAM, "cursor 형식이 올바르지 않습니다.");
+    }
+}
@@ -1,6 +1,10 @@
 package io.github.anpk.attendanceapp.correction.application.service;
 
-import io.github.anpk.attendanceapp.attendance.application.service.AttendanceService;
+import io.github.anpk.attendanceapp.attendance.application.service.AttendanceCorrectedEvent;
+import io.github.anpk.attendanceapp.attendance.application.service.AttendanceFinalProjector;
+import io.github.anpk.attendanceapp.attendance.application.service.FinalSnapshot;
+import io.github.anpk.attendanceapp.attendance.application.service.FinalSnapshotService;
+import io.github.anpk.attendanceapp.attendance.domain.model.Attendance;
 import io.github.anpk.attendanceapp.attendance.domain.model.AttendanceBreak;
 import io.github.anpk.attendanceapp.attendance.infrastructure.repository.AttendanceBreakRepository;
 import io.github.anpk.attendanceapp.attendance.infrastructure.repository.AttendanceRepository;
@@ -10,20 +14,34 @@ import io.github.anpk.attendanceapp.correction.domain.model.CorrectionRequestSta
 import io.github.anpk.attendanceapp.correction.domain.model.CorrectionRequestType;
 import io.github.anpk.attendanceapp.correction.infrastructure.repository.CorrectionRequestRepository;
 import io.github.anpk.attendanceapp.correction.interfaces.dto.*;
+import io.github.anpk.attendanceapp.employee.domain.model.Employee;
 import io.github.anpk.attendanceapp.employee.domain.model.EmployeeRole;
-import io.github.anpk.attendanceapp.employee.infrastructure.repository.EmployeeRepository;
+import io.github.anpk.attendanceapp.employee.application.service.CachedEmployee;
+import io.github.anpk.attendanceapp.employee.application.service.EmployeeCache;
 import io.github.anpk.attendanceapp.error.BusinessException;
 import io.github.anpk.attendanceapp.error.ErrorCode;
-import io.github.anpk.attendanceapp.site.infrastructure.repository.ManagerSiteAssignmentRepository;
+import io.github.anpk.attendanceapp.site.application.service.ManagerScopeIndex;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.*;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -33,28 +51,52 @@ public class CorrectionRequestService {
 
     private static final ZoneId KST = ZoneId.of("Asia/Seoul");
     private static final Duration MAX_WORK_DURATION = Duration.ofHours(24);
+    // 목록 정렬(page/keyset 공통) — requestedAt 동률은 id로 고정
+    private static final Sort LIST_SORT = Sort.by(Sort.Direction.DESC, "requestedAt", "id");
 
     private final AttendanceRepository attendanceRepository;
     private final CorrectionRequestRepository correctionRequestRepository;
     private final AttendanceBreakRepository attendanceBreakRepository;
-    private final EmployeeRepository employeeRepository;
-    private final AttendanceService attendanceService;
-    private final ManagerSiteAssignmentRepository managerSiteAssignmentRepository;
+    private final EmployeeCache employeeCache;
+    private final FinalSnapshotService finalSnapshotService;
+    private final ManagerScopeIndex managerScopeIndex;
+    private final AttendanceFinalProjector attendanceFinalProjector;
+    private final CorrectionRequestCountCache correctionRequestCountCache;
+    private final CorrectionInboxStream correctionInboxStream;
+    private final ApplicationEventPublisher eventPublisher;
+    // 일괄 승인/반려: chunk 단위 트랜잭션
+    private final TransactionTemplate bulkTx;
+    private final int bulkMaxItems;
+    private final int bulkChunkSize;
 
     public CorrectionRequestService(
             AttendanceRepository attendanceRepository,
             CorrectionRequestRepository correctionRequestRepository,
             AttendanceBreakRepository attendanceBreakRepository,
-            EmployeeRepository employeeRepository,
-            AttendanceService attendanceService,
-            ManagerSiteAssignmentRepository managerSiteAssignmentRepository
+            EmployeeCache employeeCache,
+            FinalSnapshotService finalSnapshotService,
+            ManagerScopeIndex managerScopeIndex,
+            AttendanceFinalProjector attendanceFinalProjector,
+            CorrectionRequestCountCache correctionRequestCountCache,
+            CorrectionInboxStream correctionInboxStream,
+            ApplicationEventPublisher eventPublisher,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.correction-bulk.max-items:500}") int bulkMaxItems,
+            @Value("${app.correction-bulk.chunk-size:50}") int bulkChunkSize
     ) {
         this.attendanceRepository = attendanceRepository;
         this.correctionRequestRepository = correctionRequestRepository;
         this.attendanceBreakRepository = attendanceBreakRepository;
-        this.employeeRepository = employeeRepository;
-        this.attendanceService = attendanceService;
-        this.managerSiteAssignmentRepository = managerSiteAssignmentRepository;
+        this.employeeCache = employeeCache;
+        this.finalSnapshotService = finalSnapshotService;
+        this.managerScopeIndex = managerScopeIndex;
+        this.attendanceFinalProjector = attendanceFinalProjector;
+        this.correctionRequestCountCache = correctionRequestCountCache;
+        this.correctionInboxStream = correctionInboxStream;
+        this.eventPublisher = eventPublisher;
+        this.bulkTx = new TransactionTemplate(transactionManager);
+        this.bulkMaxItems = bulkMaxItems;
+        this.bulkChunkSize = Math.max(1, bulkChunkSize);
     }
 
     @Transactional
@@ -138,6 +180,8 @@ public class CorrectionRequestService {
         }
 
         var saved = correctionRequestRepository.save(pending);
+        correctionRequestCountCache.invalidateRequestedBy(userId);
+        publishInboxEvent(CorrectionInboxStream.EventType.CREATED, saved);
 
         return new CorrectionRequestResponse(
                 saved.getId(),
@@ -161,7 +205,7 @@ public class CorrectionRequestService {
     private void ensureCanCreateForAttendance(Long actorUserId, Long attendanceUserId) {
         if (attendanceUserId != null && attendanceUserId.equals(actorUserId)) return;
 
-        var me = employeeRepository.findById(actorUserId)
+        var me = employeeCache.findById(actorUserId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.FORBIDDEN, "권한이 없습니다."));
         if (!me.isActive()) {
             throw new BusinessException(ErrorCode.EMPLOYEE_INACTIVE, "비활성 사용자입니다.");
@@ -170,9 +214,9 @@ public class CorrectionRequestService {
         if (me.getRole() == EmployeeRole.ADMIN) return;
 
         if (me.getRole() == EmployeeRole.MANAGER) {
-            var target = employeeRepository.findById(attendanceUserId)
+            var target = employeeCache.findById(attendanceUserId)
                     .orElseThrow(() -> new BusinessException(ErrorCode.EMPLOYEE_NOT_FOUND, "직원을 찾을 수 없습니다."));
-            if (!managerSiteAssignmentRepository.existsByManagerUserIdAndSiteId(actorUserId, target.getSiteId())) {
+            if (!managerScopeIndex.managesSite(actorUserId, target.getSiteId())) {
                 throw new BusinessException(ErrorCode.FORBIDDEN, "권한이 없습니다.");
             }
             return;
@@ -181,74 +225,147 @@ public class CorrectionRequestService {
         throw new BusinessException(ErrorCode.FORBIDDEN, "권한이 없습니다.");
     }
 
+    /**
+     * 정정 요청 목록
+     * - page 지정: 기존 OFFSET 페이지(+ count) — 하위 호환
+     * - page 미지정: keyset(requestedAt desc, id desc) — cursor(이전 응답 nextCursor)로 이어서 조회, 깊은 페이지도 첫 페이지와 같은 비용
+     *   전체 건수는 includeTotal=true일 때만 CorrectionRequestCountCache에서(TTL 캐시)
+     */
     @Transactional(readOnly = true)
-    public CorrectionRequestListResponse list(Long userId, String scope, String status, Integer page, Integer size) {
-
-        int p = (page == null || page < 1) ? 1 : page;
+    public CorrectionRequestListResponse list(
+            Long userId, String scope, String status, Integer page, Integer size, String cursor, boolean includeTotal
+    ) {
         int s = (size == null || size < 1) ? 20 : size;
 
-        var pageable = PageRequest.of(p - 1, s, Sort.by(Sort.Direction.DESC, "requestedAt"));
-
         // scope 분기
         if ("requested_by_me".equals(scope)) {
-            var result = (status == null || status.isBlank())
-                    ? correctionRequestRepository.findByRequestedBy(userId, pageable)
-                    : correctionRequestRepository.findByRequestedByAndStatus(userId, parseStatus(status), pageable);
-
-            List<CorrectionRequestResponse> items = result.getContent().stream()
-                    .map(r -> new CorrectionRequestResponse(
-                            r.getId(),
-                            r.getAttendance().getId(),
-                            r.getStatus(),
-                            r.getType(),
-                            r.getRequestedBy(),
-                            r.getRequestedAt(),
-                            r.getProposedCheckInAt(),
-                            r.getProposedCheckOutAt(),
-                            r.getReason()
-                    ))
-                    .toList();
+            CorrectionRequestStatus st = (status == null || status.isBlank()) ? null : parseStatus(status);
+
+            if (page != null) {
+                int p = Math.max(page, 1);
+                var pageable = PageRequest.of(p - 1, s, LIST_SORT);
+                var result = (st == null)
+                        ? correctionRequestRepository.findByRequestedBy(userId, pageable)
+                        : correctionRequestRepository.findByRequestedByAndStatus(userId, st, pageable);
+                return new CorrectionRequestListResponse(toResponses(result.getContent()), p, s, result.getTotalElements(), null);
+            }
 
-            return new CorrectionRequestListResponse(items, p, s, result.getTotalElements());
+            var after = CorrectionRequestCursor.decode(cursor);
+            var rows = (st == null)
+                    ? correctionRequestRepository.findKeysetByRequestedBy(userId, after.requestedAt(), after.id(), Limit.of(s + 1))
+                    : correctionRequestRepository.findKeysetByRequestedByAndStatus(userId, st, after.requestedAt(), after.id(), Limit.of(s + 1));
+            Long total = includeTotal
+                    ? correctionRequestCountCache.get(scope, userId, st, () -> (st == null)
+                            ? correctionRequestRepository.countByRequestedBy(userId)
+                            : correctionRequestRepository.countByRequestedByAndStatus(userId, st))
+                    : null;
+            return toKeysetResponse(rows, s, total);
         }
 
         if ("approvable".equals(scope)) {
-            // 승인 대기함은 권한자만 접근 가능 (MANAGER/ADMIN)
-            var approver = employeeRepository.findById(userId)
-                    .orElseThrow(() -> new BusinessException(ErrorCode.FORBIDDEN, "권한이 없습니다."));
+            var approver = requireInboxApprover(userId);
 
-            if (!approver.isActive()) {
-                throw new BusinessException(ErrorCode.FORBIDDEN, "권한이 없습니다.");
+            // 승인 대기함(scope=approvable)은 의미상 PENDING만 노출(클라이언트 status 파라미터는 무시)
+            CorrectionRequestStatus st = CorrectionRequestStatus.PENDING;
+            boolean admin = approver.getRole() == EmployeeRole.ADMIN;
+
+            if (page != null) {
+                int p = Math.max(page, 1);
+                var pageable = PageRequest.of(p - 1, s, LIST_SORT);
+                var result = admin
+                        ? correctionRequestRepository.findByStatus(st, pageable)
+                        : listApprovableForManager(approver.getSiteId(), userId, st, pageable);
+                return new CorrectionRequestListResponse(toResponses(result.getContent()), p, s, result.getTotalElements(), null);
             }
-            if (approver.getRole() != EmployeeRole.MANAGER && approver.getRole() != EmployeeRole.ADMIN) {
-                throw new BusinessException(ErrorCode.FORBIDDEN, "권한이 없습니다.");
+
+            // ADMIN 대기함은 조회자와 무관(건수 캐시 키 공유), MANAGER는 스코프 인덱스로 빈 대기함을 쿼리 없이 판정
+            boolean empty = !admin && !managerScopeIndex.hasApprovableEmployees(userId);
+            var after = CorrectionRequestCursor.decode(cursor);
+            List<CorrectionRequest> rows;
+            if (empty) {
+                rows = List.of();
+            } else if (admin) {
+                rows = correctionRequestRepository.findKeysetByStatus(st, after.requestedAt(), after.id(), Limit.of(s + 1));
+            } else {
+                // 메이커-체커: 본인 요청은 승인 대기함에 노출하지 않음(쿼리에서 제외)
+                rows = correctionRequestRepository.findKeysetApprovableByManager(userId, st, after.requestedAt(), after.id(), Limit.of(s + 1));
             }
+            Long total = !includeTotal ? null
+                    : empty ? Long.valueOf(0L)
+                    : admin ? correctionRequestCountCache.get(scope, null, st, () -> correctionRequestRepository.countByStatus(st))
+                    : correctionRequestCountCache.get(scope, userId, st, () -> correctionRequestRepository.countApprovableByManager(userId, st));
+            return toKeysetResponse(rows, s, total);
+        }
 
-            // 승인 대기함(scope=approvable)은 의미상 PENDING만 노출(클라이언트 status 파라미터는 무시)
-            CorrectionRequestStatus st = CorrectionRequestStatus.PENDING;
+        throw new BusinessException(ErrorCode.INVALID_REQUEST_PARAM, "지원하지 않는 scope 입니다.");
+    }
 
-            var result = (approver.getRole() == EmployeeRole.ADMIN)
-                    ? correctionRequestRepository.findByStatus(st, pageable)
-                    : listApprovableForManager(approver.getSiteId(), userId, st, pageable);
-
-            List<CorrectionRequestResponse> items = result.getContent().stream()
-                    .map(r -> new CorrectionRequestResponse(
-                            r.getId(),
-                            r.getAttendance().getId(),
-                            r.getStatus(),
-                            r.getType(),
-                            r.getRequestedBy(),
-                            r.getRequestedAt(),
-                            r.getProposedCheckInAt(),
-                            r.getProposedCheckOutAt(),
-                            r.getReason()
-                    ))
-                    .toList();
+    /**
+     * 승인 대기함 변경 구독(SSE)
+     * - 목록(scope=approvable)과 같은 권한/노출 규칙 — MANAGER는 담당 site(구독 시점), ADMIN은 전체
+     * - 클라이언트는 목록을 한 번 조회한 뒤 이벤트로 갱신한다(reset 이벤트면 목록 재조회)
+     */
+    public SseEmitter subscribeApprovable(Long userId, String lastEventId) {
+        var approver = requireInboxApprover(userId);
+        boolean admin = approver.getRole() == EmployeeRole.ADMIN;
+        return correctionInboxStream.subscribe(userId, admin, admin ? new long[0] : managerScopeIndex.siteIdsOf(userId), lastEventId);
+    }
+
+    // 승인 대기함은 권한자만 접근 가능 (MANAGER/ADMIN)
+    private CachedEmployee requireInboxApprover(Long userId) {
+        var approver = employeeCache.findById(userId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.FORBIDDEN, "권한이 없습니다."));
 
-            return new CorrectionRequestListResponse(items, p, s, result.getTotalElements());
+        if (!approver.isActive()) {
+            throw new BusinessException(ErrorCode.FORBIDDEN, "권한이 없습니다.");
+        }
+        if (approver.getRole() != EmployeeRole.MANAGER && approver.getRole() != EmployeeRole.ADMIN) {
+            throw new BusinessException(ErrorCode.FORBIDDEN, "권한이 없습니다.");
         }
+        return approver;
+    }
 
-        throw new BusinessException(ErrorCode.INVALID_REQUEST_PARAM, "지원하지 않는 scope 입니다.");
+    /**
+     * 승인 대기함 이벤트 발행(커밋 후 전달) — 요청자 소속 site 기준으로 fan-out
+     */
+    private void publishInboxEvent(CorrectionInboxStream.EventType type, CorrectionRequest req) {
+        correctionInboxStream.publish(type, toResponse(req), requesterSiteIdOf(req));
+    }
+
+    private Long requesterSiteIdOf(CorrectionRequest req) {
+        return employeeCache.findById(req.getRequestedBy()).map(CachedEmployee::getSiteId).orElse(null);
+    }
+
+    /**
+     * rows는 size + 1건까지 조회된 결과 — 초과분이 있으면 size번째 행 위치를 다음 커서로
+     */
+    private static CorrectionRequestListResponse toKeysetResponse(List<CorrectionRequest> rows, int size, Long total) {
+        boolean hasNext = rows.size() > size;
+        List<CorrectionRequest> pageRows = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            CorrectionRequest last = pageRows.get(pageRows.size() - 1);
+            nextCursor = new CorrectionRequestCursor(last.getRequestedAt(), last.getId()).encode();
+        }
+        return new CorrectionRequestListResponse(toResponses(pageRows), null, size, total, nextCursor);
+    }
+
+    private static List<CorrectionRequestResponse> toResponses(List<CorrectionRequest> rows) {
+        return rows.stream().map(CorrectionRequestService::toResponse).toList();
+    }
+
+    private static CorrectionRequestResponse toResponse(CorrectionRequest r) {
+        return new CorrectionRequestResponse(
+                r.getId(),
+                r.getAttendance().getId(),
+                r.getStatus(),
+                r.getType(),
+                r.getRequestedBy(),
+                r.getRequestedAt(),
+                r.getProposedCheckInAt(),
+                r.getProposedCheckOutAt(),
+                r.getReason()
+        );
     }
 
     /**
@@ -304,10 +421,10 @@ public class CorrectionRequestService {
      */
     private CorrectionRequestDetailResponse toDetailResponse(CorrectionRequest r) {
         var a = r.getAttendance();
-        String requestedByName = employeeRepository.findById(r.getRequestedBy())
+        String requestedByName = employeeCache.findById(r.getRequestedBy())
                 .map(emp -> emp.getUsername())
                 .orElse(null);
-        String workerName = employeeRepository.findById(a.getUserId())
+        String workerName = employeeCache.findById(a.getUserId())
                 .map(emp -> emp.getUsername())
                 .orElse(null);
         List<CorrectionRequestBreakProposalResponse> proposedBreaks = r.getProposedBreaks().stream()
@@ -319,8 +436,8 @@ public class CorrectionRequestService {
         OffsetDateTime originalIn = toKst(a.getCheckInTime());
         OffsetDateTime originalOut = toKst(a.getCheckOutTime());
 
-        // ✅ 현재(Final) 시간: AttendanceService(SSOT)의 Final 합성 규칙을 그대로 사용
-        AttendanceService.FinalSnapshot snap = attendanceService.computeFinalSnapshot(a);
+        // ✅ 현재(Final) 시간: FinalSnapshotService(SSOT)의 Final 합성 규칙을 그대로 사용
+        FinalSnapshot snap = finalSnapshotService.resolve(a);
         OffsetDateTime currentIn = snap.finalCheckInAt();
         OffsetDateTime currentOut = snap.finalCheckOutAt();
 
@@ -371,7 +488,7 @@ public class CorrectionRequestService {
             throw new BusinessException(ErrorCode.FORBIDDEN, "권한이 없습니다.");
         }
 
-        var approver = employeeRepository.findById(approverUserId)
+        var approver = employeeCache.findById(approverUserId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.FORBIDDEN, "권한이 없습니다."));
         if (!approver.isActive()) {
             throw new BusinessException(ErrorCode.FORBIDDEN, "권한이 없습니다.");
@@ -385,7 +502,7 @@ public class CorrectionRequestService {
             throw new BusinessException(ErrorCode.FORBIDDEN, "권한이 없습니다.");
         }
 
-        var requester = employeeRepository.findById(req.getRequestedBy())
+        var requester = employeeCache.findById(req.getRequestedBy())
                 .orElseThrow(() -> new BusinessException(ErrorCode.FORBIDDEN, "권한이 없습니다."));
         if (!requester.isActive()) {
             throw new BusinessException(ErrorCode.FORBIDDEN, "권한이 없습니다.");
@@ -420,6 +537,8 @@ public class CorrectionRequestService {
         // 4) 취소 처리
         var canceledAt = OffsetDateTime.now(KST);
         req.cancel(canceledAt);
+        correctionRequestCountCache.invalidateRequestedBy(req.getRequestedBy());
+        publishInboxEvent(CorrectionInboxStream.EventType.CANCELED, req);
 
         return new CorrectionRequestCancelResponse(
                 req.getId(),
@@ -439,10 +558,7 @@ public class CorrectionRequestService {
             throw new BusinessException(ErrorCode.INVALID_STATUS_TRANSITION, "PENDING 상태만 처리할 수 있습니다.");
         }
 
-        String comment = (body == null || body.comment() == null) ? null : body.comment().trim();
-        var processedAt = OffsetDateTime.now(KST);
-        req.approve(userId, processedAt, (comment == null || comment.isBlank()) ? null : comment);
-        applyApprovedBreakChanges(req);
+        applyApproval(userId, req, normalizeComment(body == null ? null : body.comment()), requesterSiteIdOf(req));
 
         return new CorrectionRequestProcessResponse(
                 req.getId(),
@@ -454,30 +570,115 @@ public class CorrectionRequestService {
         );
     }
 
-    private void applyApprovedBreakChanges(CorrectionRequest req) {
-        if (req == null) return;
-        if (!req.isBreakChangeRequested()) return;
+    /**
+     * 승인 반영(권한/상태 판정 이후 — 단건/일괄 공통)
+     */
+    private void applyApproval(Long userId, CorrectionRequest req, String comment, Long requesterSiteId) {
+        markApproved(userId, req, comment, requesterSiteId);
+        reflectApprovals(List.of(req));
+    }
 
-        Long attendanceId = req.getAttendance().getId();
-        attendanceBreakRepository.deleteByAttendance_Id(attendanceId);
+    /**
+     * 승인 상태 전환 + 건수 캐시/승인 대기함 알림(근태 반영은 reflectApprovals)
+     */
+    private void markApproved(Long userId, CorrectionRequest req, String comment, Long requesterSiteId) {
+        req.approve(userId, OffsetDateTime.now(KST), comment);
+        correctionRequestCountCache.invalidateRequestedBy(req.getRequestedBy());
+        correctionInboxStream.publish(CorrectionInboxStream.EventType.APPROVED, toResponse(req), requesterSiteId);
+    }
 
-        List<CorrectionRequestBreakProposal> proposals = req.getProposedBreaks();
-        if (proposals == null || proposals.isEmpty()) return;
+    /**
+     * 승인된 요청들의 근태 반영(같은 트랜잭션) — 단건은 1건, 일괄은 chunk 단위로 모아서
+     * - 휴게 변경: 대상 근태의 기존 휴게를 IN 1번으로 조회
+     * - Final 조회 모델: 근태 목록 단위 재계산 1회
+     */
+    private void reflectApprovals(List<CorrectionRequest> approved) {
+        if (approved.isEmpty()) return;
+        applyApprovedBreakChanges(approved);
+        List<Attendance> attendances = approved.stream().map(CorrectionRequest::getAttendance).toList();
+        attendanceFinalProjector.refreshAll(attendances);
+        // 당일 근태면 요청자 기기의 today 상태도 갱신(리스너가 커밋 후 push)
+        attendances.stream().distinct()
+                .forEach(a -> eventPublisher.publishEvent(new AttendanceCorrectedEvent(a)));
+    }
 
-        List<AttendanceBreak> next = proposals.stream()
-                .sorted(Comparator.comparing(CorrectionRequestBreakProposal::getSortOrder))
-                .map(p -> {
-                    AttendanceBreak b = AttendanceBreak.start(
-                            req.getAttendance(),
-                            toKstLocalDateTime(p.getProposedBreakStartAt())
-                    );
-                    b.end(toKstLocalDateTime(p.getProposedBreakEndAt()));
-                    return b;
-                })
-                .toList();
-        attendanceBreakRepository.saveAll(next);
+    /**
+     * 반려 반영(권한/상태/사유 판정 이후 — 단건/일괄 공통)
+     */
+    private void applyRejection(Long userId, CorrectionRequest req, String reason, Long requesterSiteId) {
+        req.reject(userId, OffsetDateTime.now(KST), reason);
+        correctionRequestCountCache.invalidateRequestedBy(req.getRequestedBy());
+        correctionInboxStream.publish(CorrectionInboxStream.EventType.REJECTED, toResponse(req), requesterSiteId);
     }
 
+    /**
+     * 승인된 휴게 변경 반영 — 기존 휴게와 제안 구간을 비교해 달라진 행만 쓴다(전체 delete/insert 금지)
+     * - 시작/종료가 같은 구간은 그대로 둔다
+     * - 나머지 기존 행은 남은 제안 구간으로 시간만 변경(update), 그래도 남으면 삭제, 모자라면 추가
+     * - update/delete/insert는 flush 시 JDBC batch로 나간다(hibernate.jdbc.batch_size)
+     * - 여러 요청(일괄 chunk)은 기존 휴게를 IN 1번으로 조회하고 삭제/추가도 모아서 한 번에 요청한다
+     */
+    private void applyApprovedBreakChanges(List<CorrectionRequest> approved) {
+        List<CorrectionRequest> targets = approved.stream().filter(CorrectionRequest::isBreakChangeRequested).toList();
+        if (targets.isEmpty()) return;
+
+        // 근태별 현재 휴게(시작 시각 순) — 같은 근태의 요청이 여러 건이면 앞선 반영 결과 위에 이어서 비교
+        Map<Long, List<AttendanceBreak>> current = attendanceBreakRepository.findAllByAttendance_IdIn(
+                        targets.stream().map(r -> r.getAttendance().getId()).distinct().toList())
+                .stream()
+                .sorted(Comparator.comparing(AttendanceBreak::getBreakStartTime))
+                .collect(Collectors.groupingBy(b -> b.getAttendance().getId(), HashMap::new, Collectors.toList()));
+
+        List<AttendanceBreak> deleted = new ArrayList<>();
+        List<AttendanceBreak> added = new ArrayList<>();
+        for (CorrectionRequest req : targets) {
+            Long attendanceId = req.getAttendance().getId();
+            List<AttendanceBreak> existing = current.getOrDefault(attendanceId, List.of());
+
+            List<CorrectionRequestBreakProposal> proposals = req.getProposedBreaks();
+            List<BreakSlot> remaining = (proposals == null) ? new ArrayList<>() : proposals.stream()
+                    .sorted(Comparator.comparing(CorrectionRequestBreakProposal::getSortOrder))
+                    .map(p -> new BreakSlot(
+                            toKstLocalDateTime(p.getProposedBreakStartAt()),
+                            toKstLocalDateTime(p.getProposedBreakEndAt())
+                    ))
+                    .collect(Collectors.toCollection(ArrayList::new));
+
+            List<AttendanceBreak> kept = new ArrayList<>();
+            List<AttendanceBreak> unmatched = new ArrayList<>();
+            for (AttendanceBreak b : existing) {
+                if (remaining.remove(new BreakSlot(b.getBreakStartTime(), b.getBreakEndTime()))) {
+                    kept.add(b);
+                } else {
+                    unmatched.add(b);
+                }
+            }
+
+            int reused = Math.min(unmatched.size(), remaining.size());
+            for (int i = 0; i < reused; i++) {
+                BreakSlot slot = remaining.get(i);
+                unmatched.get(i).changeInterval(slot.start(), slot.end());
+                kept.add(unmatched.get(i));
+            }
+            if (unmatched.size() > reused) {
+                deleted.addAll(unmatched.subList(reused, unmatched.size()));
+            }
+            for (BreakSlot slot : remaining.subList(reused, remaining.size())) {
+                AttendanceBreak b = AttendanceBreak.start(req.getAttendance(), slot.start());
+                b.end(slot.end());
+                added.add(b);
+                kept.add(b);
+            }
+            kept.sort(Comparator.comparing(AttendanceBreak::getBreakStartTime));
+            current.put(attendanceId, kept);
+        }
+
+        if (!deleted.isEmpty()) attendanceBreakRepository.deleteAll(deleted);
+        if (!added.isEmpty()) attendanceBreakRepository.saveAll(added);
+    }
+
+    private record BreakSlot(LocalDateTime start, LocalDateTime end) {}
+
     @Transactional
     public CorrectionRequestProcessResponse reject(Long userId, Long requestId, CorrectionRequestRejectRequest body) {
         var req = correctionRequestRepository.findById(requestId)
@@ -489,13 +690,7 @@ public class CorrectionRequestService {
             throw new BusinessException(ErrorCode.INVALID_STATUS_TRANSITION, "PENDING 상태만 처리할 수 있습니다.");
         }
 
-        String reason = (body == null || body.reason() == null) ? "" : body.reason().trim();
-        if (reason.isEmpty()) {
-            throw new BusinessException(ErrorCode.INVALID_REQUEST_PAYLOAD, "반려 사유(reason)는 필수입니다.");
-        }
-
-        var processedAt = OffsetDateTime.now(KST);
-        req.reject(userId, processedAt, reason);
+        applyRejection(userId, req, requireRejectReason(body == null ? null : body.reason()), requesterSiteIdOf(req));
 
         return new CorrectionRequestProcessResponse(
                 req.getId(),
@@ -507,30 +702,160 @@ public class CorrectionRequestService {
         );
     }
 
+    // =============================================================
+    // 일괄 승인/반려
+    // =============================================================
+
+    private enum BulkAction { APPROVE, REJECT }
+
+    /**
+     * 처리자 스코프(요청당 1회 해석)
+     * - siteIds는 ManagerScopeIndex의 정렬된 배열 사본
+     */
+    private record ApproverScope(boolean admin, long[] siteIds) {
+        boolean covers(Long siteId) {
+            return admin || (siteId != null && Arrays.binarySearch(siteIds, siteId) >= 0);
+        }
+    }
+
+    public CorrectionRequestBulkProcessResponse bulkApprove(Long userId, CorrectionRequestBulkProcessRequest body) {
+        return bulkProcess(userId, body, BulkAction.APPROVE);
+    }
+
+    public CorrectionRequestBulkProcessResponse bulkReject(Long userId, CorrectionRequestBulkProcessRequest body) {
+        return bulkProcess(userId, body, BulkAction.REJECT);
+    }
+
+    /**
+     * 일괄 승인/반려
+     * - 처리자 확인 + MANAGER 담당 site 해석은 1회, 항목별 권한은 해석된 스코프로 메모리에서 판정(단건과 같은 규칙)
+     * - chunk-size건씩 별도 트랜잭션: 요청 + 근태 + 요청자를 IN 1번으로 조회 → 판정 → 반영
+     * - 항목 실패(없음/권한/상태/사유 누락/중복)는 결과에 코드로 남기고 나머지는 계속 처리
+     * - chunk가 반영 중 오류로 롤백되면 그 chunk만 1건씩 다시 처리(이미 커밋된 chunk는 유지)
+     */
+    private CorrectionRequestBulkProcessResponse bulkProcess(Long userId, CorrectionRequestBulkProcessRequest body, BulkAction action) {
+        List<CorrectionRequestBulkProcessRequest.Item> items = (body == null) ? null : body.items();
+        if (items == null || items.isEmpty()) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST_PAYLOAD, "items는 필수입니다.");
+        }
+        if (items.size() > bulkMaxItems) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST_PAYLOAD, "items는 최대 " + bulkMaxItems + "건까지 처리할 수 있습니다.");
+        }
+        if (items.stream().anyMatch(i -> i == null || i.requestId() == null)) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST_PAYLOAD, "requestId는 필수입니다.");
+        }
+
+        var approver = requireInboxApprover(userId);
+        var scope = (approver.getRole() == EmployeeRole.ADMIN)
+                ? new ApproverScope(true, new long[0])
+                : new ApproverScope(false, managerScopeIndex.siteIdsOf(userId));
+
+        var results = new CorrectionRequestBulkProcessResponse.Item[items.size()];
+        List<Integer> targets = new ArrayList<>();
+        Set<Long> seen = new HashSet<>();
+        for (int i = 0; i < items.size(); i++) {
+            Long requestId = items.get(i).requestId();
+            if (seen.add(requestId)) {
+                targets.add(i);
+            } else {
+                results[i] = CorrectionRequestBulkProcessResponse.Item.fail(
+                        requestId, ErrorCode.INVALID_REQUEST_PAYLOAD.name(), "중복된 requestId입니다.");
+            }
+        }
+
+        for (int from = 0; from < targets.size(); from += bulkChunkSize) {
+            List<Integer> chunk = targets.subList(from, Math.min(from + bulkChunkSize, targets.size()));
+            try {
+                bulkTx.executeWithoutResult(tx -> processBulkChunk(userId, scope, action, body, chunk, results));
+            } catch (RuntimeException e) {
+                log.warn("bulk {} chunk rolled back, retrying per item: userId={}, size={}", action, userId, chunk.size(), e);
+                for (Integer i : chunk) {
+                    try {
+                        bulkTx.executeWithoutResult(tx -> processBulkChunk(userId, scope, action, body, List.of(i), results));
+                    } catch (RuntimeException ex) {
+                        results[i] = (ex instanceof BusinessException be)
+                                ? CorrectionRequestBulkProcessResponse.Item.fail(items.get(i).requestId(), be.getCode(), be.getMessage())
+                                : CorrectionRequestBulkProcessResponse.Item.fail(
+                                        items.get(i).requestId(), ErrorCode.INTERNAL_ERROR.name(), "처리 중 오류가 발생했습니다.");
+                    }
+                }
+            }
+        }
+
+        int succeeded = (int) Arrays.stream(results).filter(CorrectionRequestBulkProcessResponse.Item::success).count();
+        return new CorrectionRequestBulkProcessResponse(items.size(), succeeded, items.size() - succeeded, List.of(results));
+    }
+
+    /**
+     * chunk 1개 처리(트랜잭션 안)
+     * - 판정 실패는 반영 전에 결과로 기록(엔티티 변경 없음), 반영 중 예외는 그대로 던져 chunk를 롤백
+     */
+    private void processBulkChunk(
+            Long userId,
+            ApproverScope scope,
+            BulkAction action,
+            CorrectionRequestBulkProcessRequest body,
+            List<Integer> chunk,
+            CorrectionRequestBulkProcessResponse.Item[] results
+    ) {
+        var items = body.items();
+        Map<Long, Object[]> rows = new HashMap<>();
+        for (Object[] row : correctionRequestRepository.findAllWithRequesterByIdIn(
+                chunk.stream().map(i -> items.get(i).requestId()).toList())) {
+            rows.put(((CorrectionRequest) row[0]).getId(), row);
+        }
+
+        List<CorrectionRequest> approved = new ArrayList<>();
+        for (int i : chunk) {
+            var item = items.get(i);
+            Object[] row = rows.get(item.requestId());
+            CorrectionRequest req;
+            Employee requester;
+            String text;
+            try {
+                if (row == null) {
+                    throw new BusinessException(ErrorCode.CORRECTION_REQUEST_NOT_FOUND, "정정 요청을 찾을 수 없습니다.");
+                }
+                req = (CorrectionRequest) row[0];
+                requester = (Employee) row[1];
+                authorizeApprover(userId, scope, req, requester);
+                if (req.getStatus() != CorrectionRequestStatus.PENDING) {
+                    throw new BusinessException(ErrorCode.INVALID_STATUS_TRANSITION, "PENDING 상태만 처리할 수 있습니다.");
+                }
+                text = (action == BulkAction.APPROVE)
+                        ? normalizeComment(item.comment() != null ? item.comment() : body.comment())
+                        : requireRejectReason(item.reason() != null ? item.reason() : body.reason());
+            } catch (BusinessException e) {
+                results[i] = CorrectionRequestBulkProcessResponse.Item.fail(item.requestId(), e.getCode(), e.getMessage());
+                continue;
+            }
+
+            Long requesterSiteId = (requester == null) ? null : requester.getSiteId();
+            if (action == BulkAction.APPROVE) {
+                markApproved(userId, req, text, requesterSiteId);
+                approved.add(req);
+            } else {
+                applyRejection(userId, req, text, requesterSiteId);
+            }
+            results[i] = CorrectionRequestBulkProcessResponse.Item.ok(req.getId(), req.getStatus());
+        }
+        // 휴게 변경/Final 재계산은 chunk 단위로 한 번에(여기서 실패하면 chunk 전체 롤백 → 1건씩 재시도)
+        reflectApprovals(approved);
+    }
+
     private org.springframework.data.domain.Page<CorrectionRequest> listApprovableForManager(
             Long siteId, // 기존 시그니처 유지(최소 diff) — 내부에서 담당 siteIds로 확장
             Long approverUserId,
             CorrectionRequestStatus status,
             org.springframework.data.domain.Pageable pageable
     ) {
-        // ✅ 변경: manager_site_assignments의 담당 siteIds 전체를 기준으로 approvable 구성
-        var siteIds = managerSiteAssignmentRepository.findSiteIdsByManagerUserId(approverUserId);
-        if (siteIds == null || siteIds.isEmpty()) {
+        // ✅ 변경: 스코프 인덱스로 빈 대기함을 쿼리 없이 판정하고, 목록은 담당 site 조인 1회로 조회
+        // (site 수만큼 직원 조회 + 대형 IN 목록 구성 제거)
+        if (!managerScopeIndex.hasApprovableEmployees(approverUserId)) {
             return org.springframework.data.domain.Page.empty(pageable);
         }
-
-        var userIds = new java.util.ArrayList<Long>();
-        for (Long sid : siteIds) {
-            var ids = employeeRepository.findActiveUserIdsBySiteId(sid);
-            if (ids != null && !ids.isEmpty()) userIds.addAll(ids);
-        }
-        // 메이커-체커: 본인 요청은 승인 대기함에 노출하지 않음
-        userIds.removeIf(id -> id.equals(approverUserId));
-
-        if (userIds.isEmpty()) return org.springframework.data.domain.Page.empty(pageable);
-        // 중복 제거
-        var distinct = userIds.stream().distinct().toList();
-        return correctionRequestRepository.findByRequestedByInAndStatus(distinct, status, pageable);
+        // 메이커-체커: 본인 요청은 승인 대기함에 노출하지 않음(쿼리에서 제외)
+        return correctionRequestRepository.findApprovableByManager(approverUserId, status, pageable);
     }
 
     /**
@@ -545,7 +870,7 @@ public class CorrectionRequestService {
             throw new BusinessException(ErrorCode.FORBIDDEN, "작성자는 자신의 요청을 승인/반려할 수 없습니다.");
         }
 
-        var approver = employeeRepository.findById(approverUserId)
+        var approver = employeeCache.findById(approverUserId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.FORBIDDEN, "권한이 없습니다."));
         if (!approver.isActive()) {
             throw new BusinessException(ErrorCode.FORBIDDEN, "권한이 없습니다.");
@@ -560,17 +885,47 @@ public class CorrectionRequestService {
         }
 
         // 요청자의 site와 승인자의 site가 동일해야 함
-        var requester = employeeRepository.findById(req.getRequestedBy())
+        var requester = employeeCache.findById(req.getRequestedBy())
                 .orElseThrow(() -> new BusinessException(ErrorCode.FORBIDDEN, "권한 판정에 필요한 직원 정보가 없습니다."));
         if (!requester.isActive()) {
             throw new BusinessException(ErrorCode.FORBIDDEN, "권한이 없습니다.");
         }
         // ✅ 변경: manager_site_assignments 기준
-        boolean assigned = managerSiteAssignmentRepository
-                .existsByManagerUserIdAndSiteId(approverUserId, requester.getSiteId());
+        boolean assigned = managerScopeIndex.managesSite(approverUserId, requester.getSiteId());
         if (!assigned) throw new BusinessException(ErrorCode.FORBIDDEN, "권한이 없습니다.");
     }
 
+    /**
+     * 일괄 처리용 승인/반려 권한 판정 — authorizeApprover와 같은 규칙을 해석된 스코프 + 함께 조회한 요청자로 판정
+     */
+    private static void authorizeApprover(Long approverUserId, ApproverScope scope, CorrectionRequest req, Employee requester) {
+        if (req.getRequestedBy().equals(approverUserId)) {
+            throw new BusinessException(ErrorCode.FORBIDDEN, "작성자는 자신의 요청을 승인/반려할 수 없습니다.");
+        }
+        if (scope.admin()) {
+            return;
+        }
+        if (requester == null) {
+            throw new BusinessException(ErrorCode.FORBIDDEN, "권한 판정에 필요한 직원 정보가 없습니다.");
+        }
+        if (!requester.isActive() || !scope.covers(requester.getSiteId())) {
+            throw new BusinessException(ErrorCode.FORBIDDEN, "권한이 없습니다.");
+        }
+    }
+
+    private static String normalizeComment(String raw) {
+        String comment = (raw == null) ? null : raw.trim();
+        return (comment == null || comment.isBlank()) ? null : comment;
+    }
+
+    private static String requireRejectReason(String raw) {
+        String reason = (raw == null) ? "" : raw.trim();
+        if (reason.isEmpty()) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST_PAYLOAD, "반려 사유(reason)는 필수입니다.");
+        }
+        return reason;
+    }
+
     private static CorrectionRequestType resolveType(CorrectionRequestCreateRequest req) {
         if (req.type() != null) return req.type();
 
@@ -605,7 +960,10 @@ public class CorrectionRequestService {
         return out;
     }
 
-    private void validateBreakIntervals(
+    /**
+     * 휴게 구간 검증(출근~퇴근 구간 내, 서로 겹침 없음) — 벤치마크(jmh)에서도 직접 호출
+     */
+    static void validateBreakIntervals(
             OffsetDateTime finalIn,
             OffsetDateTime finalOut,
             List<BreakInterval> breaks
@@ -641,7 +999,7 @@ public class CorrectionRequestService {
         }
     }
 
-    private record BreakInterval(
+    record BreakInterval(
             OffsetDateTime startAt,
             OffsetDateTime endAt
     ) {}
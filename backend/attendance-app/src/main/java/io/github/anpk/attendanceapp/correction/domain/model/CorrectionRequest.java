@@ -2,6 +2,7 @@ package io.github.anpk.attendanceapp.correction.domain.model;
 
 import io.github.anpk.attendanceapp.attendance.domain.model.Attendance;
 import jakarta.persistence.*;
+import org.hibernate.annotations.BatchSize;
 
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
@@ -15,7 +16,8 @@ import java.util.List;
 public class CorrectionRequest {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "correction_requests_seq")
+    @SequenceGenerator(name = "correction_requests_seq", sequenceName = "correction_requests_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
@@ -47,6 +49,8 @@ public class CorrectionRequest {
 
     @OneToMany(mappedBy = "correctionRequest", cascade = CascadeType.ALL, orphanRemoval = true)
     @OrderBy("sortOrder ASC")
+    // 일괄 승인 chunk에서 요청별 제안 휴게를 IN으로 묶어 초기화(요청마다 1번씩 조회하지 않도록)
+    @BatchSize(size = 50)
     private List<CorrectionRequestBreakProposal> proposedBreaks = new ArrayList<>();
 
     @Column(name = "canceled_at")
@@ -9,7 +9,8 @@ import java.time.OffsetDateTime;
 public class CorrectionRequestBreakProposal {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "correction_request_break_proposals_seq")
+    @SequenceGenerator(name = "correction_request_break_proposals_seq", sequenceName = "correction_request_break_proposals_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
@@ -2,10 +2,15 @@ package io.github.anpk.attendanceapp.correction.infrastructure.repository;
 
 import io.github.anpk.attendanceapp.correction.domain.model.CorrectionRequest;
 import io.github.anpk.attendanceapp.correction.domain.model.CorrectionRequestStatus;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
 import java.util.Collection;
 import java.util.Optional;
 import java.util.List;
@@ -20,6 +25,63 @@ public interface CorrectionRequestRepository extends JpaRepository<CorrectionReq
      */
     Optional<CorrectionRequest> findFirstByAttendance_IdAndStatusOrderByProcessedAtDesc(Long attendanceId, CorrectionRequestStatus status);
 
+    /**
+     * Final 합성 일괄 조회용(IN 1번)
+     * - attendanceId 별로 status 중 processedAt 최신 건만 반환
+     * - processedAt 동률이면 여러 건이 올 수 있으므로 호출 측에서 id 기준으로 정리
+     */
+    @Query("""
+            select cr from CorrectionRequest cr
+            where cr.attendance.id in :attendanceIds
+              and cr.status = :status
+              and cr.processedAt = (
+                  select max(cr2.processedAt) from CorrectionRequest cr2
+                  where cr2.attendance.id = cr.attendance.id
+                    and cr2.status = :status
+              )
+            """)
+    List<CorrectionRequest> findLatestByAttendanceIdsAndStatus(
+            @Param("attendanceIds") Collection<Long> attendanceIds,
+            @Param("status") CorrectionRequestStatus status
+    );
+
+    /**
+     * site 리포트(set 기반)용 Final 합성 조회
+     * - site + 기간 범위의 attendance 별 status 최신(processedAt) 정정만 반환 (attendanceId IN 목록 미사용)
+     */
+    @Query("""
+            select cr from CorrectionRequest cr join cr.attendance a, Employee e
+            where e.userId = a.userId
+              and e.siteId = :siteId
+              and (:userId is null or a.userId = :userId)
+              and a.workDate between :from and :to
+              and cr.status = :status
+              and cr.processedAt = (
+                  select max(cr2.processedAt) from CorrectionRequest cr2
+                  where cr2.attendance.id = cr.attendance.id
+                    and cr2.status = :status
+              )
+            """)
+    List<CorrectionRequest> findLatestBySiteIdAndWorkDateBetweenAndStatus(
+            @Param("siteId") Long siteId,
+            @Param("userId") Long userId,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to,
+            @Param("status") CorrectionRequestStatus status
+    );
+
+    /**
+     * 일괄 승인/반려용(IN 1번) — 요청 + 근태 + 요청자 직원을 함께 조회
+     * - 결과 행: [CorrectionRequest, Employee] (요청자 직원이 없으면 Employee는 null)
+     */
+    @Query("""
+            select cr, e from CorrectionRequest cr
+            join fetch cr.attendance
+            left join Employee e on e.userId = cr.requestedBy
+            where cr.id in :ids
+            """)
+    List<Object[]> findAllWithRequesterByIdIn(@Param("ids") Collection<Long> ids);
+
     boolean existsByAttendance_IdAndStatus(Long attendanceId, CorrectionRequestStatus status);
 
     Page<CorrectionRequest> findByRequestedBy(Long requestedBy, Pageable pageable);
@@ -30,6 +92,141 @@ public interface CorrectionRequestRepository extends JpaRepository<CorrectionReq
 
     Page<CorrectionRequest> findByRequestedByInAndStatus(List<Long> requestedBy, CorrectionRequestStatus status, Pageable pageable);
 
+    /**
+     * MANAGER 승인 대기함(단일 쿼리)
+     * - 담당 site(manager_site_assignments)의 활성 직원이 작성한 요청만 반환
+     * - 메이커-체커: 매니저 본인 요청 제외
+     * - 담당 site 할당은 (manager, site) unique 이므로 exists로 판정(행 중복 없음)
+     */
+    @Query(value = """
+            select cr from CorrectionRequest cr, Employee e
+            where e.userId = cr.requestedBy
+              and e.active = true
+              and cr.status = :status
+              and cr.requestedBy <> :managerUserId
+              and exists (
+                  select 1 from ManagerSiteAssignment m
+                  where m.managerUserId = :managerUserId
+                    and m.siteId = e.siteId
+              )
+            """,
+            countQuery = """
+            select count(cr) from CorrectionRequest cr, Employee e
+            where e.userId = cr.requestedBy
+              and e.active = true
+              and cr.status = :status
+              and cr.requestedBy <> :managerUserId
+              and exists (
+                  select 1 from ManagerSiteAssignment m
+                  where m.managerUserId = :managerUserId
+                    and m.siteId = e.siteId
+              )
+            """)
+    Page<CorrectionRequest> findApprovableByManager(
+            @Param("managerUserId") Long managerUserId,
+            @Param("status") CorrectionRequestStatus status,
+            Pageable pageable
+    );
+
+    /*
+     * keyset 목록(정렬: requestedAt desc, id desc)
+     * - 커서 (afterAt, afterId) 이후 행만 조회 — OFFSET/count 없이 페이지 깊이와 무관한 비용
+     * - requestedAt <= :afterAt 를 먼저 두어 (…, requested_at) 인덱스 범위 조회가 되게 한다
+     * - limit는 size + 1(다음 페이지 존재 판정)
+     */
+
+    @Query("""
+            select cr from CorrectionRequest cr
+            where cr.requestedBy = :requestedBy
+              and cr.requestedAt <= :afterAt
+              and (cr.requestedAt < :afterAt or cr.id < :afterId)
+            order by cr.requestedAt desc, cr.id desc
+            """)
+    List<CorrectionRequest> findKeysetByRequestedBy(
+            @Param("requestedBy") Long requestedBy,
+            @Param("afterAt") OffsetDateTime afterAt,
+            @Param("afterId") Long afterId,
+            Limit limit
+    );
+
+    @Query("""
+            select cr from CorrectionRequest cr
+            where cr.requestedBy = :requestedBy
+              and cr.status = :status
+              and cr.requestedAt <= :afterAt
+              and (cr.requestedAt < :afterAt or cr.id < :afterId)
+            order by cr.requestedAt desc, cr.id desc
+            """)
+    List<CorrectionRequest> findKeysetByRequestedByAndStatus(
+            @Param("requestedBy") Long requestedBy,
+            @Param("status") CorrectionRequestStatus status,
+            @Param("afterAt") OffsetDateTime afterAt,
+            @Param("afterId") Long afterId,
+            Limit limit
+    );
+
+    @Query("""
+            select cr from CorrectionRequest cr
+            where cr.status = :status
+              and cr.requestedAt <= :afterAt
+              and (cr.requestedAt < :afterAt or cr.id < :afterId)
+            order by cr.requestedAt desc, cr.id desc
+            """)
+    List<CorrectionRequest> findKeysetByStatus(
+            @Param("status") CorrectionRequestStatus status,
+            @Param("afterAt") OffsetDateTime afterAt,
+            @Param("afterId") Long afterId,
+            Limit limit
+    );
+
+    // 조건은 findApprovableByManager와 동일
+    @Query("""
+            select cr from CorrectionRequest cr, Employee e
+            where e.userId = cr.requestedBy
+              and e.active = true
+              and cr.status = :status
+              and cr.requestedBy <> :managerUserId
+              and exists (
+                  select 1 from ManagerSiteAssignment m
+                  where m.managerUserId = :managerUserId
+                    and m.siteId = e.siteId
+              )
+              and cr.requestedAt <= :afterAt
+              and (cr.requestedAt < :afterAt or cr.id < :afterId)
+            order by cr.requestedAt desc, cr.id desc
+            """)
+    List<CorrectionRequest> findKeysetApprovableByManager(
+            @Param("managerUserId") Long managerUserId,
+            @Param("status") CorrectionRequestStatus status,
+            @Param("afterAt") OffsetDateTime afterAt,
+            @Param("afterId") Long afterId,
+            Limit limit
+    );
+
+    // keyset 목록 전체 건수(includeTotal=true일 때만, CorrectionRequestCountCache 경유)
+    long countByRequestedBy(Long requestedBy);
+
+    long countByRequestedByAndStatus(Long requestedBy, CorrectionRequestStatus status);
+
+    long countByStatus(CorrectionRequestStatus status);
+
+    @Query("""
+            select count(cr) from CorrectionRequest cr, Employee e
+            where e.userId = cr.requestedBy
+              and e.active = true
+              and cr.status = :status
+              and cr.requestedBy <> :managerUserId
+              and exists (
+                  select 1 from ManagerSiteAssignment m
+                  where m.managerUserId = :managerUserId
+                    and m.siteId = e.siteId
+              )
+            """)
+    long countApprovableByManager(
+            @Param("managerUserId") Long managerUserId,
+            @Param("status") CorrectionRequestStatus status
+    );
+
     // 월별 목록에서 "내 PENDING 정정 요청 존재" 합성용(IN 1번)
     List<CorrectionRequest> findByRequestedByAndStatusAndAttendance_IdIn(Long requestedBy, CorrectionRequestStatus status, Collection<Long> attendanceId);
 }
\ No newline at end of file
@@ -4,8 +4,10 @@ import io.github.anpk.attendanceapp.auth.CurrentUserId;
 import io.github.anpk.attendanceapp.correction.application.service.CorrectionRequestService;
 import io.github.anpk.attendanceapp.correction.interfaces.dto.*;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -34,17 +36,63 @@ public class CorrectionRequestController {
         return ResponseEntity.status(HttpStatus.CREATED).body(body);
     }
 
+    /**
+     * 정정 요청 목록
+     * - page 지정: OFFSET 페이지(하위 호환)
+     * - page 미지정: keyset 페이지 — cursor(이전 응답 nextCursor), includeTotal=true면 totalElements(캐시) 포함
+     */
     @GetMapping("/correction-requests")
     public CorrectionRequestListResponse list(
             @CurrentUserId Long userId,
             @RequestParam String scope,
             @RequestParam(required = false) String status,
             @RequestParam(required = false) Integer page,
-            @RequestParam(required = false) Integer size
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "false") boolean includeTotal
+    ) {
+        return correctionRequestService.list(userId, scope, status, page, size, cursor, includeTotal);
+    }
+
+    /**
+     * 승인 대기함 변경 스트림(SSE)
+     * - GET /api/correction-requests/approvable/stream (text/event-stream)
+     * - event: created / canceled / approved / rejected (data = CorrectionInboxEvent), reset(목록 재조회 필요)
+     * - 재연결 시 Last-Event-ID 이후 이벤트부터 이어서 전달
+     */
+    @GetMapping(value = "/correction-requests/approvable/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamApprovable(
+            @CurrentUserId Long userId,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId
     ) {
-        return correctionRequestService.list(userId, scope, status, page, size);
+        return correctionRequestService.subscribeApprovable(userId, lastEventId);
     }
 
+    /**
+     * 정정 요청 일괄 승인
+     * - POST /api/correction-requests/bulk-approve
+     * - 항목별 권한/상태 규칙은 단건 승인과 동일, 결과는 항목별(성공/실패 코드)로 반환
+     */
+    @PostMapping("/correction-requests/bulk-approve")
+    public CorrectionRequestBulkProcessResponse bulkApprove(
+            @CurrentUserId Long userId,
+            @RequestBody CorrectionRequestBulkProcessRequest body
+    ) {
+        return correctionRequestService.bulkApprove(userId, body);
+    }
+
+    /**
+     * 정정 요청 일괄 반려
+     * - POST /api/correction-requests/bulk-reject
+     * - 항목 reason 또는 공통 reason 필수
+     */
+    @PostMapping("/correction-requests/bulk-reject")
+    public CorrectionRequestBulkProcessResponse bulkReject(
+            @CurrentUserId Long userId,
+            @RequestBody CorrectionRequestBulkProcessRequest body
+    ) {
+        return correctionRequestService.bulkReject(userId, body);
+    }
 
     /**
      * 정정 요청 상세 조회
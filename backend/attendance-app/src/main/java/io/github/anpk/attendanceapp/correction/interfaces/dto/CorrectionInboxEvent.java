@@ -0,0 +1,11 @@
+package io.github.anpk.attendanceapp.correction.interfaces.dto;
+
+/**
+ * 승인 대기함 SSE 이벤트 본문(data)
+ * - type: created / canceled / approved / rejected (SSE event 이름과 동일)
+ * - request: 변경 직후 요청 요약(created면 목록에 그대로 추가, 그 외에는 requestId로 목록에서 제거)
+ */
+public record CorrectionInboxEvent(
+        String type,
+        CorrectionRequestResponse request
+) {}
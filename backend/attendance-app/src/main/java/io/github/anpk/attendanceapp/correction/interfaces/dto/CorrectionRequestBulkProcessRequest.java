@@ -0,0 +1,20 @@
+package io.github.anpk.attendanceapp.correction.interfaces.dto;
+
+import java.util.List;
+
+/**
+ * 일괄 승인/반려 요청 바디
+ * - items 필수(최대 app.correction-bulk.max-items건)
+ * - comment(승인) / reason(반려): 공통 값 — 항목에 값이 있으면 항목 값 우선
+ */
+public record CorrectionRequestBulkProcessRequest(
+        List<Item> items,
+        String comment,
+        String reason
+) {
+    public record Item(
+            Long requestId,
+            String comment,
+            String reason
+    ) {}
+}
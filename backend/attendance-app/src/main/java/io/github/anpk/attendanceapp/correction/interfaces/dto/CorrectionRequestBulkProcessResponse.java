@@ -0,0 +1,33 @@
+package io.github.anpk.attendanceapp.correction.interfaces.dto;
+
+import io.github.anpk.attendanceapp.correction.domain.model.CorrectionRequestStatus;
+
+import java.util.List;
+
+/**
+ * 일괄 승인/반려 응답
+ * - results는 요청 items 순서와 동일
+ * - 실패 항목: success=false + errorCode(단건 API와 같은 코드), message
+ */
+public record CorrectionRequestBulkProcessResponse(
+        int requested,
+        int succeeded,
+        int failed,
+        List<Item> results
+) {
+    public record Item(
+            Long requestId,
+            boolean success,
+            CorrectionRequestStatus status,
+            String errorCode,
+            String message
+    ) {
+        public static Item ok(Long requestId, CorrectionRequestStatus status) {
+            return new Item(requestId, true, status, null, null);
+        }
+
+        public static Item fail(Long requestId, String errorCode, String message) {
+            return new Item(requestId, false, null, errorCode, message);
+        }
+    }
+}
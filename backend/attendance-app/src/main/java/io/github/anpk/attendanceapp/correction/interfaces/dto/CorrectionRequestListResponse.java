@@ -2,9 +2,16 @@ package io.github.anpk.attendanceapp.correction.interfaces.dto;
 
 import java.util.List;
 
+/**
+ * 정정 요청 목록 응답
+ * - page 모드(page 지정): page/totalElements 채움, nextCursor = null
+ * - cursor 모드(page 미지정): page = null, nextCursor = 다음 페이지 토큰(마지막 페이지면 null),
+ *   totalElements는 includeTotal=true일 때만(캐시된 근사치)
+ */
 public record CorrectionRequestListResponse(
         List<CorrectionRequestResponse> items,
-        int page,
+        Integer page,
         int size,
-        long totalElements
-) {}
\ No newline at end of file
+        Long totalElements,
+        String nextCursor
+) {}
@@ -1,33 +1,228 @@
 package io.github.anpk.attendanceapp.dev;
 
-import org.springframework.core.io.Resource;
-import org.springframework.core.io.UrlResource;
+import io.github.anpk.attendanceapp.attendance.application.service.PhotoDerivativeService;
+import io.github.anpk.attendanceapp.attendance.application.service.PhotoFile;
+import io.github.anpk.attendanceapp.attendance.application.service.PhotoFormat;
+import io.github.anpk.attendanceapp.attendance.application.service.PhotoIngestService;
+import io.github.anpk.attendanceapp.attendance.application.service.PhotoVariant;
+import io.github.anpk.attendanceapp.error.BusinessException;
+import io.github.anpk.attendanceapp.error.ErrorCode;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
 import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
-import java.net.MalformedURLException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * 근태 사진 제공
+ * - Content-Type: 파일 앞부분 magic byte로 판정(파생본은 항상 JPEG)
+ * - 캐시: 내용 해시(blob key) 기반 strong ETag + Last-Modified, 조건부 요청은 304
+ *   - 내용 주소 파일(blob/파생본)은 바뀌지 않으므로 1년 immutable, 이관 전 flat 파일은 짧게
+ * - Range: 단일 범위는 206, 다중 범위는 전체(200), 범위 오류는 416
+ * - 본문: Tomcat sendfile 지원 시 커넥터에 위임(zero-copy)
+ *   - 그 외(작은 파일/미지원 커넥터)는 고정 크기 버퍼로 나눠 복사 — 파일 전체를 heap에 올리지 않음(zero-copy 아님)
+ */
 @RestController
 @RequestMapping("/api/images")
 public class ImageController {
 
+    private static final String ORIGINAL = "original";
+
+    private static final CacheControl IMMUTABLE = CacheControl.maxAge(365, TimeUnit.DAYS).cachePrivate().immutable();
+    private static final CacheControl MUTABLE = CacheControl.maxAge(1, TimeUnit.HOURS).cachePrivate();
+
+    // Tomcat sendfile 요청 속성(org.apache.tomcat.util.net.Constants)
+    private static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+    // 작은 파일은 sendfile 준비 비용이 더 크다(Tomcat DefaultServlet 기본값과 동일)
+    private static final long SENDFILE_MIN_BYTES = 48 * 1024;
+    private static final int COPY_BUFFER_BYTES = 64 * 1024;
+
+    private final PhotoIngestService photoIngestService;
+    private final PhotoDerivativeService photoDerivativeService;
+
+    public ImageController(PhotoIngestService photoIngestService, PhotoDerivativeService photoDerivativeService) {
+        this.photoIngestService = photoIngestService;
+        this.photoDerivativeService = photoDerivativeService;
+    }
+
+    /**
+     * @param size original(기본) | medium | thumb — 파생본이 없으면 생성 후 제공, 생성할 수 없으면 원본
+     */
     @GetMapping("/{filename}")
-    public ResponseEntity<Resource> serveImage(@PathVariable String filename)
-            throws MalformedURLException {
+    public void serveImage(
+            @PathVariable String filename,
+            @RequestParam(defaultValue = ORIGINAL) String size,
+            HttpServletRequest request,
+            HttpServletResponse response
+    ) throws IOException {
+
+        // 사진 이름(UUID_원본파일명)만 허용 — 경로 조작/내부 디렉터리(.spool, blobs) 접근 차단
+        if (filename.startsWith(".") || filename.contains("/") || filename.contains("\\")) {
+            response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        PhotoVariant variant = null;
+        Optional<PhotoFile> file = Optional.empty();
+        if (!ORIGINAL.equalsIgnoreCase(size)) {
+            variant = PhotoVariant.fromParam(size)
+                    .orElseThrow(() -> new BusinessException(ErrorCode.INVALID_REQUEST_PARAM,
+                            "size는 original/medium/thumb 중 하나여야 합니다."));
+            file = photoDerivativeService.resolve(filename, variant);
+            if (file.isEmpty()) variant = null;
+        }
+        // 색인된 blob → 이관 전 flat 파일 → (writer 처리 전) spool 순으로 찾는다
+        if (file.isEmpty()) file = photoIngestService.resolveReadable(filename);
+        if (file.isEmpty()) {
+            response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        Path path = file.get().path();
+        BasicFileAttributes attrs;
+        try {
+            attrs = Files.readAttributes(path, BasicFileAttributes.class);
+        } catch (NoSuchFileException e) {
+            // 조회 직후 spool → blob 이동 등으로 사라진 경우
+            response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        long length = attrs.size();
+        long lastModified = attrs.lastModifiedTime().toMillis();
+        String etag = etagOf(file.get(), variant, length, lastModified);
+
+        response.setHeader(HttpHeaders.CACHE_CONTROL,
+                (file.get().isContentAddressed() ? IMMUTABLE : MUTABLE).getHeaderValue());
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+        // If-None-Match/If-Modified-Since 판정 + ETag/Last-Modified 헤더 설정(일치하면 304)
+        if (new ServletWebRequest(request, response).checkNotModified(etag, lastModified)) {
+            return;
+        }
+
+        MediaType contentType = (variant != null) ? MediaType.IMAGE_JPEG : detectContentType(path);
+        response.setContentType(contentType.toString());
+        response.setHeader("X-Content-Type-Options", "nosniff");
+
+        long start = 0;
+        long end = length - 1;
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader != null && ifRangeMatches(request, etag, lastModified)) {
+            List<HttpRange> ranges;
+            try {
+                ranges = HttpRange.parseRanges(rangeHeader);
+                // 다중 범위(multipart/byteranges)는 지원하지 않음 → 전체 응답
+                if (ranges.size() == 1) {
+                    start = ranges.get(0).getRangeStart(length);
+                    end = ranges.get(0).getRangeEnd(length);
+                }
+            } catch (IllegalArgumentException e) {
+                response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                return;
+            }
+            if (ranges.size() == 1) {
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+            }
+        }
 
-        String uploadDir = System.getProperty("user.dir") + "/uploads";
-        Path filePath = Path.of(uploadDir, filename);
+        long count = end - start + 1;
+        response.setContentLengthLong(count);
+        if ("HEAD".equals(request.getMethod()) || count <= 0) return;
 
-        Resource resource = new UrlResource(filePath.toUri());
+        transfer(path, start, count, request, response);
+    }
 
-        if (!resource.exists()) {
-            return ResponseEntity.notFound().build();
+    private static String etagOf(PhotoFile file, PhotoVariant variant, long length, long lastModified) {
+        if (!file.isContentAddressed()) {
+            // 이관 전 flat 파일: 내용 해시가 없으므로 크기+수정 시각
+            return "\"" + Long.toHexString(length) + "-" + Long.toHexString(lastModified) + "\"";
         }
+        return (variant == null)
+                ? "\"" + file.blobKey() + "\""
+                : "\"" + file.blobKey() + "-" + variant.getParam() + "\"";
+    }
 
-        return ResponseEntity.ok()
-                .contentType(MediaType.IMAGE_JPEG) // png도 브라우저가 알아서 처리
-                .body(resource);
+    /**
+     * If-Range가 없거나 현재 표현과 일치하면 true(Range 적용), 불일치면 전체 응답
+     */
+    private static boolean ifRangeMatches(HttpServletRequest request, String etag, long lastModified) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange == null) return true;
+        if (ifRange.startsWith("\"")) return ifRange.equals(etag);
+        if (ifRange.startsWith("W/")) return false;
+        try {
+            long date = request.getDateHeader(HttpHeaders.IF_RANGE);
+            return date >= 0 && date / 1000 == lastModified / 1000;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private static void transfer(
+            Path path,
+            long start,
+            long count,
+            HttpServletRequest request,
+            HttpServletResponse response
+    ) throws IOException {
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED)) && count >= SENDFILE_MIN_BYTES) {
+            // 커넥터가 응답 커밋 후 sendfile(2)로 전송(end는 exclusive)
+            request.setAttribute(SENDFILE_FILENAME, path.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, start + count);
+            return;
+        }
+
+        // 서블릿 출력 스트림은 소켓 채널이 아니므로 transferTo도 내부 버퍼 복사가 된다 → 고정 버퍼로 직접 복사
+        try (FileChannel ch = FileChannel.open(path, StandardOpenOption.READ)) {
+            OutputStream out = response.getOutputStream();
+            ByteBuffer buf = ByteBuffer.allocate((int) Math.min(COPY_BUFFER_BYTES, count));
+            long position = start;
+            long remaining = count;
+            while (remaining > 0) {
+                buf.clear().limit((int) Math.min(buf.capacity(), remaining));
+                int n = ch.read(buf, position);
+                if (n <= 0) break;
+                out.write(buf.array(), 0, n);
+                position += n;
+                remaining -= n;
+            }
+        }
+    }
+
+    /**
+     * 파일 앞부분 magic byte로 이미지 형식 판정
+     */
+    private static MediaType detectContentType(Path path) throws IOException {
+        ByteBuffer head = ByteBuffer.allocate(PhotoFormat.SNIFF_BYTES);
+        try (FileChannel ch = FileChannel.open(path, StandardOpenOption.READ)) {
+            int n;
+            do {
+                n = ch.read(head);
+            } while (n > 0 && head.hasRemaining());
+        }
+        PhotoFormat format = PhotoFormat.sniff(head.array(), head.position());
+        return (format == null) ? MediaType.APPLICATION_OCTET_STREAM : MediaType.parseMediaType(format.getMediaType());
     }
 }
@@ -0,0 +1,26 @@
+package io.github.anpk.attendanceapp.dev;
+
+import io.github.anpk.attendanceapp.AttendanceAppApplication;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * 합성 데이터 적재 CLI — 웹 서버 없이 dev,seed 프로파일로 기동해 적재(SyntheticDataSeedRunner) 후 종료
+ * - 인메모리 H2는 종료와 함께 사라지므로 파일 DB 등 spring.datasource.url을 함께 지정한다
+ *
+ * 실행: ./gradlew seedData --args='--spring.datasource.url=jdbc:h2:file:./build/seed-db/attendance --app.seed.sites=20'
+ */
+public final class SyntheticDataCli {
+
+    private SyntheticDataCli() {}
+
+    public static void main(String[] args) {
+        ConfigurableApplicationContext ctx = new SpringApplicationBuilder(AttendanceAppApplication.class)
+                .profiles("dev", "seed")
+                .web(WebApplicationType.NONE)
+                .run(args);
+        System.exit(SpringApplication.exit(ctx));
+    }
+}
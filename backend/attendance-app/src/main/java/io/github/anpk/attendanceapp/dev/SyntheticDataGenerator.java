@@ -0,0 +1,348 @@
+package io.github.anpk.attendanceapp.dev;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Types;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+/**
+ * 합성 데이터 생성기(대량 적재 — data-dev.sql 수동 시드 대체)
+ * - site N개, site별 MANAGER m명(담당 site 배정 포함) + EMPLOYEE M명, ADMIN 1명
+ * - 기간 내 평일 근태(출근/퇴근/휴게)와 정정 요청(상태 비율 지정, 일부 휴게 변경 포함)
+ * - 같은 Spec(seed 포함)이면 같은 데이터 — 빈 DB 기준 id까지 동일
+ * - JDBC batch insert, 묶음(batchSize 근태 행)마다 트랜잭션 커밋. JPA 영속성 컨텍스트를 거치지 않는다
+ *
+ * id는 직접 채번(기존 최대값 + 1부터)한 뒤 IDENTITY/시퀀스 시작값을 적재한 id 뒤로 맞춘다.
+ * (JPA가 이미 선할당한 pooled 블록과 겹칠 수 있으므로 기동 직후 — 서비스 insert 전에 실행한다)
+ * 파생 테이블(attendance_final/rollup)은 채우지 않는다 — 적재 후 AttendanceFinalProjector.rebuild로 생성.
+ */
+@Component
+@Slf4j
+public class SyntheticDataGenerator {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+    private static final DateTimeFormatter PHOTO_DATE = DateTimeFormatter.BASIC_ISO_DATE;
+    // 엔티티 @SequenceGenerator allocationSize와 동일
+    private static final int SEQUENCE_ALLOCATION_SIZE = 50;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public SyntheticDataGenerator(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * @param from          근태 시작일(포함)
+     * @param toExclusive   근태 종료일(미포함)
+     * @param correctionRate 근태 1건당 정정 요청 확률(퇴근 누락 건은 별도로 절반 확률)
+     */
+    public record Spec(
+            long seed,
+            int sites,
+            int employeesPerSite,
+            int managersPerSite,
+            LocalDate from,
+            LocalDate toExclusive,
+            double correctionRate,
+            CorrectionMix correctionMix,
+            int batchSize,
+            long firstUserId
+    ) {}
+
+    /**
+     * 정정 요청 상태 비율(가중치)
+     */
+    public record CorrectionMix(int approved, int rejected, int pending, int canceled) {
+
+        /**
+         * "approved=60,rejected=20,pending=15,canceled=5" 형식(생략 항목은 0)
+         */
+        public static CorrectionMix parse(String value) {
+            int approved = 0, rejected = 0, pending = 0, canceled = 0;
+            for (String token : value.split(",")) {
+                String t = token.trim();
+                if (t.isEmpty()) continue;
+                String[] kv = t.split("=", 2);
+                if (kv.length != 2) throw new IllegalArgumentException("invalid correction mix: " + value);
+                int w = Integer.parseInt(kv[1].trim());
+                switch (kv[0].trim().toLowerCase(Locale.ROOT)) {
+                    case "approved" -> approved = w;
+                    case "rejected" -> rejected = w;
+                    case "pending" -> pending = w;
+                    case "canceled" -> canceled = w;
+                    default -> throw new IllegalArgumentException("invalid correction mix: " + value);
+                }
+            }
+            if (approved < 0 || rejected < 0 || pending < 0 || canceled < 0
+                    || approved + rejected + pending + canceled == 0) {
+                throw new IllegalArgumentException("invalid correction mix: " + value);
+            }
+            return new CorrectionMix(approved, rejected, pending, canceled);
+        }
+
+        String pick(SplittableRandom rnd) {
+            int r = rnd.nextInt(approved + rejected + pending + canceled);
+            if ((r -= approved) < 0) return "APPROVED";
+            if ((r -= rejected) < 0) return "REJECTED";
+            if ((r -= pending) < 0) return "PENDING";
+            return "CANCELED";
+        }
+    }
+
+    public record Result(
+            long sites,
+            long employees,
+            long assignments,
+            long attendances,
+            long breaks,
+            long corrections,
+            long breakProposals,
+            long elapsedMs
+    ) {}
+
+    public Result generate(Spec spec) {
+        long started = System.nanoTime();
+
+        long siteId = nextId("SELECT COALESCE(MAX(id), 0) FROM sites");
+        long userId = Math.max(spec.firstUserId(), nextId("SELECT COALESCE(MAX(user_id), 0) FROM employees"));
+        long assignmentId = nextId("SELECT COALESCE(MAX(id), 0) FROM manager_site_assignments");
+        long attendanceId = nextId("SELECT COALESCE(MAX(id), 0) FROM attendance");
+        long breakId = nextId("SELECT COALESCE(MAX(id), 0) FROM attendance_break");
+        long correctionId = nextId("SELECT COALESCE(MAX(id), 0) FROM correction_requests");
+        long proposalId = nextId("SELECT COALESCE(MAX(id), 0) FROM correction_request_break_proposals");
+
+        Rows sites = new Rows("INSERT INTO sites (id, name, active) VALUES (?, ?, ?)",
+                Types.BIGINT, Types.VARCHAR, Types.BOOLEAN);
+        Rows employees = new Rows("INSERT INTO employees (user_id, username, site_id, role, active, password, scope_version) "
+                + "VALUES (?, ?, ?, ?, ?, ?, 0)",
+                Types.BIGINT, Types.VARCHAR, Types.BIGINT, Types.VARCHAR, Types.BOOLEAN, Types.VARCHAR);
+        Rows assignments = new Rows("INSERT INTO manager_site_assignments (id, manager_user_id, site_id, created_at) "
+                + "VALUES (?, ?, ?, ?)",
+                Types.BIGINT, Types.BIGINT, Types.BIGINT, Types.TIMESTAMP_WITH_TIMEZONE);
+        Rows attendances = new Rows("INSERT INTO attendance (id, user_id, work_date, check_in_time, check_out_time, "
+                + "check_in_photo_path, check_out_photo_path) VALUES (?, ?, ?, ?, ?, ?, ?)",
+                Types.BIGINT, Types.BIGINT, Types.DATE, Types.TIMESTAMP, Types.TIMESTAMP, Types.VARCHAR, Types.VARCHAR);
+        Rows breaks = new Rows("INSERT INTO attendance_break (id, attendance_id, break_start_time, break_end_time) "
+                + "VALUES (?, ?, ?, ?)",
+                Types.BIGINT, Types.BIGINT, Types.TIMESTAMP, Types.TIMESTAMP);
+        Rows corrections = new Rows("INSERT INTO correction_requests (id, attendance_id, status, type, requested_by, "
+                + "requested_at, proposed_check_in_at, proposed_check_out_at, break_change_requested, canceled_at, "
+                + "processed_at, processed_by, approve_comment, reject_reason, reason) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                Types.BIGINT, Types.BIGINT, Types.VARCHAR, Types.VARCHAR, Types.BIGINT,
+                Types.TIMESTAMP_WITH_TIMEZONE, Types.TIMESTAMP_WITH_TIMEZONE, Types.TIMESTAMP_WITH_TIMEZONE, Types.BOOLEAN,
+                Types.TIMESTAMP_WITH_TIMEZONE, Types.TIMESTAMP_WITH_TIMEZONE, Types.BIGINT,
+                Types.VARCHAR, Types.VARCHAR, Types.VARCHAR);
+        Rows proposals = new Rows("INSERT INTO correction_request_break_proposals (id, correction_request_id, sort_order, "
+                + "proposed_break_start_at, proposed_break_end_at) VALUES (?, ?, ?, ?, ?)",
+                Types.BIGINT, Types.BIGINT, Types.INTEGER, Types.TIMESTAMP_WITH_TIMEZONE, Types.TIMESTAMP_WITH_TIMEZONE);
+        // FK 순서(부모 → 자식)대로 flush
+        List<Rows> all = List.of(sites, employees, assignments, attendances, breaks, corrections, proposals);
+
+        SplittableRandom root = new SplittableRandom(spec.seed());
+        OffsetDateTime assignedAt = spec.from().atStartOfDay(KST).toOffsetDateTime();
+        List<LocalDate> workDays = workDays(spec.from(), spec.toExclusive());
+
+        long adminId = userId++;
+        long firstSiteId = siteId;
+        employees.add(adminId, "admin-" + adminId, firstSiteId, "ADMIN", true, "pw" + adminId);
+
+        for (int s = 0; s < spec.sites(); s++) {
+            long sid = siteId++;
+            sites.add(sid, "Site " + (s + 1), true);
+
+            List<Long> managerIds = new ArrayList<>(spec.managersPerSite());
+            for (int m = 0; m < spec.managersPerSite(); m++) {
+                long mid = userId++;
+                managerIds.add(mid);
+                employees.add(mid, "manager-" + mid, sid, "MANAGER", true, "pw" + mid);
+                assignments.add(assignmentId++, mid, sid, assignedAt);
+            }
+
+            for (int e = 0; e < spec.employeesPerSite(); e++) {
+                long uid = userId++;
+                employees.add(uid, "user-" + uid, sid, "EMPLOYEE", true, "pw" + uid);
+                // 직원마다 분기한 난수열 — 직원 단위로 결과가 고정된다
+                SplittableRandom rnd = root.split();
+
+                for (LocalDate day : workDays) {
+                    // 결근 약 4%
+                    if (rnd.nextInt(100) < 4) continue;
+
+                    long aid = attendanceId++;
+                    LocalDateTime in = day.atTime(8, 30).plusMinutes(triangular(rnd, 60));
+                    boolean missingCheckout = rnd.nextInt(100) < 2;
+                    LocalDateTime out = missingCheckout ? null : day.atTime(17, 30).plusMinutes(triangular(rnd, 120));
+                    String photo = "seed/photo-" + uid + "-" + PHOTO_DATE.format(day) + ".jpg";
+                    attendances.add(aid, uid, day, in, out, photo, (out == null) ? null : photo.replace(".jpg", "-out.jpg"));
+
+                    // 정정 요청(최대 1건): 퇴근 누락 건은 절반 확률로 퇴근 정정
+                    String status = null;
+                    String type = null;
+                    boolean breakChange = false;
+                    if (rnd.nextDouble() < (missingCheckout ? 0.5 : spec.correctionRate())) {
+                        status = spec.correctionMix().pick(rnd);
+                        type = missingCheckout ? "CHECK_OUT" : switch (rnd.nextInt(3)) {
+                            case 0 -> "CHECK_IN";
+                            case 1 -> "CHECK_OUT";
+                            default -> "BOTH";
+                        };
+                        breakChange = rnd.nextInt(100) < 10;
+                    }
+
+                    // 휴게: 점심 약 97%, 오후 약 20%. 승인된 휴게 변경 정정은 제안 구간(12:00~13:00)이 원본에 반영된 상태로 둔다
+                    LocalDateTime lunchStart = day.atTime(11, 50).plusMinutes(rnd.nextInt(30));
+                    LocalDateTime lunchEnd = lunchStart.plusMinutes(30 + rnd.nextInt(40));
+                    boolean lunch = rnd.nextInt(100) < 97;
+                    boolean afternoon = rnd.nextInt(100) < 20;
+                    LocalDateTime afternoonStart = day.atTime(15, 0).plusMinutes(rnd.nextInt(60));
+                    LocalDateTime afternoonEnd = afternoonStart.plusMinutes(10 + rnd.nextInt(15));
+                    if (breakChange && "APPROVED".equals(status)) {
+                        breaks.add(breakId++, aid, day.atTime(12, 0), day.atTime(13, 0));
+                    } else {
+                        if (lunch && (out == null || lunchEnd.isBefore(out))) {
+                            breaks.add(breakId++, aid, lunchStart, lunchEnd);
+                        }
+                        if (afternoon && (out == null || afternoonEnd.isBefore(out))) {
+                            breaks.add(breakId++, aid, afternoonStart, afternoonEnd);
+                        }
+                    }
+
+                    if (status != null) {
+                        long cid = correctionId++;
+                        OffsetDateTime requestedAt = kst(day.plusDays(1 + rnd.nextInt(3)).atTime(9, 0).plusMinutes(rnd.nextInt(480)));
+                        OffsetDateTime decidedAt = requestedAt.plusMinutes(10 + rnd.nextInt(48 * 60));
+                        OffsetDateTime proposedIn = "CHECK_OUT".equals(type) ? null : kst(day.atTime(8, 40).plusMinutes(rnd.nextInt(20)));
+                        OffsetDateTime proposedOut = "CHECK_IN".equals(type) ? null : kst(day.atTime(18, 0).plusMinutes(rnd.nextInt(60)));
+                        long processedBy = managerIds.isEmpty() ? adminId : managerIds.get(rnd.nextInt(managerIds.size()));
+                        boolean processed = "APPROVED".equals(status) || "REJECTED".equals(status);
+
+                        corrections.add(
+                                cid, aid, status, type, uid,
+                                requestedAt, proposedIn, proposedOut, breakChange,
+                                "CANCELED".equals(status) ? decidedAt : null,
+                                processed ? decidedAt : null,
+                                processed ? processedBy : null,
+                                "APPROVED".equals(status) ? "확인" : null,
+                                "REJECTED".equals(status) ? "근거 부족" : null,
+                                missingCheckout ? "퇴근 체크 누락" : "시각 오기록"
+                        );
+                        if (breakChange) {
+                            proposals.add(proposalId++, cid, 0, kst(day.atTime(12, 0)), kst(day.atTime(13, 0)));
+                        }
+                    }
+
+                    if (attendances.pending() >= spec.batchSize()) {
+                        flush(all);
+                    }
+                }
+                if (employees.pending() >= spec.batchSize()) {
+                    flush(all);
+                }
+            }
+        }
+        flush(all);
+
+        restartIdentity("sites", siteId);
+        restartIdentity("manager_site_assignments", assignmentId);
+        restartSequence("attendance_seq", attendanceId);
+        restartSequence("attendance_break_seq", breakId);
+        restartSequence("correction_requests_seq", correctionId);
+        restartSequence("correction_request_break_proposals_seq", proposalId);
+
+        Result result = new Result(
+                sites.written, employees.written, assignments.written,
+                attendances.written, breaks.written, corrections.written, proposals.written,
+                (System.nanoTime() - started) / 1_000_000L
+        );
+        log.info("synthetic data generated: {}", result);
+        return result;
+    }
+
+    private void flush(List<Rows> all) {
+        transactionTemplate.executeWithoutResult(status -> all.forEach(Rows::flush));
+    }
+
+    private long nextId(String maxSql) {
+        Long max = jdbcTemplate.queryForObject(maxSql, Long.class);
+        return ((max == null) ? 0L : max) + 1L;
+    }
+
+    private void restartIdentity(String table, long next) {
+        // 테이블명/값은 내부 상수·계산값만 사용
+        jdbcTemplate.execute("ALTER TABLE " + table + " ALTER COLUMN id RESTART WITH " + next);
+    }
+
+    /**
+     * pooled sequence(증가 단위 50)는 nextval 값 v에 대해 (v-49 ~ v)를 쓰므로 "다음 id + 49"로 맞춘다
+     */
+    private void restartSequence(String sequence, long next) {
+        jdbcTemplate.execute("ALTER SEQUENCE " + sequence + " RESTART WITH " + (next + SEQUENCE_ALLOCATION_SIZE - 1));
+    }
+
+    private static List<LocalDate> workDays(LocalDate from, LocalDate toExclusive) {
+        List<LocalDate> out = new ArrayList<>();
+        for (LocalDate d = from; d.isBefore(toExclusive); d = d.plusDays(1)) {
+            if (d.getDayOfWeek() == DayOfWeek.SATURDAY || d.getDayOfWeek() == DayOfWeek.SUNDAY) continue;
+            out.add(d);
+        }
+        return out;
+    }
+
+    /**
+     * 0~span 분, 가운데로 몰린 분포(두 균등 난수 평균)
+     */
+    private static int triangular(SplittableRandom rnd, int span) {
+        return (rnd.nextInt(span + 1) + rnd.nextInt(span + 1)) / 2;
+    }
+
+    private static OffsetDateTime kst(LocalDateTime t) {
+        return t.atZone(KST).toOffsetDateTime();
+    }
+
+    /**
+     * 테이블별 batch 버퍼 — flush() 한 번이 JDBC batch 한 번
+     */
+    private final class Rows {
+
+        private final String sql;
+        private final int[] types;
+        private final List<Object[]> rows = new ArrayList<>();
+        private long written;
+
+        Rows(String sql, int... types) {
+            this.sql = sql;
+            this.types = types;
+        }
+
+        void add(Object... row) {
+            rows.add(row);
+        }
+
+        int pending() {
+            return rows.size();
+        }
+
+        void flush() {
+            if (rows.isEmpty()) return;
+            jdbcTemplate.batchUpdate(sql, rows, types);
+            written += rows.size();
+            rows.clear();
+        }
+    }
+}
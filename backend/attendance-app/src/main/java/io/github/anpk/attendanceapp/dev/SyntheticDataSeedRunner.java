@@ -0,0 +1,85 @@
+package io.github.anpk.attendanceapp.dev;
+
+import io.github.anpk.attendanceapp.attendance.application.service.AttendanceFinalProjector;
+import io.github.anpk.attendanceapp.attendance.interfaces.dto.AttendanceFinalRebuildResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneId;
+
+/**
+ * seed 프로파일: 기동 시 합성 데이터 적재(application-seed.yml의 app.seed.*)
+ * - 기간: start-month부터 months개월. 단 오늘(KST) 이후 날짜는 만들지 않는다
+ *   (start-month 미지정 시 "이번 달 - months" — 재현이 필요하면 start-month를 고정)
+ * - 적재 후 attendance_final/rollup 재생성(rebuild-final=false면 생략 — 관리자 rebuild API로 나중에 실행 가능)
+ *
+ * ManagerScopeIndex/ScopeVersionRegistry는 ApplicationReadyEvent(러너 이후)에 적재되므로 별도 reload 불필요.
+ */
+@Component
+@Profile("seed")
+@Slf4j
+public class SyntheticDataSeedRunner implements ApplicationRunner {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    private final SyntheticDataGenerator generator;
+    private final AttendanceFinalProjector attendanceFinalProjector;
+    private final SyntheticDataGenerator.Spec spec;
+    private final boolean rebuildFinal;
+
+    public SyntheticDataSeedRunner(
+            SyntheticDataGenerator generator,
+            AttendanceFinalProjector attendanceFinalProjector,
+            @Value("${app.seed.seed:42}") long seed,
+            @Value("${app.seed.sites:10}") int sites,
+            @Value("${app.seed.employees-per-site:200}") int employeesPerSite,
+            @Value("${app.seed.managers-per-site:1}") int managersPerSite,
+            @Value("${app.seed.start-month:}") String startMonth,
+            @Value("${app.seed.months:3}") int months,
+            @Value("${app.seed.correction-rate:0.03}") double correctionRate,
+            @Value("${app.seed.correction-mix:approved=60,rejected=20,pending=15,canceled=5}") String correctionMix,
+            @Value("${app.seed.batch-size:5000}") int batchSize,
+            @Value("${app.seed.first-user-id:100000}") long firstUserId,
+            @Value("${app.seed.rebuild-final:true}") boolean rebuildFinal
+    ) {
+        if (sites < 1 || employeesPerSite < 0 || managersPerSite < 0 || months < 1 || batchSize < 1
+                || correctionRate < 0 || correctionRate > 1) {
+            throw new IllegalArgumentException("invalid app.seed.* configuration");
+        }
+        LocalDate today = LocalDate.now(KST);
+        YearMonth start = startMonth.isBlank()
+                ? YearMonth.from(today).minusMonths(months)
+                : YearMonth.parse(startMonth.trim());
+        LocalDate from = start.atDay(1);
+        LocalDate end = start.plusMonths(months).atDay(1);
+
+        this.generator = generator;
+        this.attendanceFinalProjector = attendanceFinalProjector;
+        this.spec = new SyntheticDataGenerator.Spec(
+                seed, sites, employeesPerSite, managersPerSite,
+                from, end.isAfter(today) ? today : end,
+                correctionRate, SyntheticDataGenerator.CorrectionMix.parse(correctionMix),
+                batchSize, firstUserId
+        );
+        this.rebuildFinal = rebuildFinal;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        log.info("synthetic data seeding: {}", spec);
+        generator.generate(spec);
+
+        if (rebuildFinal) {
+            long started = System.nanoTime();
+            AttendanceFinalRebuildResponse r = attendanceFinalProjector.rebuild(false);
+            log.info("synthetic data: attendance_final rebuilt scanned={} in {}ms",
+                    r.scanned(), (System.nanoTime() - started) / 1_000_000L);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package io.github.anpk.attendanceapp.employee.application.service;
+
+import io.github.anpk.attendanceapp.employee.domain.model.Employee;
+import io.github.anpk.attendanceapp.employee.domain.model.EmployeeRole;
+
+/**
+ * 권한 판정용 Employee 스냅샷(불변)
+ * - 캐시에 JPA 엔티티를 직접 보관하지 않기 위해 사용(스레드 간 공유 안전)
+ * - password 등 인증 정보는 포함하지 않는다(로그인은 repository 직접 조회)
+ */
+public final class CachedEmployee {
+
+    private final Long userId;
+    private final String username;
+    private final Long siteId;
+    private final EmployeeRole role;
+    private final boolean active;
+    private final long scopeVersion;
+
+    private CachedEmployee(Long userId, String username, Long siteId, EmployeeRole role, boolean active, long scopeVersion) {
+        this.userId = userId;
+        this.username = username;
+        this.siteId = siteId;
+        this.role = role;
+        this.active = active;
+        this.scopeVersion = scopeVersion;
+    }
+
+    public static CachedEmployee from(Employee e) {
+        return new CachedEmployee(e.getUserId(), e.getUsername(), e.getSiteId(), e.getRole(), e.isActive(), e.getScopeVersion());
+    }
+
+    public Long getUserId() { return userId; }
+    public String getUsername() { return username; }
+    public Long getSiteId() { return siteId; }
+    public EmployeeRole getRole() { return role; }
+    public boolean isActive() { return active; }
+    public long getScopeVersion() { return scopeVersion; }
+}
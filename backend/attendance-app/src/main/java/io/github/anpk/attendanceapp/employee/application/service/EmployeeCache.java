@@ -0,0 +1,97 @@
+package io.github.anpk.attendanceapp.employee.application.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.github.benmanes.caffeine.cache.stats.ConcurrentStatsCounter;
+import com.github.benmanes.caffeine.cache.stats.StatsCounter;
+import io.github.anpk.attendanceapp.employee.infrastructure.repository.EmployeeRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 권한 판정용 Employee 캐시(인메모리)
+ * - 크기(max-size) + TTL(ttl)로 제한
+ * - 직원 생성/수정 시 호출 측에서 invalidate() 필수(write-through 무효화)
+ * - 존재하지 않는 userId는 캐시하지 않는다(생성 직후 조회 누락 방지)
+ * - 다중 인스턴스 환경에서는 TTL 만큼 변경 반영이 지연될 수 있다
+ * - 조회(DB 로드) 도중 무효화가 있었으면 로드한 값은 캐시에 남기지 않는다
+ *   - 단건: 세대 확인과 저장을 같은 키의 compute 안에서 수행 → invalidate()의 제거와 순서가 보장된다
+ *   - 전체: invalidateAll() 이전 세대에 로드된 엔트리는 조회 시 무시(전체 제거 순회와 경합해도 남지 않도록)
+ * - 적중/누락 통계는 세대 확인 후 직접 기록한다(무시된 이전 세대 엔트리는 누락) — Caffeine 조회 자체는 통계를 남기지 않는다
+ */
+@Component
+public class EmployeeCache {
+
+    private final EmployeeRepository employeeRepository;
+    private final Cache<Long, Entry> cache;
+    private final StatsCounter statsCounter = new ConcurrentStatsCounter();
+    // 무효화 세대(조회 중 무효화 감지용)
+    private final AtomicLong invalidations = new AtomicLong();
+    // 마지막 invalidateAll()의 세대 — 이보다 이전 세대에 로드된 엔트리는 무효
+    private volatile long invalidatedAllAt;
+
+    public EmployeeCache(
+            EmployeeRepository employeeRepository,
+            @Value("${app.employee-cache.max-size:10000}") long maxSize,
+            @Value("${app.employee-cache.ttl:5m}") Duration ttl
+    ) {
+        this.employeeRepository = employeeRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats(() -> statsCounter)
+                .build();
+    }
+
+    public Optional<CachedEmployee> findById(Long userId) {
+        if (userId == null) return Optional.empty();
+        // asMap().get은 통계를 기록하지 않는다(getIfPresent는 세대 확인 전에 적중으로 센다)
+        Entry cached = cache.asMap().get(userId);
+        if (cached != null && cached.generation() >= invalidatedAllAt) {
+            statsCounter.recordHits(1);
+            return Optional.of(cached.employee());
+        }
+        statsCounter.recordMisses(1);
+
+        // cache.get(key, loader)는 loader(JDBC)를 맵 compute 락 안에서 실행 → 가상 스레드가 캐리어에 고정된다
+        // 락 밖에서 조회하고, 저장 여부는 세대 비교와 함께 compute 안에서 원자적으로 결정한다
+        long generation = invalidations.get();
+        Optional<CachedEmployee> loaded = employeeRepository.findById(userId).map(CachedEmployee::from);
+        // 존재하지 않는 userId는 저장하지 않는다
+        loaded.ifPresent(employee -> cache.asMap().compute(userId, (k, cur) -> {
+            if (invalidations.get() != generation) return cur;
+            return (cur != null && cur.generation() >= invalidatedAllAt) ? cur : new Entry(employee, generation);
+        }));
+        return loaded;
+    }
+
+    public void invalidate(Long userId) {
+        if (userId == null) return;
+        invalidations.incrementAndGet();
+        cache.invalidate(userId);
+    }
+
+    public void invalidateAll() {
+        invalidatedAllAt = invalidations.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long estimatedSize() {
+        return cache.estimatedSize();
+    }
+
+    /**
+     * 캐시 값 + 로드 시작 시점의 무효화 세대
+     */
+    private record Entry(CachedEmployee employee, long generation) {
+    }
+}
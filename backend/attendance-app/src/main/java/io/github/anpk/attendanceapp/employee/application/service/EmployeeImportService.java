@@ -0,0 +1,365 @@
+package io.github.anpk.attendanceapp.employee.application.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.anpk.attendanceapp.employee.domain.model.EmployeeRole;
+import io.github.anpk.attendanceapp.employee.infrastructure.repository.EmployeeRepository;
+import io.github.anpk.attendanceapp.employee.interfaces.dto.AdminEmployeeCreateRequest;
+import io.github.anpk.attendanceapp.employee.interfaces.dto.AdminEmployeeImportResponse;
+import io.github.anpk.attendanceapp.error.BusinessException;
+import io.github.anpk.attendanceapp.error.ErrorCode;
+import io.github.anpk.attendanceapp.site.application.service.ManagerScopeIndex;
+import io.github.anpk.attendanceapp.site.infrastructure.repository.SiteRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 직원 일괄 등록(CSV / NDJSON 스트리밍)
+ * - 본문을 한 줄씩 읽으며 검증 — 단건 생성(POST /api/admin/employees)과 같은 규칙 + 컬럼 길이
+ * - 중복 판정: 시작 시 1회 적재한 userId/siteId 집합 + 파일 안에서 이미 받은 userId (행마다 exists 조회 없음)
+ * - 유효 행은 chunk-size건씩 JDBC batch insert, chunk마다 트랜잭션 커밋(JPA 영속성 컨텍스트를 거치지 않는다)
+ * - 행 오류는 결과에 남기고 계속 진행, chunk insert가 실패하면(동시 등록 등) 그 chunk만 1행씩 다시 시도
+ * - dryRun: 검증만 수행(insert 없음)
+ */
+@Service
+@Slf4j
+public class EmployeeImportService {
+
+    public enum Format { CSV, NDJSON }
+
+    private static final String INSERT_SQL = "INSERT INTO employees (user_id, username, site_id, role, active, password, scope_version) "
+            + "VALUES (?, ?, ?, ?, TRUE, ?, 0)";
+    private static final int[] INSERT_TYPES = {Types.BIGINT, Types.VARCHAR, Types.BIGINT, Types.VARCHAR, Types.VARCHAR};
+    // employees 컬럼 길이(V1__baseline_schema.sql)
+    private static final int MAX_USERNAME_LENGTH = 50;
+    private static final int MAX_PASSWORD_LENGTH = 100;
+    // CSV 헤더(대소문자 무시, 순서 무관)
+    private static final List<String> CSV_COLUMNS = List.of("userId", "username", "password", "role", "siteId");
+
+    private record Row(long line, AdminEmployeeCreateRequest req) {}
+
+    private final EmployeeRepository employeeRepository;
+    private final SiteRepository siteRepository;
+    private final EmployeeCache employeeCache;
+    private final ManagerScopeIndex managerScopeIndex;
+    private final ObjectMapper objectMapper;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int maxRows;
+    private final int maxErrors;
+
+    public EmployeeImportService(
+            EmployeeRepository employeeRepository,
+            SiteRepository siteRepository,
+            EmployeeCache employeeCache,
+            ManagerScopeIndex managerScopeIndex,
+            ObjectMapper objectMapper,
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.employee-import.chunk-size:500}") int chunkSize,
+            @Value("${app.employee-import.max-rows:50000}") int maxRows,
+            @Value("${app.employee-import.max-errors:1000}") int maxErrors
+    ) {
+        this.employeeRepository = employeeRepository;
+        this.siteRepository = siteRepository;
+        this.employeeCache = employeeCache;
+        this.managerScopeIndex = managerScopeIndex;
+        this.objectMapper = objectMapper;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = Math.max(1, chunkSize);
+        this.maxRows = maxRows;
+        this.maxErrors = maxErrors;
+    }
+
+    /**
+     * @param in 요청 본문(UTF-8) — 호출 측이 닫는다
+     */
+    public AdminEmployeeImportResponse importEmployees(InputStream in, Format format, boolean dryRun) throws IOException {
+        Set<Long> knownUserIds = new HashSet<>(employeeRepository.findAllUserIds());
+        Set<Long> siteIds = new HashSet<>(siteRepository.findAllIds());
+        var result = new Result(dryRun, maxErrors);
+        List<Row> chunk = new ArrayList<>(chunkSize);
+
+        var reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        int[] columns = null;
+        long lineNo = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNo++;
+            // UTF-8 BOM(엑셀 저장 CSV)
+            if (lineNo == 1 && line.startsWith("\uFEFF")) line = line.substring(1);
+            if (line.isBlank()) continue;
+            if (format == Format.CSV && columns == null) {
+                columns = parseCsvHeader(line);
+                continue;
+            }
+            if (result.rows >= maxRows) {
+                result.reject(lineNo, null, ErrorCode.INVALID_REQUEST_PAYLOAD.name(), "최대 " + maxRows + "행까지 처리할 수 있습니다(이후 행 미처리).");
+                break;
+            }
+            result.rows++;
+
+            AdminEmployeeCreateRequest req = null;
+            try {
+                req = (format == Format.CSV) ? parseCsvRow(line, columns) : parseJsonRow(line);
+                validate(req, knownUserIds, siteIds);
+            } catch (BusinessException e) {
+                result.reject(lineNo, req == null ? null : req.userId(), e.getCode(), e.getMessage());
+                continue;
+            }
+            knownUserIds.add(req.userId());
+            chunk.add(new Row(lineNo, req));
+            if (chunk.size() >= chunkSize) {
+                flush(chunk, result);
+                chunk.clear();
+            }
+        }
+        if (format == Format.CSV && columns == null) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST_PAYLOAD, "CSV 헤더 행이 없습니다.");
+        }
+        flush(chunk, result);
+        return result.toResponse();
+    }
+
+    // =============================================================
+    // 검증(단건 생성과 같은 규칙/메시지)
+    // =============================================================
+
+    private static void validate(AdminEmployeeCreateRequest body, Set<Long> knownUserIds, Set<Long> siteIds) {
+        if (body.userId() == null || body.userId() <= 0) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST_PAYLOAD, "userId는 필수입니다.");
+        }
+        if (body.username() == null || body.username().isBlank()) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST_PAYLOAD, "username은 필수입니다.");
+        }
+        if (body.username().length() > MAX_USERNAME_LENGTH) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST_PAYLOAD, "username은 " + MAX_USERNAME_LENGTH + "자 이하여야 합니다.");
+        }
+        if (body.password() == null || body.password().isBlank()) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST_PAYLOAD, "password는 필수입니다.");
+        }
+        if (body.password().length() > MAX_PASSWORD_LENGTH) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST_PAYLOAD, "password는 " + MAX_PASSWORD_LENGTH + "자 이하여야 합니다.");
+        }
+        if (body.role() == null) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST_PAYLOAD, "role은 필수입니다.");
+        }
+        // 최소 안전장치: ADMIN 생성은 운영상 위험도가 커서 차단
+        if (body.role() == EmployeeRole.ADMIN) {
+            throw new BusinessException(ErrorCode.FORBIDDEN, "권한이 없습니다.");
+        }
+        if (body.siteId() == null) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST_PAYLOAD, "siteId는 필수입니다.");
+        }
+        if (!siteIds.contains(body.siteId())) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST_PARAM, "존재하지 않는 siteId 입니다.");
+        }
+        if (knownUserIds.contains(body.userId())) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST_PARAM, "이미 존재하는 userId 입니다.");
+        }
+    }
+
+    // =============================================================
+    // 저장
+    // =============================================================
+
+    private void flush(List<Row> chunk, Result result) {
+        if (chunk.isEmpty()) return;
+        if (result.dryRun) {
+            result.succeeded += chunk.size();
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(tx -> insert(chunk));
+            result.succeeded += chunk.size();
+        } catch (DataAccessException e) {
+            log.warn("employee import chunk failed, retrying per row: size={}", chunk.size(), e);
+            for (Row row : chunk) {
+                try {
+                    transactionTemplate.executeWithoutResult(tx -> insert(List.of(row)));
+                    result.succeeded++;
+                } catch (DuplicateKeyException ex) {
+                    result.reject(row.line(), row.req().userId(), ErrorCode.INVALID_REQUEST_PARAM.name(), "이미 존재하는 userId 입니다.");
+                } catch (DataAccessException ex) {
+                    result.reject(row.line(), row.req().userId(), ErrorCode.INTERNAL_ERROR.name(), "저장 중 오류가 발생했습니다.");
+                }
+            }
+        }
+    }
+
+    private void insert(List<Row> rows) {
+        List<Object[]> args = new ArrayList<>(rows.size());
+        for (Row row : rows) {
+            var r = row.req();
+            args.add(new Object[]{r.userId(), r.username(), r.siteId(), r.role().name(), r.password()});
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, args, INSERT_TYPES);
+        for (Row row : rows) {
+            // 권한 판정 캐시 무효화 + 스코프 인덱스 반영(커밋 후) — 단건 생성과 동일
+            employeeCache.invalidate(row.req().userId());
+            managerScopeIndex.onEmployeeChanged(row.req().userId(), row.req().siteId(), true);
+        }
+    }
+
+    // =============================================================
+    // 파싱
+    // =============================================================
+
+    /**
+     * 헤더 → CSV_COLUMNS 순서의 컬럼 위치
+     */
+    private static int[] parseCsvHeader(String line) {
+        List<String> names = splitCsv(line);
+        int[] columns = new int[CSV_COLUMNS.size()];
+        for (int c = 0; c < columns.length; c++) {
+            columns[c] = -1;
+            for (int i = 0; i < names.size(); i++) {
+                if (names.get(i).trim().equalsIgnoreCase(CSV_COLUMNS.get(c))) {
+                    columns[c] = i;
+                    break;
+                }
+            }
+            if (columns[c] < 0) {
+                throw new BusinessException(ErrorCode.INVALID_REQUEST_PAYLOAD,
+                        "CSV 헤더에 " + String.join(", ", CSV_COLUMNS) + " 컬럼이 필요합니다.");
+            }
+        }
+        return columns;
+    }
+
+    private static AdminEmployeeCreateRequest parseCsvRow(String line, int[] columns) {
+        List<String> fields = splitCsv(line);
+        String role = field(fields, columns[3]);
+        return new AdminEmployeeCreateRequest(
+                parseId(field(fields, columns[0]), "userId"),
+                field(fields, columns[1]),
+                field(fields, columns[2]),
+                (role == null) ? null : parseRole(role),
+                parseId(field(fields, columns[4]), "siteId")
+        );
+    }
+
+    private AdminEmployeeCreateRequest parseJsonRow(String line) {
+        AdminEmployeeCreateRequest req;
+        try {
+            req = objectMapper.readValue(line, AdminEmployeeCreateRequest.class);
+        } catch (JsonProcessingException e) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST_PAYLOAD, "JSON 형식이 올바르지 않습니다.");
+        }
+        if (req == null) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST_PAYLOAD, "JSON 형식이 올바르지 않습니다.");
+        }
+        // 단건 생성과 같이 앞뒤 공백 제거 후 저장
+        return new AdminEmployeeCreateRequest(req.userId(), trimToNull(req.username()), trimToNull(req.password()), req.role(), req.siteId());
+    }
+
+    private static String field(List<String> fields, int index) {
+        return (index < fields.size()) ? trimToNull(fields.get(index)) : null;
+    }
+
+    private static String trimToNull(String raw) {
+        if (raw == null) return null;
+        String v = raw.trim();
+        return v.isEmpty() ? null : v;
+    }
+
+    private static Long parseId(String raw, String name) {
+        if (raw == null) return null;
+        try {
+            return Long.parseLong(raw);
+        } catch (NumberFormatException e) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST_PAYLOAD, name + "는 숫자여야 합니다.");
+        }
+    }
+
+    private static EmployeeRole parseRole(String raw) {
+        try {
+            return EmployeeRole.valueOf(raw.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST_PAYLOAD, "role 값이 올바르지 않습니다.");
+        }
+    }
+
+    /**
+     * CSV 한 줄 분리(RFC 4180 최소 — 큰따옴표 필드, "" 이스케이프). 필드 내 줄바꿈은 미지원
+     */
+    private static List<String> splitCsv(String line) {
+        List<String> out = new ArrayList<>();
+        StringBuilder cur = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c != '"') {
+                    cur.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    cur.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                out.add(cur.toString());
+                cur.setLength(0);
+            } else {
+                cur.append(c);
+            }
+        }
+        if (quoted) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST_PAYLOAD, "닫히지 않은 큰따옴표가 있습니다.");
+        }
+        out.add(cur.toString());
+        return out;
+    }
+
+    // =============================================================
+    // 결과 집계
+    // =============================================================
+
+    private static final class Result {
+        final boolean dryRun;
+        final int maxErrors;
+        final List<AdminEmployeeImportResponse.RowError> errors = new ArrayList<>();
+        long rows;
+        long succeeded;
+        long failed;
+
+        Result(boolean dryRun, int maxErrors) {
+            this.dryRun = dryRun;
+            this.maxErrors = maxErrors;
+        }
+
+        void reject(long line, Long userId, String errorCode, String message) {
+            failed++;
+            if (errors.size() < maxErrors) {
+                errors.add(new AdminEmployeeImportResponse.RowError(line, userId, errorCode, message));
+            }
+        }
+
+        AdminEmployeeImportResponse toResponse() {
+            return new AdminEmployeeImportResponse(dryRun, rows, succeeded, failed, List.copyOf(errors), failed > errors.size());
+        }
+    }
+}
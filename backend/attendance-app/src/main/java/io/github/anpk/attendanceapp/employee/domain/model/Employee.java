@@ -2,6 +2,8 @@ package io.github.anpk.attendanceapp.employee.domain.model;
 
 import jakarta.persistence.*;
 
+import java.util.Objects;
+
 /**
  * 권한 판정용 최소 Employee 엔티티
  * - 승인/반려 권한(site/role) 판정을 위해서만 사용
@@ -32,6 +34,10 @@ public class Employee {
     @Column(nullable = false, length = 100)
     private String password;
 
+    // ✅ 권한 범위(active/role/site/담당 site) 버전 — 토큰의 sv claim과 비교해 재검증 여부 판단
+    @Column(name = "scope_version", nullable = false, columnDefinition = "BIGINT DEFAULT 0 NOT NULL")
+    private long scopeVersion;
+
     protected Employee() {}
 
     // ✅ 직원 생성(ADMIN)용 최소 생성자
@@ -46,14 +52,17 @@ public class Employee {
 
     // ✅ Admin 최소 관리용 도메인 메서드 (setter 노출 최소화)
     public void changeActive(boolean active) {
+        if (this.active != active) scopeVersion++;
         this.active = active;
     }
 
     public void changeRole(EmployeeRole role) {
+        if (this.role != role) scopeVersion++;
         this.role = role;
     }
 
     public void changeSiteId(Long siteId) {
+        if (!Objects.equals(this.siteId, siteId)) scopeVersion++;
         this.siteId = siteId;
     }
 
@@ -67,4 +76,5 @@ public class Employee {
     public EmployeeRole getRole() { return role; }
     public boolean isActive() { return active; }
     public String getPassword() { return password; }
+    public long getScopeVersion() { return scopeVersion; }
 }
\ No newline at end of file
@@ -3,6 +3,7 @@ package io.github.anpk.attendanceapp.employee.infrastructure.repository;
 import io.github.anpk.attendanceapp.employee.domain.model.Employee;
 import io.github.anpk.attendanceapp.employee.domain.model.EmployeeRole;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -21,4 +22,39 @@ public interface EmployeeRepository extends JpaRepository<Employee, Long> {
 
     @Query("select e.userId from Employee e where e.siteId = :siteId and e.active = true")
     List<Long> findActiveUserIdsBySiteId(@Param("siteId") Long siteId);
+
+    /**
+     * 활성 직원의 소속 site (manager 스코프 인덱스 적재용)
+     */
+    @Query("select e.userId as userId, e.siteId as siteId from Employee e where e.active = true")
+    List<SiteMembership> findActiveSiteMemberships();
+
+    interface SiteMembership {
+        Long getUserId();
+        Long getSiteId();
+    }
+
+    /**
+     * 권한 범위 버전 전체(토큰 scope 검증 레지스트리 적재용)
+     */
+    @Query("select e.userId as userId, e.scopeVersion as scopeVersion from Employee e")
+    List<ScopeVersion> findAllScopeVersions();
+
+    interface ScopeVersion {
+        Long getUserId();
+        long getScopeVersion();
+    }
+
+    /**
+     * 전체 userId (직원 일괄 등록 중복 판정용 1회 적재)
+     */
+    @Query("select e.userId from Employee e")
+    List<Long> findAllUserIds();
+
+    /**
+     * 담당 site 할당/해제 등 Employee 필드 외부의 권한 범위 변경 시 버전 증가
+     */
+    @Modifying
+    @Query("update Employee e set e.scopeVersion = e.scopeVersion + 1 where e.userId = :userId")
+    int incrementScopeVersion(@Param("userId") Long userId);
 }
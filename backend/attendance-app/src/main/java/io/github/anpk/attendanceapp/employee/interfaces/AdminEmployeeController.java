@@ -1,19 +1,30 @@
 package io.github.anpk.attendanceapp.employee.interfaces;
 
 import io.github.anpk.attendanceapp.auth.AdminGuard;
-import io.github.anpk.attendanceapp.auth.CurrentUserId;
+import io.github.anpk.attendanceapp.auth.AuthPrincipal;
+import io.github.anpk.attendanceapp.auth.CurrentPrincipal;
+import io.github.anpk.attendanceapp.auth.ScopeVersionRegistry;
+import io.github.anpk.attendanceapp.employee.application.service.EmployeeCache;
+import io.github.anpk.attendanceapp.employee.application.service.EmployeeImportService;
 import io.github.anpk.attendanceapp.employee.domain.model.Employee;
 import io.github.anpk.attendanceapp.employee.domain.model.EmployeeRole;
 import io.github.anpk.attendanceapp.employee.infrastructure.repository.EmployeeRepository;
 import io.github.anpk.attendanceapp.employee.interfaces.dto.AdminEmployeeCreateRequest;
+import io.github.anpk.attendanceapp.employee.interfaces.dto.AdminEmployeeImportResponse;
 import io.github.anpk.attendanceapp.employee.interfaces.dto.AdminEmployeeResponse;
 import io.github.anpk.attendanceapp.employee.interfaces.dto.AdminEmployeeUpdateRequest;
+import io.github.anpk.attendanceapp.employee.interfaces.dto.EmployeeCacheStatsResponse;
 import io.github.anpk.attendanceapp.error.BusinessException;
 import io.github.anpk.attendanceapp.error.ErrorCode;
-import io.github.anpk.attendanceapp.site.infrastructure.repository.ManagerSiteAssignmentRepository;
+import io.github.anpk.attendanceapp.site.application.service.ManagerScopeIndex;
 import io.github.anpk.attendanceapp.site.infrastructure.repository.SiteRepository;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
 @RestController
@@ -22,19 +33,25 @@ public class AdminEmployeeController {
 
     private final EmployeeRepository employeeRepository;
     private final SiteRepository siteRepository;
-    private final ManagerSiteAssignmentRepository managerSiteAssignmentRepository;
     private final AdminGuard adminGuard;
+    private final EmployeeCache employeeCache;
+    private final ManagerScopeIndex managerScopeIndex;
+    private final ScopeVersionRegistry scopeVersionRegistry;
+    private final EmployeeImportService employeeImportService;
 
-    public AdminEmployeeController(EmployeeRepository employeeRepository, SiteRepository siteRepository, ManagerSiteAssignmentRepository managerSiteAssignmentRepository, AdminGuard adminGuard) {
+    public AdminEmployeeController(EmployeeRepository employeeRepository, SiteRepository siteRepository, AdminGuard adminGuard, EmployeeCache employeeCache, ManagerScopeIndex managerScopeIndex, ScopeVersionRegistry scopeVersionRegistry, EmployeeImportService employeeImportService) {
         this.employeeRepository = employeeRepository;
+        this.employeeImportService = employeeImportService;
+        this.employeeCache = employeeCache;
+        this.managerScopeIndex = managerScopeIndex;
+        this.scopeVersionRegistry = scopeVersionRegistry;
         this.siteRepository = siteRepository;
-        this.managerSiteAssignmentRepository = managerSiteAssignmentRepository;
         this.adminGuard = adminGuard;
     }
 
     @GetMapping
-    public List<AdminEmployeeResponse> list(@CurrentUserId Long userId) {
-        var role = adminGuard.requireAdminOrManager(userId);
+    public List<AdminEmployeeResponse> list(@CurrentPrincipal AuthPrincipal principal) {
+        var role = adminGuard.requireAdminOrManager(principal);
 
         if (role == EmployeeRole.ADMIN) {
             return employeeRepository.findAll().stream()
@@ -43,7 +60,7 @@ public class AdminEmployeeController {
         }
 
         // MANAGER: assignments 범위의 ROLE=EMPLOYEE만 노출
-        var manageableSiteIds = managerSiteAssignmentRepository.findSiteIdsByManagerUserId(userId);
+        var manageableSiteIds = principal.getManagedSiteIds();
         if (manageableSiteIds.isEmpty()) {
             return List.of();
         }
@@ -53,8 +70,8 @@ public class AdminEmployeeController {
     }
 
     @PostMapping
-    public AdminEmployeeResponse create(@CurrentUserId Long userId, @RequestBody(required = false) AdminEmployeeCreateRequest body) {
-        adminGuard.requireAdmin(userId);
+    public AdminEmployeeResponse create(@CurrentPrincipal AuthPrincipal principal, @RequestBody(required = false) AdminEmployeeCreateRequest body) {
+        adminGuard.requireAdmin(principal);
 
         if (body == null) {
             throw new BusinessException(ErrorCode.INVALID_REQUEST_PAYLOAD, "요청 값이 올바르지 않습니다.");
@@ -95,17 +112,54 @@ public class AdminEmployeeController {
         );
 
         var saved = employeeRepository.save(emp);
+        // 권한 판정 캐시 무효화(write-through)
+        employeeCache.invalidate(saved.getUserId());
+        managerScopeIndex.onEmployeeChanged(saved.getUserId(), saved.getSiteId(), saved.isActive());
         return new AdminEmployeeResponse(saved.getUserId(), saved.getUsername(), saved.isActive(), saved.getRole(), saved.getSiteId());
     }
 
+    /**
+     * 직원 일괄 등록 (ADMIN only)
+     * - 본문: text/csv(헤더 행 필수) 또는 application/x-ndjson(행마다 단건 생성 요청과 같은 JSON)
+     * - 행 오류가 있어도 나머지 행은 등록, dryRun=true면 검증 결과만 반환
+     */
+    @PostMapping("/import")
+    public AdminEmployeeImportResponse importEmployees(
+            @CurrentPrincipal AuthPrincipal principal,
+            @RequestParam(defaultValue = "false") boolean dryRun,
+            HttpServletRequest request
+    ) throws IOException {
+        adminGuard.requireAdmin(principal);
+        var format = resolveImportFormat(request.getContentType());
+        try (InputStream in = request.getInputStream()) {
+            return employeeImportService.importEmployees(in, format, dryRun);
+        }
+    }
+
+    private static EmployeeImportService.Format resolveImportFormat(String contentType) {
+        if (contentType != null) {
+            try {
+                var type = MediaType.parseMediaType(contentType);
+                if (type.isCompatibleWith(MediaType.parseMediaType("text/csv"))) {
+                    return EmployeeImportService.Format.CSV;
+                }
+                if (type.isCompatibleWith(MediaType.APPLICATION_NDJSON) || type.isCompatibleWith(MediaType.parseMediaType("application/x-ndjson"))) {
+                    return EmployeeImportService.Format.NDJSON;
+                }
+            } catch (InvalidMediaTypeException ignored) {
+                // 아래에서 지원하지 않는 형식으로 처리
+            }
+        }
+        throw new BusinessException(ErrorCode.INVALID_REQUEST_PARAM, "Content-Type은 text/csv 또는 application/x-ndjson 이어야 합니다.");
+    }
 
     @PatchMapping("/{targetUserId}")
     public AdminEmployeeResponse update(
-            @CurrentUserId Long userId,
+            @CurrentPrincipal AuthPrincipal principal,
             @PathVariable Long targetUserId,
             @RequestBody(required = false) AdminEmployeeUpdateRequest body
     ) {
-        var role = adminGuard.requireAdminOrManager(userId);
+        var role = adminGuard.requireAdminOrManager(principal);
         if (body == null || (body.active() == null && body.siteId() == null && (body.username() == null || body.username().trim().isBlank()))) {
             throw new BusinessException(ErrorCode.INVALID_REQUEST_PAYLOAD, "변경할 값이 없습니다.");
         }
@@ -118,7 +172,7 @@ public class AdminEmployeeController {
             if (emp.getRole() != EmployeeRole.EMPLOYEE) {
                 throw new BusinessException(ErrorCode.FORBIDDEN, "권한이 없습니다.");
             }
-            var manageableSiteIds = managerSiteAssignmentRepository.findSiteIdsByManagerUserId(userId);
+            var manageableSiteIds = principal.getManagedSiteIds();
             if (manageableSiteIds.isEmpty()) {
                 throw new BusinessException(ErrorCode.FORBIDDEN, "권한이 없습니다.");
             }
@@ -141,6 +195,27 @@ public class AdminEmployeeController {
         if (body.username() != null && !body.username().trim().isBlank()) emp.changeUsername(body.username().trim());
 
         var saved = employeeRepository.save(emp);
+        // 권한 판정 캐시 무효화(write-through)
+        employeeCache.invalidate(saved.getUserId());
+        managerScopeIndex.onEmployeeChanged(saved.getUserId(), saved.getSiteId(), saved.isActive());
+        // active/site 변경 시 Employee.scopeVersion 증가 → 발급된 토큰의 scope claim 재검증
+        scopeVersionRegistry.invalidate(saved.getUserId());
         return new AdminEmployeeResponse(saved.getUserId(), saved.getUsername(), saved.isActive(), saved.getRole(), saved.getSiteId());
     }
-}
\ No newline at end of file
+
+    /**
+     * 권한 판정용 Employee 캐시 지표 (ADMIN only)
+     */
+    @GetMapping("/cache-stats")
+    public EmployeeCacheStatsResponse cacheStats(@CurrentPrincipal AuthPrincipal principal) {
+        adminGuard.requireAdmin(principal);
+        var stats = employeeCache.stats();
+        return new EmployeeCacheStatsResponse(
+                employeeCache.estimatedSize(),
+                stats.hitCount(),
+                stats.missCount(),
+                stats.hitRate(),
+                stats.evictionCount()
+        );
+    }
+}
@@ -0,0 +1,29 @@
+package io.github.anpk.attendanceapp.employee.interfaces.dto;
+
+import java.util.List;
+
+/**
+ * 직원 일괄 등록 결과
+ * - totalRows: 헤더/빈 줄을 제외한 데이터 행 수
+ * - succeeded: 등록된 행 수(dryRun이면 등록 가능한 행 수)
+ * - errors: 행 오류(최대 app.employee-import.max-errors건, 초과 시 errorsTruncated=true — failed는 전체 건수)
+ */
+public record AdminEmployeeImportResponse(
+        boolean dryRun,
+        long totalRows,
+        long succeeded,
+        long failed,
+        List<RowError> errors,
+        boolean errorsTruncated
+) {
+    /**
+     * @param line   본문 줄 번호(1부터, CSV 헤더 포함)
+     * @param userId 해석된 경우만(형식 오류 행은 null)
+     */
+    public record RowError(
+            long line,
+            Long userId,
+            String errorCode,
+            String message
+    ) {}
+}
@@ -0,0 +1,9 @@
+package io.github.anpk.attendanceapp.employee.interfaces.dto;
+
+public record EmployeeCacheStatsResponse(
+        long size,
+        long hitCount,
+        long missCount,
+        double hitRate,
+        long evictionCount
+) {}
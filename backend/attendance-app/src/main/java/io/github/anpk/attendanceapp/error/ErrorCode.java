@@ -40,6 +40,11 @@ public enum ErrorCode {
     SITE_INACTIVE,
     EMPLOYEE_NOT_FOUND,
 
+    // Report Job
+    REPORT_JOB_NOT_FOUND,
+    REPORT_JOB_NOT_READY,
+    REPORT_JOB_QUEUE_FULL,
+
     // Common / Auth
     UNAUTHORIZED,
     FORBIDDEN,
@@ -35,6 +35,11 @@ public final class ErrorCodeHttpMapper {
         MAP.put(ErrorCode.SITE_INACTIVE, HttpStatus.FORBIDDEN);
         MAP.put(ErrorCode.EMPLOYEE_NOT_FOUND, HttpStatus.NOT_FOUND);
 
+        // Report Job
+        MAP.put(ErrorCode.REPORT_JOB_NOT_FOUND, HttpStatus.NOT_FOUND);
+        MAP.put(ErrorCode.REPORT_JOB_NOT_READY, HttpStatus.CONFLICT);
+        MAP.put(ErrorCode.REPORT_JOB_QUEUE_FULL, HttpStatus.TOO_MANY_REQUESTS);
+
         // Auth
         MAP.put(ErrorCode.UNAUTHORIZED, HttpStatus.UNAUTHORIZED);
         MAP.put(ErrorCode.FORBIDDEN, HttpStatus.FORBIDDEN);
@@ -0,0 +1,220 @@
+package io.github.anpk.attendanceapp.site.application.service;
+
+import io.github.anpk.attendanceapp.config.AfterCommit;
+import io.github.anpk.attendanceapp.employee.infrastructure.repository.EmployeeRepository;
+import io.github.anpk.attendanceapp.site.domain.model.ManagerSiteAssignment;
+import io.github.anpk.attendanceapp.site.infrastructure.repository.ManagerSiteAssignmentRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * MANAGER 스코프 인메모리 인덱스
+ * - manager → 담당 siteId 집합, site → 활성 직원 userId 집합 (정렬된 long[] — 박싱 없는 원시 집합)
+ * - 집합은 불변 배열로 교체(copy-on-write)하므로 읽기는 락 없이 수행된다
+ * - 변경(할당/해제, 직원 생성/수정)은 호출 측이 on*() 으로 반영하고, 트랜잭션 안이면 커밋 후 적용한다
+ * - 누락 방어: 주기적으로 DB에서 전체 재적재(refresh-interval-ms)
+ * - 재적재 중 커밋된 변경은 기록해 두었다가 새 스냅샷에 다시 적용한다(이전 시점 스냅샷이 최신 해제를 덮어쓰지 않도록)
+ */
+@Component
+@Slf4j
+public class ManagerScopeIndex {
+
+    private static final long[] EMPTY = new long[0];
+
+    private final ManagerSiteAssignmentRepository managerSiteAssignmentRepository;
+    private final EmployeeRepository employeeRepository;
+
+    private volatile Map<Long, long[]> sitesByManager = new ConcurrentHashMap<>();
+    private volatile Map<Long, long[]> activeUsersBySite = new ConcurrentHashMap<>();
+    // 직원 이동/비활성 반영용 역방향(userId → 현재 활성 소속 siteId)
+    private volatile Map<Long, Long> siteByActiveUser = new ConcurrentHashMap<>();
+    // 변경 반영/스냅샷 교체 직렬화(읽기는 락 없음)
+    private final ReentrantLock lock = new ReentrantLock();
+    // 재적재끼리 직렬화(DB 조회 동안 lock을 잡지 않기 위해 분리)
+    private final ReentrantLock reloadLock = new ReentrantLock();
+    // 재적재의 DB 조회 시작 이후 반영된 변경(lock 보호, 재적재 중이 아니면 null)
+    private List<Runnable> changesDuringReload;
+
+    public ManagerScopeIndex(
+            ManagerSiteAssignmentRepository managerSiteAssignmentRepository,
+            EmployeeRepository employeeRepository
+    ) {
+        this.managerSiteAssignmentRepository = managerSiteAssignmentRepository;
+        this.employeeRepository = employeeRepository;
+    }
+
+    // =============================================================
+    // 조회
+    // =============================================================
+
+    public boolean managesSite(Long managerUserId, Long siteId) {
+        if (managerUserId == null || siteId == null) return false;
+        return contains(sitesByManager.getOrDefault(managerUserId, EMPTY), siteId);
+    }
+
+    public long[] siteIdsOf(Long managerUserId) {
+        if (managerUserId == null) return EMPTY;
+        return sitesByManager.getOrDefault(managerUserId, EMPTY).clone();
+    }
+
+    /**
+     * 승인 대기함에 노출될 수 있는 직원(담당 site의 활성 직원, 본인 제외)이 1명이라도 있는지
+     */
+    public boolean hasApprovableEmployees(Long managerUserId) {
+        for (long siteId : sitesByManager.getOrDefault(managerUserId, EMPTY)) {
+            long[] users = activeUsersBySite.getOrDefault(siteId, EMPTY);
+            if (users.length > 1) return true;
+            if (users.length == 1 && users[0] != managerUserId) return true;
+        }
+        return false;
+    }
+
+    // =============================================================
+    // 변경 반영
+    // =============================================================
+
+    public void onAssigned(Long managerUserId, Long siteId) {
+        AfterCommit.run(() -> apply(() -> sitesByManager.compute(managerUserId, (k, cur) -> with(cur, siteId))));
+    }
+
+    public void onUnassigned(Long managerUserId, Long siteId) {
+        AfterCommit.run(() -> apply(() -> sitesByManager.compute(managerUserId, (k, cur) -> without(cur, siteId))));
+    }
+
+    /**
+     * 직원 생성/수정(소속 site, active 변경) 반영
+     */
+    public void onEmployeeChanged(Long userId, Long siteId, boolean active) {
+        AfterCommit.run(() -> apply(() -> applyEmployee(userId, siteId, active)));
+    }
+
+    private void applyEmployee(Long userId, Long siteId, boolean active) {
+        Long prevSite = siteByActiveUser.remove(userId);
+        if (prevSite != null) {
+            activeUsersBySite.compute(prevSite, (k, cur) -> without(cur, userId));
+        }
+        if (active && siteId != null) {
+            siteByActiveUser.put(userId, siteId);
+            activeUsersBySite.compute(siteId, (k, cur) -> with(cur, userId));
+        }
+    }
+
+    /**
+     * 변경을 현재 스냅샷에 적용
+     * - 재적재가 DB를 읽는 중이면 기록해 두고, 새 스냅샷 교체 직후 같은 순서로 다시 적용한다
+     * - 변경은 모두 "포함/제외/소속 지정" 형태라 이미 반영된 스냅샷에 다시 적용해도 결과가 같다
+     */
+    private void apply(Runnable change) {
+        lock.lock();
+        try {
+            change.run();
+            if (changesDuringReload != null) changesDuringReload.add(change);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * DB 기준 전체 재적재(기동 시 + 주기 실행)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${app.manager-scope.refresh-interval-ms:300000}",
+            fixedDelayString = "${app.manager-scope.refresh-interval-ms:300000}")
+    public void reload() {
+        // 재적재는 JDBC 대기를 포함하므로 synchronized가 아닌 ReentrantLock(가상 스레드 pinning 방지)
+        reloadLock.lock();
+        try {
+            lock.lock();
+            try {
+                changesDuringReload = new ArrayList<>();
+            } finally {
+                lock.unlock();
+            }
+
+            Map<Long, long[]> sites = new HashMap<>();
+            Map<Long, long[]> users = new HashMap<>();
+            Map<Long, Long> siteByUser = new HashMap<>();
+            try {
+                for (ManagerSiteAssignment m : managerSiteAssignmentRepository.findAll()) {
+                    sites.merge(m.getManagerUserId(), new long[]{m.getSiteId()}, ManagerScopeIndex::union);
+                }
+                for (var row : employeeRepository.findActiveSiteMemberships()) {
+                    users.merge(row.getSiteId(), new long[]{row.getUserId()}, ManagerScopeIndex::union);
+                    siteByUser.put(row.getUserId(), row.getSiteId());
+                }
+            } catch (RuntimeException e) {
+                lock.lock();
+                try {
+                    changesDuringReload = null;
+                } finally {
+                    lock.unlock();
+                }
+                throw e;
+            }
+
+            lock.lock();
+            try {
+                this.sitesByManager = new ConcurrentHashMap<>(sites);
+                this.activeUsersBySite = new ConcurrentHashMap<>(users);
+                this.siteByActiveUser = new ConcurrentHashMap<>(siteByUser);
+                List<Runnable> replay = changesDuringReload;
+                changesDuringReload = null;
+                for (Runnable change : replay) change.run();
+                log.debug("manager scope index reloaded: managers={}, sites={}, activeEmployees={}, replayed={}",
+                        sites.size(), users.size(), siteByUser.size(), replay.size());
+            } finally {
+                lock.unlock();
+            }
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    // =============================================================
+    // 정렬 long[] 집합 유틸
+    // =============================================================
+
+    private static boolean contains(long[] set, long v) {
+        return Arrays.binarySearch(set, v) >= 0;
+    }
+
+    private static long[] with(long[] set, long v) {
+        if (set == null) return new long[]{v};
+        int idx = Arrays.binarySearch(set, v);
+        if (idx >= 0) return set;
+        int ins = -idx - 1;
+        long[] out = new long[set.length + 1];
+        System.arraycopy(set, 0, out, 0, ins);
+        out[ins] = v;
+        System.arraycopy(set, ins, out, ins + 1, set.length - ins);
+        return out;
+    }
+
+    private static long[] without(long[] set, long v) {
+        if (set == null) return null;
+        int idx = Arrays.binarySearch(set, v);
+        if (idx < 0) return set;
+        if (set.length == 1) return null; // compute()에서 null → 키 제거
+        long[] out = new long[set.length - 1];
+        System.arraycopy(set, 0, out, 0, idx);
+        System.arraycopy(set, idx + 1, out, idx, set.length - idx - 1);
+        return out;
+    }
+
+    private static long[] union(long[] a, long[] b) {
+        long[] out = a;
+        for (long v : b) out = with(out, v);
+        return out;
+    }
+}
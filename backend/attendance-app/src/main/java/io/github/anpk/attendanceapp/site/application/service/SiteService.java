@@ -1,7 +1,8 @@
 package io.github.anpk.attendanceapp.site.application.service;
 
+import io.github.anpk.attendanceapp.auth.ScopeVersionRegistry;
 import io.github.anpk.attendanceapp.employee.domain.model.EmployeeRole;
-import io.github.anpk.attendanceapp.employee.infrastructure.repository.EmployeeRepository;
+import io.github.anpk.attendanceapp.employee.application.service.EmployeeCache;
 import io.github.anpk.attendanceapp.error.BusinessException;
 import io.github.anpk.attendanceapp.error.ErrorCode;
 import io.github.anpk.attendanceapp.site.domain.model.ManagerSiteAssignment;
@@ -23,21 +24,27 @@ public class SiteService {
 
     private final SiteRepository siteRepository;
     private final ManagerSiteAssignmentRepository managerSiteAssignmentRepository;
-    private final EmployeeRepository employeeRepository;
+    private final EmployeeCache employeeCache;
+    private final ManagerScopeIndex managerScopeIndex;
+    private final ScopeVersionRegistry scopeVersionRegistry;
 
     public SiteService(
             SiteRepository siteRepository,
             ManagerSiteAssignmentRepository managerSiteAssignmentRepository,
-            EmployeeRepository employeeRepository
+            EmployeeCache employeeCache,
+            ManagerScopeIndex managerScopeIndex,
+            ScopeVersionRegistry scopeVersionRegistry
     ) {
         this.siteRepository = siteRepository;
         this.managerSiteAssignmentRepository = managerSiteAssignmentRepository;
-        this.employeeRepository = employeeRepository;
+        this.employeeCache = employeeCache;
+        this.managerScopeIndex = managerScopeIndex;
+        this.scopeVersionRegistry = scopeVersionRegistry;
     }
 
     @Transactional(readOnly = true)
     public List<SiteResponse> listVisibleSites(Long userId) {
-        var me = employeeRepository.findById(userId)
+        var me = employeeCache.findById(userId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.FORBIDDEN, "권한이 없습니다."));
         if (!me.isActive()) {
             throw new BusinessException(ErrorCode.FORBIDDEN, "권한이 없습니다.");
@@ -79,10 +86,12 @@ public class SiteService {
             return; // idempotent
         }
         managerSiteAssignmentRepository.save(new ManagerSiteAssignment(req.managerUserId(), req.siteId(), OffsetDateTime.now()));
+        managerScopeIndex.onAssigned(req.managerUserId(), req.siteId());
+        scopeVersionRegistry.bump(req.managerUserId());
     }
 
     private void requireAdmin(Long userId) {
-        var me = employeeRepository.findById(userId)
+        var me = employeeCache.findById(userId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.FORBIDDEN, "권한이 없습니다."));
         if (!me.isActive() || me.getRole() != EmployeeRole.ADMIN) {
             throw new BusinessException(ErrorCode.FORBIDDEN, "권한이 없습니다.");
@@ -2,6 +2,15 @@ package io.github.anpk.attendanceapp.site.infrastructure.repository;
 
 import io.github.anpk.attendanceapp.site.domain.model.Site;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
 
 public interface SiteRepository extends JpaRepository<Site, Long> {
-}
\ No newline at end of file
+
+    /**
+     * 전체 siteId (직원 일괄 등록 siteId 검증용 1회 적재)
+     */
+    @Query("select s.id from Site s")
+    List<Long> findAllIds();
+}
@@ -1,11 +1,14 @@
 package io.github.anpk.attendanceapp.site.interfaces;
 
 import io.github.anpk.attendanceapp.auth.AdminGuard;
-import io.github.anpk.attendanceapp.auth.CurrentUserId;
+import io.github.anpk.attendanceapp.auth.AuthPrincipal;
+import io.github.anpk.attendanceapp.auth.CurrentPrincipal;
+import io.github.anpk.attendanceapp.auth.ScopeVersionRegistry;
 import io.github.anpk.attendanceapp.employee.domain.model.EmployeeRole;
 import io.github.anpk.attendanceapp.employee.infrastructure.repository.EmployeeRepository;
 import io.github.anpk.attendanceapp.error.BusinessException;
 import io.github.anpk.attendanceapp.error.ErrorCode;
+import io.github.anpk.attendanceapp.site.application.service.ManagerScopeIndex;
 import io.github.anpk.attendanceapp.site.domain.model.ManagerSiteAssignment;
 import io.github.anpk.attendanceapp.site.infrastructure.repository.ManagerSiteAssignmentRepository;
 import io.github.anpk.attendanceapp.site.infrastructure.repository.SiteRepository;
@@ -24,22 +27,28 @@ public class AdminManagerSiteAssignmentController {
     private final EmployeeRepository employeeRepository;
     private final SiteRepository siteRepository;
     private final AdminGuard adminGuard;
+    private final ManagerScopeIndex managerScopeIndex;
+    private final ScopeVersionRegistry scopeVersionRegistry;
 
     public AdminManagerSiteAssignmentController(
             ManagerSiteAssignmentRepository assignmentRepository,
             EmployeeRepository employeeRepository,
             SiteRepository siteRepository,
-            AdminGuard adminGuard
+            AdminGuard adminGuard,
+            ManagerScopeIndex managerScopeIndex,
+            ScopeVersionRegistry scopeVersionRegistry
     ) {
         this.assignmentRepository = assignmentRepository;
         this.employeeRepository = employeeRepository;
         this.siteRepository = siteRepository;
         this.adminGuard = adminGuard;
+        this.managerScopeIndex = managerScopeIndex;
+        this.scopeVersionRegistry = scopeVersionRegistry;
     }
 
     @PostMapping
-    public void assign(@CurrentUserId Long userId, @RequestBody AdminManagerSiteAssignRequest body) {
-        adminGuard.requireAdmin(userId);
+    public void assign(@CurrentPrincipal AuthPrincipal principal, @RequestBody AdminManagerSiteAssignRequest body) {
+        adminGuard.requireAdmin(principal);
         if (body == null || body.managerUserId() == null || body.siteId() == null) {
             throw new BusinessException(ErrorCode.INVALID_REQUEST_PAYLOAD, "managerUserId/siteId는 필수입니다.");
         }
@@ -53,19 +62,23 @@ public class AdminManagerSiteAssignmentController {
         }
         if (!assignmentRepository.existsByManagerUserIdAndSiteId(body.managerUserId(), body.siteId())) {
             assignmentRepository.save(new ManagerSiteAssignment(body.managerUserId(), body.siteId(), OffsetDateTime.now()));
+            scopeVersionRegistry.bump(body.managerUserId());
         }
+        managerScopeIndex.onAssigned(body.managerUserId(), body.siteId());
     }
 
     @DeleteMapping
     @Transactional
-    public void unassign(@CurrentUserId Long userId, @RequestParam Long managerUserId, @RequestParam Long siteId) {
-        adminGuard.requireAdmin(userId);
+    public void unassign(@CurrentPrincipal AuthPrincipal principal, @RequestParam Long managerUserId, @RequestParam Long siteId) {
+        adminGuard.requireAdmin(principal);
         assignmentRepository.deleteByManagerUserIdAndSiteId(managerUserId, siteId);
+        scopeVersionRegistry.bump(managerUserId);
+        managerScopeIndex.onUnassigned(managerUserId, siteId);
     }
 
     @GetMapping("/managers/{managerUserId}/sites")
-    public List<Long> listAssignedSites(@CurrentUserId Long userId, @PathVariable Long managerUserId) {
-        adminGuard.requireAdmin(userId);
+    public List<Long> listAssignedSites(@CurrentPrincipal AuthPrincipal principal, @PathVariable Long managerUserId) {
+        adminGuard.requireAdmin(principal);
         return assignmentRepository.findSiteIdsByManagerUserId(managerUserId);
     }
 }
\ No newline at end of file
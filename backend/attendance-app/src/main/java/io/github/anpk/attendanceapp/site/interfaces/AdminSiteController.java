@@ -1,13 +1,13 @@
 package io.github.anpk.attendanceapp.site.interfaces;
 
 import io.github.anpk.attendanceapp.auth.AdminGuard;
-import io.github.anpk.attendanceapp.auth.CurrentUserId;
+import io.github.anpk.attendanceapp.auth.AuthPrincipal;
+import io.github.anpk.attendanceapp.auth.CurrentPrincipal;
 import io.github.anpk.attendanceapp.employee.domain.model.EmployeeRole;
 import io.github.anpk.attendanceapp.employee.infrastructure.repository.EmployeeRepository;
 import io.github.anpk.attendanceapp.error.BusinessException;
 import io.github.anpk.attendanceapp.error.ErrorCode;
 import io.github.anpk.attendanceapp.site.domain.model.Site;
-import io.github.anpk.attendanceapp.site.infrastructure.repository.ManagerSiteAssignmentRepository;
 import io.github.anpk.attendanceapp.site.infrastructure.repository.SiteRepository;
 import io.github.anpk.attendanceapp.site.interfaces.dto.AdminSiteCreateRequest;
 import io.github.anpk.attendanceapp.site.interfaces.dto.AdminSiteResponse;
@@ -21,18 +21,16 @@ import java.util.List;
 public class AdminSiteController {
 
     private final SiteRepository siteRepository;
-    private final ManagerSiteAssignmentRepository managerSiteAssignmentRepository;
     private final AdminGuard adminGuard;
 
-    public AdminSiteController(SiteRepository siteRepository, ManagerSiteAssignmentRepository managerSiteAssignmentRepository, AdminGuard adminGuard) {
+    public AdminSiteController(SiteRepository siteRepository, AdminGuard adminGuard) {
         this.siteRepository = siteRepository;
-        this.managerSiteAssignmentRepository = managerSiteAssignmentRepository;
         this.adminGuard = adminGuard;
     }
 
     @GetMapping
-    public List<AdminSiteResponse> list(@CurrentUserId Long userId) {
-        var role = adminGuard.requireAdminOrManager(userId);
+    public List<AdminSiteResponse> list(@CurrentPrincipal AuthPrincipal principal) {
+        var role = adminGuard.requireAdminOrManager(principal);
         if (role == EmployeeRole.ADMIN) {
             return siteRepository.findAll().stream()
                     .map(s -> new AdminSiteResponse(s.getId(), s.getName(), s.isActive()))
@@ -40,15 +38,15 @@ public class AdminSiteController {
         }
 
         // MANAGER: assignments에 포함된 site만
-        var siteIds = managerSiteAssignmentRepository.findSiteIdsByManagerUserId(userId);
+        var siteIds = principal.getManagedSiteIds();
         return siteRepository.findAllById(siteIds).stream()
                 .map(s -> new AdminSiteResponse(s.getId(), s.getName(), s.isActive()))
                 .toList();
     }
 
     @PostMapping
-    public AdminSiteResponse create(@CurrentUserId Long userId, @RequestBody AdminSiteCreateRequest body) {
-        adminGuard.requireAdmin(userId);
+    public AdminSiteResponse create(@CurrentPrincipal AuthPrincipal principal, @RequestBody AdminSiteCreateRequest body) {
+        adminGuard.requireAdmin(principal);
         if (body == null || body.name() == null || body.name().trim().isBlank()) {
             throw new BusinessException(ErrorCode.INVALID_REQUEST_PAYLOAD, "site name은 필수입니다.");
         }
@@ -58,17 +56,12 @@ public class AdminSiteController {
 
     @PatchMapping("/{siteId}")
     public AdminSiteResponse update(
-            @CurrentUserId Long userId,
+            @CurrentPrincipal AuthPrincipal principal,
             @PathVariable Long siteId,
             @RequestBody(required = false) AdminSiteUpdateRequest body
     ) {
-        var role = adminGuard.requireAdminOrManager(userId);
-        if (role == EmployeeRole.MANAGER) {
-            // MANAGER: assignments에 포함된 site만 수정 가능
-            if (!managerSiteAssignmentRepository.existsByManagerUserIdAndSiteId(userId, siteId)) {
-                throw new BusinessException(ErrorCode.FORBIDDEN, "권한이 없습니다.");
-            }
-        }
+        // MANAGER: assignments에 포함된 site만 수정 가능
+        adminGuard.requireSiteScope(principal, siteId);
 
         if (body == null || (body.name() == null && body.active() == null)) {
             throw new BusinessException(ErrorCode.INVALID_REQUEST_PAYLOAD, "변경할 값이 없습니다.");
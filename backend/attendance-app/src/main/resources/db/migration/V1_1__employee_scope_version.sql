@@ -0,0 +1,2 @@
+-- 직원 권한 범위(site/role/active) 변경 세대 — 발급된 토큰의 범위 재확인용
+ALTER TABLE employees ADD COLUMN IF NOT EXISTS scope_version BIGINT DEFAULT 0 NOT NULL;
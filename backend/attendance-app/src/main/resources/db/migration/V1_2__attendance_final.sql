@@ -0,0 +1,13 @@
+-- 근태 Final 값(승인 정정 반영) 투영 — 목록/리포트 조회용
+CREATE TABLE IF NOT EXISTS attendance_final (
+    attendance_id BIGINT NOT NULL,
+    user_id BIGINT NOT NULL,
+    work_date DATE NOT NULL,
+    final_check_in_time TIMESTAMP(6),
+    final_check_out_time TIMESTAMP(6),
+    total_break_minutes BIGINT NOT NULL,
+    corrected BOOLEAN NOT NULL,
+    applied_correction_request_id BIGINT,
+    refreshed_at TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (attendance_id)
+);
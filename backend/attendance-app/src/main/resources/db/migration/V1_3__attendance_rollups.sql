@@ -0,0 +1,28 @@
+-- 근무 분 rollup(일 단위 / site 월 단위)
+CREATE TABLE IF NOT EXISTS attendance_daily_rollup (
+    attendance_id BIGINT NOT NULL,
+    user_id BIGINT NOT NULL,
+    work_date DATE NOT NULL,
+    site_id BIGINT,
+    work_minutes BIGINT,
+    break_minutes BIGINT NOT NULL,
+    missing_checkout BOOLEAN NOT NULL,
+    corrected BOOLEAN NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (attendance_id),
+    CONSTRAINT uk_attendance_daily_rollup_user_work_date UNIQUE (user_id, work_date)
+);
+
+CREATE TABLE IF NOT EXISTS site_monthly_rollup (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    site_id BIGINT NOT NULL,
+    work_month VARCHAR(7) NOT NULL,
+    attendance_days BIGINT NOT NULL,
+    closed_days BIGINT NOT NULL,
+    total_work_minutes BIGINT NOT NULL,
+    missing_checkout_days BIGINT NOT NULL,
+    corrected_days BIGINT NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_site_monthly_rollup_site_month UNIQUE (site_id, work_month)
+);
@@ -0,0 +1,21 @@
+-- 비동기 리포트/내보내기 작업
+CREATE TABLE IF NOT EXISTS report_jobs (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    type VARCHAR(30) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    requested_by BIGINT NOT NULL,
+    site_id BIGINT NOT NULL,
+    user_id BIGINT,
+    from_date DATE NOT NULL,
+    to_date DATE NOT NULL,
+    total_units BIGINT,
+    processed_units BIGINT NOT NULL,
+    result_path VARCHAR(500),
+    result_bytes BIGINT,
+    error_message VARCHAR(500),
+    created_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    started_at TIMESTAMP(6) WITH TIME ZONE,
+    finished_at TIMESTAMP(6) WITH TIME ZONE,
+    expires_at TIMESTAMP(6) WITH TIME ZONE,
+    PRIMARY KEY (id)
+);
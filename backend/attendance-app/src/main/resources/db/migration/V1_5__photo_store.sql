@@ -0,0 +1,25 @@
+-- 사진 저장소: 업로드 영속화 상태 + 내용 주소(blob) 참조
+CREATE TABLE IF NOT EXISTS photo_uploads (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    spool_path VARCHAR(500) NOT NULL,
+    target_path VARCHAR(500) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    blob_key VARCHAR(64),
+    size_bytes BIGINT NOT NULL,
+    created_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    durable_at TIMESTAMP(6) WITH TIME ZONE,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_photo_uploads_target UNIQUE (target_path)
+);
+CREATE INDEX IF NOT EXISTS idx_photo_uploads_status ON photo_uploads (status);
+
+CREATE TABLE IF NOT EXISTS photo_blob_refs (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    photo_name VARCHAR(300) NOT NULL,
+    blob_key VARCHAR(64) NOT NULL,
+    size_bytes BIGINT NOT NULL,
+    created_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_photo_blob_refs_name UNIQUE (photo_name)
+);
+CREATE INDEX IF NOT EXISTS idx_photo_blob_refs_blob_key ON photo_blob_refs (blob_key);
@@ -0,0 +1,81 @@
+-- 기준 스키마(Flyway 도입 전 ddl-auto: update 로 만들어지던 최초 테이블과 동일)
+-- - ddl-auto로 이미 만들어진 DB는 spring.flyway.baseline-on-migrate 로 이 버전만 건너뛴다
+-- - 이후 추가된 테이블/컬럼은 V1_1~ 에서 만든다(ddl-auto가 먼저 만든 DB도 그대로 통과하도록 IF NOT EXISTS)
+
+CREATE TABLE sites (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    name VARCHAR(100) NOT NULL,
+    active BOOLEAN NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE employees (
+    user_id BIGINT NOT NULL,
+    username VARCHAR(50) NOT NULL,
+    site_id BIGINT NOT NULL,
+    role VARCHAR(20) NOT NULL,
+    active BOOLEAN NOT NULL,
+    password VARCHAR(100) NOT NULL,
+    PRIMARY KEY (user_id)
+);
+
+CREATE TABLE manager_site_assignments (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    manager_user_id BIGINT NOT NULL,
+    site_id BIGINT NOT NULL,
+    created_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_manager_site UNIQUE (manager_user_id, site_id)
+);
+
+CREATE TABLE attendance (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    user_id BIGINT,
+    work_date DATE,
+    check_in_time TIMESTAMP(6),
+    check_out_time TIMESTAMP(6),
+    check_in_photo_path VARCHAR(255),
+    check_out_photo_path VARCHAR(255),
+    photo_path VARCHAR(255),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_attendance_user_work_date UNIQUE (user_id, work_date)
+);
+
+CREATE TABLE attendance_break (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    attendance_id BIGINT NOT NULL,
+    break_start_time TIMESTAMP(6) NOT NULL,
+    break_end_time TIMESTAMP(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_attendance_break_attendance FOREIGN KEY (attendance_id) REFERENCES attendance (id)
+);
+
+CREATE TABLE correction_requests (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    attendance_id BIGINT NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    type VARCHAR(20) NOT NULL,
+    requested_by BIGINT NOT NULL,
+    requested_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    proposed_check_in_at TIMESTAMP(6) WITH TIME ZONE,
+    proposed_check_out_at TIMESTAMP(6) WITH TIME ZONE,
+    break_change_requested BOOLEAN NOT NULL,
+    canceled_at TIMESTAMP(6) WITH TIME ZONE,
+    processed_at TIMESTAMP(6) WITH TIME ZONE,
+    processed_by BIGINT,
+    approve_comment TEXT,
+    reject_reason TEXT,
+    reason TEXT NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_correction_requests_attendance FOREIGN KEY (attendance_id) REFERENCES attendance (id)
+);
+
+CREATE TABLE correction_request_break_proposals (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    correction_request_id BIGINT NOT NULL,
+    sort_order INTEGER NOT NULL,
+    proposed_break_start_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    proposed_break_end_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_break_proposals_correction_request FOREIGN KEY (correction_request_id) REFERENCES correction_requests (id)
+);
@@ -0,0 +1,21 @@
+-- 조회 빈도가 높은 조건의 인덱스(RepositoryQueryPlanTests가 EXPLAIN으로 전체 스캔 여부를 검증)
+
+-- Final 합성(attendance별 APPROVED 최신 processed_at), PENDING 중복 검사
+CREATE INDEX IF NOT EXISTS idx_correction_requests_attendance_status
+    ON correction_requests (attendance_id, status, processed_at);
+
+-- 내 요청 목록(requested_by [+ status], requested_at 정렬)
+CREATE INDEX IF NOT EXISTS idx_correction_requests_requester_status
+    ON correction_requests (requested_by, status, requested_at);
+
+-- 승인 대기함(status, requested_at 정렬)
+CREATE INDEX IF NOT EXISTS idx_correction_requests_status_requested
+    ON correction_requests (status, requested_at);
+
+-- 휴게 목록/진행 중 휴게(break_end_time IS NULL)
+CREATE INDEX IF NOT EXISTS idx_attendance_break_attendance_end
+    ON attendance_break (attendance_id, break_end_time);
+
+-- site 소속(활성) 직원
+CREATE INDEX IF NOT EXISTS idx_employees_site_active
+    ON employees (site_id, active);
@@ -0,0 +1,5 @@
+-- 정정 요청 keyset 목록(requestedAt desc, id desc)
+
+-- 내 요청 목록(status 미지정) — requested_by 범위 안에서 requested_at 순서로 바로 읽는다
+CREATE INDEX IF NOT EXISTS idx_correction_requests_requester_requested
+    ON correction_requests (requested_by, requested_at, id);
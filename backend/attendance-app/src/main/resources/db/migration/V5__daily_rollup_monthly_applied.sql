@@ -0,0 +1,8 @@
+-- 일 단위 rollup 행이 site 월 rollup에 반영되어 있는지 여부
+-- - 확정된 날(퇴근 완료 또는 지난 날짜)만 월 집계에 반영한다 — 출근/휴게마다 월 행을 갱신하지 않는다
+-- - 기존 행은 모두 월 집계에 반영된 상태였으므로 TRUE로 시작한다(다음 갱신 때 이전 기여분을 차감)
+ALTER TABLE attendance_daily_rollup ADD COLUMN IF NOT EXISTS monthly_applied BOOLEAN DEFAULT TRUE NOT NULL;
+
+-- 자정 이후 미반영(퇴근 누락) 행 반영 대상 조회
+CREATE INDEX IF NOT EXISTS idx_attendance_daily_rollup_monthly_pending
+    ON attendance_daily_rollup (monthly_applied, work_date);
@@ -0,0 +1,216 @@
+package io.github.anpk.attendanceapp;
+
+import io.github.anpk.attendanceapp.attendance.infrastructure.repository.AttendanceBreakRepository;
+import io.github.anpk.attendanceapp.attendance.infrastructure.repository.AttendanceRepository;
+import io.github.anpk.attendanceapp.correction.domain.model.CorrectionRequestStatus;
+import io.github.anpk.attendanceapp.correction.infrastructure.repository.CorrectionRequestRepository;
+import io.github.anpk.attendanceapp.dev.SyntheticDataGenerator;
+import io.github.anpk.attendanceapp.employee.domain.model.EmployeeRole;
+import io.github.anpk.attendanceapp.employee.infrastructure.repository.EmployeeRepository;
+import io.github.anpk.attendanceapp.support.SqlCapture;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 쿼리 플랜 회귀 검증(H2 EXPLAIN)
+ * - 리포지토리 메서드를 실제로 호출해 Hibernate가 만든 SQL을 수집하고, 각 SQL의 EXPLAIN에 전체 스캔(tableScan)이 없는지 본다
+ * - 전체 적재가 목적인 쿼리(인덱스/레지스트리 재적재)만 예외로 둔다
+ * - 데이터는 SyntheticDataGenerator로 소규모 적재(빈 테이블 플랜 왜곡 방지)
+ *
+ * 인덱스는 db/migration(V2__hot_path_indexes.sql)에서 관리한다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:query-plan-tests;DB_CLOSE_DELAY=-1",
+        "spring.jpa.show-sql=false",
+        "auth.jwt.secret=query-plan-tests-secret",
+        "auth.jwt.expires-seconds=3600",
+        SqlCapture.PROPERTY
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class RepositoryQueryPlanTests {
+
+    private static final Pattern TABLE_SCAN = Pattern.compile("PUBLIC\\.(\\w+)\\.tableScan", Pattern.CASE_INSENSITIVE);
+    private static final LocalDate FROM = LocalDate.of(2025, 3, 1);
+    private static final LocalDate TO = LocalDate.of(2025, 3, 31);
+    private static final long SITE_ID = 1L;
+    private static final long USER_ID = 700_010L;
+    private static final long MANAGER_ID = 700_001L;
+
+    @Autowired AttendanceRepository attendanceRepository;
+    @Autowired AttendanceBreakRepository attendanceBreakRepository;
+    @Autowired CorrectionRequestRepository correctionRequestRepository;
+    @Autowired EmployeeRepository employeeRepository;
+    @Autowired SyntheticDataGenerator syntheticDataGenerator;
+    @Autowired JdbcTemplate jdbcTemplate;
+    @Autowired PlatformTransactionManager transactionManager;
+
+    @BeforeAll
+    void seed() {
+        syntheticDataGenerator.generate(new SyntheticDataGenerator.Spec(
+                11L, 2, 40, 1,
+                FROM, TO.plusDays(1),
+                0.1, SyntheticDataGenerator.CorrectionMix.parse("approved=40,rejected=20,pending=30,canceled=10"),
+                1_000, 700_000L
+        ));
+    }
+
+    @Test
+    void attendanceRepositoryQueriesUseIndexes() {
+        assertNoFullScan("findByUserIdAndWorkDate", () -> attendanceRepository.findByUserIdAndWorkDate(USER_ID, FROM));
+        assertNoFullScan("findByUserIdAndWorkDateBetween",
+                () -> attendanceRepository.findByUserIdAndWorkDateBetween(USER_ID, FROM, TO, PageRequest.of(1, 10)));
+        assertNoFullScan("findAllByUserIdAndWorkDateBetweenOrderByWorkDateAsc",
+                () -> attendanceRepository.findAllByUserIdAndWorkDateBetweenOrderByWorkDateAsc(USER_ID, FROM, TO));
+        assertNoFullScan("findByIdAndUserId", () -> attendanceRepository.findByIdAndUserId(1L, USER_ID));
+        assertNoFullScan("findTop500ByIdGreaterThanOrderByIdAsc", () -> attendanceRepository.findTop500ByIdGreaterThanOrderByIdAsc(0L));
+        assertNoFullScan("findAllBySiteIdAndWorkDateBetween",
+                () -> attendanceRepository.findAllBySiteIdAndWorkDateBetween(SITE_ID, null, FROM, TO));
+        assertNoFullScan("streamAllBySiteIdAndWorkDateBetween", () -> {
+            try (var s = attendanceRepository.streamAllBySiteIdAndWorkDateBetween(SITE_ID, USER_ID, FROM, TO)) {
+                s.forEach(a -> {});
+            }
+        });
+        assertNoFullScan("countBySiteIdAndWorkDateBetween",
+                () -> attendanceRepository.countBySiteIdAndWorkDateBetween(SITE_ID, null, FROM, TO));
+    }
+
+    @Test
+    void correctionRequestRepositoryQueriesUseIndexes() {
+        PageRequest page = PageRequest.of(1, 10, Sort.by(Sort.Direction.DESC, "requestedAt"));
+        CorrectionRequestStatus pending = CorrectionRequestStatus.PENDING;
+
+        assertNoFullScan("findFirstByAttendance_IdAndStatusOrderByProcessedAtDesc",
+                () -> correctionRequestRepository.findFirstByAttendance_IdAndStatusOrderByProcessedAtDesc(1L, CorrectionRequestStatus.APPROVED));
+        assertNoFullScan("findLatestByAttendanceIdsAndStatus",
+                () -> correctionRequestRepository.findLatestByAttendanceIdsAndStatus(List.of(1L, 2L, 3L), CorrectionRequestStatus.APPROVED));
+        assertNoFullScan("findLatestBySiteIdAndWorkDateBetweenAndStatus",
+                () -> correctionRequestRepository.findLatestBySiteIdAndWorkDateBetweenAndStatus(SITE_ID, null, FROM, TO, CorrectionRequestStatus.APPROVED));
+        assertNoFullScan("findAllWithRequesterByIdIn",
+                () -> correctionRequestRepository.findAllWithRequesterByIdIn(List.of(1L, 2L, 3L)));
+        assertNoFullScan("existsByAttendance_IdAndStatus", () -> correctionRequestRepository.existsByAttendance_IdAndStatus(1L, pending));
+        assertNoFullScan("findByRequestedBy", () -> correctionRequestRepository.findByRequestedBy(USER_ID, page));
+        assertNoFullScan("findByRequestedByAndStatus", () -> correctionRequestRepository.findByRequestedByAndStatus(USER_ID, pending, page));
+        assertNoFullScan("findByStatus", () -> correctionRequestRepository.findByStatus(pending, page));
+        assertNoFullScan("findByRequestedByInAndStatus",
+                () -> correctionRequestRepository.findByRequestedByInAndStatus(List.of(USER_ID, USER_ID + 1), pending, page));
+        assertNoFullScan("findApprovableByManager", () -> correctionRequestRepository.findApprovableByManager(MANAGER_ID, pending, page));
+        OffsetDateTime afterAt = OffsetDateTime.of(2025, 3, 15, 0, 0, 0, 0, ZoneOffset.ofHours(9));
+        assertNoFullScan("findKeysetByRequestedBy",
+                () -> correctionRequestRepository.findKeysetByRequestedBy(USER_ID, afterAt, Long.MAX_VALUE, Limit.of(11)));
+        assertNoFullScan("findKeysetByRequestedByAndStatus",
+                () -> correctionRequestRepository.findKeysetByRequestedByAndStatus(USER_ID, pending, afterAt, Long.MAX_VALUE, Limit.of(11)));
+        assertNoFullScan("findKeysetByStatus",
+                () -> correctionRequestRepository.findKeysetByStatus(pending, afterAt, Long.MAX_VALUE, Limit.of(11)));
+        assertNoFullScan("findKeysetApprovableByManager",
+                () -> correctionRequestRepository.findKeysetApprovableByManager(MANAGER_ID, pending, afterAt, Long.MAX_VALUE, Limit.of(11)));
+        assertNoFullScan("countByRequestedBy", () -> correctionRequestRepository.countByRequestedBy(USER_ID));
+        assertNoFullScan("countByRequestedByAndStatus",
+                () -> correctionRequestRepository.countByRequestedByAndStatus(USER_ID, pending));
+        assertNoFullScan("countByStatus", () -> correctionRequestRepository.countByStatus(pending));
+        assertNoFullScan("countApprovableByManager", () -> correctionRequestRepository.countApprovableByManager(MANAGER_ID, pending));
+        assertNoFullScan("findByRequestedByAndStatusAndAttendance_IdIn",
+                () -> correctionRequestRepository.findByRequestedByAndStatusAndAttendance_IdIn(USER_ID, pending, List.of(1L, 2L)));
+    }
+
+    @Test
+    void attendanceBreakRepositoryQueriesUseIndexes() {
+        assertNoFullScan("findAllByAttendance_IdOrderByBreakStartTimeAsc",
+                () -> attendanceBreakRepository.findAllByAttendance_IdOrderByBreakStartTimeAsc(1L));
+        assertNoFullScan("findFirstByAttendance_IdAndBreakEndTimeIsNullOrderByBreakStartTimeDesc",
+                () -> attendanceBreakRepository.findFirstByAttendance_IdAndBreakEndTimeIsNullOrderByBreakStartTimeDesc(1L));
+        assertNoFullScan("findAllByAttendance_IdIn", () -> attendanceBreakRepository.findAllByAttendance_IdIn(List.of(1L, 2L)));
+        assertNoFullScan("findAllBySiteIdAndWorkDateBetween",
+                () -> attendanceBreakRepository.findAllBySiteIdAndWorkDateBetween(SITE_ID, null, FROM, TO));
+    }
+
+    @Test
+    void employeeRepositoryQueriesUseIndexes() {
+        assertNoFullScan("findAllBySiteId", () -> employeeRepository.findAllBySiteId(SITE_ID));
+        assertNoFullScan("findByUserIdAndSiteId", () -> employeeRepository.findByUserIdAndSiteId(USER_ID, SITE_ID));
+        assertNoFullScan("findAllBySiteIdAndRole", () -> employeeRepository.findAllBySiteIdAndRole(SITE_ID, EmployeeRole.MANAGER));
+        assertNoFullScan("findAllBySiteIdInAndRole",
+                () -> employeeRepository.findAllBySiteIdInAndRole(List.of(SITE_ID, SITE_ID + 1), EmployeeRole.EMPLOYEE));
+        assertNoFullScan("findActiveUserIdsBySiteId", () -> employeeRepository.findActiveUserIdsBySiteId(SITE_ID));
+        assertNoFullScan("incrementScopeVersion", () -> employeeRepository.incrementScopeVersion(USER_ID));
+
+        // 전체 적재가 목적(ManagerScopeIndex/ScopeVersionRegistry 재적재, 일괄 등록 중복 판정) — 전체 스캔 허용, 대상 테이블만 확인
+        assertScansOnly("findActiveSiteMemberships", Set.of("EMPLOYEES"), employeeRepository::findActiveSiteMemberships);
+        assertScansOnly("findAllScopeVersions", Set.of("EMPLOYEES"), employeeRepository::findAllScopeVersions);
+        assertScansOnly("findAllUserIds", Set.of("EMPLOYEES"), employeeRepository::findAllUserIds);
+    }
+
+    private void assertNoFullScan(String query, Runnable call) {
+        assertScansOnly(query, Set.of(), call);
+    }
+
+    private void assertScansOnly(String query, Set<String> allowedTables, Runnable call) {
+        List<String> sqls = capture(call);
+        assertThat(sqls).as("%s: 수집된 SQL 없음", query).isNotEmpty();
+
+        for (String sql : sqls) {
+            String plan = explain(sql);
+            List<String> scanned = new ArrayList<>();
+            Matcher m = TABLE_SCAN.matcher(plan);
+            while (m.find()) {
+                String table = m.group(1).toUpperCase();
+                if (!allowedTables.contains(table)) scanned.add(table);
+            }
+            assertThat(scanned).as("%s 전체 스캔\nSQL: %s\nPLAN: %s", query, sql, plan).isEmpty();
+        }
+    }
+
+    /**
+     * 호출을 트랜잭션 안에서 실행하고(변경은 롤백) 그 사이 준비된 SELECT/UPDATE/DELETE만 반환
+     */
+    private List<String> capture(Runnable call) {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        List<String> sqls = SqlCapture.capture(() -> tx.executeWithoutResult(status -> {
+            call.run();
+            status.setRollbackOnly();
+        }));
+        return sqls.stream()
+                .filter(s -> s.startsWith("select") || s.startsWith("update") || s.startsWith("delete"))
+                .toList();
+    }
+
+    /**
+     * H2 플랜은 prepare 시점에 정해지므로 파라미터 값은 플랜과 무관 — 실행 요건만 맞추도록 NULL 바인딩
+     */
+    private String explain(String sql) {
+        return jdbcTemplate.execute((java.sql.Connection con) -> {
+            try (PreparedStatement ps = con.prepareStatement("EXPLAIN " + sql)) {
+                int params = ps.getParameterMetaData().getParameterCount();
+                for (int i = 1; i <= params; i++) {
+                    ps.setObject(i, null);
+                }
+                StringBuilder plan = new StringBuilder();
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) plan.append(rs.getString(1)).append('\n');
+                }
+                return plan.toString();
+            }
+        });
+    }
+}
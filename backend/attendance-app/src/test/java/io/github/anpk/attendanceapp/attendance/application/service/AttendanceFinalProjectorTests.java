@@ -0,0 +1,149 @@
+package io.github.anpk.attendanceapp.attendance.application.service;
+
+import io.github.anpk.attendanceapp.attendance.domain.model.Attendance;
+import io.github.anpk.attendanceapp.attendance.domain.model.AttendanceBreak;
+import io.github.anpk.attendanceapp.attendance.domain.model.AttendanceFinal;
+import io.github.anpk.attendanceapp.attendance.infrastructure.repository.AttendanceBreakRepository;
+import io.github.anpk.attendanceapp.attendance.infrastructure.repository.AttendanceFinalRepository;
+import io.github.anpk.attendanceapp.attendance.infrastructure.repository.AttendanceRepository;
+import io.github.anpk.attendanceapp.attendance.interfaces.dto.AttendanceFinalRebuildResponse;
+import io.github.anpk.attendanceapp.correction.domain.model.CorrectionRequest;
+import io.github.anpk.attendanceapp.correction.domain.model.CorrectionRequestType;
+import io.github.anpk.attendanceapp.correction.infrastructure.repository.CorrectionRequestRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Final 조회 모델(attendance_final) 검증
+ * - refresh() 결과가 원본 합성(resolveAllFromBase)과 항상 같은 값인지
+ * - 정정 승인/휴게 변경 후 refresh()가 행을 새 값으로 교체하는지
+ * - rebuild(): 누락/불일치를 검증 모드에서는 세기만 하고, 복구 모드에서는 원본 기준으로 맞춘다
+ */
+@SpringBootTest
+@Transactional
+class AttendanceFinalProjectorTests {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+    private static final LocalDate DAY = LocalDate.of(2025, 3, 3);
+
+    @Autowired AttendanceFinalProjector projector;
+    @Autowired FinalSnapshotService finalSnapshotService;
+    @Autowired AttendanceRepository attendanceRepository;
+    @Autowired AttendanceBreakRepository attendanceBreakRepository;
+    @Autowired AttendanceFinalRepository attendanceFinalRepository;
+    @Autowired CorrectionRequestRepository correctionRequestRepository;
+    @Autowired EntityManager entityManager;
+
+    @Test
+    void refreshWritesBaseCompositionAndFollowsCorrections() {
+        Attendance a = attendanceRepository.save(Attendance.checkIn(7101L, DAY, DAY.atTime(9, 0), "seed/test.jpg"));
+        a.checkOut(DAY.atTime(18, 0));
+        AttendanceBreak b = AttendanceBreak.start(a, DAY.atTime(12, 0));
+        b.end(DAY.atTime(12, 45));
+        attendanceBreakRepository.save(b);
+
+        projector.refresh(a);
+        flushAndClear();
+
+        AttendanceFinal f = attendanceFinalRepository.findById(a.getId()).orElseThrow();
+        assertThat(f.getUserId()).isEqualTo(7101L);
+        assertThat(f.getWorkDate()).isEqualTo(DAY);
+        assertThat(f.getFinalCheckInTime()).isEqualTo(DAY.atTime(9, 0));
+        assertThat(f.getFinalCheckOutTime()).isEqualTo(DAY.atTime(18, 0));
+        assertThat(f.getTotalBreakMinutes()).isEqualTo(45L);
+        assertThat(f.isCorrected()).isFalse();
+        assertConsistentWithBase(a.getId());
+
+        Attendance reloaded = attendanceRepository.findById(a.getId()).orElseThrow();
+        CorrectionRequest cr = correctionRequestRepository.save(approved(reloaded, DAY.atTime(8, 30)));
+        projector.refresh(reloaded);
+        flushAndClear();
+
+        f = attendanceFinalRepository.findById(a.getId()).orElseThrow();
+        assertThat(f.getFinalCheckInTime()).isEqualTo(DAY.atTime(8, 30));
+        assertThat(f.getFinalCheckOutTime()).isEqualTo(DAY.atTime(18, 0));
+        assertThat(f.isCorrected()).isTrue();
+        assertThat(f.getAppliedCorrectionRequestId()).isEqualTo(cr.getId());
+        assertConsistentWithBase(a.getId());
+    }
+
+    @Test
+    void rebuildCountsDriftInVerifyModeAndRepairsOtherwise() {
+        Attendance missing = attendanceRepository.save(Attendance.checkIn(7102L, DAY, DAY.atTime(9, 0), "seed/test.jpg"));
+        missing.checkOut(DAY.atTime(18, 0));
+        Attendance stale = attendanceRepository.save(Attendance.checkIn(7103L, DAY, DAY.atTime(9, 0), "seed/test.jpg"));
+        stale.checkOut(DAY.atTime(18, 0));
+        projector.refresh(stale);
+        flushAndClear();
+
+        // missing: refresh 없이 저장된 attendance / stale: 투영 이후 원본만 바뀐 상황(refresh 누락) 재현
+        Attendance staleReloaded = attendanceRepository.findById(stale.getId()).orElseThrow();
+        correctionRequestRepository.save(approved(staleReloaded, DAY.atTime(8, 0)));
+        flushAndClear();
+
+        AttendanceFinalRebuildResponse verify = projector.rebuild(true);
+        assertThat(verify.missing()).isGreaterThanOrEqualTo(1L);
+        assertThat(verify.mismatched()).isGreaterThanOrEqualTo(1L);
+        flushAndClear();
+        assertThat(attendanceFinalRepository.findById(missing.getId())).isEmpty();
+        assertThat(attendanceFinalRepository.findById(stale.getId()).orElseThrow().isCorrected()).isFalse();
+
+        projector.rebuild(false);
+        flushAndClear();
+        assertConsistentWithBase(missing.getId());
+        assertConsistentWithBase(stale.getId());
+        assertThat(attendanceFinalRepository.findById(stale.getId()).orElseThrow().getFinalCheckInTime())
+                .isEqualTo(DAY.atTime(8, 0));
+
+        AttendanceFinalRebuildResponse after = projector.rebuild(true);
+        assertThat(after.missing()).isZero();
+        assertThat(after.mismatched()).isZero();
+    }
+
+    /**
+     * 조회 모델 경로(resolveAll)와 원본 합성 경로(resolveAllFromBase)가 같은 Final을 돌려주는지
+     */
+    private void assertConsistentWithBase(Long attendanceId) {
+        List<Attendance> attendances = attendanceRepository.findAllById(List.of(attendanceId));
+        FinalSnapshot fromView = finalSnapshotService.resolveAll(attendances).get(attendanceId);
+        FinalSnapshot fromBase = finalSnapshotService.resolveAllFromBase(attendances).get(attendanceId);
+        assertThat(attendanceFinalRepository.findById(attendanceId)).isPresent();
+        assertThat(fromView.workDate()).isEqualTo(fromBase.workDate());
+        assertThat(instantOf(fromView.finalCheckInAt())).isEqualTo(instantOf(fromBase.finalCheckInAt()));
+        assertThat(instantOf(fromView.finalCheckOutAt())).isEqualTo(instantOf(fromBase.finalCheckOutAt()));
+        assertThat(fromView.isCorrected()).isEqualTo(fromBase.isCorrected());
+        assertThat(fromView.appliedCorrectionRequestId()).isEqualTo(fromBase.appliedCorrectionRequestId());
+    }
+
+    // 정정 제안 시각은 OffsetDateTime이라 offset 표기가 달라도 같은 시점이면 동일 값으로 본다
+    private static Instant instantOf(OffsetDateTime t) {
+        return t == null ? null : t.toInstant();
+    }
+
+    private void flushAndClear() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private static CorrectionRequest approved(Attendance a, LocalDateTime proposedIn) {
+        OffsetDateTime processedAt = DAY.atTime(20, 0).atZone(KST).toOffsetDateTime();
+        CorrectionRequest cr = CorrectionRequest.pending(
+                a, a.getUserId(), processedAt.minusMinutes(10), CorrectionRequestType.CHECK_IN,
+                proposedIn.atZone(KST).toOffsetDateTime(), null, false, "test"
+        );
+        cr.approve(999L, processedAt, null);
+        return cr;
+    }
+}
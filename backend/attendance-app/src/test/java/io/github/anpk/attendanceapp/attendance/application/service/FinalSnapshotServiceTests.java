@@ -0,0 +1,162 @@
+package io.github.anpk.attendanceapp.attendance.application.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.anpk.attendanceapp.attendance.domain.model.Attendance;
+import io.github.anpk.attendanceapp.attendance.infrastructure.repository.AttendanceRepository;
+import io.github.anpk.attendanceapp.correction.domain.model.CorrectionRequest;
+import io.github.anpk.attendanceapp.correction.domain.model.CorrectionRequestType;
+import io.github.anpk.attendanceapp.correction.infrastructure.repository.CorrectionRequestRepository;
+import io.github.anpk.attendanceapp.employee.domain.model.Employee;
+import io.github.anpk.attendanceapp.employee.domain.model.EmployeeRole;
+import io.github.anpk.attendanceapp.employee.infrastructure.repository.EmployeeRepository;
+import io.github.anpk.attendanceapp.site.domain.model.Site;
+import io.github.anpk.attendanceapp.site.infrastructure.repository.SiteRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class FinalSnapshotServiceTests {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+    private static final LocalDate FROM = LocalDate.of(2025, 1, 1);
+
+    @Autowired AttendanceService attendanceService;
+    @Autowired FinalSnapshotService finalSnapshotService;
+    @Autowired AttendanceRepository attendanceRepository;
+    @Autowired CorrectionRequestRepository correctionRequestRepository;
+    @Autowired EmployeeRepository employeeRepository;
+    @Autowired SiteRepository siteRepository;
+    @Autowired EntityManager entityManager;
+    @Autowired EntityManagerFactory entityManagerFactory;
+    @Autowired AttendanceFinalProjector attendanceFinalProjector;
+    @Autowired ObjectMapper objectMapper;
+
+    @Test
+    void reportQueryCountDoesNotGrowWithRowsInRange() {
+        seedDays(7001L, 3);
+        seedDays(7002L, 28);
+
+        long small = countStatements(() -> attendanceService.getMyAttendanceReport(7001L, FROM.toString(), FROM.plusDays(27).toString()));
+        long large = countStatements(() -> attendanceService.getMyAttendanceReport(7002L, FROM.toString(), FROM.plusDays(27).toString()));
+
+        assertThat(large).isEqualTo(small);
+    }
+
+    @Test
+    void listQueryCountDoesNotGrowWithRowsInRange() {
+        seedDays(7003L, 2);
+        seedDays(7004L, 28);
+
+        long small = countStatements(() -> attendanceService.listMyAttendancesByMonth(7003L, "2025-01", 1, 1000));
+        long large = countStatements(() -> attendanceService.listMyAttendancesByMonth(7004L, "2025-01", 1, 1000));
+
+        assertThat(large).isEqualTo(small);
+    }
+
+    @Test
+    void siteReportQueryCountDoesNotGrowWithEmployeesOrRows() {
+        long smallSite = siteRepository.save(new Site("final-small-site")).getId();
+        long largeSite = siteRepository.save(new Site("final-large-site")).getId();
+        employeeRepository.save(new Employee(7010L, "final-small-0", smallSite, EmployeeRole.EMPLOYEE, true, "pw"));
+        seedDays(7010L, 2);
+        for (long u = 7020L; u < 7026L; u++) {
+            employeeRepository.save(new Employee(u, "final-large-" + u, largeSite, EmployeeRole.EMPLOYEE, true, "pw"));
+            seedDays(u, 28);
+        }
+
+        String to = FROM.plusDays(27).toString();
+        long small = countStatements(() -> attendanceService.getAttendanceReportBySite(smallSite, null, FROM.toString(), to));
+        long large = countStatements(() -> attendanceService.getAttendanceReportBySite(largeSite, null, FROM.toString(), to));
+
+        assertThat(large).isEqualTo(small);
+    }
+
+    @Test
+    void resolveAllAppliesOnlyLatestApprovedCorrection() {
+        Attendance a = attendanceRepository.save(Attendance.checkIn(7005L, FROM, FROM.atTime(9, 0), "seed/test.jpg"));
+        a.checkOut(FROM.atTime(18, 0));
+
+        OffsetDateTime older = FROM.atTime(20, 0).atZone(KST).toOffsetDateTime();
+        correctionRequestRepository.save(approved(a, FROM.atTime(8, 0).atZone(KST).toOffsetDateTime(), older));
+        CorrectionRequest latest = correctionRequestRepository.save(
+                approved(a, FROM.atTime(8, 30).atZone(KST).toOffsetDateTime(), older.plusHours(1)));
+        entityManager.flush();
+        entityManager.clear();
+
+        FinalSnapshot snap = finalSnapshotService.resolveAll(attendanceRepository.findAllById(List.of(a.getId())))
+                .get(a.getId());
+
+        assertThat(snap.isCorrected()).isTrue();
+        assertThat(snap.appliedCorrectionRequestId()).isEqualTo(latest.getId());
+        assertThat(snap.finalCheckInAt()).isEqualTo(FROM.atTime(8, 30).atZone(KST).toOffsetDateTime());
+        assertThat(snap.finalCheckOutAt()).isEqualTo(FROM.atTime(18, 0).atZone(KST).toOffsetDateTime());
+    }
+
+    @Test
+    void correctedTimeSerializesIdenticallyWithOrWithoutProjection() throws Exception {
+        Attendance a = attendanceRepository.save(Attendance.checkIn(7006L, FROM, FROM.atTime(9, 0), "seed/test.jpg"));
+        a.checkOut(FROM.atTime(18, 0));
+        // 다른 offset(UTC)으로 제출된 정정: 00:30Z = 09:30 KST
+        correctionRequestRepository.save(approved(a,
+                FROM.atTime(0, 30).atOffset(ZoneOffset.UTC), FROM.atTime(20, 0).atZone(KST).toOffsetDateTime()));
+        entityManager.flush();
+        entityManager.clear();
+
+        String fromBase = objectMapper.writeValueAsString(attendanceService.getMyAttendance(7006L, a.getId()));
+
+        attendanceFinalProjector.refresh(attendanceRepository.findById(a.getId()).orElseThrow());
+        entityManager.flush();
+        entityManager.clear();
+        String fromProjection = objectMapper.writeValueAsString(attendanceService.getMyAttendance(7006L, a.getId()));
+
+        assertThat(fromProjection).isEqualTo(fromBase);
+        assertThat(fromBase).contains("\"2025-01-01T09:30:00+09:00\"");
+    }
+
+    private void seedDays(Long userId, int days) {
+        for (int i = 0; i < days; i++) {
+            LocalDate d = FROM.plusDays(i);
+            Attendance a = attendanceRepository.save(Attendance.checkIn(userId, d, d.atTime(9, 0), "seed/test.jpg"));
+            a.checkOut(d.atTime(18, 0));
+            if (i % 2 == 0) {
+                correctionRequestRepository.save(approved(a, d.atTime(8, 50).atZone(KST).toOffsetDateTime(), d.atTime(19, 0).atZone(KST).toOffsetDateTime()));
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private static CorrectionRequest approved(Attendance a, OffsetDateTime proposedIn, OffsetDateTime processedAt) {
+        CorrectionRequest cr = CorrectionRequest.pending(
+                a, a.getUserId(), processedAt.minusMinutes(10), CorrectionRequestType.CHECK_IN,
+                proposedIn, null, false, "test"
+        );
+        cr.approve(999L, processedAt, null);
+        return cr;
+    }
+
+    private long countStatements(Runnable action) {
+        Statistics stats = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        entityManager.clear();
+        stats.clear();
+        action.run();
+        return stats.getPrepareStatementCount();
+    }
+}
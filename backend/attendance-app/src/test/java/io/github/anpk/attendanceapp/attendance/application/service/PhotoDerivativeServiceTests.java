@@ -0,0 +1,135 @@
+package io.github.anpk.attendanceapp.attendance.application.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 사진 파생본 검증
+ * - thumb/medium: 긴 변 240/1280px로 비율 유지 축소, JPEG 출력
+ * - 원본보다 큰 크기로 확대하지 않는다
+ * - 같은 내용(blob key)은 파생본 1개를 공유, 디코드 불가/미색인 사진은 empty(호출 측이 원본 제공)
+ * - EXIF 방향(90° 회전)은 가로/세로를 바꾼다
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:photo-derivative-tests;DB_CLOSE_DELAY=-1",
+        "auth.jwt.secret=photo-derivative-tests-secret",
+        "auth.jwt.expires-seconds=3600",
+        "spring.jpa.show-sql=false",
+        "app.photos.dir=${java.io.tmpdir}/attendance-photo-derivative-tests"
+})
+class PhotoDerivativeServiceTests {
+
+    @Autowired PhotoDerivativeService photoDerivativeService;
+    @Autowired PhotoStore photoStore;
+
+    @Test
+    void variantsAreScaledToLongEdge() throws Exception {
+        String name = store(image(2000, 1000, 0x336699), "png");
+
+        BufferedImage thumb = read(photoDerivativeService.resolve(name, PhotoVariant.THUMBNAIL).orElseThrow());
+        assertThat(thumb.getWidth()).isEqualTo(240);
+        assertThat(thumb.getHeight()).isEqualTo(120);
+
+        PhotoFile medium = photoDerivativeService.resolve(name, PhotoVariant.MEDIUM).orElseThrow();
+        BufferedImage m = read(medium);
+        assertThat(m.getWidth()).isEqualTo(1280);
+        assertThat(m.getHeight()).isEqualTo(640);
+
+        // 파생본은 항상 JPEG
+        byte[] head = Files.readAllBytes(medium.path());
+        assertThat(PhotoFormat.sniff(head, head.length)).isEqualTo(PhotoFormat.JPEG);
+        assertThat(medium.blobKey()).isEqualTo(photoStore.findKey(name).orElseThrow());
+    }
+
+    @Test
+    void portraitAndSmallImagesKeepAspectWithoutUpscaling() throws Exception {
+        String portrait = store(image(600, 1800, 0x884422), "png");
+        BufferedImage thumb = read(photoDerivativeService.resolve(portrait, PhotoVariant.THUMBNAIL).orElseThrow());
+        assertThat(thumb.getWidth()).isEqualTo(80);
+        assertThat(thumb.getHeight()).isEqualTo(240);
+
+        String small = store(image(100, 50, 0x11AA11), "png");
+        BufferedImage medium = read(photoDerivativeService.resolve(small, PhotoVariant.MEDIUM).orElseThrow());
+        assertThat(medium.getWidth()).isEqualTo(100);
+        assertThat(medium.getHeight()).isEqualTo(50);
+    }
+
+    @Test
+    void sameContentSharesDerivative() throws Exception {
+        byte[] content = image(400, 300, 0x224466);
+        String first = store(content, "png");
+        String second = store(content, "png");
+
+        PhotoFile a = photoDerivativeService.resolve(first, PhotoVariant.THUMBNAIL).orElseThrow();
+        PhotoFile b = photoDerivativeService.resolve(second, PhotoVariant.THUMBNAIL).orElseThrow();
+
+        assertThat(a.path()).isEqualTo(b.path());
+        assertThat(a.path()).isEqualTo(photoDerivativeService.derivedPath(a.blobKey(), PhotoVariant.THUMBNAIL));
+    }
+
+    @Test
+    void undecodableOrUnindexedPhotosFallBackToOriginal() throws Exception {
+        String broken = store("\u0089PNG\r\n\u001a\nbroken".getBytes(StandardCharsets.ISO_8859_1), "png");
+        assertThat(photoDerivativeService.resolve(broken, PhotoVariant.THUMBNAIL)).isEmpty();
+        // 실패는 기억해 두고 다시 디코드하지 않는다
+        assertThat(photoDerivativeService.resolve(broken, PhotoVariant.THUMBNAIL)).isEmpty();
+
+        assertThat(photoDerivativeService.resolve(UUID.randomUUID() + "_missing.png", PhotoVariant.MEDIUM)).isEmpty();
+    }
+
+    @Test
+    void exifRotationSwapsDimensions() {
+        BufferedImage src = new BufferedImage(200, 100, BufferedImage.TYPE_INT_RGB);
+
+        BufferedImage rotated = PhotoImageProcessor.applyOrientation(src, 6);
+        assertThat(rotated.getWidth()).isEqualTo(100);
+        assertThat(rotated.getHeight()).isEqualTo(200);
+
+        BufferedImage upright = PhotoImageProcessor.applyOrientation(src, 1);
+        assertThat(upright.getWidth()).isEqualTo(200);
+        assertThat(upright.getHeight()).isEqualTo(100);
+    }
+
+    /**
+     * 내용을 blob으로 저장하고 새 사진 이름으로 색인
+     */
+    private String store(byte[] content, String ext) throws IOException {
+        Path tmp = Files.createTempFile("photo-derivative", "." + ext);
+        try {
+            Files.write(tmp, content);
+            String key = PhotoStore.keyOf(tmp);
+            photoStore.putByCopy(tmp, key);
+            String name = UUID.randomUUID() + "_photo." + ext;
+            photoStore.link(name, key, content.length);
+            return name;
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    private static BufferedImage read(PhotoFile file) throws IOException {
+        return ImageIO.read(file.path().toFile());
+    }
+
+    private static byte[] image(int w, int h, int rgb) throws IOException {
+        BufferedImage img = new BufferedImage(w, h, BufferedImage.TYPE_INT_RGB);
+        for (int x = 0; x < w; x += 10) {
+            for (int y = 0; y < h; y += 10) img.setRGB(x, y, rgb ^ (x * y));
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(img, "png", out);
+        return out.toByteArray();
+    }
+}
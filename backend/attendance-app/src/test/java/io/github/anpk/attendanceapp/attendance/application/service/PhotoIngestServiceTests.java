@@ -0,0 +1,191 @@
+package io.github.anpk.attendanceapp.attendance.application.service;
+
+import io.github.anpk.attendanceapp.attendance.domain.model.PhotoUpload;
+import io.github.anpk.attendanceapp.attendance.domain.model.PhotoUploadStatus;
+import io.github.anpk.attendanceapp.attendance.infrastructure.repository.PhotoUploadRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 사진 수집 파이프라인(spool → blob) 검증
+ * - stage(): 빈 파일/형식 위반/크기 초과는 수신 중 거부하고 spool을 남기지 않는다
+ * - bind() 후 커밋: writer가 blob으로 옮기고 색인 등록 → DURABLE, spool 제거
+ * - bind() 후 롤백: spool 삭제, 기록 없음 / 트랜잭션 밖 bind()는 거부
+ * - recoverSpool(): spool 남은 PENDING은 DURABLE, spool/blob 모두 없으면 LOST, 기록 없는 오래된 spool은 삭제
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:photo-ingest-tests;DB_CLOSE_DELAY=-1",
+        "auth.jwt.secret=photo-ingest-tests-secret",
+        "auth.jwt.expires-seconds=3600",
+        "spring.jpa.show-sql=false",
+        "app.photos.dir=${java.io.tmpdir}/attendance-photo-ingest-tests"
+})
+class PhotoIngestServiceTests {
+
+    private static final long MAX_BYTES = 64 * 1024;
+
+    @Autowired PhotoIngestService photoIngestService;
+    @Autowired PhotoStore photoStore;
+    @Autowired PhotoUploadRepository photoUploadRepository;
+    @Autowired PlatformTransactionManager transactionManager;
+
+    @Test
+    void rejectedStreamsLeaveNoSpoolFile() throws Exception {
+        long before = spoolFiles();
+
+        assertRejected(new byte[0], PhotoRejectedException.Reason.EMPTY);
+        assertRejected("not an image at all".getBytes(StandardCharsets.US_ASCII), PhotoRejectedException.Reason.NOT_AN_IMAGE);
+        assertRejected(gifHeader(), PhotoRejectedException.Reason.NOT_AN_IMAGE);
+        byte[] large = new byte[(int) MAX_BYTES + 1];
+        System.arraycopy(png(8, 0x112233), 0, large, 0, 16);
+        assertRejected(large, PhotoRejectedException.Reason.TOO_LARGE);
+
+        assertThat(spoolFiles()).isEqualTo(before);
+    }
+
+    @Test
+    void committedUploadIsMovedToBlobAndMarkedDurable() throws Exception {
+        byte[] content = png(16, 0x2255AA);
+        StagedPhoto staged = stage(content, "../../evil/in.png");
+
+        // 경로 구분자는 버리고 basename만 사진 이름에 남긴다
+        assertThat(staged.targetPath().getFileName().toString()).endsWith("_in.png");
+        assertThat(staged.targetPath().getParent()).isEqualTo(photoIngestService.getPhotoDir());
+        assertThat(staged.sizeBytes()).isEqualTo(content.length);
+        assertThat(staged.blobKey()).isEqualTo(PhotoStore.keyOf(staged.spoolPath()));
+
+        tx().executeWithoutResult(s -> photoIngestService.bind(staged));
+
+        PhotoUpload done = awaitStatus(staged.spoolPath(), PhotoUploadStatus.DURABLE);
+        assertThat(done.getDurableAt()).isNotNull();
+        assertThat(Files.exists(staged.spoolPath())).isFalse();
+
+        Path blob = photoStore.blobPath(staged.blobKey());
+        assertThat(Files.readAllBytes(blob)).isEqualTo(content);
+        String name = staged.targetPath().getFileName().toString();
+        assertThat(photoIngestService.resolveReadable(name)).get()
+                .extracting(PhotoFile::path).isEqualTo(blob);
+    }
+
+    @Test
+    void rolledBackBindDeletesSpool() throws Exception {
+        StagedPhoto staged = stage(png(8, 0x00FF00), "rollback.png");
+
+        tx().executeWithoutResult(s -> {
+            photoIngestService.bind(staged);
+            s.setRollbackOnly();
+        });
+
+        assertThat(Files.exists(staged.spoolPath())).isFalse();
+        assertThat(photoUploadRepository.findBySpoolPath(staged.spoolPath().toString())).isEmpty();
+
+        StagedPhoto outside = stage(png(8, 0x0000FF), "outside.png");
+        assertThatThrownBy(() -> photoIngestService.bind(outside)).isInstanceOf(IllegalStateException.class);
+        photoIngestService.discard(outside);
+        assertThat(Files.exists(outside.spoolPath())).isFalse();
+    }
+
+    @Test
+    void recoverSpoolFinalizesPendingAndRemovesOrphans() throws Exception {
+        // 1) spool이 남은 PENDING(커밋 직후 중단) → 저장 완료
+        StagedPhoto kept = stage(png(12, 0xABCDEF), "kept.png");
+        savePending(kept.spoolPath(), kept.targetPath(), kept.blobKey(), kept.sizeBytes());
+
+        // 2) spool/blob 모두 없는 PENDING → LOST
+        Path gone = photoIngestService.getPhotoDir().resolve(".spool").resolve(UUID.randomUUID() + ".part");
+        savePending(gone, photoIngestService.getPhotoDir().resolve(UUID.randomUUID() + "_gone.png"),
+                "0".repeat(64), 10L);
+
+        // 3) 기록 없는 오래된 spool(커밋되지 않은 업로드) → 삭제, 최근 파일은 유지
+        StagedPhoto orphan = stage(png(8, 0x123456), "orphan.png");
+        Files.setLastModifiedTime(orphan.spoolPath(), FileTime.from(Instant.now().minus(1, ChronoUnit.HOURS)));
+        StagedPhoto fresh = stage(png(8, 0x654321), "fresh.png");
+
+        photoIngestService.recoverSpool();
+
+        assertThat(statusOf(kept.spoolPath())).isEqualTo(PhotoUploadStatus.DURABLE);
+        assertThat(photoStore.contains(kept.blobKey())).isTrue();
+        assertThat(Files.exists(kept.spoolPath())).isFalse();
+        assertThat(statusOf(gone)).isEqualTo(PhotoUploadStatus.LOST);
+        assertThat(Files.exists(orphan.spoolPath())).isFalse();
+        assertThat(Files.exists(fresh.spoolPath())).isTrue();
+
+        photoIngestService.discard(fresh);
+    }
+
+    private void assertRejected(byte[] content, PhotoRejectedException.Reason reason) {
+        assertThatThrownBy(() -> stage(content, "rejected.png"))
+                .isInstanceOfSatisfying(PhotoRejectedException.class, e -> assertThat(e.getReason()).isEqualTo(reason));
+    }
+
+    private StagedPhoto stage(byte[] content, String filename) throws IOException {
+        return photoIngestService.stage(new ByteArrayInputStream(content), filename, MAX_BYTES);
+    }
+
+    private void savePending(Path spool, Path target, String key, long size) {
+        tx().executeWithoutResult(s -> photoUploadRepository.save(
+                PhotoUpload.pending(spool.toString(), target.toString(), key, size, OffsetDateTime.now())));
+    }
+
+    private PhotoUploadStatus statusOf(Path spool) {
+        return photoUploadRepository.findBySpoolPath(spool.toString()).orElseThrow().getStatus();
+    }
+
+    private PhotoUpload awaitStatus(Path spool, PhotoUploadStatus status) throws InterruptedException {
+        long deadline = System.nanoTime() + 10_000_000_000L;
+        PhotoUpload p = photoUploadRepository.findBySpoolPath(spool.toString()).orElseThrow();
+        while (p.getStatus() != status && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+            p = photoUploadRepository.findBySpoolPath(spool.toString()).orElseThrow();
+        }
+        assertThat(p.getStatus()).isEqualTo(status);
+        return p;
+    }
+
+    private long spoolFiles() throws IOException {
+        Path spool = photoIngestService.getPhotoDir().resolve(".spool");
+        if (!Files.isDirectory(spool)) return 0;
+        try (Stream<Path> files = Files.list(spool)) {
+            return files.count();
+        }
+    }
+
+    private static byte[] png(int size, int rgb) throws IOException {
+        BufferedImage img = new BufferedImage(size, size, BufferedImage.TYPE_INT_RGB);
+        for (int x = 0; x < size; x++) {
+            for (int y = 0; y < size; y++) img.setRGB(x, y, rgb + x * y);
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(img, "png", out);
+        return out.toByteArray();
+    }
+
+    private static byte[] gifHeader() {
+        return "GIF89a\u0001\u0000\u0001\u0000".getBytes(StandardCharsets.ISO_8859_1);
+    }
+
+    private TransactionTemplate tx() {
+        return new TransactionTemplate(transactionManager);
+    }
+}
@@ -0,0 +1,144 @@
+package io.github.anpk.attendanceapp.attendance.application.service;
+
+import io.github.anpk.attendanceapp.attendance.interfaces.dto.PhotoStoreMigrationResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * flat uploads → PhotoStore 이관 검증
+ * - 같은 내용은 blob 1개를 공유(deduplicated), 원본 삭제 후에도 색인 이름으로 조회 가능
+ * - batchSize는 성공/실패 시도 합계로 제한
+ * - 실패한 파일은 바뀌기 전까지 다시 시도하지 않고(skipped), 바뀌면 다시 시도한다
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:photo-migrator-tests;DB_CLOSE_DELAY=-1",
+        "auth.jwt.secret=photo-migrator-tests-secret",
+        "auth.jwt.expires-seconds=3600",
+        "spring.jpa.show-sql=false",
+        "app.photos.dir=${java.io.tmpdir}/attendance-photo-migrator-tests"
+})
+class PhotoStoreMigratorTests {
+
+    @Autowired PhotoStoreMigrator migrator;
+    @Autowired PhotoStore photoStore;
+    @Autowired PhotoIngestService photoIngestService;
+
+    Path photoDir;
+
+    @BeforeEach
+    void cleanPhotoDir() throws IOException {
+        photoDir = photoIngestService.getPhotoDir();
+        if (Files.exists(photoDir)) {
+            try (Stream<Path> paths = Files.walk(photoDir)) {
+                for (Path p : paths.sorted(Comparator.reverseOrder()).toList()) Files.delete(p);
+            }
+        }
+        Files.createDirectories(photoDir);
+    }
+
+    @Test
+    void sameContentSharesOneBlob() throws Exception {
+        String a = write("dedupe-a_in.jpg", "same photo bytes");
+        String b = write("dedupe-b_in.jpg", "same photo bytes");
+        String c = write("dedupe-c_out.jpg", "other photo bytes");
+
+        PhotoStoreMigrationResponse r = migrator.migrateBatch(10);
+
+        assertThat(r.running()).isFalse();
+        assertThat(r.scanned()).isEqualTo(3);
+        assertThat(r.migrated()).isEqualTo(3);
+        assertThat(r.deduplicated()).isEqualTo(1);
+        assertThat(r.failed()).isZero();
+        assertThat(r.hasMore()).isFalse();
+
+        assertThat(photoDir.resolve(a)).doesNotExist();
+        assertThat(photoStore.findKey(a)).isEqualTo(photoStore.findKey(b));
+        assertThat(photoStore.findKey(c)).isNotEqualTo(photoStore.findKey(a));
+        assertThat(Files.readString(photoStore.resolve(b).orElseThrow())).isEqualTo("same photo bytes");
+        assertThat(photoIngestService.resolveReadable(c)).get()
+                .extracting(PhotoFile::blobKey).isEqualTo(photoStore.findKey(c).orElseThrow());
+        assertThat(blobCount()).isEqualTo(2);
+
+        // 이관할 파일이 없으면 빈 배치
+        PhotoStoreMigrationResponse again = migrator.migrateBatch(10);
+        assertThat(again.scanned()).isZero();
+        assertThat(again.hasMore()).isFalse();
+    }
+
+    @Test
+    void batchCountsAttemptsAndSkipsUnchangedFailures() throws Exception {
+        write("batch-1_in.jpg", "batch photo 1");
+        write("batch-2_in.jpg", "batch photo 2");
+        String broken = write("batch-broken_in.jpg", "batch photo broken");
+        Path blocker = blockBlobDirectory("batch photo broken");
+
+        long migrated = 0;
+        long failed = 0;
+        PhotoStoreMigrationResponse r;
+        do {
+            r = migrator.migrateBatch(2);
+            assertThat(r.scanned()).isLessThanOrEqualTo(2);
+            assertThat(r.scanned()).isEqualTo(r.migrated() + r.failed());
+            migrated += r.migrated();
+            failed += r.failed();
+        } while (r.hasMore());
+        assertThat(migrated).isEqualTo(2);
+        assertThat(failed).isEqualTo(1);
+        assertThat(photoDir.resolve(broken)).exists();
+
+        // 실패 파일이 그대로면 다시 시도하지 않는다
+        PhotoStoreMigrationResponse skipped = migrator.migrateBatch(2);
+        assertThat(skipped.scanned()).isZero();
+        assertThat(skipped.failed()).isZero();
+        assertThat(skipped.skipped()).isEqualTo(1);
+        assertThat(skipped.hasMore()).isFalse();
+
+        // 원인이 해소되고 파일이 바뀌면 다시 시도
+        Files.delete(blocker);
+        Files.setLastModifiedTime(photoDir.resolve(broken), FileTime.from(Instant.now().plusSeconds(5)));
+        PhotoStoreMigrationResponse retried = migrator.migrateBatch(2);
+        assertThat(retried.migrated()).isEqualTo(1);
+        assertThat(retried.skipped()).isZero();
+        assertThat(photoDir.resolve(broken)).doesNotExist();
+        assertThat(photoStore.resolve(broken)).isPresent();
+    }
+
+    private String write(String name, String content) throws IOException {
+        Files.writeString(photoDir.resolve(name), content, StandardCharsets.UTF_8);
+        return name;
+    }
+
+    /**
+     * 해당 내용의 blob 상위 디렉터리 자리에 일반 파일을 두어 blob 기록을 실패시킨다
+     */
+    private Path blockBlobDirectory(String content) throws IOException {
+        Path tmp = Files.createTempFile("photo-migrator", ".bin");
+        Files.writeString(tmp, content, StandardCharsets.UTF_8);
+        String key = PhotoStore.keyOf(tmp);
+        Files.delete(tmp);
+        Path parent = photoStore.blobPath(key).getParent();
+        Files.createDirectories(parent.getParent());
+        return Files.createFile(parent);
+    }
+
+    private long blobCount() throws IOException {
+        try (Stream<Path> paths = Files.walk(photoStore.getBlobRoot())) {
+            return paths.filter(Files::isRegularFile)
+                    .filter(p -> !p.startsWith(photoStore.getBlobRoot().resolve(".tmp")))
+                    .count();
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package io.github.anpk.attendanceapp.attendance.application.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.anpk.attendanceapp.attendance.domain.model.Attendance;
+import io.github.anpk.attendanceapp.attendance.domain.model.AttendanceBreak;
+import io.github.anpk.attendanceapp.attendance.domain.model.ReportJobStatus;
+import io.github.anpk.attendanceapp.attendance.domain.model.ReportJobType;
+import io.github.anpk.attendanceapp.attendance.infrastructure.repository.AttendanceBreakRepository;
+import io.github.anpk.attendanceapp.attendance.infrastructure.repository.AttendanceRepository;
+import io.github.anpk.attendanceapp.attendance.interfaces.dto.ReportJobResponse;
+import io.github.anpk.attendanceapp.correction.domain.model.CorrectionRequest;
+import io.github.anpk.attendanceapp.correction.domain.model.CorrectionRequestType;
+import io.github.anpk.attendanceapp.correction.infrastructure.repository.CorrectionRequestRepository;
+import io.github.anpk.attendanceapp.employee.domain.model.Employee;
+import io.github.anpk.attendanceapp.employee.domain.model.EmployeeRole;
+import io.github.anpk.attendanceapp.employee.infrastructure.repository.EmployeeRepository;
+import io.github.anpk.attendanceapp.error.BusinessException;
+import io.github.anpk.attendanceapp.error.ErrorCode;
+import io.github.anpk.attendanceapp.site.domain.model.Site;
+import io.github.anpk.attendanceapp.site.infrastructure.repository.SiteRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 비동기 리포트 작업 검증
+ * - JSON 작업 결과가 동기 /report 응답의 employees와 동일(직원 페이지 경계 포함), 진행률 = 직원 수
+ * - CSV 작업 결과/진행률 = 행 수
+ * - 종료 작업 취소 거부, 타인 작업 조회 거부, 등록 시 조건 검증
+ * - JSON 출력 쿼리 수는 직원 수가 아니라 직원 페이지 수에 비례
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:report-job-tests;DB_CLOSE_DELAY=-1",
+        "auth.jwt.secret=report-job-tests-secret",
+        "auth.jwt.expires-seconds=3600",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "app.report-jobs.dir=${java.io.tmpdir}/attendance-report-job-tests",
+        "app.report-jobs.json-page-size=2"
+})
+class ReportJobServiceTests {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+    private static final LocalDate FROM = LocalDate.of(2025, 6, 2);
+    private static final LocalDate TO = FROM.plusDays(3);
+    private static final Long ADMIN_ID = 9_800L;
+
+    @Autowired ReportJobService reportJobService;
+    @Autowired SiteAttendanceReportJsonWriter jsonWriter;
+    @Autowired AttendanceService attendanceService;
+    @Autowired AttendanceRepository attendanceRepository;
+    @Autowired AttendanceBreakRepository attendanceBreakRepository;
+    @Autowired CorrectionRequestRepository correctionRequestRepository;
+    @Autowired EmployeeRepository employeeRepository;
+    @Autowired SiteRepository siteRepository;
+    @Autowired PlatformTransactionManager transactionManager;
+    @Autowired EntityManagerFactory entityManagerFactory;
+    @Autowired ObjectMapper objectMapper;
+
+    @Test
+    void jsonJobMatchesSynchronousReportAcrossPages() throws Exception {
+        Long siteId = seedSite("report-job-json", 9_810L, 5);
+
+        ReportJobResponse submitted = reportJobService.submit(ADMIN_ID, ReportJobType.SITE_REPORT_JSON, siteId, null, FROM.toString(), TO.toString());
+        ReportJobResponse done = awaitTerminal(submitted.jobId());
+
+        assertThat(done.status()).isEqualTo(ReportJobStatus.SUCCEEDED);
+        assertThat(done.totalUnits()).isEqualTo(5L);
+        assertThat(done.processedUnits()).isEqualTo(5L);
+
+        ReportJobResultFile file = reportJobService.openResult(ADMIN_ID, EmployeeRole.ADMIN, done.jobId());
+        assertThat(file.contentType()).isEqualTo("application/json");
+        assertThat(file.size()).isEqualTo(Files.size(file.path()));
+
+        JsonNode job = objectMapper.readTree(file.path().toFile());
+        JsonNode sync = objectMapper.readTree(objectMapper.writeValueAsString(
+                attendanceService.getAttendanceReportBySite(siteId, null, FROM.toString(), TO.toString())));
+        assertThat(job.get("totalEmployees").asInt()).isEqualTo(5);
+        assertThat(job.get("employees")).isEqualTo(sync.get("employees"));
+    }
+
+    @Test
+    void csvJobWritesAllRows() throws Exception {
+        Long siteId = seedSite("report-job-csv", 9_820L, 3);
+
+        ReportJobResponse done = awaitTerminal(reportJobService
+                .submit(ADMIN_ID, ReportJobType.SITE_REPORT_CSV, siteId, null, FROM.toString(), TO.toString()).jobId());
+
+        assertThat(done.status()).isEqualTo(ReportJobStatus.SUCCEEDED);
+        assertThat(done.totalUnits()).isEqualTo(12L);
+        assertThat(done.processedUnits()).isEqualTo(12L);
+
+        ReportJobResultFile file = reportJobService.openResult(ADMIN_ID, EmployeeRole.ADMIN, done.jobId());
+        String csv = Files.readString(file.path(), StandardCharsets.UTF_8);
+        assertThat(file.filename()).endsWith(".csv");
+        assertThat(csv.split("\r\n")).hasSize(1 + 12);
+    }
+
+    @Test
+    void finishedJobCannotBeCanceledAndIsPrivateToRequester() throws Exception {
+        Long siteId = seedSite("report-job-owner", 9_830L, 1);
+        Long managerId = 9_838L;
+
+        ReportJobResponse done = awaitTerminal(reportJobService
+                .submit(managerId, ReportJobType.SITE_REPORT_CSV, siteId, null, FROM.toString(), TO.toString()).jobId());
+        assertThat(done.status()).isEqualTo(ReportJobStatus.SUCCEEDED);
+
+        assertThat(reportJobService.get(managerId, EmployeeRole.MANAGER, done.jobId()).jobId()).isEqualTo(done.jobId());
+        assertThat(reportJobService.get(ADMIN_ID, EmployeeRole.ADMIN, done.jobId()).jobId()).isEqualTo(done.jobId());
+        assertThatThrownBy(() -> reportJobService.get(9_839L, EmployeeRole.MANAGER, done.jobId()))
+                .isInstanceOfSatisfying(BusinessException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.FORBIDDEN));
+        assertThatThrownBy(() -> reportJobService.cancel(managerId, EmployeeRole.MANAGER, done.jobId()))
+                .isInstanceOfSatisfying(BusinessException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.INVALID_STATUS_TRANSITION));
+        assertThatThrownBy(() -> reportJobService.submit(managerId, ReportJobType.SITE_REPORT_JSON, siteId, null, TO.toString(), FROM.toString()))
+                .isInstanceOfSatisfying(BusinessException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.INVALID_REQUEST_PARAM));
+    }
+
+    @Test
+    void jsonStatementCountFollowsPagesNotEmployees() throws Exception {
+        SiteReportRange one = range(seedSite("report-job-stmt-1", 9_840L, 1));
+        SiteReportRange two = range(seedSite("report-job-stmt-2", 9_850L, 2));
+        SiteReportRange six = range(seedSite("report-job-stmt-6", 9_860L, 6));
+
+        long onePage1 = countStatements(one);
+        long onePage2 = countStatements(two);
+        long threePages = countStatements(six);
+
+        // page-size=2: 같은 페이지 안에서는 직원 수와 무관, 페이지가 늘어도 페이지당 고정 횟수
+        assertThat(onePage2).isEqualTo(onePage1);
+        assertThat(threePages).isLessThanOrEqualTo(3 * onePage2);
+        assertThat(threePages).isLessThan(onePage2 + 6 * 3);
+    }
+
+    private long countStatements(SiteReportRange range) throws Exception {
+        Statistics stats = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        stats.clear();
+        jsonWriter.write(range, new ByteArrayOutputStream(), ExportProgressListener.NONE);
+        return stats.getPrepareStatementCount();
+    }
+
+    private static SiteReportRange range(Long siteId) {
+        return new SiteReportRange(siteId, null, FROM, TO);
+    }
+
+    private ReportJobResponse awaitTerminal(Long jobId) throws InterruptedException {
+        long deadline = System.nanoTime() + 10_000_000_000L;
+        ReportJobResponse r = reportJobService.get(ADMIN_ID, EmployeeRole.ADMIN, jobId);
+        while (!r.status().isTerminal() && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+            r = reportJobService.get(ADMIN_ID, EmployeeRole.ADMIN, jobId);
+        }
+        return r;
+    }
+
+    /**
+     * employees명 × 4일(FROM~TO) — 첫 직원은 휴게 1건 + 승인 정정 1건
+     */
+    private Long seedSite(String name, long firstUserId, int employees) {
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            Long siteId = siteRepository.save(new Site(name)).getId();
+            for (int e = 0; e < employees; e++) {
+                long userId = firstUserId + e;
+                employeeRepository.save(new Employee(userId, name + "-" + e, siteId, EmployeeRole.EMPLOYEE, true, "pw"));
+                for (LocalDate d = FROM; !d.isAfter(TO); d = d.plusDays(1)) {
+                    Attendance a = attendanceRepository.save(Attendance.checkIn(userId, d, d.atTime(9, 0), "seed/report-job.jpg"));
+                    a.checkOut(d.atTime(18, 0));
+                    if (e == 0 && d.equals(FROM)) {
+                        AttendanceBreak b = AttendanceBreak.start(a, d.atTime(12, 0));
+                        b.end(d.atTime(12, 40));
+                        attendanceBreakRepository.save(b);
+                        OffsetDateTime processedAt = d.atTime(20, 0).atZone(KST).toOffsetDateTime();
+                        CorrectionRequest cr = CorrectionRequest.pending(a, userId, processedAt.minusMinutes(5),
+                                CorrectionRequestType.CHECK_IN, d.atTime(8, 30).atZone(KST).toOffsetDateTime(), null, false, "test");
+                        cr.approve(ADMIN_ID, processedAt, null);
+                        correctionRequestRepository.save(cr);
+                    }
+                }
+            }
+            return siteId;
+        });
+    }
+}
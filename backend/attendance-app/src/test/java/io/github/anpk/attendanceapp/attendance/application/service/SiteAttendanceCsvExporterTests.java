@@ -0,0 +1,168 @@
+package io.github.anpk.attendanceapp.attendance.application.service;
+
+import io.github.anpk.attendanceapp.attendance.domain.model.Attendance;
+import io.github.anpk.attendanceapp.attendance.domain.model.AttendanceBreak;
+import io.github.anpk.attendanceapp.attendance.infrastructure.repository.AttendanceBreakRepository;
+import io.github.anpk.attendanceapp.attendance.infrastructure.repository.AttendanceRepository;
+import io.github.anpk.attendanceapp.correction.domain.model.CorrectionRequest;
+import io.github.anpk.attendanceapp.correction.domain.model.CorrectionRequestType;
+import io.github.anpk.attendanceapp.correction.infrastructure.repository.CorrectionRequestRepository;
+import io.github.anpk.attendanceapp.employee.domain.model.Employee;
+import io.github.anpk.attendanceapp.employee.domain.model.EmployeeRole;
+import io.github.anpk.attendanceapp.employee.infrastructure.repository.EmployeeRepository;
+import io.github.anpk.attendanceapp.error.BusinessException;
+import io.github.anpk.attendanceapp.error.ErrorCode;
+import io.github.anpk.attendanceapp.site.domain.model.Site;
+import io.github.anpk.attendanceapp.site.infrastructure.repository.SiteRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * site 리포트 CSV 내보내기 검증
+ * - RFC 4180 escape(쉼표/따옴표/줄바꿈)와 수식 주입 방지 접두(')
+ * - Final 합성 값(승인 정정 반영)과 휴게/근무 분 출력
+ * - CHUNK_SIZE 단위 출력: 청크마다 진행 콜백, 행 순서(userId, workDate) 유지, 행 수 = countRows()
+ */
+@SpringBootTest
+@Transactional
+class SiteAttendanceCsvExporterTests {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+    private static final LocalDate DAY = LocalDate.of(2025, 4, 1);
+
+    @Autowired SiteAttendanceCsvExporter exporter;
+    @Autowired AttendanceRepository attendanceRepository;
+    @Autowired AttendanceBreakRepository attendanceBreakRepository;
+    @Autowired CorrectionRequestRepository correctionRequestRepository;
+    @Autowired EmployeeRepository employeeRepository;
+    @Autowired SiteRepository siteRepository;
+    @Autowired EntityManager entityManager;
+
+    @Test
+    void escapesNamesAndWritesFinalValues() throws Exception {
+        Long siteId = siteRepository.save(new Site("csv-escape-site")).getId();
+        Attendance quoted = seed(7201L, "kim,\"jr\"", siteId, DAY);
+        seed(7202L, "=HYPERLINK(\"x\")", siteId, DAY);
+        seed(7203L, "multi\nline", siteId, DAY);
+        seed(7204L, "plain", siteId, DAY);
+        seed(7205L, "\t=1+1", siteId, DAY);
+        seed(7206L, "\r@SUM(A1)", siteId, DAY);
+
+        AttendanceBreak b = AttendanceBreak.start(quoted, DAY.atTime(12, 0));
+        b.end(DAY.atTime(12, 30));
+        attendanceBreakRepository.save(b);
+        CorrectionRequest cr = CorrectionRequest.pending(
+                quoted, quoted.getUserId(), DAY.atTime(19, 0).atZone(KST).toOffsetDateTime(), CorrectionRequestType.CHECK_IN,
+                DAY.atTime(8, 30).atZone(KST).toOffsetDateTime(), null, false, "test");
+        cr.approve(999L, DAY.atTime(20, 0).atZone(KST).toOffsetDateTime(), null);
+        correctionRequestRepository.save(cr);
+        entityManager.flush();
+        entityManager.clear();
+
+        String csv = export(exporter.validate(siteId, null, DAY.toString(), DAY.toString()), new ArrayList<>());
+
+        assertThat(csv).startsWith("\uFEFFuserId,username,workDate,checkInAt,checkOutAt,breakMinutes,workMinutes,isCorrected\r\n");
+        assertThat(csv).contains("\r\n7201,\"kim,\"\"jr\"\"\",2025-04-01,");
+        assertThat(csv).contains("\r\n7202,\"'=HYPERLINK(\"\"x\"\")\",2025-04-01,");
+        assertThat(csv).contains("\r\n7203,\"multi\nline\",2025-04-01,");
+        assertThat(csv).contains("\r\n7204,plain,2025-04-01,");
+        assertThat(csv).contains("\r\n7205,'\t=1+1,2025-04-01,");
+        assertThat(csv).contains("\r\n7206,\"'\r@SUM(A1)\",2025-04-01,");
+
+        String[] quotedRow = rowAfter(csv, "\r\n7201,\"kim,\"\"jr\"\"\",");
+        assertThat(OffsetDateTime.parse(quotedRow[1]).toInstant())
+                .isEqualTo(DAY.atTime(8, 30).atZone(KST).toInstant());
+        assertThat(OffsetDateTime.parse(quotedRow[2]).toInstant())
+                .isEqualTo(DAY.atTime(18, 0).atZone(KST).toInstant());
+        assertThat(quotedRow[3]).isEqualTo("30");
+        assertThat(quotedRow[4]).isEqualTo("540");
+        assertThat(quotedRow[5]).isEqualTo("true");
+
+        String[] plainRow = rowAfter(csv, "\r\n7204,plain,");
+        assertThat(plainRow[3]).isEqualTo("0");
+        assertThat(plainRow[4]).isEqualTo("540");
+        assertThat(plainRow[5]).isEqualTo("false");
+    }
+
+    @Test
+    void writesInChunksInOrderWithProgress() throws Exception {
+        int days = SiteAttendanceCsvExporter.CHUNK_SIZE + 1;
+        Long siteId = siteRepository.save(new Site("csv-chunk-site")).getId();
+        employeeRepository.save(new Employee(7210L, "csv-chunk", siteId, EmployeeRole.EMPLOYEE, true, "pw"));
+        for (int i = 0; i < days; i++) {
+            LocalDate d = DAY.plusDays(i);
+            Attendance a = attendanceRepository.save(Attendance.checkIn(7210L, d, d.atTime(9, 0), "seed/csv.jpg"));
+            a.checkOut(d.atTime(18, 0));
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        SiteReportRange range = exporter.validate(siteId, 7210L, DAY.toString(), DAY.plusDays(days - 1).toString());
+        List<Long> progress = new ArrayList<>();
+        String csv = export(range, progress);
+
+        assertThat(exporter.countRows(range)).isEqualTo(days);
+        assertThat(progress).containsExactly((long) SiteAttendanceCsvExporter.CHUNK_SIZE, (long) days);
+
+        String[] lines = csv.split("\r\n");
+        assertThat(lines).hasSize(days + 1);
+        for (int i = 0; i < days; i++) {
+            assertThat(lines[i + 1]).startsWith("7210,csv-chunk," + DAY.plusDays(i) + ",");
+        }
+    }
+
+    @Test
+    void rejectsInvalidRangeAndForeignUser() {
+        Long siteId = siteRepository.save(new Site("csv-validate-site")).getId();
+        Long otherSiteId = siteRepository.save(new Site("csv-validate-other")).getId();
+        employeeRepository.save(new Employee(7220L, "csv-other-site", otherSiteId, EmployeeRole.EMPLOYEE, true, "pw"));
+
+        assertThatThrownBy(() -> exporter.validate(siteId, null, "2025-04-02", "2025-04-01"))
+                .isInstanceOfSatisfying(BusinessException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.INVALID_REQUEST_PARAM));
+        assertThatThrownBy(() -> exporter.validate(siteId, null, "2025/04/01", "2025-04-01"))
+                .isInstanceOfSatisfying(BusinessException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.INVALID_REQUEST_PARAM));
+        assertThatThrownBy(() -> exporter.validate(siteId, 7220L, "2025-04-01", "2025-04-01"))
+                .isInstanceOfSatisfying(BusinessException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.INVALID_REQUEST_PARAM));
+        assertThatThrownBy(() -> exporter.validate(null, null, "2025-04-01", "2025-04-01"))
+                .isInstanceOfSatisfying(BusinessException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.MISSING_REQUIRED_PARAM));
+    }
+
+    private Attendance seed(Long userId, String username, Long siteId, LocalDate day) {
+        employeeRepository.save(new Employee(userId, username, siteId, EmployeeRole.EMPLOYEE, true, "pw"));
+        Attendance a = attendanceRepository.save(Attendance.checkIn(userId, day, day.atTime(9, 0), "seed/csv.jpg"));
+        a.checkOut(day.atTime(18, 0));
+        return a;
+    }
+
+    private String export(SiteReportRange range, List<Long> progress) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exporter.write(range, out, progress::add);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * prefix(userId,username,) 뒤의 나머지 열: [workDate, checkInAt, checkOutAt, breakMinutes, workMinutes, isCorrected]
+     */
+    private static String[] rowAfter(String csv, String prefix) {
+        int start = csv.indexOf(prefix) + prefix.length();
+        return csv.substring(start, csv.indexOf("\r\n", start)).split(",", -1);
+    }
+}
@@ -0,0 +1,210 @@
+package io.github.anpk.attendanceapp.attendance.application.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.anpk.attendanceapp.attendance.domain.model.Attendance;
+import io.github.anpk.attendanceapp.attendance.domain.model.AttendanceBreak;
+import io.github.anpk.attendanceapp.attendance.infrastructure.repository.AttendanceBreakRepository;
+import io.github.anpk.attendanceapp.attendance.infrastructure.repository.AttendanceRepository;
+import io.github.anpk.attendanceapp.attendance.interfaces.dto.AdminAttendanceReportEmployeeResponse;
+import io.github.anpk.attendanceapp.attendance.interfaces.dto.AdminAttendanceReportItemResponse;
+import io.github.anpk.attendanceapp.attendance.interfaces.dto.AdminAttendanceReportResponse;
+import io.github.anpk.attendanceapp.attendance.interfaces.dto.AttendanceBreakHistoryItemResponse;
+import io.github.anpk.attendanceapp.correction.domain.model.CorrectionRequest;
+import io.github.anpk.attendanceapp.correction.domain.model.CorrectionRequestStatus;
+import io.github.anpk.attendanceapp.correction.domain.model.CorrectionRequestType;
+import io.github.anpk.attendanceapp.correction.infrastructure.repository.CorrectionRequestRepository;
+import io.github.anpk.attendanceapp.employee.domain.model.Employee;
+import io.github.anpk.attendanceapp.employee.domain.model.EmployeeRole;
+import io.github.anpk.attendanceapp.employee.infrastructure.repository.EmployeeRepository;
+import io.github.anpk.attendanceapp.site.domain.model.Site;
+import io.github.anpk.attendanceapp.site.infrastructure.repository.SiteRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * site 리포트 set 기반 엔진 검증
+ * - 기존(직원 단위 루프) 구현과 JSON 출력이 동일한지 비교
+ * - 엔진의 SQL 문장 수는 직원 수와 무관하고, 기존 구현은 직원 수에 비례한다(소요 시간은 JMH ReportAssemblyBenchmark)
+ */
+@SpringBootTest
+@Transactional
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class SiteAttendanceReportEngineTests {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+    private static final LocalDate FROM = LocalDate.of(2025, 3, 1);
+    private static final LocalDate TO = LocalDate.of(2025, 3, 31);
+
+    @Autowired AttendanceService attendanceService;
+    @Autowired AttendanceRepository attendanceRepository;
+    @Autowired AttendanceBreakRepository attendanceBreakRepository;
+    @Autowired CorrectionRequestRepository correctionRequestRepository;
+    @Autowired EmployeeRepository employeeRepository;
+    @Autowired SiteRepository siteRepository;
+    @Autowired EntityManager entityManager;
+    @Autowired EntityManagerFactory entityManagerFactory;
+    @Autowired ObjectMapper objectMapper;
+
+    @Test
+    void engineOutputIsIdenticalToPerEmployeeImplementation() throws Exception {
+        Long siteId = seedSite(8000L, 12, 20);
+
+        String engine = objectMapper.writeValueAsString(
+                attendanceService.getAttendanceReportBySite(siteId, null, FROM.toString(), TO.toString()));
+        entityManager.clear();
+        String legacy = objectMapper.writeValueAsString(legacyReport(siteId, null));
+
+        assertThat(engine).isEqualTo(legacy);
+
+        Long oneUser = 8003L;
+        entityManager.clear();
+        String engineOne = objectMapper.writeValueAsString(
+                attendanceService.getAttendanceReportBySite(siteId, oneUser, FROM.toString(), TO.toString()));
+        entityManager.clear();
+        String legacyOne = objectMapper.writeValueAsString(legacyReport(siteId, oneUser));
+
+        assertThat(engineOne).isEqualTo(legacyOne);
+    }
+
+    @Test
+    void engineStatementCountIsIndependentOfEmployeeCount() {
+        Long smallSite = seedSite(8100L, 3, 10);
+        Long largeSite = seedSite(8200L, 40, 20);
+
+        long small = countStatements(() -> attendanceService.getAttendanceReportBySite(smallSite, null, FROM.toString(), TO.toString()));
+        long large = countStatements(() -> attendanceService.getAttendanceReportBySite(largeSite, null, FROM.toString(), TO.toString()));
+        long legacySmall = countStatements(() -> legacyReport(smallSite, null));
+        long legacyLarge = countStatements(() -> legacyReport(largeSite, null));
+
+        assertThat(large).isEqualTo(small);
+        // 기존 구현: 직원마다 근태/휴게 조회 + 근태마다 정정 조회 — 측정이 직원 수를 반영하는지 확인
+        assertThat(legacyLarge).isGreaterThan(legacySmall);
+        assertThat(legacyLarge - legacySmall).isGreaterThanOrEqualTo(2L * (40 - 3));
+        assertThat(large).isLessThan(legacySmall);
+    }
+
+    private long countStatements(Supplier<?> action) {
+        Statistics stats = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        entityManager.clear();
+        stats.clear();
+        action.get();
+        return stats.getPrepareStatementCount();
+    }
+
+    private Long seedSite(Long firstUserId, int employees, int days) {
+        Long siteId = siteRepository.save(new Site("bench-" + firstUserId)).getId();
+        for (int e = 0; e < employees; e++) {
+            Long userId = firstUserId + e;
+            employeeRepository.save(new Employee(userId, "bench-" + userId, siteId, EmployeeRole.EMPLOYEE, true, "pw"));
+            for (int d = 0; d < days; d++) {
+                LocalDate day = FROM.plusDays(d);
+                Attendance a = attendanceRepository.save(Attendance.checkIn(userId, day, day.atTime(9, e % 10), "seed/bench.jpg"));
+                // 일부는 미퇴근 상태로 둔다(missingCheckoutCount 검증)
+                if ((d + e) % 7 != 0) {
+                    a.checkOut(day.atTime(18, d % 30));
+                }
+
+                AttendanceBreak lunch = AttendanceBreak.start(a, day.atTime(12, 0));
+                lunch.end(day.atTime(12, 40 + (e % 20)));
+                attendanceBreakRepository.save(lunch);
+                if (d % 3 == 0) {
+                    AttendanceBreak afternoon = AttendanceBreak.start(a, day.atTime(15, 0));
+                    afternoon.end(day.atTime(15, 10));
+                    attendanceBreakRepository.save(afternoon);
+                }
+
+                if ((d + e) % 5 == 0) {
+                    OffsetDateTime processedAt = day.atTime(20, 0).atZone(KST).toOffsetDateTime();
+                    CorrectionRequest cr = CorrectionRequest.pending(
+                            a, userId, processedAt.minusHours(1), CorrectionRequestType.BOTH,
+                            day.atTime(8, 55).atZone(KST).toOffsetDateTime(),
+                            day.atTime(18, 5).atZone(KST).toOffsetDateTime(),
+                            false, "bench"
+                    );
+                    cr.approve(999L, processedAt, null);
+                    correctionRequestRepository.save(cr);
+                }
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return siteId;
+    }
+
+    /**
+     * 기존 구현(직원 단위 루프 + 행 단위 정정 조회) 재현 — 비교 기준
+     */
+    private AdminAttendanceReportResponse legacyReport(Long siteId, Long userId) {
+        List<Employee> employees = (userId != null)
+                ? List.of(employeeRepository.findByUserIdAndSiteId(userId, siteId).orElseThrow())
+                : employeeRepository.findAllBySiteId(siteId);
+
+        var mappedEmployees = employees.stream().map(emp -> {
+            var attendances = attendanceRepository
+                    .findAllByUserIdAndWorkDateBetweenOrderByWorkDateAsc(emp.getUserId(), FROM, TO);
+            List<Long> ids = attendances.stream().map(Attendance::getId).toList();
+            Map<Long, List<AttendanceBreak>> breaks = ids.isEmpty()
+                    ? Map.of()
+                    : attendanceBreakRepository.findAllByAttendance_IdIn(ids).stream()
+                    .collect(Collectors.groupingBy(b -> b.getAttendance().getId()));
+
+            var items = attendances.stream().map(a -> {
+                CorrectionRequest approved = correctionRequestRepository
+                        .findFirstByAttendance_IdAndStatusOrderByProcessedAtDesc(a.getId(), CorrectionRequestStatus.APPROVED)
+                        .orElse(null);
+                FinalSnapshot snap = FinalSnapshotService.compose(a, approved);
+                List<AttendanceBreak> bs = breaks.getOrDefault(a.getId(), List.of());
+                long breakMinutes = bs.stream().mapToLong(AttendanceBreak::durationMinutesOrZero).sum();
+                List<AttendanceBreakHistoryItemResponse> history = bs.stream()
+                        .sorted(Comparator.comparing(AttendanceBreak::getBreakStartTime))
+                        .map(b -> new AttendanceBreakHistoryItemResponse(
+                                b.getBreakStartTime().atZone(KST).toOffsetDateTime(),
+                                b.getBreakEndTime() == null ? null : b.getBreakEndTime().atZone(KST).toOffsetDateTime(),
+                                b.durationMinutesOrZero()))
+                        .toList();
+
+                Long workMinutes = null;
+                if (snap.finalCheckInAt() != null && snap.finalCheckOutAt() != null) {
+                    long mins = Duration.between(snap.finalCheckInAt(), snap.finalCheckOutAt()).toMinutes();
+                    if (mins >= 0) workMinutes = Math.max(mins - breakMinutes, 0L);
+                }
+                return new AdminAttendanceReportItemResponse(
+                        a.getId(), a.getWorkDate().toString(), snap.finalCheckInAt(), snap.finalCheckOutAt(),
+                        breakMinutes, history, workMinutes, snap.isCorrected());
+            }).toList();
+
+            long total = 0L;
+            int corrected = 0;
+            int missing = 0;
+            for (var it : items) {
+                if (it.isCorrected()) corrected++;
+                if (it.checkInAt() != null && it.checkOutAt() == null) missing++;
+                if (it.workMinutes() != null) total += it.workMinutes();
+            }
+            return new AdminAttendanceReportEmployeeResponse(
+                    emp.getUserId(), emp.getUsername(), emp.getRole().name(), emp.isActive(), emp.getSiteId(),
+                    items.size(), total, missing, corrected, items);
+        }).toList();
+
+        return new AdminAttendanceReportResponse(siteId, FROM.toString(), TO.toString(), mappedEmployees.size(), mappedEmployees);
+    }
+}
@@ -0,0 +1,203 @@
+package io.github.anpk.attendanceapp.attendance.application.service;
+
+import io.github.anpk.attendanceapp.attendance.domain.model.Attendance;
+import io.github.anpk.attendanceapp.attendance.infrastructure.repository.AttendanceRepository;
+import io.github.anpk.attendanceapp.attendance.interfaces.dto.AttendanceActionResponse;
+import io.github.anpk.attendanceapp.correction.application.service.CorrectionRequestService;
+import io.github.anpk.attendanceapp.correction.domain.model.CorrectionRequest;
+import io.github.anpk.attendanceapp.correction.domain.model.CorrectionRequestType;
+import io.github.anpk.attendanceapp.correction.infrastructure.repository.CorrectionRequestRepository;
+import io.github.anpk.attendanceapp.correction.interfaces.dto.CorrectionRequestApproveRequest;
+import io.github.anpk.attendanceapp.employee.domain.model.Employee;
+import io.github.anpk.attendanceapp.employee.domain.model.EmployeeRole;
+import io.github.anpk.attendanceapp.employee.infrastructure.repository.EmployeeRepository;
+import io.github.anpk.attendanceapp.support.SqlCapture;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * today 상태 인메모리 보관 검증
+ * - 한 번 조회한 사용자는 이후 /today를 DB 조회 없이 응답
+ * - 휴게 시작/종료가 커밋되면 보관 상태가 새 값으로 교체된다
+ * - 연결 중인 기기에 출근/당일 정정 승인 결과가 push되고, 날짜가 바뀌면 빈 상태가 전송된다
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:today-status-tests;DB_CLOSE_DELAY=-1",
+        "auth.jwt.secret=today-status-tests-secret",
+        "auth.jwt.expires-seconds=3600",
+        "spring.jpa.show-sql=false",
+        "app.photos.dir=${java.io.tmpdir}/attendance-today-status-tests",
+        SqlCapture.PROPERTY
+})
+class TodayStatusHubTests {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+    private static final long USER_ID = 9_300L;
+    private static final long CHECK_IN_USER_ID = 9_301L;
+    private static final long CORRECTED_USER_ID = 9_302L;
+    private static final long ADMIN_ID = 9_309L;
+
+    @Autowired AttendanceService attendanceService;
+    @Autowired TodayStatusHub todayStatusHub;
+    @Autowired CorrectionRequestService correctionRequestService;
+    @Autowired AttendanceRepository attendanceRepository;
+    @Autowired CorrectionRequestRepository correctionRequestRepository;
+    @Autowired EmployeeRepository employeeRepository;
+    @Autowired PlatformTransactionManager transactionManager;
+
+    @Test
+    void todayIsServedFromMemoryAndReplacedOnChange() {
+        LocalDate today = LocalDate.now(KST);
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            employeeRepository.save(new Employee(USER_ID, "today-status-employee", 1L, EmployeeRole.EMPLOYEE, true, "pw"));
+            attendanceRepository.save(Attendance.checkIn(USER_ID, today, LocalDateTime.now(KST).minusHours(1), "test/today.jpg"));
+        });
+
+        AttendanceActionResponse first = attendanceService.getTodayAction(USER_ID);
+        assertThat(first.attendanceId()).isNotNull();
+        assertThat(first.breakInProgress()).isFalse();
+
+        attendanceService.breakStart(USER_ID);
+
+        List<AttendanceActionResponse> holder = new ArrayList<>();
+        List<String> sqls = SqlCapture.capture(() -> holder.add(attendanceService.getTodayAction(USER_ID)));
+        assertThat(sqls).isEmpty();
+        assertThat(holder.get(0).breakInProgress()).isTrue();
+        assertThat(holder.get(0).activeBreakStartedAt()).isNotNull();
+
+        attendanceService.breakEnd(USER_ID);
+        assertThat(attendanceService.getTodayAction(USER_ID).breakInProgress()).isFalse();
+    }
+
+    @Test
+    void checkInIsPushedToConnectedDevice() throws IOException {
+        LocalDate today = LocalDate.now(KST);
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> employeeRepository.save(
+                new Employee(CHECK_IN_USER_ID, "today-status-check-in", 1L, EmployeeRole.EMPLOYEE, true, "pw")));
+
+        RecordingEmitter device = new RecordingEmitter();
+        todayStatusHub.subscribe(CHECK_IN_USER_ID, () -> AttendanceActionResponse.empty(today), device);
+        assertThat(device.states()).singleElement().satisfies(s -> assertThat(s.attendanceId()).isNull());
+
+        StagedPhoto photo = attendanceService.stageCheckInPhoto("in.png", new ByteArrayInputStream(png()));
+        AttendanceActionResponse checkedIn = attendanceService.checkIn(CHECK_IN_USER_ID, photo);
+
+        AttendanceActionResponse pushed = device.await(s -> s.attendanceId() != null);
+        assertThat(pushed.attendanceId()).isEqualTo(checkedIn.attendanceId());
+        assertThat(pushed.workDate()).isEqualTo(today.toString());
+        assertThat(pushed.checkInAt()).isNotNull();
+    }
+
+    @Test
+    void sameDayCorrectionApprovalIsPushedToRequesterDevice() {
+        LocalDate today = LocalDate.now(KST);
+        OffsetDateTime proposedIn = today.atTime(0, 30).atZone(KST).toOffsetDateTime();
+        Long requestId = new TransactionTemplate(transactionManager).execute(status -> {
+            employeeRepository.save(new Employee(CORRECTED_USER_ID, "today-status-corrected", 1L, EmployeeRole.EMPLOYEE, true, "pw"));
+            employeeRepository.save(new Employee(ADMIN_ID, "today-status-admin", 1L, EmployeeRole.ADMIN, true, "pw"));
+            Attendance a = attendanceRepository.save(
+                    Attendance.checkIn(CORRECTED_USER_ID, today, LocalDateTime.now(KST), "test/corrected.jpg"));
+            return correctionRequestRepository.save(CorrectionRequest.pending(
+                    a, CORRECTED_USER_ID, OffsetDateTime.now(KST), CorrectionRequestType.CHECK_IN,
+                    proposedIn, null, false, "test")).getId();
+        });
+
+        RecordingEmitter device = new RecordingEmitter();
+        todayStatusHub.subscribe(CORRECTED_USER_ID, () -> attendanceService.getTodayAction(CORRECTED_USER_ID), device);
+        assertThat(device.states()).singleElement().satisfies(s -> assertThat(s.isCorrected()).isFalse());
+
+        correctionRequestService.approve(ADMIN_ID, requestId, new CorrectionRequestApproveRequest(null));
+
+        AttendanceActionResponse pushed = device.await(AttendanceActionResponse::isCorrected);
+        assertThat(pushed.checkInAt().truncatedTo(ChronoUnit.SECONDS).toInstant())
+                .isEqualTo(proposedIn.truncatedTo(ChronoUnit.SECONDS).toInstant());
+        // 이후 조회도 push된 상태와 같다
+        assertThat(attendanceService.getTodayAction(CORRECTED_USER_ID).isCorrected()).isTrue();
+    }
+
+    @Test
+    void dateChangeSendsEmptyStateOnHeartbeat() {
+        LocalDate today = LocalDate.now(KST);
+        LocalDate yesterday = today.minusDays(1);
+        TodayStatusHub hub = new TodayStatusHub(100, Duration.ofMinutes(5), Duration.ofMinutes(1), 1, 10, false);
+        try {
+            RecordingEmitter device = new RecordingEmitter();
+            // 자정 직전에 연결된 기기(어제 근태가 마지막 상태)
+            hub.subscribe(USER_ID, () -> new AttendanceActionResponse(1L, yesterday.toString(),
+                    yesterday.atTime(9, 0).atZone(KST).toOffsetDateTime(), null, false, false, 0L, null), device);
+            assertThat(device.states()).singleElement().satisfies(s -> assertThat(s.workDate()).isEqualTo(yesterday.toString()));
+
+            hub.heartbeat();
+
+            AttendanceActionResponse rolled = device.await(s -> s.workDate().equals(today.toString()));
+            assertThat(rolled).isEqualTo(AttendanceActionResponse.empty(today));
+        } finally {
+            hub.shutdown();
+        }
+    }
+
+    /**
+     * 보낸 today 상태를 기록하는 emitter
+     */
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private final List<AttendanceActionResponse> states = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            for (var part : builder.build()) {
+                if (part.getData() instanceof AttendanceActionResponse r) states.add(r);
+            }
+        }
+
+        List<AttendanceActionResponse> states() {
+            return List.copyOf(states);
+        }
+
+        AttendanceActionResponse await(Predicate<AttendanceActionResponse> condition) {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (true) {
+                for (AttendanceActionResponse r : states) {
+                    if (condition.test(r)) return r;
+                }
+                if (System.nanoTime() > deadline) throw new AssertionError("state not pushed: " + states);
+                try {
+                    Thread.sleep(10);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException(e);
+                }
+            }
+        }
+    }
+
+    private static byte[] png() throws IOException {
+        BufferedImage img = new BufferedImage(32, 32, BufferedImage.TYPE_INT_RGB);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(img, "png", out);
+        return out.toByteArray();
+    }
+}
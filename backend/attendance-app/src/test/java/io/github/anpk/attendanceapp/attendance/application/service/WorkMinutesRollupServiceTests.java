@@ -0,0 +1,300 @@
+package io.github.anpk.attendanceapp.attendance.application.service;
+
+import io.github.anpk.attendanceapp.attendance.domain.model.Attendance;
+import io.github.anpk.attendanceapp.attendance.domain.model.AttendanceDailyRollup;
+import io.github.anpk.attendanceapp.attendance.domain.model.SiteMonthlyRollup;
+import io.github.anpk.attendanceapp.attendance.infrastructure.repository.AttendanceDailyRollupRepository;
+import io.github.anpk.attendanceapp.attendance.infrastructure.repository.AttendanceRepository;
+import io.github.anpk.attendanceapp.attendance.infrastructure.repository.SiteMonthlyRollupRepository;
+import io.github.anpk.attendanceapp.employee.domain.model.Employee;
+import io.github.anpk.attendanceapp.employee.domain.model.EmployeeRole;
+import io.github.anpk.attendanceapp.employee.infrastructure.repository.EmployeeRepository;
+import io.github.anpk.attendanceapp.site.domain.model.Site;
+import io.github.anpk.attendanceapp.site.infrastructure.repository.SiteRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 근무 분 rollup 검증
+ * - 같은 (site, month) 첫 행을 여러 트랜잭션이 동시에 만들어도 모든 delta가 반영된다(MERGE + 충돌 시 재시도)
+ * - site 월 집계는 확정된 날만 반영: 출근만 한 오늘은 일 단위 행만, 퇴근/정정은 이전 기여분 차감 후 가산
+ * - 퇴근 없이 지난 날은 foldPastDays()가 한 번만 반영한다
+ * - 같은 일 단위 행을 동시에 갱신하는 트랜잭션(refresh vs fold, refresh vs refresh)은 행 잠금으로 순서대로 반영된다
+ * - 본인 월 합계와 site 월 합계는 같은 날(확정된 날)만 센다
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:rollup-tests;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000",
+        "auth.jwt.secret=rollup-tests-secret",
+        "auth.jwt.expires-seconds=3600",
+        "spring.jpa.show-sql=false"
+})
+class WorkMinutesRollupServiceTests {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+    private static final LocalDate PAST_DAY = LocalDate.of(2025, 5, 12);
+
+    @Autowired WorkMinutesRollupService rollupService;
+    @Autowired AttendanceRepository attendanceRepository;
+    @Autowired AttendanceDailyRollupRepository attendanceDailyRollupRepository;
+    @Autowired SiteMonthlyRollupRepository siteMonthlyRollupRepository;
+    @Autowired EmployeeRepository employeeRepository;
+    @Autowired SiteRepository siteRepository;
+    @Autowired PlatformTransactionManager transactionManager;
+    @Autowired AttendanceService attendanceService;
+
+    @Test
+    void concurrentFirstInsertsForSameMonthAreAllCounted() throws Exception {
+        int writers = 8;
+        Long siteId = newSite("rollup-concurrent");
+        List<Attendance> attendances = new ArrayList<>();
+        for (int i = 0; i < writers; i++) {
+            attendances.add(seedAttendance(9_700L + i, siteId, PAST_DAY.plusDays(i % 3)));
+        }
+
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(writers);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (Attendance a : attendances) {
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    tx().executeWithoutResult(s -> apply(a, snapshot(a, a.getWorkDate().atTime(9, 0), a.getWorkDate().atTime(18, 0), false)));
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> f : futures) f.get();
+        } finally {
+            pool.shutdownNow();
+        }
+
+        SiteMonthlyRollup m = monthly(siteId, PAST_DAY);
+        assertThat(m.getAttendanceDays()).isEqualTo(writers);
+        assertThat(m.getClosedDays()).isEqualTo(writers);
+        assertThat(m.getTotalWorkMinutes()).isEqualTo(writers * 540L);
+        assertThat(m.getMissingCheckoutDays()).isZero();
+    }
+
+    @Test
+    void monthlyRollupFollowsOnlySettledDays() {
+        LocalDate today = LocalDate.now(KST);
+        Long siteId = newSite("rollup-settled");
+        Attendance a = seedAttendance(9_720L, siteId, today);
+
+        // 출근만 한 오늘: 일 단위 행만 생기고 site 월 행은 건드리지 않는다
+        tx().executeWithoutResult(s -> apply(a, snapshot(a, today.atTime(9, 0), null, false)));
+        AttendanceDailyRollup open = attendanceDailyRollupRepository.findById(a.getId()).orElseThrow();
+        assertThat(open.isMissingCheckout()).isTrue();
+        assertThat(open.isMonthlyApplied()).isFalse();
+        assertThat(siteMonthlyRollupRepository.findBySiteIdAndWorkMonth(siteId, YearMonth.from(today).toString())).isEmpty();
+
+        // 퇴근: 확정 → 월 집계 가산(휴게 30분 차감)
+        tx().executeWithoutResult(s -> apply(a, snapshot(a, today.atTime(9, 0), today.atTime(18, 0), false), 30L));
+        SiteMonthlyRollup closed = monthly(siteId, today);
+        assertThat(closed.getAttendanceDays()).isEqualTo(1L);
+        assertThat(closed.getClosedDays()).isEqualTo(1L);
+        assertThat(closed.getTotalWorkMinutes()).isEqualTo(510L);
+        assertThat(closed.getMissingCheckoutDays()).isZero();
+
+        // 정정 승인: 이전 기여분 차감 후 새 값 가산(누적되지 않고 교체)
+        tx().executeWithoutResult(s -> apply(a, snapshot(a, today.atTime(8, 0), today.atTime(18, 0), true), 30L));
+        SiteMonthlyRollup corrected = monthly(siteId, today);
+        assertThat(corrected.getAttendanceDays()).isEqualTo(1L);
+        assertThat(corrected.getClosedDays()).isEqualTo(1L);
+        assertThat(corrected.getTotalWorkMinutes()).isEqualTo(570L);
+        assertThat(corrected.getCorrectedDays()).isEqualTo(1L);
+
+        // 같은 값 재적용은 변경 없음
+        Long changed = tx().execute(s -> rollupService.applyAll(List.of(a),
+                Map.of(a.getId(), snapshot(a, today.atTime(8, 0), today.atTime(18, 0), true)), Map.of(a.getId(), 30L), false));
+        assertThat(changed).isZero();
+        assertThat(monthly(siteId, today).getTotalWorkMinutes()).isEqualTo(570L);
+    }
+
+    @Test
+    void pastDayWithoutCheckoutIsFoldedOnce() {
+        Long siteId = newSite("rollup-fold");
+        LocalDate day = PAST_DAY.plusDays(5);
+        Attendance a = seedAttendance(9_730L, siteId, day);
+
+        // 전날 출근만 한 상태로 남은 일 단위 행(월 미반영) 재현
+        tx().executeWithoutResult(s -> {
+            AttendanceDailyRollup r = AttendanceDailyRollup.of(a.getId(), a.getUserId(), day);
+            r.apply(siteId, null, 0L, true, false, false, LocalDateTime.now(KST));
+            attendanceDailyRollupRepository.save(r);
+        });
+
+        assertThat(rollupService.foldPastDays()).isGreaterThanOrEqualTo(1L);
+        SiteMonthlyRollup m = monthly(siteId, day);
+        assertThat(m.getAttendanceDays()).isEqualTo(1L);
+        assertThat(m.getClosedDays()).isZero();
+        assertThat(m.getMissingCheckoutDays()).isEqualTo(1L);
+        assertThat(attendanceDailyRollupRepository.findById(a.getId()).orElseThrow().isMonthlyApplied()).isTrue();
+
+        rollupService.foldPastDays();
+        assertThat(monthly(siteId, day).getAttendanceDays()).isEqualTo(1L);
+
+        // 이후 정정으로 퇴근이 채워지면 missingCheckout 기여분이 closed로 교체된다
+        tx().executeWithoutResult(s -> apply(a, snapshot(a, day.atTime(9, 0), day.atTime(17, 0), true)));
+        SiteMonthlyRollup after = monthly(siteId, day);
+        assertThat(after.getAttendanceDays()).isEqualTo(1L);
+        assertThat(after.getClosedDays()).isEqualTo(1L);
+        assertThat(after.getMissingCheckoutDays()).isZero();
+        assertThat(after.getTotalWorkMinutes()).isEqualTo(480L);
+    }
+
+    @Test
+    void foldWaitsForConcurrentRefreshOfSamePastDay() throws Exception {
+        Long siteId = newSite("rollup-race-fold");
+        LocalDate day = PAST_DAY.plusDays(10);
+        Attendance a = seedAttendance(9_740L, siteId, day);
+        seedOpenDay(a, siteId);
+
+        // refresh(정정으로 퇴근 채움)가 행을 잡은 동안 fold가 같은 행을 읽으려 한다
+        raceOnRow(
+                () -> apply(a, snapshot(a, day.atTime(9, 0), day.atTime(17, 0), true)),
+                () -> rollupService.foldPastDays()
+        );
+
+        SiteMonthlyRollup m = monthly(siteId, day);
+        assertThat(m.getAttendanceDays()).isEqualTo(1L);
+        assertThat(m.getClosedDays()).isEqualTo(1L);
+        assertThat(m.getTotalWorkMinutes()).isEqualTo(480L);
+        assertThat(m.getMissingCheckoutDays()).isZero();
+    }
+
+    @Test
+    void concurrentRefreshesOfSamePastDaySubtractCommittedValue() throws Exception {
+        Long siteId = newSite("rollup-race-refresh");
+        LocalDate day = PAST_DAY.plusDays(11);
+        Attendance a = seedAttendance(9_741L, siteId, day);
+        seedOpenDay(a, siteId);
+        rollupService.foldPastDays();
+
+        // 두 번째 refresh는 첫 번째 커밋 값(480분)을 차감해야 한다 — 잠금 전 값(퇴근 누락)을 다시 차감하면 이중 반영
+        raceOnRow(
+                () -> apply(a, snapshot(a, day.atTime(9, 0), day.atTime(17, 0), true)),
+                () -> tx().executeWithoutResult(s -> apply(a, snapshot(a, day.atTime(9, 0), day.atTime(18, 0), true)))
+        );
+
+        SiteMonthlyRollup m = monthly(siteId, day);
+        assertThat(m.getAttendanceDays()).isEqualTo(1L);
+        assertThat(m.getClosedDays()).isEqualTo(1L);
+        assertThat(m.getTotalWorkMinutes()).isEqualTo(540L);
+        assertThat(m.getMissingCheckoutDays()).isZero();
+        assertThat(m.getCorrectedDays()).isEqualTo(1L);
+    }
+
+    @Test
+    void personalAndSiteSummariesCountTheSameDays() {
+        LocalDate today = LocalDate.now(KST);
+        String month = YearMonth.from(today).toString();
+        Long siteId = newSite("rollup-summary");
+        Attendance a = seedAttendance(9_750L, siteId, today);
+
+        // 출근만 한 오늘은 양쪽 모두 아직 세지 않는다
+        tx().executeWithoutResult(s -> apply(a, snapshot(a, today.atTime(9, 0), null, false)));
+        assertThat(attendanceService.getMyMonthlySummary(a.getUserId(), month).attendanceDays()).isZero();
+        assertThat(attendanceService.getSiteMonthlySummary(siteId, month).attendanceDays()).isZero();
+
+        tx().executeWithoutResult(s -> apply(a, snapshot(a, today.atTime(9, 0), today.atTime(18, 0), false)));
+        var mine = attendanceService.getMyMonthlySummary(a.getUserId(), month);
+        var site = attendanceService.getSiteMonthlySummary(siteId, month);
+        assertThat(mine.attendanceDays()).isEqualTo(1L).isEqualTo(site.attendanceDays());
+        assertThat(mine.totalWorkMinutes()).isEqualTo(540L).isEqualTo(site.totalWorkMinutes());
+        assertThat(mine.missingCheckoutDays()).isZero().isEqualTo(site.missingCheckoutDays());
+    }
+
+    /**
+     * holder가 같은 트랜잭션 안에서 행을 잡고 있는 동안 contender를 다른 스레드에서 시작하고,
+     * contender가 잠금 대기에 들어갈 시간을 준 뒤 holder를 커밋한다
+     */
+    private void raceOnRow(Runnable holder, Runnable contender) throws Exception {
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        try {
+            CountDownLatch started = new CountDownLatch(1);
+            Future<?> other = tx().execute(s -> {
+                holder.run();
+                Future<?> f = pool.submit(() -> {
+                    started.countDown();
+                    contender.run();
+                });
+                try {
+                    started.await();
+                    Thread.sleep(300);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException(e);
+                }
+                return f;
+            });
+            other.get();
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * 전날 출근만 한 상태로 남은 일 단위 행(월 미반영) 재현
+     */
+    private void seedOpenDay(Attendance a, Long siteId) {
+        tx().executeWithoutResult(s -> {
+            AttendanceDailyRollup r = AttendanceDailyRollup.of(a.getId(), a.getUserId(), a.getWorkDate());
+            r.apply(siteId, null, 0L, true, false, false, LocalDateTime.now(KST));
+            attendanceDailyRollupRepository.save(r);
+        });
+    }
+
+    private void apply(Attendance a, FinalSnapshot snap) {
+        apply(a, snap, 0L);
+    }
+
+    private void apply(Attendance a, FinalSnapshot snap, long breakMinutes) {
+        rollupService.applyAll(List.of(a), Map.of(a.getId(), snap), Map.of(a.getId(), breakMinutes), false);
+    }
+
+    private static FinalSnapshot snapshot(Attendance a, LocalDateTime in, LocalDateTime out, boolean corrected) {
+        return new FinalSnapshot(a.getId(), a.getWorkDate(), kst(in), kst(out), corrected, corrected ? 1L : null);
+    }
+
+    private static OffsetDateTime kst(LocalDateTime t) {
+        return t == null ? null : t.atZone(KST).toOffsetDateTime();
+    }
+
+    private SiteMonthlyRollup monthly(Long siteId, LocalDate day) {
+        return siteMonthlyRollupRepository.findBySiteIdAndWorkMonth(siteId, YearMonth.from(day).toString()).orElseThrow();
+    }
+
+    private Long newSite(String name) {
+        return tx().execute(s -> siteRepository.save(new Site(name)).getId());
+    }
+
+    private Attendance seedAttendance(Long userId, Long siteId, LocalDate day) {
+        return tx().execute(s -> {
+            employeeRepository.save(new Employee(userId, "rollup-" + userId, siteId, EmployeeRole.EMPLOYEE, true, "pw"));
+            return attendanceRepository.save(Attendance.checkIn(userId, day, day.atTime(9, 0), "seed/rollup.jpg"));
+        });
+    }
+
+    private TransactionTemplate tx() {
+        return new TransactionTemplate(transactionManager);
+    }
+}
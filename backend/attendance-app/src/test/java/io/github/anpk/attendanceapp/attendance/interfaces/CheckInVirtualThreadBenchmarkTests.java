@@ -0,0 +1,178 @@
+package io.github.anpk.attendanceapp.attendance.interfaces;
+
+import io.github.anpk.attendanceapp.AttendanceAppApplication;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 출근(check-in) 피크 부하 비교 — 플랫폼 스레드(Tomcat 기본 풀) vs 가상 스레드(spring.threads.virtual.enabled)
+ * - 모드별로 애플리케이션을 실제 포트(server.port=0)로 띄우고, 별도 H2 DB/사진 디렉터리를 사용한다
+ * - 직원 수만큼 서로 다른 X-USER-ID로 사진(JPEG) 출근 요청을 동시에 CONCURRENCY개씩 보낸다
+ * - 처리량(req/s)과 p50/p99 지연을 로그로 남긴다(간이 벤치마크 — 모드 간 우열은 단정하지 않는다)
+ *
+ * 기본 test에서는 제외(@Tag("benchmark")) — 실행: ./gradlew benchmarkTest --tests '*CheckInVirtualThreadBenchmarkTests' (로그: [check-in-bench])
+ */
+@Slf4j
+@Tag("benchmark")
+class CheckInVirtualThreadBenchmarkTests {
+
+    private static final int EMPLOYEES = 1_000;
+    private static final int WARMUP_EMPLOYEES = 200;
+    private static final int CONCURRENCY = 200;
+    private static final long FIRST_USER_ID = 100_000L;
+    private static final String BOUNDARY = "check-in-bench-boundary";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void checkInThroughputPlatformVsVirtualThreads() throws Exception {
+        byte[] jpeg = sampleJpeg();
+
+        Result platform = runMode("platform", false, jpeg);
+        Result virtual = runMode("virtual", true, jpeg);
+
+        assertThat(platform.created()).isEqualTo(EMPLOYEES);
+        assertThat(virtual.created()).isEqualTo(EMPLOYEES);
+        log.info("[check-in-bench] summary platform={} req/s p99={}ms | virtual={} req/s p99={}ms",
+                platform.requestsPerSecond(), platform.p99Ms(), virtual.requestsPerSecond(), virtual.p99Ms());
+    }
+
+    private Result runMode(String label, boolean virtualThreads, byte[] jpeg) throws Exception {
+        try (ConfigurableApplicationContext ctx = new SpringApplicationBuilder(AttendanceAppApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.threads.virtual.enabled=" + virtualThreads,
+                        "spring.datasource.url=jdbc:h2:mem:check-in-bench-" + label + ";DB_CLOSE_DELAY=-1",
+                        "spring.jpa.show-sql=false",
+                        "spring.devtools.restart.enabled=false",
+                        // JWT 설정은 dev 프로파일에만 있으므로 직접 지정(요청은 X-USER-ID 사용)
+                        "auth.jwt.secret=check-in-bench-secret",
+                        "auth.jwt.expires-seconds=3600",
+                        "app.photos.dir=" + tempDir.resolve(label).resolve("uploads"),
+                        "app.report-jobs.dir=" + tempDir.resolve(label).resolve("report-jobs")
+                )
+                .run()) {
+
+            int port = ((WebServerApplicationContext) ctx).getWebServer().getPort();
+            URI uri = URI.create("http://localhost:" + port + "/api/attendance/check-in");
+
+            // 워밍업(JIT/커넥션 풀) — 측정 대상과 다른 userId
+            fire(uri, jpeg, FIRST_USER_ID + EMPLOYEES, WARMUP_EMPLOYEES);
+            Result result = fire(uri, jpeg, FIRST_USER_ID, EMPLOYEES);
+            log.info("[check-in-bench] {} requests={} concurrency={} created={} elapsedMs={} req/s={} p50={}ms p99={}ms",
+                    label, EMPLOYEES, CONCURRENCY, result.created(), result.elapsedMs(),
+                    result.requestsPerSecond(), result.p50Ms(), result.p99Ms());
+            return result;
+        }
+    }
+
+    private Result fire(URI uri, byte[] jpeg, long firstUserId, int count) throws Exception {
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        Semaphore permits = new Semaphore(CONCURRENCY);
+        long[] latencies = new long[count];
+
+        try (ExecutorService pool = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<Integer>> futures = new ArrayList<>(count);
+            long started = System.nanoTime();
+            for (int i = 0; i < count; i++) {
+                int idx = i;
+                long userId = firstUserId + i;
+                permits.acquire();
+                futures.add(pool.submit(() -> {
+                    try {
+                        HttpRequest req = HttpRequest.newBuilder(uri)
+                                .timeout(Duration.ofSeconds(60))
+                                .header("X-USER-ID", Long.toString(userId))
+                                .header("Content-Type", "multipart/form-data; boundary=" + BOUNDARY)
+                                .POST(HttpRequest.BodyPublishers.ofByteArray(multipartBody(jpeg, userId)))
+                                .build();
+                        long t0 = System.nanoTime();
+                        HttpResponse<Void> res = client.send(req, HttpResponse.BodyHandlers.discarding());
+                        latencies[idx] = System.nanoTime() - t0;
+                        return res.statusCode();
+                    } finally {
+                        permits.release();
+                    }
+                }));
+            }
+
+            int created = 0;
+            for (Future<Integer> f : futures) {
+                if (f.get() == 201) created++;
+            }
+            long elapsed = System.nanoTime() - started;
+
+            Arrays.sort(latencies);
+            return new Result(
+                    created,
+                    Duration.ofNanos(elapsed).toMillis(),
+                    (long) (count / (elapsed / 1_000_000_000.0)),
+                    percentileMs(latencies, 0.50),
+                    percentileMs(latencies, 0.99)
+            );
+        }
+    }
+
+    /**
+     * 사진 파트 1개(name=photo). JPEG 뒤에 userId를 덧붙여 요청마다 내용이 다르게 한다(중복 제거 방지)
+     */
+    private static byte[] multipartBody(byte[] jpeg, long userId) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(jpeg.length + 256);
+        out.write(("--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"photo\"; filename=\"check-in-" + userId + ".jpg\"\r\n"
+                + "Content-Type: image/jpeg\r\n\r\n").getBytes(StandardCharsets.UTF_8));
+        out.write(jpeg);
+        out.write(Long.toString(userId).getBytes(StandardCharsets.US_ASCII));
+        out.write(("\r\n--" + BOUNDARY + "--\r\n").getBytes(StandardCharsets.US_ASCII));
+        return out.toByteArray();
+    }
+
+    private static byte[] sampleJpeg() throws IOException {
+        BufferedImage image = new BufferedImage(640, 480, BufferedImage.TYPE_INT_RGB);
+        for (int y = 0; y < image.getHeight(); y++) {
+            for (int x = 0; x < image.getWidth(); x++) {
+                image.setRGB(x, y, (x * 31 + y * 17) & 0xFFFFFF);
+            }
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "jpeg", out);
+        return out.toByteArray();
+    }
+
+    private static long percentileMs(long[] sortedNanos, double p) {
+        int idx = Math.min(sortedNanos.length - 1, (int) Math.ceil(p * sortedNanos.length) - 1);
+        return Duration.ofNanos(sortedNanos[Math.max(0, idx)]).toMillis();
+    }
+
+    private record Result(int created, long elapsedMs, long requestsPerSecond, long p50Ms, long p99Ms) {}
+}
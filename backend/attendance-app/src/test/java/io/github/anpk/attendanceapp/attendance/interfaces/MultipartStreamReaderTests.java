@@ -0,0 +1,132 @@
+package io.github.anpk.attendanceapp.attendance.interfaces;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
+import org.springframework.web.multipart.MultipartException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * multipart 스트리밍 파서 검증
+ * - 임의 크기 조각으로 도착하는 본문 + 구분자와 비슷한 바이트열이 섞인 파일에서도 원본 그대로 복원되는지
+ * - 본문 전체 상한: photo가 아닌 파트/건너뛴 본문도 합산해 초과 시 읽기 중단
+ */
+class MultipartStreamReaderTests {
+
+    private static final String BOUNDARY = "----FormBoundary7MA4YWxkTrZu0gW";
+    private static final long MAX_BYTES = 5L * 1024 * 1024;
+
+    @Test
+    void readsPartsFromChunkedBodyWithDelimiterLikeContent() throws IOException {
+        Random random = new Random(7);
+        for (int round = 0; round < 50; round++) {
+            byte[] payload = new byte[random.nextInt(300_000)];
+            random.nextBytes(payload);
+            // 구분자 앞부분과 같은 바이트열을 곳곳에 심는다
+            byte[] nearDelimiter = ("\r\n--" + BOUNDARY.substring(0, 10)).getBytes(StandardCharsets.ISO_8859_1);
+            for (int i = 0; i + nearDelimiter.length < payload.length; i += 997) {
+                System.arraycopy(nearDelimiter, 0, payload, i, nearDelimiter.length);
+            }
+
+            byte[] body = body(payload);
+            MultipartStreamReader reader = new MultipartStreamReader(chunked(body, random), BOUNDARY, MAX_BYTES);
+
+            assertThat(reader.nextPart()).isTrue();
+            assertThat(reader.getName()).isEqualTo("memo");
+            assertThat(reader.getFilename()).isNull();
+            assertThat(new String(reader.body().readAllBytes(), StandardCharsets.UTF_8)).isEqualTo("hello");
+
+            assertThat(reader.nextPart()).isTrue();
+            assertThat(reader.getName()).isEqualTo("photo");
+            assertThat(reader.getFilename()).isEqualTo("출근.jpg");
+            assertThat(reader.getContentType()).isEqualTo("image/jpeg");
+            assertThat(reader.body().readAllBytes()).isEqualTo(payload);
+
+            assertThat(reader.nextPart()).isFalse();
+        }
+    }
+
+    @Test
+    void truncatedBodyIsRejected() {
+        byte[] body = body(new byte[1000]);
+        byte[] truncated = Arrays.copyOf(body, body.length - 20);
+        MultipartStreamReader reader = new MultipartStreamReader(new ByteArrayInputStream(truncated), BOUNDARY, MAX_BYTES);
+
+        assertThatThrownBy(() -> {
+            while (reader.nextPart()) {
+                reader.body().readAllBytes();
+            }
+        }).isInstanceOf(MultipartException.class);
+    }
+
+    @Test
+    void oversizedNonPhotoPartIsRejected() {
+        // photo 앞의 일반 파트가 상한을 넘는다 — 본문을 읽지 않고 건너뛰어도(nextPart) 합산된다
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.writeBytes(("--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"memo\"\r\n\r\n").getBytes(StandardCharsets.ISO_8859_1));
+        out.writeBytes(new byte[(int) MAX_BYTES]);
+        out.writeBytes(body(new byte[100]));
+        InputStream in = new ByteArrayInputStream(out.toByteArray());
+        MultipartStreamReader reader = new MultipartStreamReader(in, BOUNDARY, MAX_BYTES);
+
+        assertThatThrownBy(() -> {
+            while (reader.nextPart()) {
+                assertThat(reader.getName()).isNotEqualTo("photo");
+            }
+        }).isInstanceOf(MaxUploadSizeExceededException.class);
+    }
+
+    @Test
+    void oversizedPreambleIsRejected() {
+        byte[] preamble = new byte[(int) MAX_BYTES + 1];
+        Arrays.fill(preamble, (byte) 'x');
+        MultipartStreamReader reader = new MultipartStreamReader(new ByteArrayInputStream(preamble), BOUNDARY, MAX_BYTES);
+
+        assertThatThrownBy(reader::nextPart).isInstanceOf(MaxUploadSizeExceededException.class);
+    }
+
+    private static byte[] body(byte[] payload) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.writeBytes(("preamble\r\n--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"memo\"\r\n\r\n"
+                + "hello\r\n--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"photo\"; filename=\"출근.jpg\"\r\n"
+                + "Content-Type: image/jpeg\r\n\r\n").getBytes(StandardCharsets.UTF_8));
+        out.writeBytes(payload);
+        out.writeBytes(("\r\n--" + BOUNDARY + "--\r\n").getBytes(StandardCharsets.ISO_8859_1));
+        return out.toByteArray();
+    }
+
+    /**
+     * 네트워크처럼 임의 크기 조각으로 반환하는 스트림
+     */
+    private static InputStream chunked(byte[] data, Random random) {
+        return new InputStream() {
+            private int pos;
+
+            @Override
+            public int read() {
+                return pos < data.length ? data[pos++] & 0xFF : -1;
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) {
+                if (pos >= data.length) return -1;
+                int n = Math.min(Math.min(len, 1 + random.nextInt(8192)), data.length - pos);
+                System.arraycopy(data, pos, b, off, n);
+                pos += n;
+                return n;
+            }
+        };
+    }
+}
@@ -0,0 +1,212 @@
+package io.github.anpk.attendanceapp.auth;
+
+import io.github.anpk.attendanceapp.auth.jwt.JwtAuthFilter;
+import io.github.anpk.attendanceapp.auth.jwt.JwtClaims;
+import io.github.anpk.attendanceapp.auth.jwt.JwtTokenService;
+import io.github.anpk.attendanceapp.employee.application.service.EmployeeCache;
+import io.github.anpk.attendanceapp.employee.domain.model.Employee;
+import io.github.anpk.attendanceapp.employee.domain.model.EmployeeRole;
+import io.github.anpk.attendanceapp.employee.infrastructure.repository.EmployeeRepository;
+import io.github.anpk.attendanceapp.error.BusinessException;
+import io.github.anpk.attendanceapp.error.ErrorCode;
+import io.github.anpk.attendanceapp.site.application.service.ManagerScopeIndex;
+import io.github.anpk.attendanceapp.site.domain.model.Site;
+import io.github.anpk.attendanceapp.site.infrastructure.repository.SiteRepository;
+import io.github.anpk.attendanceapp.support.SqlCapture;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * @CurrentPrincipal 주입 검증
+ * - sv가 현재 버전인 토큰: claim(role/site)과 인메모리 담당 site로 구성, SQL 없음
+ * - sv가 지난 토큰 / scope claim 없는 토큰 / X-USER-ID: Employee 재조회 값으로 구성하고 현재 버전을 기록
+ * - 변조 토큰은 claim이 주입되지 않는다(인증 필요), 재조회 시 비활성/미존재는 거부
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:principal-tests;DB_CLOSE_DELAY=-1",
+        "auth.jwt.secret=principal-tests-secret",
+        "auth.jwt.expires-seconds=3600",
+        "spring.jpa.show-sql=false",
+        SqlCapture.PROPERTY
+})
+class CurrentPrincipalArgumentResolverTests {
+
+    @Autowired JwtTokenService jwtTokenService;
+    @Autowired JwtAuthFilter jwtAuthFilter;
+    @Autowired ScopeVersionRegistry scopeVersionRegistry;
+    @Autowired EmployeeCache employeeCache;
+    @Autowired ManagerScopeIndex managerScopeIndex;
+    @Autowired EmployeeRepository employeeRepository;
+    @Autowired SiteRepository siteRepository;
+    @Autowired PlatformTransactionManager transactionManager;
+
+    @Test
+    void scopeClaimsAreParsedFromIssuedToken() {
+        String token = jwtTokenService.issueToken(7401L, EmployeeRole.MANAGER, 31L, 4L);
+
+        JwtClaims claims = jwtTokenService.parseIfValid(token).orElseThrow();
+
+        assertThat(claims.userId()).isEqualTo(7401L);
+        assertThat(claims.role()).isEqualTo(EmployeeRole.MANAGER);
+        assertThat(claims.siteId()).isEqualTo(31L);
+        assertThat(claims.scopeVersion()).isEqualTo(4L);
+        assertThat(claims.hasScope()).isTrue();
+    }
+
+    @Test
+    void currentScopeVersionResolvesFromClaimsWithoutLookup() {
+        Long siteId = newSite("principal-current");
+        Employee manager = seed(7402L, siteId, EmployeeRole.MANAGER, true);
+        managerScopeIndex.onAssigned(7402L, siteId);
+        scopeVersionRegistry.observe(7402L, manager.getScopeVersion());
+        employeeCache.invalidateAll();
+
+        String token = jwtTokenService.issueToken(7402L, EmployeeRole.MANAGER, siteId, manager.getScopeVersion());
+        List<AuthPrincipal> holder = new ArrayList<>();
+        List<String> sqls = SqlCapture.capture(() -> holder.add(resolve(bearer(token))));
+
+        assertThat(sqls).isEmpty();
+        AuthPrincipal p = holder.get(0);
+        assertThat(p.getUserId()).isEqualTo(7402L);
+        assertThat(p.isManager()).isTrue();
+        assertThat(p.getSiteId()).isEqualTo(siteId);
+        assertThat(p.managesSite(siteId)).isTrue();
+    }
+
+    @Test
+    void staleScopeVersionFallsBackToEmployee() {
+        Long siteId = newSite("principal-stale");
+        Employee before = seed(7403L, siteId, EmployeeRole.EMPLOYEE, true);
+        scopeVersionRegistry.observe(7403L, before.getScopeVersion());
+        String oldToken = jwtTokenService.issueToken(7403L, EmployeeRole.EMPLOYEE, siteId, before.getScopeVersion());
+
+        // 권한 변경(EMPLOYEE → ADMIN): 버전 증가 + 커밋 후 레지스트리/캐시 무효화
+        tx().executeWithoutResult(s -> {
+            employeeRepository.findById(7403L).orElseThrow().changeRole(EmployeeRole.ADMIN);
+            scopeVersionRegistry.invalidate(7403L);
+        });
+        long current = employeeRepository.findById(7403L).orElseThrow().getScopeVersion();
+        assertThat(current).isEqualTo(before.getScopeVersion() + 1);
+
+        List<String> sqls = SqlCapture.capture(() -> assertThat(resolve(bearer(oldToken)).isAdmin()).isTrue());
+        assertThat(SqlCapture.count(sqls, "select")).isPositive();
+        assertThat(scopeVersionRegistry.isCurrent(7403L, current)).isTrue();
+        assertThat(scopeVersionRegistry.isCurrent(7403L, before.getScopeVersion())).isFalse();
+
+        // 버전이 기록된 뒤에도 지난 토큰의 claim(EMPLOYEE)은 신뢰하지 않는다
+        assertThat(resolve(bearer(oldToken)).getRole()).isEqualTo(EmployeeRole.ADMIN);
+    }
+
+    @Test
+    void missingScopeClaimsAndHeaderUseEmployee() {
+        Long siteId = newSite("principal-missing");
+        seed(7404L, siteId, EmployeeRole.EMPLOYEE, true);
+
+        // scope claim 없는 구버전 토큰(필터가 주입한 claim에 role/site/sv 없음)
+        MockHttpServletRequest legacy = new MockHttpServletRequest();
+        legacy.setAttribute(JwtAuthFilter.REQ_ATTR_USER_ID, 7404L);
+        legacy.setAttribute(JwtAuthFilter.REQ_ATTR_CLAIMS,
+                new JwtClaims(7404L, null, null, -1L, Instant.now().getEpochSecond() + 60));
+        AuthPrincipal fromLegacy = resolveArgument(legacy);
+        assertThat(fromLegacy.getRole()).isEqualTo(EmployeeRole.EMPLOYEE);
+        assertThat(fromLegacy.getSiteId()).isEqualTo(siteId);
+
+        MockHttpServletRequest header = new MockHttpServletRequest();
+        header.addHeader("X-USER-ID", "7404");
+        AuthPrincipal fromHeader = resolve(header);
+        assertThat(fromHeader.getUserId()).isEqualTo(7404L);
+        assertThat(fromHeader.getSiteId()).isEqualTo(siteId);
+    }
+
+    @Test
+    void tamperedClaimsAreNotTrusted() {
+        Long siteId = newSite("principal-tampered");
+        Employee e = seed(7405L, siteId, EmployeeRole.EMPLOYEE, true);
+        scopeVersionRegistry.observe(7405L, e.getScopeVersion());
+        String token = jwtTokenService.issueToken(7405L, EmployeeRole.EMPLOYEE, siteId, e.getScopeVersion());
+
+        // 서명은 그대로 두고 payload의 role만 ADMIN으로 바꾼 토큰
+        String[] parts = token.split("\\.");
+        String payload = new String(Base64.getUrlDecoder().decode(parts[1]), StandardCharsets.UTF_8)
+                .replace("\"EMPLOYEE\"", "\"ADMIN\"");
+        String tampered = parts[0] + "."
+                + Base64.getUrlEncoder().withoutPadding().encodeToString(payload.getBytes(StandardCharsets.UTF_8))
+                + "." + parts[2];
+
+        MockHttpServletRequest request = bearer(tampered);
+        assertThatThrownBy(() -> resolve(request))
+                .isInstanceOfSatisfying(BusinessException.class,
+                        ex -> assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.UNAUTHORIZED));
+        assertThat(request.getAttribute(JwtAuthFilter.REQ_ATTR_CLAIMS)).isNull();
+    }
+
+    @Test
+    void fallbackRejectsInactiveAndUnknownEmployees() {
+        Long siteId = newSite("principal-inactive");
+        seed(7406L, siteId, EmployeeRole.EMPLOYEE, false);
+
+        MockHttpServletRequest inactive = new MockHttpServletRequest();
+        inactive.addHeader("X-USER-ID", "7406");
+        assertThatThrownBy(() -> resolve(inactive))
+                .isInstanceOfSatisfying(BusinessException.class,
+                        ex -> assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.EMPLOYEE_INACTIVE));
+
+        MockHttpServletRequest unknown = new MockHttpServletRequest();
+        unknown.addHeader("X-USER-ID", "7499");
+        assertThatThrownBy(() -> resolve(unknown))
+                .isInstanceOfSatisfying(BusinessException.class,
+                        ex -> assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.FORBIDDEN));
+    }
+
+    private static MockHttpServletRequest bearer(String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer " + token);
+        return request;
+    }
+
+    /**
+     * JWT 필터를 거친 뒤 resolver 호출(실제 요청 경로와 같은 순서)
+     */
+    private AuthPrincipal resolve(MockHttpServletRequest request) {
+        try {
+            jwtAuthFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+        return resolveArgument(request);
+    }
+
+    private AuthPrincipal resolveArgument(MockHttpServletRequest request) {
+        var resolver = new CurrentPrincipalArgumentResolver(scopeVersionRegistry, employeeCache, managerScopeIndex);
+        return (AuthPrincipal) resolver.resolveArgument(null, null, new ServletWebRequest(request), null);
+    }
+
+    private Long newSite(String name) {
+        return tx().execute(s -> siteRepository.save(new Site(name)).getId());
+    }
+
+    private Employee seed(Long userId, Long siteId, EmployeeRole role, boolean active) {
+        return tx().execute(s -> employeeRepository.save(
+                new Employee(userId, "principal-" + userId, siteId, role, active, "pw")));
+    }
+
+    private TransactionTemplate tx() {
+        return new TransactionTemplate(transactionManager);
+    }
+}
@@ -0,0 +1,100 @@
+package io.github.anpk.attendanceapp.auth;
+
+import io.github.anpk.attendanceapp.employee.domain.model.Employee;
+import io.github.anpk.attendanceapp.employee.domain.model.EmployeeRole;
+import io.github.anpk.attendanceapp.employee.infrastructure.repository.EmployeeRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 권한 범위 버전 레지스트리 검증
+ * - observe()는 더 높은 버전만 남긴다(늦게 도착한 이전 버전이 되돌리지 않음)
+ * - bump()/Employee 권한 필드 변경은 DB 버전을 올리고, 레지스트리는 커밋 후에만 무효화된다(롤백 시 유지)
+ * - reload()는 DB 버전으로 교체한다
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:scope-version-tests;DB_CLOSE_DELAY=-1",
+        "auth.jwt.secret=scope-version-tests-secret",
+        "auth.jwt.expires-seconds=3600",
+        "spring.jpa.show-sql=false"
+})
+class ScopeVersionRegistryTests {
+
+    @Autowired ScopeVersionRegistry scopeVersionRegistry;
+    @Autowired EmployeeRepository employeeRepository;
+    @Autowired PlatformTransactionManager transactionManager;
+
+    @Test
+    void observeKeepsHighestVersion() {
+        scopeVersionRegistry.observe(7501L, 3L);
+        scopeVersionRegistry.observe(7501L, 2L);
+
+        assertThat(scopeVersionRegistry.isCurrent(7501L, 3L)).isTrue();
+        assertThat(scopeVersionRegistry.isCurrent(7501L, 2L)).isFalse();
+        assertThat(scopeVersionRegistry.isCurrent(7599L, 0L)).isFalse();
+    }
+
+    @Test
+    void bumpInvalidatesOnlyAfterCommit() {
+        seed(7502L);
+        scopeVersionRegistry.reload();
+        assertThat(scopeVersionRegistry.isCurrent(7502L, 0L)).isTrue();
+
+        // 롤백: DB/레지스트리 모두 그대로
+        tx().executeWithoutResult(s -> {
+            scopeVersionRegistry.bump(7502L);
+            s.setRollbackOnly();
+        });
+        assertThat(scopeVersionRegistry.isCurrent(7502L, 0L)).isTrue();
+        assertThat(versionOf(7502L)).isZero();
+
+        tx().executeWithoutResult(s -> {
+            scopeVersionRegistry.bump(7502L);
+            // 커밋 전에는 기존 버전 유지
+            assertThat(scopeVersionRegistry.isCurrent(7502L, 0L)).isTrue();
+        });
+        assertThat(scopeVersionRegistry.isCurrent(7502L, 0L)).isFalse();
+        assertThat(versionOf(7502L)).isEqualTo(1L);
+
+        scopeVersionRegistry.reload();
+        assertThat(scopeVersionRegistry.isCurrent(7502L, 1L)).isTrue();
+    }
+
+    @Test
+    void onlyActualScopeChangesBumpEmployeeVersion() {
+        seed(7503L);
+
+        tx().executeWithoutResult(s -> {
+            Employee e = employeeRepository.findById(7503L).orElseThrow();
+            e.changeRole(EmployeeRole.EMPLOYEE);
+            e.changeActive(true);
+            e.changeUsername("scope-renamed");
+        });
+        assertThat(versionOf(7503L)).isZero();
+
+        tx().executeWithoutResult(s -> {
+            Employee e = employeeRepository.findById(7503L).orElseThrow();
+            e.changeRole(EmployeeRole.MANAGER);
+            e.changeActive(false);
+        });
+        assertThat(versionOf(7503L)).isEqualTo(2L);
+    }
+
+    private long versionOf(Long userId) {
+        return employeeRepository.findById(userId).orElseThrow().getScopeVersion();
+    }
+
+    private void seed(Long userId) {
+        tx().executeWithoutResult(s -> employeeRepository.save(
+                new Employee(userId, "scope-" + userId, 1L, EmployeeRole.EMPLOYEE, true, "pw")));
+    }
+
+    private TransactionTemplate tx() {
+        return new TransactionTemplate(transactionManager);
+    }
+}
@@ -0,0 +1,158 @@
+package io.github.anpk.attendanceapp.auth.jwt;
+
+import io.github.anpk.attendanceapp.employee.domain.model.EmployeeRole;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * JWT 검증 hot path 검증
+ * - 기존 구현(요청마다 Mac.getInstance + 정규식 split + String 파싱)과 판정 결과가 동일한지 비교
+ * - 여러 스레드가 동시에 필터를 통과해도 유효 토큰만 인증되고 claim이 뒤섞이지 않는다(처리량은 JMH JwtTokenServiceBenchmark)
+ */
+class JwtAuthFilterTests {
+
+    private static final String SECRET = "bench-secret-change-me";
+    private static final int THREADS = 4;
+    private static final int REQUESTS_PER_THREAD = 250;
+    private static final int DISTINCT_TOKENS = 50;
+
+    private final JwtTokenService service = new JwtTokenService(SECRET, 3600, 10_000);
+
+    @Test
+    void verificationMatchesLegacyImplementation() {
+        String valid = service.issueToken(42L, EmployeeRole.EMPLOYEE, 1L, 0L);
+        int dot2 = valid.lastIndexOf('.');
+        String tamperedSig = valid.substring(0, dot2 + 1) + flipLast(valid.substring(dot2 + 1));
+        String tamperedPayload = legacyToken(43L, Instant.now().getEpochSecond() + 60, "other-secret");
+        String expired = legacyToken(44L, Instant.now().getEpochSecond() - 1, SECRET);
+        String sameSigOtherPayload = legacyToken(45L, Instant.now().getEpochSecond() + 60, SECRET)
+                .replaceAll("\\.[^.]+$", valid.substring(dot2));
+
+        for (String token : List.of(valid, tamperedSig, tamperedPayload, expired, sameSigOtherPayload,
+                "", "a.b", "a.b.c.d", "..", "x.y.z", valid + "é")) {
+            // 캐시 미스/히트 모두 동일 판정이어야 한다
+            assertThat(service.parseUserIdIfValid(token)).as(token).isEqualTo(legacyParse(token));
+            assertThat(service.parseUserIdIfValid(token)).as(token).isEqualTo(legacyParse(token));
+        }
+        assertThat(service.parseUserIdIfValid(valid)).contains(42L);
+    }
+
+    @Test
+    void concurrentRequestsAuthenticateOnlyValidTokens() throws Exception {
+        List<String> tokens = new ArrayList<>(DISTINCT_TOKENS);
+        for (int i = 0; i < DISTINCT_TOKENS; i++) {
+            tokens.add(service.issueToken(1000L + i, EmployeeRole.EMPLOYEE, 1L, 0L));
+        }
+        String valid = tokens.get(0);
+        int dot2 = valid.lastIndexOf('.');
+        String tampered = valid.substring(0, dot2 + 1) + flipLast(valid.substring(dot2 + 1));
+
+        // 캐시 적중/미스, 스레드 간 Mac 재사용과 무관하게 같은 판정이어야 한다
+        for (JwtAuthFilter filter : List.of(new JwtAuthFilter(service), new JwtAuthFilter(new JwtTokenService(SECRET, 3600, 0)))) {
+            ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+            try {
+                List<Callable<Integer>> tasks = new ArrayList<>();
+                for (int t = 0; t < THREADS; t++) {
+                    int offset = t;
+                    tasks.add(() -> {
+                        int authenticated = 0;
+                        for (int i = 0; i < REQUESTS_PER_THREAD; i++) {
+                            int index = (i + offset) % tokens.size();
+                            MockHttpServletRequest req = filter(filter, tokens.get(index));
+                            assertThat(req.getAttribute(JwtAuthFilter.REQ_ATTR_USER_ID)).isEqualTo(1000L + index);
+                            JwtClaims claims = (JwtClaims) req.getAttribute(JwtAuthFilter.REQ_ATTR_CLAIMS);
+                            assertThat(claims.role()).isEqualTo(EmployeeRole.EMPLOYEE);
+                            assertThat(claims.siteId()).isEqualTo(1L);
+                            authenticated++;
+
+                            MockHttpServletRequest rejected = filter(filter, tampered);
+                            assertThat(rejected.getAttribute(JwtAuthFilter.REQ_ATTR_USER_ID)).isNull();
+                            assertThat(rejected.getAttribute(JwtAuthFilter.REQ_ATTR_CLAIMS)).isNull();
+                        }
+                        return authenticated;
+                    });
+                }
+
+                int authenticated = 0;
+                for (Future<Integer> f : pool.invokeAll(tasks)) authenticated += f.get();
+                assertThat(authenticated).isEqualTo(THREADS * REQUESTS_PER_THREAD);
+            } finally {
+                pool.shutdownNow();
+            }
+        }
+    }
+
+    private static MockHttpServletRequest filter(JwtAuthFilter filter, String token) throws Exception {
+        MockHttpServletRequest req = new MockHttpServletRequest("GET", "/api/attendance/today");
+        req.addHeader("Authorization", "Bearer " + token);
+        FilterChain chain = new MockFilterChain();
+        filter.doFilter(req, new MockHttpServletResponse(), chain);
+        return req;
+    }
+
+    private static String flipLast(String s) {
+        char last = s.charAt(s.length() - 1);
+        return s.substring(0, s.length() - 1) + (last == 'A' ? 'B' : 'A');
+    }
+
+    private static String legacyToken(long userId, long exp, String secret) {
+        Function<byte[], String> b64 = b -> Base64.getUrlEncoder().withoutPadding().encodeToString(b);
+        String header = b64.apply("{\"alg\":\"HS256\",\"typ\":\"JWT\"}".getBytes(StandardCharsets.UTF_8));
+        String payload = b64.apply(("{\"sub\":\"" + userId + "\",\"role\":\"EMPLOYEE\",\"iat\":" + (exp - 60) + ",\"exp\":" + exp + "}")
+                .getBytes(StandardCharsets.UTF_8));
+        return header + "." + payload + "." + legacyHmac(header + "." + payload, secret);
+    }
+
+    /**
+     * 기존 구현 재현 — 비교 기준
+     */
+    private static Optional<Long> legacyParse(String token) {
+        try {
+            String[] parts = token.split("\\.");
+            if (parts.length != 3) return Optional.empty();
+            String expectedSig = legacyHmac(parts[0] + "." + parts[1], SECRET);
+            if (!expectedSig.equals(parts[2])) return Optional.empty();
+
+            String json = new String(Base64.getUrlDecoder().decode(parts[1]), StandardCharsets.UTF_8);
+            int s = json.indexOf("\"sub\":\"") + 7;
+            Long sub = Long.parseLong(json.substring(s, json.indexOf('"', s)));
+            int e = json.indexOf("\"exp\":") + 6;
+            int end = e;
+            while (end < json.length() && Character.isDigit(json.charAt(end))) end++;
+            long exp = Long.parseLong(json.substring(e, end));
+            if (Instant.now().getEpochSecond() >= exp) return Optional.empty();
+            return Optional.of(sub);
+        } catch (Exception e) {
+            return Optional.empty();
+        }
+    }
+
+    private static String legacyHmac(String data, String secret) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(mac.doFinal(data.getBytes(StandardCharsets.UTF_8)));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
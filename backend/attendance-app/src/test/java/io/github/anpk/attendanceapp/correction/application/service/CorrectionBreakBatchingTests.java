@@ -0,0 +1,145 @@
+package io.github.anpk.attendanceapp.correction.application.service;
+
+import io.github.anpk.attendanceapp.attendance.domain.model.Attendance;
+import io.github.anpk.attendanceapp.attendance.domain.model.AttendanceBreak;
+import io.github.anpk.attendanceapp.attendance.infrastructure.repository.AttendanceBreakRepository;
+import io.github.anpk.attendanceapp.attendance.infrastructure.repository.AttendanceRepository;
+import io.github.anpk.attendanceapp.correction.domain.model.CorrectionRequestType;
+import io.github.anpk.attendanceapp.correction.interfaces.dto.CorrectionRequestApproveRequest;
+import io.github.anpk.attendanceapp.correction.interfaces.dto.CorrectionRequestBreakProposalRequest;
+import io.github.anpk.attendanceapp.correction.interfaces.dto.CorrectionRequestCreateRequest;
+import io.github.anpk.attendanceapp.employee.domain.model.Employee;
+import io.github.anpk.attendanceapp.employee.domain.model.EmployeeRole;
+import io.github.anpk.attendanceapp.employee.infrastructure.repository.EmployeeRepository;
+import io.github.anpk.attendanceapp.support.SqlCapture;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 정정 요청 휴게 쓰기 문장 수 검증(sequence id + JDBC batch)
+ * - 휴게 제안 N건 insert는 batch 1회로 준비된다(IDENTITY였다면 N회)
+ * - 승인 시 기존 휴게는 제안과 비교해 달라진 행만 update/delete/insert 한다
+ */
+@SpringBootTest(properties = {
+        "auth.jwt.secret=correction-batching-tests-secret",
+        "auth.jwt.expires-seconds=3600",
+        "spring.jpa.show-sql=false",
+        SqlCapture.PROPERTY
+})
+@Transactional
+class CorrectionBreakBatchingTests {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+    private static final long EMPLOYEE_ID = 9_100L;
+    private static final long ADMIN_ID = 9_101L;
+
+    @Autowired CorrectionRequestService correctionRequestService;
+    @Autowired AttendanceRepository attendanceRepository;
+    @Autowired AttendanceBreakRepository attendanceBreakRepository;
+    @Autowired EmployeeRepository employeeRepository;
+    @Autowired EntityManager entityManager;
+
+    private final LocalDate today = LocalDate.now(KST);
+
+    @Test
+    void proposedBreakInsertsAreBatched() {
+        Attendance attendance = seedAttendance();
+        List<CorrectionRequestBreakProposalRequest> proposals = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            proposals.add(proposal(LocalTime.of(10 + i, 0), LocalTime.of(10 + i, 15)));
+        }
+
+        List<String> sqls = SqlCapture.capture(() -> {
+            correctionRequestService.create(EMPLOYEE_ID, attendance.getId(), createRequest(proposals));
+            entityManager.flush();
+        });
+
+        assertThat(SqlCapture.count(sqls, "insert into correction_requests")).isEqualTo(1);
+        assertThat(SqlCapture.count(sqls, "insert into correction_request_break_proposals")).isEqualTo(1);
+    }
+
+    @Test
+    void approveRewritesOnlyChangedBreaks() {
+        Attendance attendance = seedAttendance();
+        saveBreak(attendance, LocalTime.of(12, 0), LocalTime.of(13, 0));
+        saveBreak(attendance, LocalTime.of(15, 0), LocalTime.of(15, 10));
+        saveBreak(attendance, LocalTime.of(16, 0), LocalTime.of(16, 10));
+
+        // 12:00~13:00 유지, 15:00~15:10 → 15:00~15:20 변경, 16:00~16:10 삭제
+        Long requestId = correctionRequestService.create(EMPLOYEE_ID, attendance.getId(), createRequest(List.of(
+                proposal(LocalTime.of(12, 0), LocalTime.of(13, 0)),
+                proposal(LocalTime.of(15, 0), LocalTime.of(15, 20))
+        ))).requestId();
+        entityManager.flush();
+        entityManager.clear();
+
+        List<String> sqls = SqlCapture.capture(() -> {
+            correctionRequestService.approve(ADMIN_ID, requestId, new CorrectionRequestApproveRequest(null));
+            entityManager.flush();
+        });
+
+        assertThat(SqlCapture.count(sqls, "update attendance_break")).isEqualTo(1);
+        assertThat(SqlCapture.count(sqls, "delete from attendance_break")).isEqualTo(1);
+        assertThat(SqlCapture.count(sqls, "insert into attendance_break")).isZero();
+
+        entityManager.clear();
+        List<AttendanceBreak> breaks = attendanceBreakRepository.findAllByAttendance_IdOrderByBreakStartTimeAsc(attendance.getId());
+        assertThat(breaks).extracting(AttendanceBreak::getBreakStartTime, AttendanceBreak::getBreakEndTime)
+                .containsExactly(
+                        tuple(at(12, 0), at(13, 0)),
+                        tuple(at(15, 0), at(15, 20))
+                );
+    }
+
+    private Attendance seedAttendance() {
+        employeeRepository.save(new Employee(EMPLOYEE_ID, "batching-employee", 1L, EmployeeRole.EMPLOYEE, true, "pw"));
+        employeeRepository.save(new Employee(ADMIN_ID, "batching-admin", 1L, EmployeeRole.ADMIN, true, "pw"));
+        Attendance a = Attendance.checkIn(EMPLOYEE_ID, today, at(8, 0), "test/batching.jpg");
+        a.checkOut(at(20, 0));
+        Attendance saved = attendanceRepository.save(a);
+        entityManager.flush();
+        return saved;
+    }
+
+    private void saveBreak(Attendance attendance, LocalTime start, LocalTime end) {
+        AttendanceBreak b = AttendanceBreak.start(attendance, today.atTime(start));
+        b.end(today.atTime(end));
+        attendanceBreakRepository.save(b);
+    }
+
+    private CorrectionRequestCreateRequest createRequest(List<CorrectionRequestBreakProposalRequest> proposals) {
+        return new CorrectionRequestCreateRequest(
+                null, null, null,
+                CorrectionRequestType.CHECK_IN, null, null,
+                kst(today.atTime(7, 50)), null,
+                proposals,
+                "휴게 기록 정정"
+        );
+    }
+
+    private CorrectionRequestBreakProposalRequest proposal(LocalTime start, LocalTime end) {
+        return new CorrectionRequestBreakProposalRequest(kst(today.atTime(start)), kst(today.atTime(end)));
+    }
+
+    private LocalDateTime at(int hour, int minute) {
+        return today.atTime(hour, minute);
+    }
+
+    private static OffsetDateTime kst(LocalDateTime t) {
+        return t.atZone(KST).toOffsetDateTime();
+    }
+}
@@ -0,0 +1,241 @@
+package io.github.anpk.attendanceapp.correction.application.service;
+
+import io.github.anpk.attendanceapp.correction.domain.model.CorrectionRequestStatus;
+import io.github.anpk.attendanceapp.correction.domain.model.CorrectionRequestType;
+import io.github.anpk.attendanceapp.correction.interfaces.dto.CorrectionInboxEvent;
+import io.github.anpk.attendanceapp.correction.interfaces.dto.CorrectionRequestResponse;
+import io.github.anpk.attendanceapp.employee.infrastructure.repository.EmployeeRepository;
+import io.github.anpk.attendanceapp.site.application.service.ManagerScopeIndex;
+import io.github.anpk.attendanceapp.site.infrastructure.repository.ManagerSiteAssignmentRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * 승인 대기함 SSE 검증
+ * - 이벤트는 요청자 site 담당 MANAGER(본인 요청 제외)와 ADMIN에게만, 해제된 담당 site는 전송 시 제외
+ * - Last-Event-ID 이후분 재전송, 보관 범위 밖/다른 기동 id는 reset
+ * - 느린 연결은 다른 연결의 전송을 막지 않고, 대기열이 넘치면 밀린 이벤트 대신 reset 1건을 받는다
+ */
+class CorrectionInboxStreamTests {
+
+    private static final long MANAGER_A = 9101L;
+    private static final long MANAGER_A2 = 9102L;
+    private static final long MANAGER_B = 9103L;
+    private static final long ADMIN = 9100L;
+    private static final long EMPLOYEE_A = 9201L;
+    private static final long SITE_A = 91L;
+    private static final long SITE_B = 92L;
+
+    // 재적재를 쓰지 않는다 — 저장소는 호출되지 않아야 한다
+    private final ManagerSiteAssignmentRepository assignmentRepository = mock(ManagerSiteAssignmentRepository.class);
+    private final EmployeeRepository employeeRepository = mock(EmployeeRepository.class);
+    private final ManagerScopeIndex index = new ManagerScopeIndex(assignmentRepository, employeeRepository);
+    // replay 보관 3건, 연결별 대기열 2건, 전송 작업 2개
+    private final CorrectionInboxStream stream = new CorrectionInboxStream(
+            index, Duration.ofMinutes(1), 3, 2, 2, 100, false);
+
+    private long nextRequestId = 1;
+
+    @AfterEach
+    void shutdown() {
+        stream.shutdown();
+        verifyNoInteractions(assignmentRepository, employeeRepository);
+    }
+
+    @Test
+    void eventsFanOutToSiteManagersAndAdmins() {
+        index.onAssigned(MANAGER_A, SITE_A);
+        index.onAssigned(MANAGER_A2, SITE_A);
+        index.onAssigned(MANAGER_B, SITE_B);
+        RecordingEmitter a = subscribe(MANAGER_A, false, null);
+        RecordingEmitter a2 = subscribe(MANAGER_A2, false, null);
+        RecordingEmitter b = subscribe(MANAGER_B, false, null);
+        RecordingEmitter admin = subscribe(ADMIN, true, null);
+
+        long employeeRequest = publish(EMPLOYEE_A, SITE_A);
+        long ownRequest = publish(MANAGER_A, SITE_A);
+        long unknownSite = publish(EMPLOYEE_A, null);
+        a2.await(e -> e.requestId() == ownRequest);
+        index.onUnassigned(MANAGER_A2, SITE_A);
+        long afterRevoke = publish(EMPLOYEE_A, SITE_A);
+        long siteB = publish(EMPLOYEE_A, SITE_B);
+
+        // keep-alive는 연결 대기열을 비운 뒤 나가므로, 받았으면 앞선 이벤트 처리가 끝난 것
+        stream.heartbeat();
+        List.of(a, a2, b, admin).forEach(RecordingEmitter::awaitKeepAlive);
+
+        assertThat(admin.requestIds()).containsExactly(employeeRequest, ownRequest, unknownSite, afterRevoke, siteB);
+        // 본인 요청과 요청자 site를 모르는 이벤트는 MANAGER에게 가지 않는다
+        assertThat(a.requestIds()).containsExactly(employeeRequest, afterRevoke);
+        assertThat(a2.requestIds()).containsExactly(employeeRequest, ownRequest);
+        assertThat(b.requestIds()).containsExactly(siteB);
+    }
+
+    @Test
+    void lastEventIdReplaysMissedEventsOrResets() {
+        RecordingEmitter first = subscribe(ADMIN, true, null);
+        long r1 = publish(EMPLOYEE_A, SITE_A);
+        long r2 = publish(EMPLOYEE_A, SITE_A);
+        long r3 = publish(EMPLOYEE_A, SITE_A);
+        first.await(e -> e.requestId() == r3);
+        assertThat(first.requestIds()).containsExactly(r1, r2, r3);
+        String afterFirst = first.events().get(0).id();
+
+        RecordingEmitter resumed = subscribe(ADMIN, true, afterFirst);
+        assertThat(resumed.requestIds()).containsExactly(r2, r3);
+
+        RecordingEmitter otherBoot = subscribe(ADMIN, true, "0.1");
+        assertThat(otherBoot.names()).containsExactly("reset");
+        assertThat(otherBoot.events().get(0).id()).isEqualTo(first.events().get(2).id());
+
+        // 보관 3건을 넘겨 끊긴 직후 이벤트가 밀려났으면 reset
+        publish(EMPLOYEE_A, SITE_A);
+        publish(EMPLOYEE_A, SITE_A);
+        long r6 = publish(EMPLOYEE_A, SITE_A);
+        first.await(e -> e.requestId() == r6);
+        RecordingEmitter stale = subscribe(ADMIN, true, afterFirst);
+        assertThat(stale.names()).containsExactly("reset");
+    }
+
+    @Test
+    void slowSubscriberOverflowBecomesResetWithoutBlockingOthers() {
+        RecordingEmitter slow = subscribe(ADMIN, true, null);
+        RecordingEmitter fast = subscribe(ADMIN + 1, true, null);
+
+        CountDownLatch release = slow.blockNextSend();
+        long r1 = publish(EMPLOYEE_A, SITE_A);
+        slow.awaitBlocked();
+        // r1 전송 중(대기열 비어 있음) → r2, r3로 대기열 2건이 차고 r4에서 넘친다
+        long r2 = publish(EMPLOYEE_A, SITE_A);
+        long r3 = publish(EMPLOYEE_A, SITE_A);
+        long r4 = publish(EMPLOYEE_A, SITE_A);
+
+        // 느린 연결과 무관하게 다른 연결은 모두 받는다
+        fast.await(e -> e.requestId() == r4);
+        assertThat(fast.requestIds()).containsExactly(r1, r2, r3, r4);
+
+        release.countDown();
+        slow.await(e -> e.name().equals("reset"));
+        long r5 = publish(EMPLOYEE_A, SITE_A);
+        slow.await(e -> e.requestId() == r5);
+
+        assertThat(slow.names()).containsExactly("created", "reset", "created");
+        assertThat(slow.requestIds()).containsExactly(r1, r5);
+        // reset id = 넘친 시점까지의 순번 → 이후 재연결은 r5부터 이어받는다
+        assertThat(slow.events().get(1).id()).isEqualTo(fast.events().get(3).id());
+    }
+
+    private long publish(Long requestedBy, Long siteId) {
+        long requestId = nextRequestId++;
+        stream.publish(CorrectionInboxStream.EventType.CREATED, new CorrectionRequestResponse(
+                requestId, 1L, CorrectionRequestStatus.PENDING, CorrectionRequestType.CHECK_IN,
+                requestedBy, OffsetDateTime.now(), OffsetDateTime.now(), null, "inbox-test"), siteId);
+        return requestId;
+    }
+
+    private RecordingEmitter subscribe(Long userId, boolean admin, String lastEventId) {
+        RecordingEmitter emitter = new RecordingEmitter();
+        stream.subscribe(userId, admin, admin ? new long[0] : index.siteIdsOf(userId), lastEventId, emitter);
+        return emitter;
+    }
+
+    private record Event(String id, String name, long requestId) {
+    }
+
+    /**
+     * 보낸 이벤트(id/event 이름/requestId)를 기록하는 emitter — 요청 시 다음 전송에서 멈춘다
+     */
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private final List<Event> events = new CopyOnWriteArrayList<>();
+        private final CountDownLatch keepAlive = new CountDownLatch(1);
+        private volatile CountDownLatch gate;
+        private final CountDownLatch blocked = new CountDownLatch(1);
+
+        CountDownLatch blockNextSend() {
+            gate = new CountDownLatch(1);
+            return gate;
+        }
+
+        void awaitBlocked() {
+            CorrectionInboxStreamTests.await(blocked);
+        }
+
+        void awaitKeepAlive() {
+            CorrectionInboxStreamTests.await(keepAlive);
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            CountDownLatch g = gate;
+            if (g != null) {
+                gate = null;
+                blocked.countDown();
+                CorrectionInboxStreamTests.await(g);
+            }
+            String id = null;
+            String name = null;
+            long requestId = -1;
+            for (var part : builder.build()) {
+                Object data = part.getData();
+                if (data instanceof String text) {
+                    for (String line : text.split("\n")) {
+                        if (line.startsWith("id:")) id = line.substring(3);
+                        if (line.startsWith("event:")) name = line.substring(6);
+                        if (line.equals(":keep-alive")) keepAlive.countDown();
+                    }
+                } else if (data instanceof CorrectionInboxEvent e) {
+                    requestId = e.request().requestId();
+                }
+            }
+            if (name != null) events.add(new Event(id, name, requestId));
+        }
+
+        List<Event> events() {
+            return List.copyOf(events);
+        }
+
+        List<String> names() {
+            return events.stream().map(Event::name).toList();
+        }
+
+        List<Long> requestIds() {
+            return events.stream().filter(e -> e.requestId() >= 0).map(Event::requestId).toList();
+        }
+
+        void await(Predicate<Event> condition) {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (events.stream().noneMatch(condition)) {
+                if (System.nanoTime() > deadline) throw new AssertionError("event not delivered: " + events);
+                try {
+                    Thread.sleep(10);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException(e);
+                }
+            }
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            if (!latch.await(5, TimeUnit.SECONDS)) throw new IllegalStateException("latch was not released");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,274 @@
+package io.github.anpk.attendanceapp.correction.application.service;
+
+import io.github.anpk.attendanceapp.attendance.application.service.AttendanceCorrectedEvent;
+import io.github.anpk.attendanceapp.attendance.domain.model.Attendance;
+import io.github.anpk.attendanceapp.attendance.infrastructure.repository.AttendanceRepository;
+import io.github.anpk.attendanceapp.correction.domain.model.CorrectionRequest;
+import io.github.anpk.attendanceapp.correction.domain.model.CorrectionRequestStatus;
+import io.github.anpk.attendanceapp.correction.domain.model.CorrectionRequestType;
+import io.github.anpk.attendanceapp.correction.infrastructure.repository.CorrectionRequestRepository;
+import io.github.anpk.attendanceapp.correction.interfaces.dto.CorrectionRequestBulkProcessRequest;
+import io.github.anpk.attendanceapp.correction.interfaces.dto.CorrectionRequestBulkProcessResponse;
+import io.github.anpk.attendanceapp.employee.domain.model.Employee;
+import io.github.anpk.attendanceapp.employee.domain.model.EmployeeRole;
+import io.github.anpk.attendanceapp.employee.infrastructure.repository.EmployeeRepository;
+import io.github.anpk.attendanceapp.error.BusinessException;
+import io.github.anpk.attendanceapp.site.application.service.ManagerScopeIndex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 정정 요청 일괄 승인/반려 검증(chunk 트랜잭션이 실제로 커밋/롤백되도록 테스트 트랜잭션 없이 실행)
+ * - 항목별 실패(중복/상태/없음/메이커-체커)가 있어도 나머지는 처리되고, 결과는 요청 순서대로 반환된다
+ * - chunk 반영 중 오류는 chunk 전체를 롤백하고 1건씩 다시 처리한다(성공 건은 1번만 반영)
+ * - MANAGER는 담당 site 요청자만 처리, 반려는 항목 사유 우선 + 사유 누락은 항목 실패
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:correction-bulk-tests;DB_CLOSE_DELAY=-1",
+        "auth.jwt.secret=correction-bulk-tests-secret",
+        "auth.jwt.expires-seconds=3600",
+        "spring.jpa.show-sql=false",
+        "app.correction-bulk.max-items=10",
+        "app.correction-bulk.chunk-size=2"
+})
+class CorrectionRequestBulkProcessTests {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+    private static final long ADMIN_ID = 9_400L;
+    private static final long EMPLOYEE_ID = 9_401L;
+    private static final long MANAGER_ID = 9_402L;
+    private static final long OTHER_SITE_EMPLOYEE_ID = 9_403L;
+    private static final long SITE_ID = 94L;
+    private static final long OTHER_SITE_ID = 95L;
+    private static final List<Long> USER_IDS = List.of(ADMIN_ID, EMPLOYEE_ID, MANAGER_ID, OTHER_SITE_EMPLOYEE_ID);
+
+    @Autowired CorrectionRequestService correctionRequestService;
+    @Autowired AttendanceRepository attendanceRepository;
+    @Autowired CorrectionRequestRepository correctionRequestRepository;
+    @Autowired EmployeeRepository employeeRepository;
+    @Autowired ManagerScopeIndex managerScopeIndex;
+    @Autowired JdbcTemplate jdbcTemplate;
+    @Autowired PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        tx().executeWithoutResult(status -> {
+            employeeRepository.save(new Employee(ADMIN_ID, "bulk-admin", SITE_ID, EmployeeRole.ADMIN, true, "pw"));
+            employeeRepository.save(new Employee(EMPLOYEE_ID, "bulk-employee", SITE_ID, EmployeeRole.EMPLOYEE, true, "pw"));
+            employeeRepository.save(new Employee(MANAGER_ID, "bulk-manager", SITE_ID, EmployeeRole.MANAGER, true, "pw"));
+            employeeRepository.save(new Employee(
+                    OTHER_SITE_EMPLOYEE_ID, "bulk-other-site", OTHER_SITE_ID, EmployeeRole.EMPLOYEE, true, "pw"));
+        });
+    }
+
+    @AfterEach
+    void cleanUp() {
+        FailOnAttendance.attendanceId = null;
+        managerScopeIndex.onUnassigned(MANAGER_ID, SITE_ID);
+        String users = "(" + ADMIN_ID + ", " + EMPLOYEE_ID + ", " + MANAGER_ID + ", " + OTHER_SITE_EMPLOYEE_ID + ")";
+        String attendances = "(SELECT id FROM attendance WHERE user_id IN " + users + ")";
+        jdbcTemplate.update("DELETE FROM correction_request_break_proposals WHERE correction_request_id IN "
+                + "(SELECT id FROM correction_requests WHERE attendance_id IN " + attendances + ")");
+        jdbcTemplate.update("DELETE FROM correction_requests WHERE attendance_id IN " + attendances);
+        jdbcTemplate.update("DELETE FROM attendance_break WHERE attendance_id IN " + attendances);
+        jdbcTemplate.update("DELETE FROM attendance_final WHERE user_id IN " + users);
+        jdbcTemplate.update("DELETE FROM attendance_daily_rollup WHERE user_id IN " + users);
+        jdbcTemplate.update("DELETE FROM site_monthly_rollup WHERE site_id IN (?, ?)", SITE_ID, OTHER_SITE_ID);
+        jdbcTemplate.update("DELETE FROM attendance WHERE user_id IN " + users);
+        employeeRepository.deleteAllById(USER_IDS);
+    }
+
+    @Test
+    void bulkApproveReportsPerItemResults() {
+        long pending = pending(EMPLOYEE_ID, LocalDate.of(2025, 3, 3), false);
+        long done = tx().execute(status -> {
+            CorrectionRequest r = correctionRequestRepository.findById(pending(EMPLOYEE_ID, LocalDate.of(2025, 3, 4), false))
+                    .orElseThrow();
+            r.approve(ADMIN_ID, OffsetDateTime.now(KST), null);
+            return r.getId();
+        });
+        long own = pending(ADMIN_ID, LocalDate.of(2025, 3, 5), false);
+
+        CorrectionRequestBulkProcessResponse res = correctionRequestService.bulkApprove(ADMIN_ID, new CorrectionRequestBulkProcessRequest(
+                List.of(item(pending), item(pending), item(done), item(99_999_999L), item(own)),
+                "월말 일괄 승인",
+                null
+        ));
+
+        assertThat(res.requested()).isEqualTo(5);
+        assertThat(res.succeeded()).isEqualTo(1);
+        assertThat(res.results())
+                .extracting(CorrectionRequestBulkProcessResponse.Item::requestId, CorrectionRequestBulkProcessResponse.Item::errorCode)
+                .containsExactly(
+                        tuple(pending, null),
+                        tuple(pending, "INVALID_REQUEST_PAYLOAD"),
+                        tuple(done, "INVALID_STATUS_TRANSITION"),
+                        tuple(99_999_999L, "CORRECTION_REQUEST_NOT_FOUND"),
+                        tuple(own, "FORBIDDEN")
+                );
+
+        CorrectionRequest approved = correctionRequestRepository.findById(pending).orElseThrow();
+        assertThat(approved.getStatus()).isEqualTo(CorrectionRequestStatus.APPROVED);
+        assertThat(approved.getApproveComment()).isEqualTo("월말 일괄 승인");
+        assertThat(finalCorrected(pending)).isTrue();
+    }
+
+    @Test
+    void failedChunkIsRolledBackAndRetriedPerItem() {
+        long first = pending(EMPLOYEE_ID, LocalDate.of(2025, 4, 1), true);
+        long poisoned = pending(EMPLOYEE_ID, LocalDate.of(2025, 4, 2), true);
+        long next = pending(EMPLOYEE_ID, LocalDate.of(2025, 4, 3), true);
+        // 두 번째 항목의 근태 반영에서 실패 → [first, poisoned] chunk 롤백 후 1건씩 재처리
+        FailOnAttendance.attendanceId = attendanceIdOf(poisoned);
+
+        CorrectionRequestBulkProcessResponse res = correctionRequestService.bulkApprove(ADMIN_ID,
+                new CorrectionRequestBulkProcessRequest(List.of(item(first), item(poisoned), item(next)), null, null));
+
+        assertThat(res.succeeded()).isEqualTo(2);
+        assertThat(res.results())
+                .extracting(CorrectionRequestBulkProcessResponse.Item::requestId, CorrectionRequestBulkProcessResponse.Item::errorCode)
+                .containsExactly(tuple(first, null), tuple(poisoned, "INTERNAL_ERROR"), tuple(next, null));
+
+        assertThat(statusOf(first)).isEqualTo(CorrectionRequestStatus.APPROVED);
+        assertThat(statusOf(poisoned)).isEqualTo(CorrectionRequestStatus.PENDING);
+        assertThat(statusOf(next)).isEqualTo(CorrectionRequestStatus.APPROVED);
+        // 롤백된 첫 시도의 휴게 추가는 남지 않고, 재처리분 1건만 반영된다
+        assertThat(breakCount(first)).isEqualTo(1);
+        assertThat(breakCount(poisoned)).isZero();
+        assertThat(breakCount(next)).isEqualTo(1);
+        assertThat(finalCorrected(first)).isTrue();
+        assertThat(finalCorrected(poisoned)).isFalse();
+    }
+
+    @Test
+    void managerCannotProcessRequestsOutsideAssignedSites() {
+        managerScopeIndex.onAssigned(MANAGER_ID, SITE_ID);
+        long covered = pending(EMPLOYEE_ID, LocalDate.of(2025, 5, 1), false);
+        long uncovered = pending(OTHER_SITE_EMPLOYEE_ID, LocalDate.of(2025, 5, 1), false);
+
+        CorrectionRequestBulkProcessResponse res = correctionRequestService.bulkApprove(MANAGER_ID,
+                new CorrectionRequestBulkProcessRequest(List.of(item(covered), item(uncovered)), null, null));
+
+        assertThat(res.results())
+                .extracting(CorrectionRequestBulkProcessResponse.Item::requestId, CorrectionRequestBulkProcessResponse.Item::errorCode)
+                .containsExactly(tuple(covered, null), tuple(uncovered, "FORBIDDEN"));
+        assertThat(statusOf(covered)).isEqualTo(CorrectionRequestStatus.APPROVED);
+        assertThat(statusOf(uncovered)).isEqualTo(CorrectionRequestStatus.PENDING);
+    }
+
+    @Test
+    void bulkRejectUsesItemReasonFirstAndRequiresOne() {
+        long withItemReason = pending(EMPLOYEE_ID, LocalDate.of(2025, 6, 1), false);
+        long withCommonReason = pending(EMPLOYEE_ID, LocalDate.of(2025, 6, 2), false);
+        long withoutReason = pending(EMPLOYEE_ID, LocalDate.of(2025, 6, 3), false);
+
+        CorrectionRequestBulkProcessResponse common = correctionRequestService.bulkReject(ADMIN_ID, new CorrectionRequestBulkProcessRequest(
+                List.of(new CorrectionRequestBulkProcessRequest.Item(withItemReason, null, "증빙 없음"), item(withCommonReason)),
+                null,
+                "기한 초과"
+        ));
+        CorrectionRequestBulkProcessResponse missing = correctionRequestService.bulkReject(ADMIN_ID,
+                new CorrectionRequestBulkProcessRequest(List.of(item(withoutReason)), null, " "));
+
+        assertThat(common.succeeded()).isEqualTo(2);
+        assertThat(missing.results())
+                .extracting(CorrectionRequestBulkProcessResponse.Item::errorCode)
+                .containsExactly("INVALID_REQUEST_PAYLOAD");
+
+        CorrectionRequest a = correctionRequestRepository.findById(withItemReason).orElseThrow();
+        CorrectionRequest b = correctionRequestRepository.findById(withCommonReason).orElseThrow();
+        assertThat(a.getStatus()).isEqualTo(CorrectionRequestStatus.REJECTED);
+        assertThat(a.getRejectReason()).isEqualTo("증빙 없음");
+        assertThat(b.getRejectReason()).isEqualTo("기한 초과");
+        assertThat(statusOf(withoutReason)).isEqualTo(CorrectionRequestStatus.PENDING);
+        // 반려는 근태(Final)를 바꾸지 않는다
+        assertThat(finalCorrected(withItemReason)).isFalse();
+    }
+
+    @Test
+    void tooManyItemsIsRejected() {
+        List<CorrectionRequestBulkProcessRequest.Item> items = LongStream.rangeClosed(1, 11)
+                .mapToObj(CorrectionRequestBulkProcessTests::item)
+                .toList();
+        assertThatThrownBy(() -> correctionRequestService.bulkApprove(ADMIN_ID, new CorrectionRequestBulkProcessRequest(items, null, null)))
+                .isInstanceOf(BusinessException.class);
+    }
+
+    /**
+     * 퇴근 누락 정정 요청 생성(breakChange면 12:00~13:00 휴게 제안 포함)
+     */
+    private long pending(long userId, LocalDate day, boolean breakChange) {
+        return tx().execute(status -> {
+            Attendance a = attendanceRepository.save(Attendance.checkIn(userId, day, day.atTime(9, 0), "test/bulk.jpg"));
+            CorrectionRequest r = CorrectionRequest.pending(
+                    a, userId, OffsetDateTime.now(KST), CorrectionRequestType.CHECK_OUT,
+                    null, day.atTime(18, 0).atZone(KST).toOffsetDateTime(), breakChange, "퇴근 누락"
+            );
+            if (breakChange) {
+                r.addProposedBreak(0, day.atTime(12, 0).atZone(KST).toOffsetDateTime(), day.atTime(13, 0).atZone(KST).toOffsetDateTime());
+            }
+            return correctionRequestRepository.save(r).getId();
+        });
+    }
+
+    private CorrectionRequestStatus statusOf(long requestId) {
+        return correctionRequestRepository.findById(requestId).orElseThrow().getStatus();
+    }
+
+    private long attendanceIdOf(long requestId) {
+        return jdbcTemplate.queryForObject("SELECT attendance_id FROM correction_requests WHERE id = ?", Long.class, requestId);
+    }
+
+    private int breakCount(long requestId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM attendance_break WHERE attendance_id = ?", Integer.class, attendanceIdOf(requestId));
+    }
+
+    private boolean finalCorrected(long requestId) {
+        List<Boolean> corrected = jdbcTemplate.queryForList(
+                "SELECT corrected FROM attendance_final WHERE attendance_id = ?", Boolean.class, attendanceIdOf(requestId));
+        return !corrected.isEmpty() && corrected.get(0);
+    }
+
+    private TransactionTemplate tx() {
+        return new TransactionTemplate(transactionManager);
+    }
+
+    private static CorrectionRequestBulkProcessRequest.Item item(long requestId) {
+        return new CorrectionRequestBulkProcessRequest.Item(requestId, null, null);
+    }
+
+    /**
+     * 지정한 근태의 반영 단계에서 실패(정정 승인 트랜잭션 안에서 동기 실행되는 리스너)
+     */
+    @TestConfiguration
+    static class FailOnAttendance {
+
+        static volatile Long attendanceId;
+
+        @EventListener
+        void onAttendanceCorrected(AttendanceCorrectedEvent event) {
+            if (event.attendance().getId().equals(attendanceId)) {
+                throw new IllegalStateException("injected failure");
+            }
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package io.github.anpk.attendanceapp.correction.application.service;
+
+import io.github.anpk.attendanceapp.attendance.domain.model.Attendance;
+import io.github.anpk.attendanceapp.attendance.infrastructure.repository.AttendanceRepository;
+import io.github.anpk.attendanceapp.correction.domain.model.CorrectionRequest;
+import io.github.anpk.attendanceapp.correction.domain.model.CorrectionRequestType;
+import io.github.anpk.attendanceapp.correction.infrastructure.repository.CorrectionRequestRepository;
+import io.github.anpk.attendanceapp.correction.interfaces.dto.CorrectionRequestListResponse;
+import io.github.anpk.attendanceapp.correction.interfaces.dto.CorrectionRequestResponse;
+import io.github.anpk.attendanceapp.employee.domain.model.Employee;
+import io.github.anpk.attendanceapp.employee.domain.model.EmployeeRole;
+import io.github.anpk.attendanceapp.employee.infrastructure.repository.EmployeeRepository;
+import io.github.anpk.attendanceapp.error.BusinessException;
+import io.github.anpk.attendanceapp.support.SqlCapture;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 정정 요청 keyset 목록 검증
+ * - cursor로 끝까지 넘기면 page 모드 전체 목록과 같은 순서/같은 행(requestedAt 동률은 id desc)
+ * - 깊은 페이지도 OFFSET/count 없이 조회한다
+ */
+@SpringBootTest(properties = {
+        "auth.jwt.secret=correction-keyset-tests-secret",
+        "auth.jwt.expires-seconds=3600",
+        "spring.jpa.show-sql=false",
+        SqlCapture.PROPERTY
+})
+@Transactional
+class CorrectionRequestKeysetPaginationTests {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+    private static final long EMPLOYEE_ID = 9_200L;
+    private static final int REQUESTS = 23;
+
+    @Autowired CorrectionRequestService correctionRequestService;
+    @Autowired AttendanceRepository attendanceRepository;
+    @Autowired CorrectionRequestRepository correctionRequestRepository;
+    @Autowired EmployeeRepository employeeRepository;
+    @Autowired EntityManager entityManager;
+
+    @Test
+    void cursorWalkMatchesPagedOrder() {
+        seedRequests();
+
+        List<Long> expected = correctionRequestService.list(EMPLOYEE_ID, "requested_by_me", null, 1, 100, null, false)
+                .items().stream().map(CorrectionRequestResponse::requestId).toList();
+        assertThat(expected).hasSize(REQUESTS);
+
+        List<Long> walked = new ArrayList<>();
+        List<String> lastPageSql = List.of();
+        String cursor = null;
+        do {
+            String c = cursor;
+            List<CorrectionRequestListResponse> holder = new ArrayList<>();
+            lastPageSql = SqlCapture.capture(() ->
+                    holder.add(correctionRequestService.list(EMPLOYEE_ID, "requested_by_me", null, null, 5, c, false)));
+            CorrectionRequestListResponse res = holder.get(0);
+            assertThat(res.items()).hasSizeLessThanOrEqualTo(5);
+            assertThat(res.totalElements()).isNull();
+            res.items().forEach(i -> walked.add(i.requestId()));
+            cursor = res.nextCursor();
+        } while (cursor != null);
+
+        assertThat(walked).containsExactlyElementsOf(expected);
+        assertThat(lastPageSql).noneMatch(sql -> sql.contains(" offset ") || sql.startsWith("select count("));
+
+        CorrectionRequestListResponse withTotal =
+                correctionRequestService.list(EMPLOYEE_ID, "requested_by_me", "PENDING", null, 5, null, true);
+        assertThat(withTotal.totalElements()).isEqualTo(REQUESTS);
+    }
+
+    @Test
+    void malformedCursorIsRejected() {
+        assertThatThrownBy(() -> correctionRequestService.list(EMPLOYEE_ID, "requested_by_me", null, null, 5, "not-a-cursor", false))
+                .isInstanceOf(BusinessException.class);
+    }
+
+    private void seedRequests() {
+        employeeRepository.save(new Employee(EMPLOYEE_ID, "keyset-employee", 1L, EmployeeRole.EMPLOYEE, true, "pw"));
+        LocalDate firstDay = LocalDate.of(2025, 1, 1);
+        OffsetDateTime base = OffsetDateTime.of(2025, 2, 1, 9, 0, 0, 0, KST.getRules().getOffset(firstDay.atStartOfDay()));
+        for (int i = 0; i < REQUESTS; i++) {
+            LocalDate day = firstDay.plusDays(i);
+            Attendance a = attendanceRepository.save(Attendance.checkIn(EMPLOYEE_ID, day, day.atTime(9, 0), "test/keyset.jpg"));
+            // 3건씩 같은 requestedAt(동률 → id desc로 구분)
+            OffsetDateTime requestedAt = base.plusMinutes(i / 3);
+            correctionRequestRepository.save(CorrectionRequest.pending(
+                    a, EMPLOYEE_ID, requestedAt, CorrectionRequestType.CHECK_OUT,
+                    null, day.atTime(18, 0).atZone(KST).toOffsetDateTime(), false, "퇴근 누락"
+            ));
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
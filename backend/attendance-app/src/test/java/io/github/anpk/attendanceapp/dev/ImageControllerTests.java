@@ -0,0 +1,192 @@
+package io.github.anpk.attendanceapp.dev;
+
+import io.github.anpk.attendanceapp.attendance.application.service.PhotoIngestService;
+import io.github.anpk.attendanceapp.attendance.application.service.PhotoStore;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 사진 제공 응답 검증
+ * - Content-Type은 내용(magic byte)으로 판정, 파생본은 JPEG, 판정 불가는 octet-stream
+ * - 내용 주소 사진: blob key 기반 strong ETag + immutable 캐시, If-None-Match 일치 시 304
+ * - 이관 전 flat 파일: 크기/수정 시각 ETag + 짧은 캐시
+ * - Range: 단일 206(+Content-Range), 다중은 전체 200, 범위 오류 416, If-Range 불일치는 전체 200
+ * - 내부 디렉터리/경로 조작 이름은 404
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:image-controller-tests;DB_CLOSE_DELAY=-1",
+        "auth.jwt.secret=image-controller-tests-secret",
+        "auth.jwt.expires-seconds=3600",
+        "spring.jpa.show-sql=false",
+        "app.photos.dir=${java.io.tmpdir}/attendance-image-controller-tests"
+})
+class ImageControllerTests {
+
+    @Autowired ImageController imageController;
+    @Autowired PhotoStore photoStore;
+    @Autowired PhotoIngestService photoIngestService;
+
+    @Test
+    void contentAddressedPhotoHasStrongEtagAndImmutableCache() throws Exception {
+        byte[] png = png(64, 32);
+        Stored s = storeBlob(png, "png");
+
+        MockHttpServletResponse full = get(s.name(), null, request -> { });
+        assertThat(full.getStatus()).isEqualTo(200);
+        assertThat(full.getContentType()).isEqualTo("image/png");
+        assertThat(full.getContentLengthLong()).isEqualTo(png.length);
+        assertThat(full.getContentAsByteArray()).isEqualTo(png);
+        assertThat(full.getHeader(HttpHeaders.ETAG)).isEqualTo("\"" + s.key() + "\"");
+        assertThat(full.getHeader(HttpHeaders.CACHE_CONTROL)).contains("immutable").contains("private");
+        assertThat(full.getHeader(HttpHeaders.ACCEPT_RANGES)).isEqualTo("bytes");
+        assertThat(full.getHeader("X-Content-Type-Options")).isEqualTo("nosniff");
+
+        MockHttpServletResponse notModified = get(s.name(), null,
+                request -> request.addHeader(HttpHeaders.IF_NONE_MATCH, full.getHeader(HttpHeaders.ETAG)));
+        assertThat(notModified.getStatus()).isEqualTo(304);
+        assertThat(notModified.getContentAsByteArray()).isEmpty();
+
+        MockHttpServletResponse changed = get(s.name(), null,
+                request -> request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"something-else\""));
+        assertThat(changed.getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void derivativeIsJpegWithVariantEtag() throws Exception {
+        Stored s = storeBlob(png(600, 300), "png");
+
+        MockHttpServletResponse thumb = get(s.name(), "thumb", request -> { });
+
+        assertThat(thumb.getStatus()).isEqualTo(200);
+        assertThat(thumb.getContentType()).isEqualTo("image/jpeg");
+        assertThat(thumb.getHeader(HttpHeaders.ETAG)).isEqualTo("\"" + s.key() + "-thumb\"");
+        byte[] body = thumb.getContentAsByteArray();
+        assertThat(Arrays.copyOf(body, 3)).isEqualTo(new byte[]{(byte) 0xFF, (byte) 0xD8, (byte) 0xFF});
+    }
+
+    @Test
+    void singleRangeIsPartialAndOthersFallBack() throws Exception {
+        byte[] png = png(80, 40);
+        Stored s = storeBlob(png, "png");
+        int len = png.length;
+
+        MockHttpServletResponse partial = get(s.name(), null, request -> request.addHeader(HttpHeaders.RANGE, "bytes=10-19"));
+        assertThat(partial.getStatus()).isEqualTo(206);
+        assertThat(partial.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 10-19/" + len);
+        assertThat(partial.getContentLengthLong()).isEqualTo(10);
+        assertThat(partial.getContentAsByteArray()).isEqualTo(Arrays.copyOfRange(png, 10, 20));
+
+        MockHttpServletResponse suffix = get(s.name(), null, request -> request.addHeader(HttpHeaders.RANGE, "bytes=-5"));
+        assertThat(suffix.getStatus()).isEqualTo(206);
+        assertThat(suffix.getContentAsByteArray()).isEqualTo(Arrays.copyOfRange(png, len - 5, len));
+
+        MockHttpServletResponse multi = get(s.name(), null, request -> request.addHeader(HttpHeaders.RANGE, "bytes=0-1,5-6"));
+        assertThat(multi.getStatus()).isEqualTo(200);
+        assertThat(multi.getContentAsByteArray()).isEqualTo(png);
+
+        MockHttpServletResponse unsatisfiable = get(s.name(), null,
+                request -> request.addHeader(HttpHeaders.RANGE, "bytes=" + (len + 10) + "-" + (len + 20)));
+        assertThat(unsatisfiable.getStatus()).isEqualTo(416);
+        assertThat(unsatisfiable.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes */" + len);
+
+        MockHttpServletResponse staleIfRange = get(s.name(), null, request -> {
+            request.addHeader(HttpHeaders.RANGE, "bytes=0-3");
+            request.addHeader(HttpHeaders.IF_RANGE, "\"old-version\"");
+        });
+        assertThat(staleIfRange.getStatus()).isEqualTo(200);
+        assertThat(staleIfRange.getContentAsByteArray()).isEqualTo(png);
+
+        MockHttpServletResponse matchingIfRange = get(s.name(), null, request -> {
+            request.addHeader(HttpHeaders.RANGE, "bytes=0-3");
+            request.addHeader(HttpHeaders.IF_RANGE, "\"" + s.key() + "\"");
+        });
+        assertThat(matchingIfRange.getStatus()).isEqualTo(206);
+        assertThat(matchingIfRange.getContentAsByteArray()).isEqualTo(Arrays.copyOf(png, 4));
+    }
+
+    @Test
+    void flatFileUsesSniffedTypeAndShortCache() throws Exception {
+        String jpegName = UUID.randomUUID() + "_legacy.png"; // 확장자와 무관하게 내용으로 판정
+        byte[] jpeg = jpeg(20, 20);
+        Files.createDirectories(photoIngestService.getPhotoDir());
+        Files.write(photoIngestService.getPhotoDir().resolve(jpegName), jpeg);
+
+        MockHttpServletResponse r = get(jpegName, null, request -> { });
+        assertThat(r.getStatus()).isEqualTo(200);
+        assertThat(r.getContentType()).isEqualTo("image/jpeg");
+        assertThat(r.getHeader(HttpHeaders.CACHE_CONTROL)).contains("max-age=3600").doesNotContain("immutable");
+        assertThat(r.getHeader(HttpHeaders.ETAG)).startsWith("\"" + Long.toHexString(jpeg.length) + "-");
+
+        String unknownName = UUID.randomUUID() + "_unknown.jpg";
+        Files.writeString(photoIngestService.getPhotoDir().resolve(unknownName), "plain text", StandardCharsets.US_ASCII);
+        assertThat(get(unknownName, null, request -> { }).getContentType()).isEqualTo("application/octet-stream");
+    }
+
+    @Test
+    void internalAndMissingNamesAreNotFound() throws Exception {
+        assertThat(get(".spool", null, request -> { }).getStatus()).isEqualTo(404);
+        assertThat(get("..\\secret.jpg", null, request -> { }).getStatus()).isEqualTo(404);
+        assertThat(get(UUID.randomUUID() + "_missing.jpg", null, request -> { }).getStatus()).isEqualTo(404);
+    }
+
+    private MockHttpServletResponse get(String name, String size, Consumer<MockHttpServletRequest> headers)
+            throws IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/images/" + name);
+        headers.accept(request);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        imageController.serveImage(name, size == null ? "original" : size, request, response);
+        return response;
+    }
+
+    private Stored storeBlob(byte[] content, String ext) throws IOException {
+        Path tmp = Files.createTempFile("image-controller", "." + ext);
+        try {
+            Files.write(tmp, content);
+            String key = PhotoStore.keyOf(tmp);
+            photoStore.putByCopy(tmp, key);
+            String name = UUID.randomUUID() + "_photo." + ext;
+            photoStore.link(name, key, content.length);
+            return new Stored(name, key);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    private record Stored(String name, String key) {
+    }
+
+    private static byte[] png(int w, int h) throws IOException {
+        return encode(w, h, "png");
+    }
+
+    private static byte[] jpeg(int w, int h) throws IOException {
+        return encode(w, h, "jpg");
+    }
+
+    private static byte[] encode(int w, int h, String format) throws IOException {
+        BufferedImage img = new BufferedImage(w, h, BufferedImage.TYPE_INT_RGB);
+        for (int x = 0; x < w; x++) {
+            for (int y = 0; y < h; y++) img.setRGB(x, y, (x * 31) ^ (y * 17));
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(img, format, out);
+        return out.toByteArray();
+    }
+}
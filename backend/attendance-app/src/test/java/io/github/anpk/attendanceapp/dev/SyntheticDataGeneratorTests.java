@@ -0,0 +1,133 @@
+package io.github.anpk.attendanceapp.dev;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 합성 데이터 생성기 검증
+ * - 결과 건수 = 실제 적재 행 수, 정정/휴게의 부모 행 존재
+ * - 같은 Spec 재실행 시 같은 데이터(seed 결정성): 테이블별로 키 순서 행 전체를 해시해 비교
+ * - IDENTITY 시작값 보정 후 기본 채번 insert 가능
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:synthetic-data-tests;DB_CLOSE_DELAY=-1",
+        "spring.jpa.show-sql=false",
+        "auth.jwt.secret=synthetic-data-tests-secret",
+        "auth.jwt.expires-seconds=3600"
+})
+class SyntheticDataGeneratorTests {
+
+    @Autowired SyntheticDataGenerator generator;
+    @Autowired JdbcTemplate jdbcTemplate;
+
+    /**
+     * 생성기가 적재하는 테이블과 정렬 키(FK 부모 → 자식 순)
+     */
+    private static final Map<String, String> TABLES = tables();
+
+    @Test
+    void generatesConsistentDeterministicDataset() {
+        SyntheticDataGenerator.Spec spec = new SyntheticDataGenerator.Spec(
+                7L, 2, 30, 1,
+                LocalDate.of(2025, 3, 1), LocalDate.of(2025, 5, 1),
+                0.2, SyntheticDataGenerator.CorrectionMix.parse("approved=50,rejected=20,pending=20,canceled=10"),
+                100, 500_000L
+        );
+
+        Map<String, Long> baseline = maxKeys();
+        SyntheticDataGenerator.Result first = generator.generate(spec);
+        Map<String, String> firstHashes = tableHashes(baseline);
+
+        assertThat(first.sites()).isEqualTo(2);
+        assertThat(first.employees()).isEqualTo(1 + 2 * (30 + 1));
+        assertThat(first.assignments()).isEqualTo(2);
+        assertThat(first.attendances()).isEqualTo(count("SELECT COUNT(*) FROM attendance WHERE user_id >= 500000"));
+        assertThat(first.corrections()).isPositive();
+        assertThat(count("SELECT COUNT(*) FROM attendance_break b LEFT JOIN attendance a ON a.id = b.attendance_id "
+                + "WHERE a.id IS NULL OR b.break_start_time < a.check_in_time")).isZero();
+        assertThat(count("SELECT COUNT(DISTINCT status) FROM correction_requests")).isEqualTo(4);
+
+        // 1차 적재분을 지우면 id도 같은 값부터 다시 채번되므로 행 단위로 비교할 수 있다
+        deleteAbove(baseline);
+        SyntheticDataGenerator.Result second = generator.generate(spec);
+
+        assertThat(second).usingRecursiveComparison().ignoringFields("elapsedMs").isEqualTo(first);
+        assertThat(tableHashes(baseline)).isEqualTo(firstHashes);
+        // IDENTITY 시작값이 적재한 id 뒤로 맞춰졌는지(기본 채번 insert 충돌 없음)
+        jdbcTemplate.update("INSERT INTO sites (name, active) VALUES ('after-seed', TRUE)");
+    }
+
+    private Map<String, Long> maxKeys() {
+        Map<String, Long> out = new LinkedHashMap<>();
+        TABLES.forEach((table, key) -> out.put(table, count("SELECT COALESCE(MAX(" + key + "), 0) FROM " + table)));
+        return out;
+    }
+
+    /**
+     * 기준 키보다 큰(이번 적재분) 행을 키 순서로 읽어 모든 컬럼 값을 SHA-256으로 누적
+     */
+    private Map<String, String> tableHashes(Map<String, Long> baseline) {
+        Map<String, String> out = new LinkedHashMap<>();
+        TABLES.forEach((table, key) -> {
+            MessageDigest digest = sha256();
+            jdbcTemplate.query("SELECT * FROM " + table + " WHERE " + key + " > ? ORDER BY " + key, rs -> {
+                int columns = rs.getMetaData().getColumnCount();
+                StringBuilder row = new StringBuilder();
+                for (int i = 1; i <= columns; i++) {
+                    row.append(rs.getObject(i)).append('\u0001');
+                }
+                digest.update(row.append('\n').toString().getBytes(StandardCharsets.UTF_8));
+            }, baseline.get(table));
+            out.put(table, HexFormat.of().formatHex(digest.digest()));
+        });
+        return out;
+    }
+
+    private void deleteAbove(Map<String, Long> baseline) {
+        List<String> childFirst = new ArrayList<>(TABLES.keySet());
+        Collections.reverse(childFirst);
+        for (String table : childFirst) {
+            jdbcTemplate.update("DELETE FROM " + table + " WHERE " + TABLES.get(table) + " > ?", baseline.get(table));
+        }
+    }
+
+    private static Map<String, String> tables() {
+        Map<String, String> t = new LinkedHashMap<>();
+        t.put("sites", "id");
+        t.put("employees", "user_id");
+        t.put("manager_site_assignments", "id");
+        t.put("attendance", "id");
+        t.put("attendance_break", "id");
+        t.put("correction_requests", "id");
+        t.put("correction_request_break_proposals", "id");
+        return t;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private long count(String sql) {
+        Long n = jdbcTemplate.queryForObject(sql, Long.class);
+        return (n == null) ? 0L : n;
+    }
+}
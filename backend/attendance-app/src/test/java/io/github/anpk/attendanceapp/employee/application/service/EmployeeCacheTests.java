@@ -0,0 +1,162 @@
+package io.github.anpk.attendanceapp.employee.application.service;
+
+import io.github.anpk.attendanceapp.employee.domain.model.Employee;
+import io.github.anpk.attendanceapp.employee.domain.model.EmployeeRole;
+import io.github.anpk.attendanceapp.employee.infrastructure.repository.EmployeeRepository;
+import io.github.anpk.attendanceapp.support.SqlCapture;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 권한 판정용 Employee 캐시 검증
+ * - 두 번째 조회부터 SQL 없이 응답(적중 통계 증가)
+ * - 적중/누락은 조회 1회당 하나씩만 센다(무효화 이후 첫 조회는 누락)
+ * - 존재하지 않는 userId는 캐시하지 않는다(생성 직후 조회 가능)
+ * - invalidate()/invalidateAll() 이후에는 변경된 값을 다시 읽는다
+ * - DB 로드 도중 무효화되면 로드한(이전) 값은 캐시에 남지 않는다
+ */
+@SpringBootTest(properties = {
+        "auth.jwt.secret=employee-cache-tests-secret",
+        "auth.jwt.expires-seconds=3600",
+        "spring.jpa.show-sql=false",
+        SqlCapture.PROPERTY
+})
+@Transactional
+class EmployeeCacheTests {
+
+    @Autowired EmployeeCache employeeCache;
+    @Autowired EmployeeRepository employeeRepository;
+    @Autowired EntityManager entityManager;
+
+    @BeforeEach
+    void clearCache() {
+        employeeCache.invalidateAll();
+    }
+
+    @Test
+    void secondLookupIsServedFromCache() {
+        save(new Employee(7301L, "cache-hit", 1L, EmployeeRole.EMPLOYEE, true, "pw"));
+
+        assertThat(employeeCache.findById(7301L)).isPresent();
+        long hits = employeeCache.stats().hitCount();
+
+        List<Optional<CachedEmployee>> holder = new ArrayList<>();
+        List<String> sqls = SqlCapture.capture(() -> holder.add(employeeCache.findById(7301L)));
+
+        assertThat(sqls).isEmpty();
+        assertThat(holder.get(0)).get().extracting(CachedEmployee::getUsername).isEqualTo("cache-hit");
+        assertThat(employeeCache.stats().hitCount()).isEqualTo(hits + 1);
+    }
+
+    @Test
+    void statsCountOneHitOrMissPerLookup() {
+        save(new Employee(7307L, "cache-stats", 1L, EmployeeRole.EMPLOYEE, true, "pw"));
+        long hits = employeeCache.stats().hitCount();
+        long misses = employeeCache.stats().missCount();
+
+        employeeCache.findById(7307L);
+        employeeCache.findById(7307L);
+        employeeCache.invalidateAll();
+        employeeCache.findById(7307L);
+        employeeCache.findById(7399L);
+
+        assertThat(employeeCache.stats().hitCount()).isEqualTo(hits + 1);
+        assertThat(employeeCache.stats().missCount()).isEqualTo(misses + 3);
+    }
+
+    @Test
+    void missingUserIsNotCached() {
+        assertThat(employeeCache.findById(7302L)).isEmpty();
+
+        save(new Employee(7302L, "cache-created", 1L, EmployeeRole.EMPLOYEE, true, "pw"));
+
+        assertThat(employeeCache.findById(7302L)).get().extracting(CachedEmployee::getSiteId).isEqualTo(1L);
+    }
+
+    @Test
+    void invalidateReloadsChangedEmployee() {
+        save(new Employee(7303L, "cache-invalidate", 1L, EmployeeRole.EMPLOYEE, true, "pw"));
+        save(new Employee(7304L, "cache-invalidate-all", 1L, EmployeeRole.EMPLOYEE, true, "pw"));
+        assertThat(employeeCache.findById(7303L)).get().extracting(CachedEmployee::isActive).isEqualTo(true);
+        assertThat(employeeCache.findById(7304L)).get().extracting(CachedEmployee::getSiteId).isEqualTo(1L);
+
+        Employee one = employeeRepository.findById(7303L).orElseThrow();
+        one.changeActive(false);
+        Employee two = employeeRepository.findById(7304L).orElseThrow();
+        two.changeSiteId(2L);
+        entityManager.flush();
+        entityManager.clear();
+
+        // 무효화 전에는 캐시 값 유지(TTL 내)
+        assertThat(employeeCache.findById(7303L)).get().extracting(CachedEmployee::isActive).isEqualTo(true);
+
+        employeeCache.invalidate(7303L);
+        assertThat(employeeCache.findById(7303L)).get().extracting(CachedEmployee::isActive).isEqualTo(false);
+        assertThat(employeeCache.findById(7304L)).get().extracting(CachedEmployee::getSiteId).isEqualTo(1L);
+
+        employeeCache.invalidateAll();
+        assertThat(employeeCache.findById(7304L)).get().extracting(CachedEmployee::getSiteId).isEqualTo(2L);
+    }
+
+    @Test
+    void invalidationDuringLoadIsNotLost() throws Exception {
+        assertInvalidationDuringLoadIsNotLost(7305L, cache -> cache.invalidate(7305L));
+        assertInvalidationDuringLoadIsNotLost(7306L, EmployeeCache::invalidateAll);
+    }
+
+    /**
+     * 첫 로드가 이전 값을 읽은 직후 멈춘 사이 변경 커밋 + 무효화 → 이후 조회는 새 값을 읽어야 한다
+     */
+    private void assertInvalidationDuringLoadIsNotLost(Long userId, Consumer<EmployeeCache> invalidation) throws Exception {
+        AtomicReference<Employee> row = new AtomicReference<>(new Employee(userId, "cache-race", 1L, EmployeeRole.EMPLOYEE, true, "pw"));
+        CountDownLatch loaded = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicBoolean pauseFirstLoad = new AtomicBoolean(true);
+        EmployeeRepository repository = mock(EmployeeRepository.class);
+        when(repository.findById(userId)).thenAnswer(invocation -> {
+            Employee snapshot = row.get();
+            if (pauseFirstLoad.getAndSet(false)) {
+                loaded.countDown();
+                assertThat(release.await(5, TimeUnit.SECONDS)).isTrue();
+            }
+            return Optional.of(snapshot);
+        });
+        EmployeeCache cache = new EmployeeCache(repository, 100, Duration.ofMinutes(5));
+
+        CompletableFuture<Optional<CachedEmployee>> first = CompletableFuture.supplyAsync(() -> cache.findById(userId));
+        assertThat(loaded.await(5, TimeUnit.SECONDS)).isTrue();
+        row.set(new Employee(userId, "cache-race", 1L, EmployeeRole.EMPLOYEE, false, "pw"));
+        invalidation.accept(cache);
+        release.countDown();
+
+        // 진행 중이던 조회는 읽은 값을 그대로 돌려주지만 캐시에는 남기지 않는다
+        assertThat(first.get(5, TimeUnit.SECONDS)).get().extracting(CachedEmployee::isActive).isEqualTo(true);
+        assertThat(cache.findById(userId)).get().extracting(CachedEmployee::isActive).isEqualTo(false);
+        assertThat(cache.findById(userId)).get().extracting(CachedEmployee::isActive).isEqualTo(false);
+    }
+
+    private void save(Employee e) {
+        employeeRepository.save(e);
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
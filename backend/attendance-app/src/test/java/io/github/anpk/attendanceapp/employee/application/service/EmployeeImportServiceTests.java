@@ -0,0 +1,142 @@
+package io.github.anpk.attendanceapp.employee.application.service;
+
+import io.github.anpk.attendanceapp.employee.domain.model.Employee;
+import io.github.anpk.attendanceapp.employee.domain.model.EmployeeRole;
+import io.github.anpk.attendanceapp.employee.infrastructure.repository.EmployeeRepository;
+import io.github.anpk.attendanceapp.employee.interfaces.dto.AdminEmployeeImportResponse;
+import io.github.anpk.attendanceapp.site.domain.model.Site;
+import io.github.anpk.attendanceapp.site.infrastructure.repository.SiteRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 직원 일괄 등록 검증
+ * - 행 오류(기존/파일 내 중복, ADMIN, 없는 site, 형식)는 결과에 남고 나머지 행은 chunk 단위로 등록된다
+ * - dryRun은 같은 결과를 보고하되 등록하지 않는다
+ * - 시작 시 적재한 userId 이후 다른 요청이 같은 userId를 등록하면 그 chunk만 1행씩 다시 시도(해당 행만 실패)
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:employee-import-tests;DB_CLOSE_DELAY=-1",
+        "auth.jwt.secret=employee-import-tests-secret",
+        "auth.jwt.expires-seconds=3600",
+        "spring.jpa.show-sql=false",
+        "app.employee-import.chunk-size=2"
+})
+class EmployeeImportServiceTests {
+
+    @Autowired EmployeeImportService employeeImportService;
+    @Autowired EmployeeRepository employeeRepository;
+    @Autowired SiteRepository siteRepository;
+    @Autowired EmployeeCache employeeCache;
+
+    @Test
+    void csvImportReportsRowErrorsAndInsertsValidRows() throws IOException {
+        long siteId = siteRepository.save(new Site("import-site")).getId();
+        employeeRepository.save(new Employee(9_500L, "existing", siteId, EmployeeRole.EMPLOYEE, true, "pw"));
+
+        String csv = String.join("\n",
+                "siteId,userId,username,password,role",
+                siteId + ",9501,\"kim, minsu\",pw1,employee",
+                siteId + ",9500,dup-existing,pw2,EMPLOYEE",
+                siteId + ",9502,lee,pw3,MANAGER",
+                siteId + ",9501,dup-in-file,pw4,EMPLOYEE",
+                siteId + ",9503,admin,pw5,ADMIN",
+                "999999,9504,nosite,pw6,EMPLOYEE",
+                siteId + ",abc,bad-id,pw7,EMPLOYEE",
+                "",
+                siteId + ",9505,park,pw8,EMPLOYEE"
+        );
+
+        AdminEmployeeImportResponse dryRun = run(csv, true);
+        assertThat(dryRun.succeeded()).isEqualTo(3);
+        assertThat(employeeRepository.existsById(9_501L)).isFalse();
+
+        AdminEmployeeImportResponse res = run(csv, false);
+        assertThat(res.totalRows()).isEqualTo(8);
+        assertThat(res.succeeded()).isEqualTo(3);
+        assertThat(res.failed()).isEqualTo(5);
+        assertThat(res.errors())
+                .extracting(AdminEmployeeImportResponse.RowError::line, AdminEmployeeImportResponse.RowError::errorCode)
+                .containsExactly(
+                        tuple(3L, "INVALID_REQUEST_PARAM"),
+                        tuple(5L, "INVALID_REQUEST_PARAM"),
+                        tuple(6L, "FORBIDDEN"),
+                        tuple(7L, "INVALID_REQUEST_PARAM"),
+                        tuple(8L, "INVALID_REQUEST_PAYLOAD")
+                );
+
+        assertThat(employeeRepository.findById(9_501L)).get()
+                .extracting(Employee::getUsername, Employee::getRole)
+                .containsExactly("kim, minsu", EmployeeRole.EMPLOYEE);
+        assertThat(employeeCache.findById(9_505L)).isPresent();
+    }
+
+    @Test
+    void ndjsonImport() throws IOException {
+        long siteId = siteRepository.save(new Site("import-site-ndjson")).getId();
+        String ndjson = String.join("\n",
+                "{\"userId\":9601,\"username\":\" choi \",\"password\":\"pw\",\"role\":\"EMPLOYEE\",\"siteId\":" + siteId + "}",
+                "{\"userId\":9602,\"username\":\"x\",\"password\":\"pw\",\"role\":\"NOPE\",\"siteId\":" + siteId + "}",
+                "not-json"
+        );
+        AdminEmployeeImportResponse res = employeeImportService.importEmployees(
+                new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)), EmployeeImportService.Format.NDJSON, false);
+
+        assertThat(res.succeeded()).isEqualTo(1);
+        assertThat(res.failed()).isEqualTo(2);
+        assertThat(employeeRepository.findById(9_601L)).get().extracting(Employee::getUsername).isEqualTo("choi");
+    }
+
+    @Test
+    void chunkFailureFromConcurrentInsertRetriesPerRow() throws IOException {
+        long siteId = siteRepository.save(new Site("import-site-concurrent")).getId();
+        String first = String.join("\n",
+                "userId,username,password,role,siteId",
+                "9701,first-a,pw,EMPLOYEE," + siteId,
+                "9702,first-b,pw,EMPLOYEE," + siteId,
+                "");
+        String second = String.join("\n",
+                "9703,taken-meanwhile,pw,EMPLOYEE," + siteId,
+                "9704,second-b,pw,EMPLOYEE," + siteId);
+        // 첫 chunk 등록 후, 두 번째 chunk를 읽기 전에 다른 요청이 9703을 먼저 등록
+        InputStream concurrentInsert = new InputStream() {
+            @Override
+            public int read() {
+                employeeRepository.save(new Employee(9_703L, "concurrent", siteId, EmployeeRole.EMPLOYEE, true, "pw"));
+                return -1;
+            }
+        };
+        InputStream body = new SequenceInputStream(Collections.enumeration(List.of(
+                new ByteArrayInputStream(first.getBytes(StandardCharsets.UTF_8)),
+                concurrentInsert,
+                new ByteArrayInputStream(second.getBytes(StandardCharsets.UTF_8)))));
+
+        AdminEmployeeImportResponse res = employeeImportService.importEmployees(body, EmployeeImportService.Format.CSV, false);
+
+        assertThat(res.succeeded()).isEqualTo(3);
+        assertThat(res.errors())
+                .extracting(AdminEmployeeImportResponse.RowError::line, AdminEmployeeImportResponse.RowError::userId,
+                        AdminEmployeeImportResponse.RowError::errorCode)
+                .containsExactly(tuple(4L, 9_703L, "INVALID_REQUEST_PARAM"));
+        // 실패한 chunk의 나머지 행은 재시도로 등록되고, 먼저 등록된 행은 덮어쓰지 않는다
+        assertThat(employeeRepository.existsById(9_704L)).isTrue();
+        assertThat(employeeRepository.findById(9_703L)).get().extracting(Employee::getUsername).isEqualTo("concurrent");
+    }
+
+    private AdminEmployeeImportResponse run(String csv, boolean dryRun) throws IOException {
+        return employeeImportService.importEmployees(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), EmployeeImportService.Format.CSV, dryRun);
+    }
+}
@@ -0,0 +1,105 @@
+package io.github.anpk.attendanceapp.employee.interfaces;
+
+import io.github.anpk.attendanceapp.auth.AuthPrincipal;
+import io.github.anpk.attendanceapp.auth.CurrentPrincipalArgumentResolver;
+import io.github.anpk.attendanceapp.auth.ScopeVersionRegistry;
+import io.github.anpk.attendanceapp.employee.application.service.EmployeeCache;
+import io.github.anpk.attendanceapp.employee.domain.model.Employee;
+import io.github.anpk.attendanceapp.employee.domain.model.EmployeeRole;
+import io.github.anpk.attendanceapp.employee.infrastructure.repository.EmployeeRepository;
+import io.github.anpk.attendanceapp.employee.interfaces.dto.AdminEmployeeImportResponse;
+import io.github.anpk.attendanceapp.error.BusinessException;
+import io.github.anpk.attendanceapp.error.ErrorCode;
+import io.github.anpk.attendanceapp.site.application.service.ManagerScopeIndex;
+import io.github.anpk.attendanceapp.site.domain.model.Site;
+import io.github.anpk.attendanceapp.site.infrastructure.repository.SiteRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 직원 일괄 등록 엔드포인트 검증
+ * - 형식은 Content-Type으로 판정(text/csv, application/x-ndjson — 파라미터 허용), 그 외/누락/형식 오류는 400
+ * - ADMIN 전용: MANAGER/EMPLOYEE는 본문을 읽기 전에 거부되고 아무것도 등록되지 않는다
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:admin-employee-controller-tests;DB_CLOSE_DELAY=-1",
+        "auth.jwt.secret=admin-employee-controller-tests-secret",
+        "auth.jwt.expires-seconds=3600",
+        "spring.jpa.show-sql=false"
+})
+class AdminEmployeeControllerTests {
+
+    private static final long ADMIN_ID = 9_800L;
+    private static final long MANAGER_ID = 9_801L;
+
+    @Autowired AdminEmployeeController adminEmployeeController;
+    @Autowired EmployeeRepository employeeRepository;
+    @Autowired SiteRepository siteRepository;
+    @Autowired ScopeVersionRegistry scopeVersionRegistry;
+    @Autowired EmployeeCache employeeCache;
+    @Autowired ManagerScopeIndex managerScopeIndex;
+
+    private long siteId;
+
+    @BeforeEach
+    void setUp() {
+        siteId = siteRepository.save(new Site("import-controller-site")).getId();
+        employeeRepository.save(new Employee(ADMIN_ID, "import-admin", siteId, EmployeeRole.ADMIN, true, "pw"));
+        employeeRepository.save(new Employee(MANAGER_ID, "import-manager", siteId, EmployeeRole.MANAGER, true, "pw"));
+    }
+
+    @Test
+    void formatIsResolvedFromContentType() throws IOException {
+        String csv = "userId,username,password,role,siteId\n9811,csv-user,pw,EMPLOYEE," + siteId + "\n";
+        AdminEmployeeImportResponse fromCsv = importAs(ADMIN_ID, "text/csv; charset=UTF-8", csv, false);
+        assertThat(fromCsv.succeeded()).isEqualTo(1);
+        assertThat(employeeRepository.existsById(9_811L)).isTrue();
+
+        String ndjson = "{\"userId\":9812,\"username\":\"ndjson-user\",\"password\":\"pw\",\"role\":\"EMPLOYEE\",\"siteId\":" + siteId + "}\n";
+        AdminEmployeeImportResponse fromNdjson = importAs(ADMIN_ID, "application/x-ndjson", ndjson, true);
+        assertThat(fromNdjson.dryRun()).isTrue();
+        assertThat(fromNdjson.succeeded()).isEqualTo(1);
+        assertThat(employeeRepository.existsById(9_812L)).isFalse();
+
+        for (String unsupported : new String[]{"application/json", "not a media type", null}) {
+            assertThatThrownBy(() -> importAs(ADMIN_ID, unsupported, csv, true))
+                    .isInstanceOf(BusinessException.class)
+                    .extracting(e -> ((BusinessException) e).getCode())
+                    .isEqualTo(ErrorCode.INVALID_REQUEST_PARAM.name());
+        }
+    }
+
+    @Test
+    void onlyAdminCanImport() {
+        String csv = "userId,username,password,role,siteId\n9821,by-manager,pw,EMPLOYEE," + siteId + "\n";
+
+        assertThatThrownBy(() -> importAs(MANAGER_ID, "text/csv", csv, false))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getCode())
+                .isEqualTo(ErrorCode.FORBIDDEN.name());
+        assertThat(employeeRepository.existsById(9_821L)).isFalse();
+    }
+
+    private AdminEmployeeImportResponse importAs(long userId, String contentType, String body, boolean dryRun) throws IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/admin/employees/import");
+        request.addHeader("X-USER-ID", Long.toString(userId));
+        if (contentType != null) request.setContentType(contentType);
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return adminEmployeeController.importEmployees(principal(request), dryRun, request);
+    }
+
+    private AuthPrincipal principal(MockHttpServletRequest request) {
+        var resolver = new CurrentPrincipalArgumentResolver(scopeVersionRegistry, employeeCache, managerScopeIndex);
+        return (AuthPrincipal) resolver.resolveArgument(null, null, new ServletWebRequest(request), null);
+    }
+}
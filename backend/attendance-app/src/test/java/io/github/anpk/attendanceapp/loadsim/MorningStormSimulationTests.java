@@ -0,0 +1,352 @@
+package io.github.anpk.attendanceapp.loadsim;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.anpk.attendanceapp.auth.ScopeVersionRegistry;
+import io.github.anpk.attendanceapp.employee.domain.model.Employee;
+import io.github.anpk.attendanceapp.employee.domain.model.EmployeeRole;
+import io.github.anpk.attendanceapp.employee.infrastructure.repository.EmployeeRepository;
+import io.github.anpk.attendanceapp.site.application.service.ManagerScopeIndex;
+import io.github.anpk.attendanceapp.site.domain.model.ManagerSiteAssignment;
+import io.github.anpk.attendanceapp.site.domain.model.Site;
+import io.github.anpk.attendanceapp.site.infrastructure.repository.ManagerSiteAssignmentRepository;
+import io.github.anpk.attendanceapp.site.infrastructure.repository.SiteRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.Ordered;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 출근 피크(아침 출근 폭주) 하루 재현 부하 시뮬레이션 — 내장 서버 + H2, 실제 HTTP
+ * - 08:50~09:10 출근: 직원마다 로그인 → 사진 출근(도착 시각은 09:00 중심 삼각 분포)
+ * - 점심 휴게 시작/종료 → 사진 퇴근 → 일부 직원 정정 요청 → 매니저 승인 대기함 조회/승인
+ * - 시나리오별 처리량, p50/p95/p99/max 지연, 결과 코드(ErrorCode)별 건수, SQL 실행 수를 로그로 남긴다
+ *
+ * 시간은 압축해서 재현한다(20분 출근 구간 → STORM_WINDOW). 근태 날짜/시각은 실제 현재 시각 기준.
+ * 실행: ./gradlew loadSimulation (로그: [loadsim]) — 기본 test에서는 제외
+ */
+@Slf4j
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "auth.jwt.secret=loadsim-secret",
+                "auth.jwt.expires-seconds=3600",
+                "spring.jpa.show-sql=false",
+                "spring.datasource.url=jdbc:h2:mem:loadsim;DB_CLOSE_DELAY=-1"
+        }
+)
+@Tag("loadsim")
+class MorningStormSimulationTests {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+    private static final long SEED = 20260302L;
+
+    private static final int SITES = 4;
+    private static final int EMPLOYEES_PER_SITE = 500;
+    private static final long FIRST_EMPLOYEE_ID = 200_000L;
+    private static final long FIRST_MANAGER_ID = 300_000L;
+    private static final String PASSWORD = "loadsim-pw";
+
+    // 08:50~09:10(20분)을 실제 10초로 압축
+    private static final Duration STORM_WINDOW = Duration.ofSeconds(10);
+    // 출근 외 단계의 동시 요청 상한
+    private static final int CONCURRENCY = 200;
+    private static final int CORRECTION_PERCENT = 10;
+    private static final String BOUNDARY = "loadsim-boundary";
+
+    @TestConfiguration
+    static class ScenarioTagging {
+        @Bean
+        static BeanPostProcessor loadsimSqlCounter() {
+            return ScenarioSqlCounter.dataSourceWrapper();
+        }
+
+        @Bean
+        FilterRegistrationBean<ScenarioSqlCounter.ScenarioFilter> loadsimScenarioFilter() {
+            var bean = new FilterRegistrationBean<>(new ScenarioSqlCounter.ScenarioFilter());
+            bean.setOrder(Ordered.HIGHEST_PRECEDENCE);
+            return bean;
+        }
+    }
+
+    @DynamicPropertySource
+    static void photoDirs(DynamicPropertyRegistry registry) throws IOException {
+        var root = Files.createTempDirectory("attendance-loadsim-");
+        registry.add("app.photos.dir", () -> root.resolve("uploads").toString());
+        registry.add("app.report-jobs.dir", () -> root.resolve("report-jobs").toString());
+    }
+
+    @LocalServerPort int port;
+    @Autowired ObjectMapper objectMapper;
+    @Autowired SiteRepository siteRepository;
+    @Autowired EmployeeRepository employeeRepository;
+    @Autowired ManagerSiteAssignmentRepository managerSiteAssignmentRepository;
+    @Autowired ManagerScopeIndex managerScopeIndex;
+    @Autowired ScopeVersionRegistry scopeVersionRegistry;
+
+    private final ScenarioRecorder recorder = new ScenarioRecorder();
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+
+    private byte[] jpeg;
+
+    @Test
+    void replayWorkday() throws Exception {
+        List<Worker> workers = new ArrayList<>();
+        List<Worker> managers = new ArrayList<>();
+        seed(workers, managers);
+        jpeg = sampleJpeg();
+        ScenarioSqlCounter.reset();
+
+        SplittableRandom rnd = new SplittableRandom(SEED);
+        long[] arrivalOffsetsNanos = new long[workers.size()];
+        for (int i = 0; i < workers.size(); i++) {
+            // 삼각 분포(0~1, 중앙 0.5 = 09:00)
+            double u = (rnd.nextDouble() + rnd.nextDouble()) / 2;
+            arrivalOffsetsNanos[i] = (long) (u * STORM_WINDOW.toNanos());
+        }
+
+        // 1) 08:50~09:10 로그인 → 출근
+        long stormStart = System.nanoTime();
+        runAll(workers, workers.size(), (w) -> {
+            sleepUntil(stormStart + arrivalOffsetsNanos[w.index]);
+            JsonNode login = send("login", w, json(HttpRequest.newBuilder(uri("/api/auth/login")),
+                    Map.of("userId", w.userId, "password", PASSWORD)));
+            if (login == null) return;
+            w.token = login.get("accessToken").asText();
+            JsonNode checkIn = send("check-in", w, photo(w, "/api/attendance/check-in"));
+            if (checkIn != null) {
+                w.attendanceId = checkIn.get("attendanceId").asLong();
+                w.checkInAt = OffsetDateTime.parse(checkIn.get("checkInAt").asText());
+            }
+        });
+
+        // 2) 점심 휴게
+        runAll(workers, CONCURRENCY, w -> send("break-start", w, post(w, "/api/attendance/break-start")));
+        runAll(workers, CONCURRENCY, w -> send("break-end", w, post(w, "/api/attendance/break-end")));
+
+        // 3) 퇴근
+        runAll(workers, CONCURRENCY, w -> send("check-out", w, photo(w, "/api/attendance/check-out")));
+
+        // 4) 정정 요청(출근 시각 10분 앞당김)
+        List<Worker> requesters = workers.stream()
+                .filter(w -> w.attendanceId != null && w.index % 100 < CORRECTION_PERCENT)
+                .toList();
+        runAll(requesters, CONCURRENCY, w -> send("correction", w, json(
+                authorized(w, "/api/attendance/" + w.attendanceId + "/correction-requests"),
+                Map.of("proposedCheckInAt", w.checkInAt.minusMinutes(10).toString(), "reason", "출근 태깅 누락"))));
+
+        // 5) 매니저: 승인 대기함 조회 → 승인(대기함이 빌 때까지)
+        runAll(managers, managers.size(), m -> {
+            JsonNode login = send("manager-login", m, json(HttpRequest.newBuilder(uri("/api/auth/login")),
+                    Map.of("userId", m.userId, "password", PASSWORD)));
+            if (login == null) return;
+            m.token = login.get("accessToken").asText();
+            while (true) {
+                JsonNode page = send("approvable", m, authorized(m,
+                        "/api/correction-requests?scope=approvable&status=PENDING&size=50").GET());
+                if (page == null || page.get("items").isEmpty()) return;
+                int approved = 0;
+                for (JsonNode item : page.get("items")) {
+                    if (send("approve", m, json(authorized(m, "/api/correction-requests/" + item.get("requestId").asLong() + "/approve"),
+                            Map.of("comment", "확인"))) != null) approved++;
+                }
+                // 한 건도 처리하지 못하면 같은 페이지가 반복되므로 중단(오류는 결과 코드로 보고)
+                if (approved == 0) return;
+            }
+        });
+
+        for (String line : recorder.report(ScenarioSqlCounter.snapshot())) {
+            log.info("[loadsim] {}", line);
+        }
+
+        assertThat(recorder.serverErrors()).isZero();
+        assertThat(recorder.count("check-in", ScenarioRecorder.OK)).isEqualTo(workers.size());
+        assertThat(recorder.count("check-out", ScenarioRecorder.OK)).isEqualTo(workers.size());
+        assertThat(recorder.count("approve", ScenarioRecorder.OK))
+                .isEqualTo(recorder.count("correction", ScenarioRecorder.OK));
+    }
+
+    // =============================================================
+    // seed
+    // =============================================================
+
+    private void seed(List<Worker> workers, List<Worker> managers) {
+        List<Employee> employees = new ArrayList<>();
+        List<ManagerSiteAssignment> assignments = new ArrayList<>();
+        for (int s = 0; s < SITES; s++) {
+            Long siteId = siteRepository.save(new Site("loadsim-site-" + s)).getId();
+            long managerId = FIRST_MANAGER_ID + s;
+            employees.add(new Employee(managerId, "manager-" + managerId, siteId, EmployeeRole.MANAGER, true, PASSWORD));
+            assignments.add(new ManagerSiteAssignment(managerId, siteId, OffsetDateTime.now(KST)));
+            managers.add(new Worker(s, managerId));
+            for (int e = 0; e < EMPLOYEES_PER_SITE; e++) {
+                int index = s * EMPLOYEES_PER_SITE + e;
+                long userId = FIRST_EMPLOYEE_ID + index;
+                employees.add(new Employee(userId, "user-" + userId, siteId, EmployeeRole.EMPLOYEE, true, PASSWORD));
+                workers.add(new Worker(index, userId));
+            }
+        }
+        employeeRepository.saveAll(employees);
+        managerSiteAssignmentRepository.saveAll(assignments);
+        managerScopeIndex.reload();
+        scopeVersionRegistry.reload();
+    }
+
+    // =============================================================
+    // driver
+    // =============================================================
+
+    private void runAll(List<Worker> targets, int concurrency, Consumer<Worker> action) throws Exception {
+        Semaphore permits = new Semaphore(concurrency);
+        try (ExecutorService pool = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>(targets.size());
+            for (Worker w : targets) {
+                permits.acquire();
+                futures.add(pool.submit(() -> {
+                    try {
+                        action.accept(w);
+                    } finally {
+                        permits.release();
+                    }
+                }));
+            }
+            for (Future<?> f : futures) f.get();
+        }
+    }
+
+    /**
+     * @return 2xx면 응답 JSON(본문이 없으면 빈 객체), 아니면 null
+     */
+    private JsonNode send(String scenario, Worker w, HttpRequest.Builder builder) {
+        HttpRequest req = builder.header(ScenarioSqlCounter.HEADER, scenario)
+                .timeout(Duration.ofSeconds(60))
+                .build();
+        long started = System.nanoTime();
+        try {
+            HttpResponse<String> res = client.send(req, HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+            long ended = System.nanoTime();
+            JsonNode body = res.body().isBlank() ? objectMapper.createObjectNode() : objectMapper.readTree(res.body());
+            boolean ok = res.statusCode() / 100 == 2;
+            String code = ok ? ScenarioRecorder.OK
+                    : body.hasNonNull("code") ? body.get("code").asText() : "HTTP_" + res.statusCode();
+            recorder.record(scenario, started, ended, code);
+            return ok ? body : null;
+        } catch (IOException e) {
+            recorder.record(scenario, started, System.nanoTime(), "IO_" + e.getClass().getSimpleName());
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private HttpRequest.Builder authorized(Worker w, String path) {
+        return HttpRequest.newBuilder(uri(path)).header("Authorization", "Bearer " + w.token);
+    }
+
+    private HttpRequest.Builder post(Worker w, String path) {
+        return authorized(w, path).POST(HttpRequest.BodyPublishers.noBody());
+    }
+
+    private HttpRequest.Builder json(HttpRequest.Builder builder, Map<String, ?> body) {
+        try {
+            return builder.header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 사진 파트 1개(name=photo). JPEG 뒤에 userId를 덧붙여 직원마다 내용이 다르게 한다
+     */
+    private HttpRequest.Builder photo(Worker w, String path) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(jpeg.length + 256);
+        out.writeBytes(("--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"photo\"; filename=\"" + w.userId + ".jpg\"\r\n"
+                + "Content-Type: image/jpeg\r\n\r\n").getBytes(StandardCharsets.UTF_8));
+        out.writeBytes(jpeg);
+        out.writeBytes((path + w.userId).getBytes(StandardCharsets.US_ASCII));
+        out.writeBytes(("\r\n--" + BOUNDARY + "--\r\n").getBytes(StandardCharsets.US_ASCII));
+        return authorized(w, path)
+                .header("Content-Type", "multipart/form-data; boundary=" + BOUNDARY)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(out.toByteArray()));
+    }
+
+    private static void sleepUntil(long deadlineNanos) {
+        long remaining = deadlineNanos - System.nanoTime();
+        if (remaining <= 0) return;
+        try {
+            Thread.sleep(Duration.ofNanos(remaining));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static byte[] sampleJpeg() throws IOException {
+        BufferedImage image = new BufferedImage(640, 480, BufferedImage.TYPE_INT_RGB);
+        for (int y = 0; y < image.getHeight(); y++) {
+            for (int x = 0; x < image.getWidth(); x++) {
+                image.setRGB(x, y, (x * 31 + y * 17) & 0xFFFFFF);
+            }
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "jpeg", out);
+        return out.toByteArray();
+    }
+
+    private static final class Worker {
+        final int index;
+        final long userId;
+        volatile String token;
+        volatile Long attendanceId;
+        volatile OffsetDateTime checkInAt;
+
+        Worker(int index, long userId) {
+            this.index = index;
+            this.userId = userId;
+        }
+    }
+}
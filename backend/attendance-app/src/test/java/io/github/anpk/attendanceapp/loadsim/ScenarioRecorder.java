@@ -0,0 +1,112 @@
+package io.github.anpk.attendanceapp.loadsim;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 시나리오별 요청 결과 기록(지연, 결과 코드)
+ * - 결과 코드: 2xx는 "OK", 오류는 표준 에러 응답의 code(ErrorCode), code가 없으면 "HTTP_{status}"
+ * - 처리량은 시나리오의 첫 요청 시작 ~ 마지막 요청 종료 구간 기준
+ */
+final class ScenarioRecorder {
+
+    static final String OK = "OK";
+
+    private final Map<String, Scenario> scenarios = new ConcurrentHashMap<>();
+    // 보고 순서 = 처음 기록된 순서
+    private final Map<String, Boolean> order = Collections.synchronizedMap(new LinkedHashMap<>());
+
+    void record(String scenario, long startedNanos, long endedNanos, String resultCode) {
+        order.putIfAbsent(scenario, Boolean.TRUE);
+        scenarios.computeIfAbsent(scenario, k -> new Scenario()).add(startedNanos, endedNanos, resultCode);
+    }
+
+    long count(String scenario, String resultCode) {
+        Scenario s = scenarios.get(scenario);
+        if (s == null) return 0;
+        LongAdder n = s.codes.get(resultCode);
+        return (n == null) ? 0 : n.sum();
+    }
+
+    /**
+     * 5xx(또는 코드 미상 오류) 응답 수 — 전체 시나리오 합계
+     */
+    long serverErrors() {
+        long n = 0;
+        for (Scenario s : scenarios.values()) {
+            for (var e : s.codes.entrySet()) {
+                if (e.getKey().startsWith("HTTP_5") || e.getKey().equals("INTERNAL_ERROR")) n += e.getValue().sum();
+            }
+        }
+        return n;
+    }
+
+    List<String> report(Map<String, Long> sqlCounts) {
+        List<String> lines = new ArrayList<>();
+        lines.add(String.format("%-14s %7s %9s %8s %8s %8s %8s %8s %10s  %s",
+                "scenario", "reqs", "req/s", "p50ms", "p95ms", "p99ms", "maxms", "sql", "sql/req", "results"));
+        List<String> names;
+        synchronized (order) {
+            names = new ArrayList<>(order.keySet());
+        }
+        for (String name : names) {
+            Scenario s = scenarios.get(name);
+            long[] lat = s.latenciesSorted();
+            long reqs = lat.length;
+            double seconds = Math.max(1, s.lastEnd - s.firstStart) / 1_000_000_000.0;
+            long sql = sqlCounts.getOrDefault(name, 0L);
+            lines.add(String.format("%-14s %7d %9.1f %8d %8d %8d %8d %8d %10.2f  %s",
+                    name, reqs, reqs / seconds,
+                    percentileMs(lat, 0.50), percentileMs(lat, 0.95), percentileMs(lat, 0.99),
+                    reqs == 0 ? 0 : Duration.ofNanos(lat[lat.length - 1]).toMillis(),
+                    sql, reqs == 0 ? 0.0 : (double) sql / reqs, s.codesSorted()));
+        }
+        Long background = sqlCounts.get(ScenarioSqlCounter.BACKGROUND);
+        if (background != null) lines.add("background sql(요청 밖 실행) = " + background);
+        return lines;
+    }
+
+    private static long percentileMs(long[] sorted, double p) {
+        if (sorted.length == 0) return 0;
+        int idx = (int) Math.ceil(p * sorted.length) - 1;
+        return Duration.ofNanos(sorted[Math.max(0, Math.min(sorted.length - 1, idx))]).toMillis();
+    }
+
+    private static final class Scenario {
+
+        private final ConcurrentLinkedQueue<Long> latencies = new ConcurrentLinkedQueue<>();
+        private final Map<String, LongAdder> codes = new ConcurrentHashMap<>();
+        private volatile long firstStart = Long.MAX_VALUE;
+        private volatile long lastEnd = Long.MIN_VALUE;
+
+        void add(long started, long ended, String code) {
+            latencies.add(ended - started);
+            codes.computeIfAbsent(code, k -> new LongAdder()).increment();
+            synchronized (this) {
+                if (started < firstStart) firstStart = started;
+                if (ended > lastEnd) lastEnd = ended;
+            }
+        }
+
+        long[] latenciesSorted() {
+            long[] out = latencies.stream().mapToLong(Long::longValue).toArray();
+            Arrays.sort(out);
+            return out;
+        }
+
+        Map<String, Long> codesSorted() {
+            Map<String, Long> out = new TreeMap<>();
+            codes.forEach((k, v) -> out.put(k, v.sum()));
+            return out;
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package io.github.anpk.attendanceapp.loadsim;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 시나리오별 SQL 실행 수 집계(DataSource 래핑)
+ * - 부하 드라이버가 요청 헤더(X-LOADSIM-SCENARIO)로 시나리오를 알리고, 필터가 요청 스레드에 기록한다
+ * - Statement의 execute*() 호출(= DB 왕복)을 센다 — 준비(prepare) 수가 아니라 실제 실행 수
+ *   (재사용되는 PreparedStatement도 실행마다 집계, JDBC batch는 executeBatch() 1회로 집계)
+ * - Hibernate 밖(JdbcTemplate 등)에서 실행된 SQL도 같은 커넥션 풀을 쓰므로 함께 집계된다
+ * - 요청 밖(사진 writer/스케줄러 등 백그라운드)에서 실행된 SQL은 "background"로 집계
+ */
+final class ScenarioSqlCounter {
+
+    static final String HEADER = "X-LOADSIM-SCENARIO";
+    static final String BACKGROUND = "background";
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+    private static final Map<String, LongAdder> COUNTS = new ConcurrentHashMap<>();
+
+    private ScenarioSqlCounter() {
+    }
+
+    static Map<String, Long> snapshot() {
+        Map<String, Long> out = new TreeMap<>();
+        COUNTS.forEach((k, v) -> out.put(k, v.sum()));
+        return out;
+    }
+
+    static void reset() {
+        COUNTS.clear();
+    }
+
+    private static void countExecution() {
+        String scenario = CURRENT.get();
+        COUNTS.computeIfAbsent(scenario == null ? BACKGROUND : scenario, k -> new LongAdder()).increment();
+    }
+
+    /**
+     * 컨텍스트의 DataSource를 실행 집계 DataSource로 감싼다
+     */
+    static BeanPostProcessor dataSourceWrapper() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                return bean instanceof DataSource ds && !(bean instanceof CountingDataSource)
+                        ? new CountingDataSource(ds)
+                        : bean;
+            }
+        };
+    }
+
+    static final class CountingDataSource extends DelegatingDataSource {
+
+        CountingDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return countingConnection(super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return countingConnection(super.getConnection(username, password));
+        }
+    }
+
+    private static Connection countingConnection(Connection target) {
+        return (Connection) Proxy.newProxyInstance(
+                ScenarioSqlCounter.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    Object result = invoke(target, method, args);
+                    return switch (method.getName()) {
+                        case "createStatement" -> countingStatement(result, Statement.class);
+                        case "prepareStatement" -> countingStatement(result, PreparedStatement.class);
+                        case "prepareCall" -> countingStatement(result, CallableStatement.class);
+                        default -> result;
+                    };
+                });
+    }
+
+    private static Object countingStatement(Object target, Class<?> type) {
+        return Proxy.newProxyInstance(
+                ScenarioSqlCounter.class.getClassLoader(),
+                new Class<?>[]{type},
+                (proxy, method, args) -> {
+                    if (method.getName().startsWith("execute")) countExecution();
+                    return invoke(target, method, args);
+                });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * 요청 헤더 → 요청 스레드 시나리오 표시
+     */
+    static final class ScenarioFilter extends OncePerRequestFilter {
+
+        @Override
+        protected void doFilterInternal(
+                HttpServletRequest request,
+                HttpServletResponse response,
+                FilterChain filterChain
+        ) throws ServletException, IOException {
+            CURRENT.set(request.getHeader(HEADER));
+            try {
+                filterChain.doFilter(request, response);
+            } finally {
+                CURRENT.remove();
+            }
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package io.github.anpk.attendanceapp.site.application.service;
+
+import io.github.anpk.attendanceapp.employee.infrastructure.repository.EmployeeRepository;
+import io.github.anpk.attendanceapp.site.domain.model.ManagerSiteAssignment;
+import io.github.anpk.attendanceapp.site.infrastructure.repository.ManagerSiteAssignmentRepository;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * MANAGER 스코프 인덱스 검증
+ * - 할당/해제, 직원 소속 변경이 즉시 조회에 반영된다(트랜잭션 밖 호출)
+ * - 재적재가 DB를 읽는 동안 커밋된 해제/할당은 이전 시점 스냅샷에 덮어써지지 않는다
+ * - 재적재의 DB 조회 중에도 변경 반영은 대기하지 않는다
+ */
+class ManagerScopeIndexTests {
+
+    private static final long MANAGER = 100L;
+    private static final long SITE_A = 10L;
+    private static final long SITE_B = 20L;
+
+    private final AtomicReference<List<ManagerSiteAssignment>> assignments = new AtomicReference<>(List.of());
+    private final AtomicReference<List<EmployeeRepository.SiteMembership>> memberships = new AtomicReference<>(List.of());
+    // 재적재의 DB 조회 시점을 테스트에서 제어하기 위한 훅
+    private volatile CountDownLatch reading;
+    private volatile CountDownLatch proceed;
+
+    private final ManagerScopeIndex index = new ManagerScopeIndex(assignmentRepository(), employeeRepository());
+
+    @Test
+    void assignAndRevokeAreVisibleImmediately() {
+        index.reload();
+        assertThat(index.managesSite(MANAGER, SITE_A)).isFalse();
+
+        index.onAssigned(MANAGER, SITE_B);
+        index.onAssigned(MANAGER, SITE_A);
+        assertThat(index.managesSite(MANAGER, SITE_A)).isTrue();
+        assertThat(index.siteIdsOf(MANAGER)).containsExactly(SITE_A, SITE_B);
+
+        index.onUnassigned(MANAGER, SITE_A);
+        assertThat(index.managesSite(MANAGER, SITE_A)).isFalse();
+        assertThat(index.siteIdsOf(MANAGER)).containsExactly(SITE_B);
+
+        index.onUnassigned(MANAGER, SITE_B);
+        assertThat(index.siteIdsOf(MANAGER)).isEmpty();
+    }
+
+    @Test
+    void employeeMovesUpdateApprovableEmployees() {
+        assignments.set(List.of(new ManagerSiteAssignment(MANAGER, SITE_A, OffsetDateTime.now())));
+        memberships.set(List.of(new Membership(MANAGER, SITE_A)));
+        index.reload();
+        assertThat(index.hasApprovableEmployees(MANAGER)).isFalse();
+
+        index.onEmployeeChanged(501L, SITE_A, true);
+        assertThat(index.hasApprovableEmployees(MANAGER)).isTrue();
+
+        index.onEmployeeChanged(501L, SITE_B, true);
+        assertThat(index.hasApprovableEmployees(MANAGER)).isFalse();
+
+        index.onEmployeeChanged(501L, SITE_A, false);
+        assertThat(index.hasApprovableEmployees(MANAGER)).isFalse();
+    }
+
+    @Test
+    void changesCommittedDuringReloadSurviveStaleSnapshot() throws Exception {
+        assignments.set(List.of(new ManagerSiteAssignment(MANAGER, SITE_A, OffsetDateTime.now())));
+        index.reload();
+        assertThat(index.managesSite(MANAGER, SITE_A)).isTrue();
+
+        reading = new CountDownLatch(1);
+        proceed = new CountDownLatch(1);
+        CompletableFuture<Void> reload = CompletableFuture.runAsync(index::reload);
+        assertThat(reading.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // 재적재가 읽은 스냅샷: SITE_A 담당 유지, SITE_B 없음(조회 이후 커밋된 변경을 모름)
+        CompletableFuture.runAsync(() -> {
+            index.onUnassigned(MANAGER, SITE_A);
+            index.onAssigned(MANAGER, SITE_B);
+        }).get(5, TimeUnit.SECONDS);
+        assertThat(index.managesSite(MANAGER, SITE_A)).isFalse();
+
+        proceed.countDown();
+        reload.get(5, TimeUnit.SECONDS);
+
+        assertThat(index.managesSite(MANAGER, SITE_A)).isFalse();
+        assertThat(index.managesSite(MANAGER, SITE_B)).isTrue();
+
+        // 다음 재적재는 기록 없이 DB 기준으로 교체
+        reading = null;
+        assignments.set(List.of(new ManagerSiteAssignment(MANAGER, SITE_B, OffsetDateTime.now())));
+        index.reload();
+        assertThat(index.siteIdsOf(MANAGER)).containsExactly(SITE_B);
+    }
+
+    /**
+     * 재적재가 쓰는 조회(findAll)만 응답 — reading이 있으면 스냅샷을 읽은 직후 proceed까지 멈춘다
+     */
+    private ManagerSiteAssignmentRepository assignmentRepository() {
+        ManagerSiteAssignmentRepository repository = mock(ManagerSiteAssignmentRepository.class);
+        when(repository.findAll()).thenAnswer(invocation -> {
+            List<ManagerSiteAssignment> snapshot = assignments.get();
+            CountDownLatch r = reading;
+            if (r != null) {
+                r.countDown();
+                await(proceed);
+            }
+            return snapshot;
+        });
+        return repository;
+    }
+
+    private EmployeeRepository employeeRepository() {
+        EmployeeRepository repository = mock(EmployeeRepository.class);
+        when(repository.findActiveSiteMemberships()).thenAnswer(invocation -> memberships.get());
+        return repository;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            if (!latch.await(5, TimeUnit.SECONDS)) throw new IllegalStateException("reload was not released");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record Membership(Long userId, Long siteId) implements EmployeeRepository.SiteMembership {
+        @Override
+        public Long getUserId() {
+            return userId;
+        }
+
+        @Override
+        public Long getSiteId() {
+            return siteId;
+        }
+    }
+}
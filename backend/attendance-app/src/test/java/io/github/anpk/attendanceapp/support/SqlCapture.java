@@ -0,0 +1,47 @@
+package io.github.anpk.attendanceapp.support;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 테스트용 SQL 수집(Hibernate StatementInspector)
+ * - capture(...) 블록 안에서 같은 스레드가 준비한 SQL만 모은다(소문자, 공백 정규화)
+ * - JDBC batch는 batch 단위로 한 번 준비되므로 "준비된 문장 수"로 batch 여부를 검증할 수 있다
+ *
+ * Hibernate가 이름으로 생성하므로 public 클래스 + 기본 생성자여야 한다(설정: PROPERTY).
+ */
+public class SqlCapture implements StatementInspector {
+
+    // @SpringBootTest(properties = ...)에 쓰므로 상수 문자열
+    public static final String PROPERTY =
+            "spring.jpa.properties.hibernate.session_factory.statement_inspector=io.github.anpk.attendanceapp.support.SqlCapture";
+
+    private static final ThreadLocal<List<String>> CURRENT = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        List<String> sink = CURRENT.get();
+        if (sink != null) {
+            sink.add(sql.replaceAll("\\s+", " ").trim().toLowerCase(Locale.ROOT));
+        }
+        return sql;
+    }
+
+    public static List<String> capture(Runnable action) {
+        List<String> sink = new ArrayList<>();
+        CURRENT.set(sink);
+        try {
+            action.run();
+        } finally {
+            CURRENT.remove();
+        }
+        return sink;
+    }
+
+    public static long count(List<String> sqls, String prefix) {
+        return sqls.stream().filter(s -> s.startsWith(prefix)).count();
+    }
+}
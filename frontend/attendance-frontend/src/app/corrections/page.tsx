@@ -3,12 +3,13 @@
 import Link from 'next/link';
 import { useRouter, useSearchParams } from 'next/navigation';
 import { useAuth } from '../context/AuthContext';
-import { Suspense, useCallback, useEffect, useMemo, useState } from 'react';
+import { Suspense, useCallback, useEffect, useMemo, useRef, useState } from 'react';
 
 import AppHeader from '@/app/_components/AppHeader';
 import AsyncButton from '@/app/_components/AsyncButton';
 import type { CorrectionRequestListItem } from '@/app/_components/CorrectionRequestDetailModal';
 import { apiFetch } from '@/lib/api/client';
+import { openEventStream } from '@/lib/api/event-stream';
 import { ApiError } from '@/lib/api/types';
 
 import { toUserMessage } from '@/lib/api/error-messages';
@@ -262,6 +263,55 @@ function CorrectionsPageInner() {
     fetchList();
   }, [user, fetchList]);
 
+  // ✅ 승인 대기 탭: 목록 1회 조회 후 변경분은 SSE로 반영(주기 재조회 없음)
+  // - created: 목록에 추가 / canceled·approved·rejected: 목록에서 제거 / reset: 목록 재조회
+  // - 재연결 시 Last-Event-ID로 끊긴 동안의 이벤트를 이어받는다
+  const fetchListRef = useRef(fetchList);
+  useEffect(() => {
+    fetchListRef.current = fetchList;
+  }, [fetchList]);
+
+  useEffect(() => {
+    if (!user || effectiveTab !== 'approvable') return;
+
+    return openEventStream(
+      `${baseUrl}/api/correction-requests/approvable/stream`,
+      {
+        onEvent: ({ event, data }) => {
+          if (event === 'reset') {
+            void fetchListRef.current();
+            return;
+          }
+          let request: CorrectionRequestListItem | undefined;
+          try {
+            request = (JSON.parse(data) as { request?: CorrectionRequestListItem })
+              .request;
+          } catch {
+            return;
+          }
+          if (!request) return;
+          const changed = request;
+
+          if (event === 'created') {
+            setItems((prev) =>
+              prev.some((it) => it.requestId === changed.requestId)
+                ? prev
+                : [changed, ...prev]
+            );
+          } else if (
+            event === 'canceled' ||
+            event === 'approved' ||
+            event === 'rejected'
+          ) {
+            setItems((prev) =>
+              prev.filter((it) => it.requestId !== changed.requestId)
+            );
+          }
+        },
+      }
+    );
+  }, [user, effectiveTab, baseUrl]);
+
   useEffect(() => {
     if (!user) return;
 
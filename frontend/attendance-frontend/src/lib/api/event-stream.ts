@@ -0,0 +1,99 @@
+// SSE(text/event-stream) 구독
+// - 인증이 Bearer 헤더라 EventSource(헤더 지정 불가) 대신 fetch 스트림으로 읽는다
+// - 연결이 끊기면 retry(서버 지정, 기본 3초) 후 Last-Event-ID를 붙여 재연결
+// - 401이면 재연결하지 않고 apiFetch와 같은 auth:unauthorized 이벤트를 보낸다
+
+export type StreamEvent = {
+  id: string | null;
+  event: string;
+  data: string;
+};
+
+type StreamOptions = {
+  onEvent: (e: StreamEvent) => void;
+};
+
+const DEFAULT_RETRY_MS = 3000;
+
+export function openEventStream(url: string, options: StreamOptions): () => void {
+  const controller = new AbortController();
+  let lastEventId: string | null = null;
+  let retryMs = DEFAULT_RETRY_MS;
+
+  const sleep = (ms: number) =>
+    new Promise<void>((resolve) => {
+      const t = setTimeout(resolve, ms);
+      controller.signal.addEventListener('abort', () => {
+        clearTimeout(t);
+        resolve();
+      });
+    });
+
+  const dispatch = (block: string) => {
+    let id: string | null = null;
+    let event = 'message';
+    const data: string[] = [];
+    for (const line of block.split('\n')) {
+      if (!line || line.startsWith(':')) continue;
+      const colon = line.indexOf(':');
+      const field = colon < 0 ? line : line.slice(0, colon);
+      const value = colon < 0 ? '' : line.slice(colon + 1).replace(/^ /, '');
+      if (field === 'id') id = value;
+      else if (field === 'event') event = value;
+      else if (field === 'data') data.push(value);
+      else if (field === 'retry' && /^\d+$/.test(value)) retryMs = Number(value);
+    }
+    if (id !== null) lastEventId = id;
+    if (data.length === 0) return;
+    options.onEvent({ id, event, data: data.join('\n') });
+  };
+
+  const run = async () => {
+    while (!controller.signal.aborted) {
+      try {
+        const headers = new Headers({ Accept: 'text/event-stream' });
+        const token = window.sessionStorage.getItem('accessToken');
+        if (token && token.trim().length > 0) {
+          headers.set('Authorization', `Bearer ${token}`);
+        }
+        if (lastEventId) headers.set('Last-Event-ID', lastEventId);
+
+        const res = await fetch(url, {
+          headers,
+          signal: controller.signal,
+          cache: 'no-store',
+        });
+        if (res.status === 401) {
+          window.dispatchEvent(
+            new CustomEvent('auth:unauthorized', {
+              detail: { message: '세션이 만료되었습니다. 다시 로그인해 주세요.' },
+            })
+          );
+          return;
+        }
+        if (res.status === 403) return;
+        if (!res.ok || !res.body) throw new Error(`stream failed (${res.status})`);
+
+        const reader = res.body.pipeThrough(new TextDecoderStream()).getReader();
+        let buffer = '';
+        for (;;) {
+          const { value, done } = await reader.read();
+          if (done) break;
+          buffer += value.replace(/\r\n?/g, '\n');
+          let sep = buffer.indexOf('\n\n');
+          while (sep >= 0) {
+            dispatch(buffer.slice(0, sep));
+            buffer = buffer.slice(sep + 2);
+            sep = buffer.indexOf('\n\n');
+          }
+        }
+      } catch {
+        // 네트워크 오류/서버 종료 — 아래에서 재연결
+      }
+      if (!controller.signal.aborted) await sleep(retryMs);
+    }
+  };
+
+  if (typeof window !== 'undefined') void run();
+  return () => controller.abort();
+}